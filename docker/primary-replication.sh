@@ -0,0 +1,5 @@
+#!/bin/sh
+# Erlaubt Streaming-Replication vom Primary (nur beim ersten Start mit leerem Volume).
+# Wird von doctor-provider-db über /docker-entrypoint-initdb.d ausgeführt.
+set -e
+echo "host replication ${POSTGRES_USER} all scram-sha-256" >> "${PGDATA}/pg_hba.conf"
@@ -0,0 +1,98 @@
+package test.doctor_provider.benchmark;
+
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import test.doctor_provider.application.service.SlotGenerator;
+import test.doctor_provider.domain.enums.SlotStatus;
+import test.doctor_provider.domain.enums.SpecialityTyp;
+import test.doctor_provider.domain.enums.Weekday;
+import test.doctor_provider.domain.model.DoctorWorkingHours;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DoctorEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.PracticeEntitiy;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.SlotEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.SpecialityEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.WorkingHoursEntity;
+
+/**
+ * Reproduzierbare Testdaten (fester Seed, fester Zeitpunkt).
+ */
+final class BenchmarkData {
+
+	static final ZonedDateTime NOW = ZonedDateTime.of(2026, 1, 5, 7, 0, 0, 0, SlotGenerator.SLOT_ZONE);
+
+	private BenchmarkData() {
+	}
+
+	static List<DoctorEntity> doctors(int count, int specialitiesPerDoctor) {
+		Random random = new Random(42);
+		SpecialityTyp[] types = SpecialityTyp.values();
+		List<SpecialityEntity> specialities = new ArrayList<>();
+		for (SpecialityTyp type : types) {
+			specialities.add(new SpecialityEntity(uuid(random), type));
+		}
+		List<DoctorEntity> doctors = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			PracticeEntitiy practice = new PracticeEntitiy();
+			practice.setId(uuid(random));
+			practice.setName("Praxis " + i);
+			DoctorEntity doctor = new DoctorEntity();
+			doctor.setId(uuid(random));
+			doctor.setFirstName("Vorname" + i);
+			doctor.setLastName("Nachname" + i);
+			doctor.setPractice(practice);
+			Set<SpecialityEntity> doctorSpecialities = new HashSet<>();
+			while (doctorSpecialities.size() < Math.min(specialitiesPerDoctor, specialities.size())) {
+				doctorSpecialities.add(specialities.get(random.nextInt(specialities.size())));
+			}
+			doctor.setSpecialities(doctorSpecialities);
+			doctors.add(doctor);
+		}
+		return doctors;
+	}
+
+	static List<SlotEntity> slots(int count) {
+		Random random = new Random(42);
+		WorkingHoursEntity workingHours = new WorkingHoursEntity();
+		workingHours.setId(uuid(random));
+		List<SlotEntity> slots = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			ZonedDateTime start = NOW.plusMinutes(30L * i);
+			SlotEntity slot = new SlotEntity();
+			slot.setId(uuid(random));
+			slot.setWorkingHours(workingHours);
+			slot.setStartTime(start);
+			slot.setEndTime(start.plusMinutes(30));
+			slot.setStatus(SlotStatus.AVAILABLE);
+			slots.add(slot);
+		}
+		return slots;
+	}
+
+	/**
+	 * Montag bis Freitag 08:00-16:00 pro Arzt.
+	 */
+	static List<DoctorWorkingHours> workingHours(int doctors) {
+		Random random = new Random(42);
+		List<DoctorWorkingHours> workingHours = new ArrayList<>();
+		for (int i = 0; i < doctors; i++) {
+			UUID doctorId = uuid(random);
+			for (Weekday weekday : List.of(Weekday.MONDAY, Weekday.TUESDAY, Weekday.WEDNESDAY, Weekday.THURSDAY,
+					Weekday.FRIDAY)) {
+				workingHours.add(new DoctorWorkingHours(uuid(random), doctorId, weekday, LocalTime.of(8, 0),
+						LocalTime.of(16, 0)));
+			}
+		}
+		return workingHours;
+	}
+
+	private static UUID uuid(Random random) {
+		return new UUID(random.nextLong(), random.nextLong());
+	}
+}
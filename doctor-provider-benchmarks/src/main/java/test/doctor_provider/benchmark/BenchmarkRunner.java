@@ -0,0 +1,27 @@
+package test.doctor_provider.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Startet JMH mit den Optionen der Kommandozeile und immer mit dem
+ * GC-Profiler.
+ *
+ * WICHTIG: - Der GC-Profiler liefert gc.alloc.rate.norm (Bytes pro
+ * Operation): die Kennzahl, an der Mapping-Optimierungen gemessen werden -
+ * Beispiel: java -jar target/benchmarks.jar MappingBenchmark -f 1
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,108 @@
+package test.doctor_provider.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import test.doctor_provider.api.model.PageResponse;
+import test.doctor_provider.api.model.SlotDto;
+import test.doctor_provider.domain.model.Doctor;
+import test.doctor_provider.domain.model.Slot;
+import test.doctor_provider.infrastructure.incomming.web.mapper.DoctorWebMapper;
+import test.doctor_provider.infrastructure.incomming.web.mapper.SlotWebMapper;
+import test.doctor_provider.infrastructure.outgoing.persistence.mapper.DoctorEntityMapper;
+import test.doctor_provider.infrastructure.outgoing.persistence.mapper.SlotsEntityMapper;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * JSON-Serialisierung einer Seite (PageResponse aus der OpenAPI-Spec).
+ *
+ * WICHTIG: - jackson2 = ObjectMapper wie in den Adaptern des Services
+ * (Export, SSE), jackson3 = JsonMapper, mit dem Spring MVC in Boot 4 die
+ * Antworten schreibt - Ergebnis ist byte[] (wie in den Response-Body),
+ * kein String
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JsonSerializationBenchmark {
+
+	@Param({"100"})
+	int pageSize;
+
+	private final ObjectMapper jackson2 = new ObjectMapper().findAndRegisterModules()
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+	private final JsonMapper jackson3 = JsonMapper.builder().findAndAddModules().build();
+
+	private PageResponse slotPage;
+	private PageResponse doctorPage;
+
+	@Setup
+	public void setUp() {
+		SlotsEntityMapper slotsEntityMapper = Mappers.getMapper(SlotsEntityMapper.class);
+		SlotWebMapper slotWebMapper = Mappers.getMapper(SlotWebMapper.class);
+		List<Slot> slots = BenchmarkData.slots(pageSize).stream().map(slotsEntityMapper::toDomain).toList();
+		List<Object> slotDtos = new ArrayList<>();
+		for (SlotDto dto : slotWebMapper.toDto(slots)) {
+			dto.setDoctorId(dto.getWorkingHoursId());
+			slotDtos.add(dto);
+		}
+		slotPage = page(slotDtos);
+
+		DoctorWebMapper doctorWebMapper = Mappers.getMapper(DoctorWebMapper.class);
+		List<Doctor> doctors = Mappers.getMapper(DoctorEntityMapper.class)
+				.toDomain(BenchmarkData.doctors(pageSize, 3));
+		doctorPage = page(new ArrayList<>(doctors.stream().map(doctorWebMapper::toDto).toList()));
+	}
+
+	@Benchmark
+	public byte[] slotPageJackson2() throws JsonProcessingException {
+		return jackson2.writeValueAsBytes(slotPage);
+	}
+
+	@Benchmark
+	public byte[] slotPageJackson3() {
+		return jackson3.writeValueAsBytes(slotPage);
+	}
+
+	@Benchmark
+	public byte[] doctorPageJackson2() throws JsonProcessingException {
+		return jackson2.writeValueAsBytes(doctorPage);
+	}
+
+	@Benchmark
+	public byte[] doctorPageJackson3() {
+		return jackson3.writeValueAsBytes(doctorPage);
+	}
+
+	private PageResponse page(List<Object> items) {
+		PageResponse page = new PageResponse();
+		page.setItems(items);
+		page.setPage(0);
+		page.setSize(pageSize);
+		page.setTotalElements(10_000);
+		page.setTotalPages(10_000 / pageSize);
+		return page;
+	}
+}
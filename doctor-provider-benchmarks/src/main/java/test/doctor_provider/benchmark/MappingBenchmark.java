@@ -0,0 +1,108 @@
+package test.doctor_provider.benchmark;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import test.doctor_provider.api.model.DoctorDto;
+import test.doctor_provider.api.model.SlotDto;
+import test.doctor_provider.domain.model.Doctor;
+import test.doctor_provider.domain.model.Page;
+import test.doctor_provider.domain.model.Slot;
+import test.doctor_provider.infrastructure.incomming.web.mapper.DoctorWebMapper;
+import test.doctor_provider.infrastructure.incomming.web.mapper.SlotWebMapper;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DoctorEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.SlotEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.mapper.DoctorEntityMapper;
+import test.doctor_provider.infrastructure.outgoing.persistence.mapper.SlotsEntityMapper;
+
+/**
+ * Mapping-Kette einer Listen-Seite: Entity → Domain → DTO.
+ *
+ * WICHTIG: - Mapper sind die von MapStruct generierten Klassen (ohne Spring)
+ * - Page-Umbau über SlotsEntityMapper.toDomainPage, denselben Code wie
+ * SlotPersistenceAdapter.findAll
+ * - Ergebnis von gc.alloc.rate.norm ist pro Seite (pageSize Elemente)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MappingBenchmark {
+
+	@Param({"20", "100"})
+	int pageSize;
+
+	@Param({"3"})
+	int specialitiesPerDoctor;
+
+	private final DoctorEntityMapper doctorEntityMapper = Mappers.getMapper(DoctorEntityMapper.class);
+	private final DoctorWebMapper doctorWebMapper = Mappers.getMapper(DoctorWebMapper.class);
+	private final SlotsEntityMapper slotsEntityMapper = Mappers.getMapper(SlotsEntityMapper.class);
+	private final SlotWebMapper slotWebMapper = Mappers.getMapper(SlotWebMapper.class);
+
+	private List<DoctorEntity> doctorEntities;
+	private org.springframework.data.domain.Page<SlotEntity> slotEntityPage;
+	private List<Doctor> doctors;
+	private List<Slot> slots;
+
+	@Setup
+	public void setUp() {
+		doctorEntities = BenchmarkData.doctors(pageSize, specialitiesPerDoctor);
+		slotEntityPage = new PageImpl<>(BenchmarkData.slots(pageSize), PageRequest.of(0, pageSize), 10_000);
+		doctors = doctorEntityMapper.toDomain(doctorEntities);
+		slots = slotEntityPage.getContent().stream().map(slotsEntityMapper::toDomain).toList();
+	}
+
+	@Benchmark
+	public List<Doctor> doctorEntitiesToDomain() {
+		return doctorEntityMapper.toDomain(doctorEntities);
+	}
+
+	@Benchmark
+	public Set<UUID> specialityEntitiesToIds() {
+		return doctorEntityMapper.specialityEntitiesToIds(doctorEntities.getFirst().getSpecialities());
+	}
+
+	@Benchmark
+	public List<DoctorDto> doctorsToDto() {
+		return doctors.stream().map(doctorWebMapper::toDto).toList();
+	}
+
+	@Benchmark
+	public List<SlotDto> slotsToDto() {
+		return slotWebMapper.toDto(slots);
+	}
+
+	@Benchmark
+	public Page<Slot> slotPageFromEntities() {
+		return slotsEntityMapper.toDomainPage(slotEntityPage);
+	}
+
+	/**
+	 * Ganze Kette wie bei GET .../slots: Spring-Data-Page → Domain-Page →
+	 * DTOs.
+	 */
+	@Benchmark
+	public List<SlotDto> slotPageEntityToDto() {
+		return slotWebMapper.toDto(slotsEntityMapper.toDomainPage(slotEntityPage).getItems());
+	}
+}
@@ -0,0 +1,53 @@
+package test.doctor_provider.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import test.doctor_provider.application.service.SlotGenerator;
+import test.doctor_provider.domain.model.DoctorWorkingHours;
+import test.doctor_provider.domain.model.Slot;
+
+/**
+ * Slot-Generierung beim Anlegen von Working Hours (Bulk-Import).
+ *
+ * WICHTIG: - Pro Arzt Mo-Fr 08:00-16:00, also 16 Slots pro Tag - Fester
+ * Zeitpunkt NOW, damit jeder Lauf gleich viele Slots erzeugt
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SlotGenerationBenchmark {
+
+	@Param({"1", "100"})
+	int doctors;
+
+	@Param({"4"})
+	int materializationWeeks;
+
+	private List<DoctorWorkingHours> workingHours;
+
+	@Setup
+	public void setUp() {
+		workingHours = BenchmarkData.workingHours(doctors);
+	}
+
+	@Benchmark
+	public List<Slot> generate() {
+		return SlotGenerator.generate(workingHours, BenchmarkData.NOW, materializationWeeks);
+	}
+}
@@ -0,0 +1,54 @@
+package test.doctor_provider.datagen;
+
+import test.doctor_provider.datagen.Deterministic.Table;
+
+/**
+ * Status eines generierten Slots.
+ *
+ * WICHTIG: - Auslastung fällt mit der Vorlaufzeit: booked-near für heute,
+ * Richtung booked-far nach einigen Wochen (exponentiell, Halbwertszeit 14
+ * Tage) - Beliebtheit pro Arzt (Faktor 0,5 bis 2, wenige Ärzte sind fast
+ * ausgebucht) - vacation-weeks ganze Wochen pro Arzt BLOCKED (Urlaub),
+ * dazu blocked-ratio einzelne Slots
+ */
+final class BookingModel {
+
+	enum Status {
+		AVAILABLE, BOOKED, BLOCKED
+	}
+
+	private static final double HALF_LIFE_DAYS = 14;
+
+	private final Deterministic random;
+	private final DatasetOptions options;
+
+	BookingModel(Deterministic random, DatasetOptions options) {
+		this.random = random;
+		this.options = options;
+	}
+
+	double popularity(int doctor) {
+		double u = random.unit(Table.DOCTOR, doctor, 10);
+		return 0.5 + 1.5 * u * u * u;
+	}
+
+	boolean onVacation(int doctor, int week) {
+		for (int vacation = 0; vacation < options.vacationWeeks(); vacation++) {
+			if (random.below(Table.DOCTOR, doctor, 20 + vacation, options.weeks()) == week) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	Status status(long slot, double popularity, boolean vacation, long leadDays) {
+		if (vacation || random.unit(Table.SLOT, slot, 1) < options.blockedRatio()) {
+			return Status.BLOCKED;
+		}
+		double decay = Math.pow(0.5, leadDays / HALF_LIFE_DAYS);
+		double booked = options.bookedFar() + (options.bookedNear() - options.bookedFar()) * decay;
+		return random.unit(Table.SLOT, slot, 2) < Math.min(1, booked * popularity)
+				? Status.BOOKED
+				: Status.AVAILABLE;
+	}
+}
@@ -0,0 +1,100 @@
+package test.doctor_provider.datagen;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * Schreibt Zeilen im COPY-Textformat (Tab-getrennt, \N = NULL).
+ *
+ * WICHTIG: - Puffert ca. 1 MB und schickt dann einen Block an den Server
+ * (kein Roundtrip pro Zeile) - Escaping nur für \, Tab, Zeilenumbruch (mehr
+ * kennt das Textformat nicht) - finish() beendet das COPY; bei einer
+ * Exception stattdessen abort(), sonst bleibt die Verbindung im COPY-Modus
+ */
+final class CopyWriter {
+
+	private static final int FLUSH_THRESHOLD = 1 << 20;
+
+	private final CopyIn copy;
+	private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 4_096);
+	private boolean firstColumn = true;
+
+	CopyWriter(Connection connection, String table, String columns) throws SQLException {
+		this.copy = connection.unwrap(PGConnection.class).getCopyAPI()
+				.copyIn("COPY " + table + " (" + columns + ") FROM STDIN");
+	}
+
+	CopyWriter value(String value) {
+		separate();
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '\\' -> buffer.append("\\\\");
+				case '\t' -> buffer.append("\\t");
+				case '\n' -> buffer.append("\\n");
+				case '\r' -> buffer.append("\\r");
+				default -> buffer.append(c);
+			}
+		}
+		return this;
+	}
+
+	CopyWriter value(Object value) {
+		separate();
+		buffer.append(value);
+		return this;
+	}
+
+	CopyWriter nullValue() {
+		separate();
+		buffer.append("\\N");
+		return this;
+	}
+
+	void endRow() throws SQLException {
+		buffer.append('\n');
+		firstColumn = true;
+		if (buffer.length() >= FLUSH_THRESHOLD) {
+			flush();
+		}
+	}
+
+	/**
+	 * Schickt den Rest des Puffers und beendet das COPY.
+	 *
+	 * @return Anzahl der geschriebenen Zeilen laut Server
+	 */
+	long finish() throws SQLException {
+		flush();
+		return copy.endCopy();
+	}
+
+	void abort() {
+		try {
+			if (copy.isActive()) {
+				copy.cancelCopy();
+			}
+		} catch (SQLException e) {
+			// Verbindung wird danach ohnehin geschlossen
+		}
+	}
+
+	private void separate() {
+		if (!firstColumn) {
+			buffer.append('\t');
+		}
+		firstColumn = false;
+	}
+
+	private void flush() throws SQLException {
+		if (!buffer.isEmpty()) {
+			byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+			copy.writeToCopy(bytes, 0, bytes.length);
+			buffer.setLength(0);
+		}
+	}
+}
@@ -0,0 +1,319 @@
+package test.doctor_provider.datagen;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import test.doctor_provider.datagen.BookingModel.Status;
+import test.doctor_provider.datagen.Deterministic.Table;
+import test.doctor_provider.datagen.SlotGrid.Shift;
+
+/**
+ * Füllt das Schema von doctor-provider mit großen, reproduzierbaren
+ * Datenmengen.
+ *
+ * WICHTIG: - Schema muss existieren (doctor-provider einmal starten, Flyway
+ * legt es an) - Lädt per COPY, parallel in Blöcken (eine Verbindung pro
+ * Block) - session_replication_role = replica: keine FK-Prüfung und keine
+ * Trigger pro Zeile (Daten sind per Konstruktion konsistent), doctor_search
+ * wird am Ende einmal komplett aufgebaut; braucht einen Superuser (im
+ * docker-compose ist POSTGRES_USER einer) - Monats-Partitionen für slot
+ * werden vorher über slot_ensure_partitions angelegt - slot_day
+ * (storage=compact) und slot_event werden nicht befüllt
+ */
+public final class DatasetGenerator {
+
+	@FunctionalInterface
+	private interface ChunkLoader {
+
+		void load(Connection connection, int from, int to) throws SQLException;
+	}
+
+	@FunctionalInterface
+	private interface RowWriter {
+
+		void write(CopyWriter writer) throws SQLException;
+	}
+
+	private final DatasetOptions options;
+	private final Deterministic random;
+	private final Names names;
+	private final BookingModel booking;
+	private final Map<String, AtomicLong> rows = new LinkedHashMap<>();
+
+	DatasetGenerator(DatasetOptions options) {
+		this.options = options;
+		this.random = new Deterministic(options.seed());
+		this.names = new Names(random);
+		this.booking = new BookingModel(random, options);
+		for (String table : List.of("speciality", "city", "practice", "doctor", "doctor_speciality",
+				"doctor_working_hours", "slot")) {
+			rows.put(table, new AtomicLong());
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		new DatasetGenerator(DatasetOptions.parse(args)).run();
+	}
+
+	void run() throws SQLException, InterruptedException {
+		System.out.println("Generating dataset: " + options.describe());
+		System.out.printf(Locale.ROOT, "Expected slots: %,d%n", expectedSlots());
+		long start = System.nanoTime();
+		try (Connection connection = connect()) {
+			prepare(connection);
+		}
+		phase("speciality", options.specialities(), options.specialities(), this::specialities);
+		phase("city", options.cities(), 20_000, this::cities);
+		phase("practice", options.practices(), 20_000, this::practices);
+		phase("doctor", options.doctors(), 5_000, this::doctors);
+		phase("slot", options.doctors(), 500, this::slots);
+		try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+			long phaseStart = System.nanoTime();
+			statement.execute("SELECT doctor_search_rebuild()");
+			statement.execute("ANALYZE");
+			System.out.printf(Locale.ROOT, "%-22s rebuilt and analyzed in %.1f s%n", "doctor_search",
+					seconds(phaseStart));
+		}
+		rows.forEach((table, count) -> System.out.printf(Locale.ROOT, "%-22s %,15d rows%n", table, count.get()));
+		System.out.printf(Locale.ROOT, "Done in %.1f s%n", seconds(start));
+	}
+
+	private void prepare(Connection connection) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			try (ResultSet schema = statement.executeQuery("SELECT to_regclass('slot') IS NOT NULL")) {
+				schema.next();
+				if (!schema.getBoolean(1)) {
+					throw new IllegalStateException(
+							"Schema not found, start doctor-provider once so that Flyway creates it");
+				}
+			}
+			try (ResultSet existing = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM speciality)"
+					+ " OR EXISTS (SELECT 1 FROM city) OR EXISTS (SELECT 1 FROM doctor)")) {
+				existing.next();
+				if (existing.getBoolean(1)) {
+					if (!options.truncate()) {
+						throw new IllegalStateException("Database is not empty, use --truncate to replace the data");
+					}
+					statement.execute("TRUNCATE slot_event, slot_history, slot_booking, slot_day, slot,"
+							+ " doctor_working_hours, doctor_speciality, doctor_search, doctor, practice, city,"
+							+ " speciality, deletion_job");
+					System.out.println("Existing data truncated");
+				}
+			}
+		}
+		try (PreparedStatement partitions = connection.prepareStatement("SELECT slot_ensure_partitions(?, ?)")) {
+			partitions.setObject(1, options.from());
+			partitions.setObject(2, options.from().plusWeeks(options.weeks()));
+			partitions.execute();
+		}
+	}
+
+	/**
+	 * Lädt [0, total) in Blöcken von chunkSize parallel mit options.threads
+	 * Threads.
+	 */
+	private void phase(String name, int total, int chunkSize, ChunkLoader loader)
+			throws SQLException, InterruptedException {
+		long start = System.nanoTime();
+		List<Future<?>> chunks = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(options.threads())) {
+			for (int from = 0; from < total; from += chunkSize) {
+				int chunkFrom = from;
+				int chunkTo = Math.min(total, from + chunkSize);
+				chunks.add(executor.submit(() -> {
+					try (Connection connection = connect()) {
+						loader.load(connection, chunkFrom, chunkTo);
+					}
+					return null;
+				}));
+			}
+			for (Future<?> chunk : chunks) {
+				chunk.get();
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof SQLException sqlException) {
+				throw sqlException;
+			}
+			throw new IllegalStateException("Loading " + name + " failed", e.getCause());
+		}
+		System.out.printf(Locale.ROOT, "%-22s loaded in %.1f s%n", name, seconds(start));
+	}
+
+	private void specialities(Connection connection, int from, int to) throws SQLException {
+		copy(connection, "speciality", "id, name", writer -> {
+			for (int speciality = from; speciality < to; speciality++) {
+				writer.value(random.uuid(Table.SPECIALITY, speciality)).value(Names.SPECIALITIES.get(speciality))
+						.endRow();
+			}
+		});
+	}
+
+	private void cities(Connection connection, int from, int to) throws SQLException {
+		copy(connection, "city", "id, name, zip_code", writer -> {
+			for (int city = from; city < to; city++) {
+				writer.value(random.uuid(Table.CITY, city)).value(Names.city(city)).value(names.postalCode(city))
+						.endRow();
+			}
+		});
+	}
+
+	/**
+	 * Praxen verteilen sich schief auf die Städte (city-skew), Koordinaten
+	 * streuen um einen festen Mittelpunkt pro Stadt.
+	 */
+	private void practices(Connection connection, int from, int to) throws SQLException {
+		copy(connection, "practice",
+				"id, name, street, house_number, phone, email, postal_code, city_id, latitude, longitude", writer -> {
+					for (int practice = from; practice < to; practice++) {
+						int city = random.skewed(Table.PRACTICE, practice, 8, options.cities(), options.citySkew());
+						double latitude = 47.3 + random.unit(Table.CITY, city, 2) * 7.7
+								+ (random.unit(Table.PRACTICE, practice, 9) - 0.5) * 0.06;
+						double longitude = 5.9 + random.unit(Table.CITY, city, 3) * 9.1
+								+ (random.unit(Table.PRACTICE, practice, 10) - 0.5) * 0.06;
+						writer.value(random.uuid(Table.PRACTICE, practice)).value(names.practice(practice))
+								.value(names.street(practice)).value(names.houseNumber(practice))
+								.value(names.phone(practice)).value(Names.email(practice))
+								.value(names.postalCode(city)).value(random.uuid(Table.CITY, city))
+								.value(String.format(Locale.ROOT, "%.6f", latitude))
+								.value(String.format(Locale.ROOT, "%.6f", longitude)).endRow();
+					}
+				});
+	}
+
+	/**
+	 * Ärzte mit Fachrichtungen (1, bei 20 % 2; Allgemeinmedizin am häufigsten)
+	 * und Sprechzeiten aus einer der Vorlagen in SlotGrid.
+	 */
+	private void doctors(Connection connection, int from, int to) throws SQLException {
+		copy(connection, "doctor", "id, practice_id, first_name, last_name", writer -> {
+			for (int doctor = from; doctor < to; doctor++) {
+				int practice = (int) ((long) doctor * options.practices() / options.doctors());
+				writer.value(random.uuid(Table.DOCTOR, doctor)).value(random.uuid(Table.PRACTICE, practice))
+						.value(names.firstName(doctor)).value(names.lastName(Table.DOCTOR, doctor)).endRow();
+			}
+		});
+		copy(connection, "doctor_speciality", "doctor_id, speciality_id", writer -> {
+			int specialities = options.specialities();
+			for (int doctor = from; doctor < to; doctor++) {
+				int first = random.skewed(Table.DOCTOR_SPECIALITY, doctor, 1, specialities, 2.0);
+				writer.value(random.uuid(Table.DOCTOR, doctor)).value(random.uuid(Table.SPECIALITY, first)).endRow();
+				if (specialities > 1 && random.unit(Table.DOCTOR_SPECIALITY, doctor, 2) < 0.2) {
+					int second = (first + 1 + random.below(Table.DOCTOR_SPECIALITY, doctor, 3, specialities - 1))
+							% specialities;
+					writer.value(random.uuid(Table.DOCTOR, doctor)).value(random.uuid(Table.SPECIALITY, second))
+							.endRow();
+				}
+			}
+		});
+		copy(connection, "doctor_working_hours", "id, doctor_id, weekday, start_time, end_time", writer -> {
+			for (int doctor = from; doctor < to; doctor++) {
+				List<Shift> shifts = shifts(doctor);
+				for (int shift = 0; shift < shifts.size(); shift++) {
+					writer.value(workingHoursId(doctor, shift)).value(random.uuid(Table.DOCTOR, doctor))
+							.value(shifts.get(shift).day().name()).value(shifts.get(shift).start())
+							.value(shifts.get(shift).end()).endRow();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Slots für weeks Wochen ab from im Raster der Anwendung, Status aus
+	 * BookingModel (Vorlaufzeit, Beliebtheit, Urlaub).
+	 */
+	private void slots(Connection connection, int from, int to) throws SQLException {
+		long slotsPerDoctor = (long) options.weeks() * 7 * 24 * 60 / SlotGrid.SLOT_MINUTES;
+		copy(connection, "slot", "id, working_hours_id, start_time, end_time, status", writer -> {
+			for (int doctor = from; doctor < to; doctor++) {
+				List<Shift> shifts = shifts(doctor);
+				double popularity = booking.popularity(doctor);
+				long slot = doctor * slotsPerDoctor;
+				for (int week = 0; week < options.weeks(); week++) {
+					boolean vacation = booking.onVacation(doctor, week);
+					LocalDate weekStart = options.from().plusWeeks(week);
+					for (int shift = 0; shift < shifts.size(); shift++) {
+						Shift hours = shifts.get(shift);
+						LocalDate date = weekStart.with(TemporalAdjusters.nextOrSame(hours.day()));
+						long leadDays = ChronoUnit.DAYS.between(options.from(), date);
+						UUID workingHoursId = workingHoursId(doctor, shift);
+						for (int n = 0; n < hours.slots(); n++, slot++) {
+							ZonedDateTime start = date
+									.atTime(hours.start().plusMinutes((long) n * SlotGrid.SLOT_MINUTES))
+									.atZone(SlotGrid.ZONE);
+							Status status = booking.status(slot, popularity, vacation, leadDays);
+							writer.value(random.uuid(Table.SLOT, slot)).value(workingHoursId)
+									.value(start.toOffsetDateTime())
+									.value(start.plusMinutes(SlotGrid.SLOT_MINUTES).toOffsetDateTime())
+									.value(status.name()).endRow();
+						}
+					}
+				}
+			}
+		});
+	}
+
+	private long expectedSlots() {
+		long slots = 0;
+		for (int doctor = 0; doctor < options.doctors(); doctor++) {
+			for (Shift shift : shifts(doctor)) {
+				slots += shift.slots();
+			}
+		}
+		return slots * options.weeks();
+	}
+
+	private List<Shift> shifts(int doctor) {
+		return SlotGrid.TEMPLATES.get(random.below(Table.DOCTOR, doctor, 3, SlotGrid.TEMPLATES.size()));
+	}
+
+	private UUID workingHoursId(int doctor, int shift) {
+		return random.uuid(Table.WORKING_HOURS, (long) doctor * SlotGrid.MAX_SHIFTS + shift);
+	}
+
+	private void copy(Connection connection, String table, String columns, RowWriter rowWriter)
+			throws SQLException {
+		CopyWriter writer = new CopyWriter(connection, table, columns);
+		try {
+			rowWriter.write(writer);
+		} catch (SQLException | RuntimeException e) {
+			writer.abort();
+			throw e;
+		}
+		rows.get(table).addAndGet(writer.finish());
+	}
+
+	private Connection connect() throws SQLException {
+		Connection connection = DriverManager.getConnection(options.url(), options.user(), options.password());
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("SET synchronous_commit = off");
+			statement.execute("SET session_replication_role = replica");
+		} catch (SQLException e) {
+			connection.close();
+			throw new SQLException("Could not prepare session (session_replication_role needs a superuser)", e);
+		}
+		return connection;
+	}
+
+	private static double seconds(long startNanos) {
+		return (System.nanoTime() - startNanos) / 1e9;
+	}
+}
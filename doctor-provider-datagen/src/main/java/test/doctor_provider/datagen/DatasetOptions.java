@@ -0,0 +1,123 @@
+package test.doctor_provider.datagen;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Optionen eines Laufs, gelesen aus --name=wert.
+ *
+ * WICHTIG: - Gleicher seed + gleiche Optionen (inkl. from) = gleiche Daten,
+ * unabhängig von threads - from ist standardmäßig der Montag der laufenden
+ * Woche: für reproduzierbare Datensätze from explizit angeben - Mengen
+ * dürfen k/m als Suffix haben (100k, 1.5m)
+ */
+record DatasetOptions(String url, String user, String password, int specialities, int cities, int practices,
+		int doctors, LocalDate from, int weeks, long seed, int threads, double citySkew, double bookedNear,
+		double bookedFar, int vacationWeeks, double blockedRatio, boolean truncate) {
+
+	static final int MAX_SPECIALITIES = 15;
+
+	private static final Map<String, String> DEFAULTS = defaults();
+
+	DatasetOptions {
+		if (specialities < 1 || specialities > MAX_SPECIALITIES) {
+			throw new IllegalArgumentException("specialities must be between 1 and " + MAX_SPECIALITIES);
+		}
+		if (cities < 1 || practices < 1 || doctors < 1 || weeks < 1 || threads < 1) {
+			throw new IllegalArgumentException("cities, practices, doctors, weeks and threads must be > 0");
+		}
+		if (vacationWeeks < 0 || vacationWeeks > weeks) {
+			throw new IllegalArgumentException("vacation-weeks must be between 0 and weeks");
+		}
+		for (double ratio : new double[]{bookedNear, bookedFar, blockedRatio}) {
+			if (ratio < 0 || ratio > 1) {
+				throw new IllegalArgumentException("booked-near, booked-far and blocked-ratio must be between 0 and 1");
+			}
+		}
+	}
+
+	static DatasetOptions parse(String[] args) {
+		Map<String, String> values = new LinkedHashMap<>(DEFAULTS);
+		for (String arg : args) {
+			int separator = arg.indexOf('=');
+			if (arg.equals("--truncate")) {
+				values.put("truncate", "true");
+				continue;
+			}
+			if (!arg.startsWith("--") || separator < 0) {
+				throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+			}
+			String name = arg.substring(2, separator);
+			if (!values.containsKey(name)) {
+				throw new IllegalArgumentException("Unknown option: --" + name + " (known: " + DEFAULTS.keySet() + ")");
+			}
+			values.put(name, arg.substring(separator + 1));
+		}
+		return new DatasetOptions(values.get("url"), values.get("user"), values.get("password"),
+				count(values, "specialities"), count(values, "cities"), count(values, "practices"),
+				count(values, "doctors"),
+				values.get("from").isEmpty()
+						? LocalDate.now(SlotGrid.ZONE).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+						: LocalDate.parse(values.get("from")),
+				count(values, "weeks"), Long.parseLong(values.get("seed")), count(values, "threads"),
+				number(values, "city-skew"), number(values, "booked-near"), number(values, "booked-far"),
+				count(values, "vacation-weeks"), number(values, "blocked-ratio"),
+				Boolean.parseBoolean(values.get("truncate")));
+	}
+
+	/**
+	 * Kommandozeile, die genau diesen Datensatz noch einmal erzeugt (ohne
+	 * Verbindungsdaten).
+	 */
+	String describe() {
+		return String.format(Locale.ROOT,
+				"--specialities=%d --cities=%d --practices=%d --doctors=%d --from=%s --weeks=%d --seed=%d"
+						+ " --city-skew=%s --booked-near=%s --booked-far=%s --vacation-weeks=%d --blocked-ratio=%s",
+				specialities, cities, practices, doctors, from, weeks, seed, citySkew, bookedNear, bookedFar,
+				vacationWeeks, blockedRatio);
+	}
+
+	private static Map<String, String> defaults() {
+		Map<String, String> values = new LinkedHashMap<>();
+		values.put("url", "jdbc:postgresql://localhost:5433/doctor_provider_db");
+		values.put("user", "doctor_user");
+		values.put("password", "doctor_pass");
+		values.put("specialities", "15");
+		values.put("cities", "12k");
+		values.put("practices", "100k");
+		values.put("doctors", "300k");
+		values.put("from", "");
+		values.put("weeks", "52");
+		values.put("seed", "42");
+		values.put("threads", String.valueOf(Runtime.getRuntime().availableProcessors()));
+		values.put("city-skew", "3.0");
+		values.put("booked-near", "0.85");
+		values.put("booked-far", "0.05");
+		values.put("vacation-weeks", "3");
+		values.put("blocked-ratio", "0.01");
+		values.put("truncate", "false");
+		return values;
+	}
+
+	private static double number(Map<String, String> values, String name) {
+		return Double.parseDouble(values.get(name));
+	}
+
+	private static int count(Map<String, String> values, String name) {
+		String value = values.get(name).trim().toLowerCase(Locale.ROOT);
+		double factor = 1;
+		if (value.endsWith("k")) {
+			factor = 1_000;
+		} else if (value.endsWith("m")) {
+			factor = 1_000_000;
+		}
+		if (factor > 1) {
+			value = value.substring(0, value.length() - 1);
+		}
+		return Math.toIntExact(Math.round(Double.parseDouble(value) * factor));
+	}
+}
@@ -0,0 +1,65 @@
+package test.doctor_provider.datagen;
+
+import java.util.UUID;
+
+/**
+ * Zufallswerte als reine Funktion von (seed, Tabelle, Zeilennummer, salt).
+ *
+ * WICHTIG: - Kein gemeinsamer Zufallsgenerator: jede Zeile lässt sich in
+ * jedem Thread und in jeder Reihenfolge berechnen, das Ergebnis hängt nur
+ * vom seed ab - SplitMix64 als Mischfunktion (schnell, gut verteilt) - IDs
+ * sind UUIDv7 wie in der Anwendung: Zeitstempel = fester Basiszeitpunkt +
+ * Zeilennummer in ms (eindeutig pro Tabelle, aufsteigend → Inserts am
+ * rechten Rand des Primärschlüssel-B-Trees)
+ */
+final class Deterministic {
+
+	enum Table {
+		SPECIALITY, CITY, PRACTICE, DOCTOR, DOCTOR_SPECIALITY, WORKING_HOURS, SLOT
+	}
+
+	/** 2026-01-01T00:00:00Z */
+	private static final long BASE_EPOCH_MILLIS = 1_767_225_600_000L;
+
+	private final long seed;
+
+	Deterministic(long seed) {
+		this.seed = mix(seed);
+	}
+
+	long hash(Table table, long index, int salt) {
+		return mix(mix(seed + table.ordinal()) + index * 0x9E3779B97F4A7C15L + salt);
+	}
+
+	/** Gleichverteilt in [0, 1). */
+	double unit(Table table, long index, int salt) {
+		return (hash(table, index, salt) >>> 11) * 0x1.0p-53;
+	}
+
+	/** Gleichverteilt in [0, bound). */
+	int below(Table table, long index, int salt, int bound) {
+		return (int) (unit(table, index, salt) * bound);
+	}
+
+	/**
+	 * Schief verteilt in [0, bound): kleine Indizes sind häufiger (skew 1 =
+	 * gleichverteilt, 3 = etwa die Hälfte fällt in die ersten 10 %).
+	 */
+	int skewed(Table table, long index, int salt, int bound, double skew) {
+		return Math.min(bound - 1, (int) (Math.pow(unit(table, index, salt), skew) * bound));
+	}
+
+	UUID uuid(Table table, long index) {
+		long random = hash(table, index, -1);
+		long most = ((BASE_EPOCH_MILLIS + index) << 16) | 0x7000L | (random & 0x0FFFL);
+		long least = (random >>> 2 & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+		return new UUID(most, least);
+	}
+
+	private static long mix(long value) {
+		long z = value + 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
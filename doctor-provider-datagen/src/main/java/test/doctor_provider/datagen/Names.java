@@ -0,0 +1,97 @@
+package test.doctor_provider.datagen;
+
+import java.util.List;
+
+import test.doctor_provider.datagen.Deterministic.Table;
+
+/**
+ * Namen, Adressen und Kontaktdaten aus festen Listen.
+ *
+ * WICHTIG: - Stadtnamen sind eindeutig (city.name ist UNIQUE): Präfix,
+ * Suffix und ab der zweiten Runde eine Nummer ergeben eine Bijektion auf
+ * den Index - Praxisnamen enthalten die Nummer (Namensprüfung der Anwendung)
+ * - E-Mail und Telefon passen zu den CHECK-Constraints in practice
+ */
+final class Names {
+
+	static final List<String> SPECIALITIES = List.of("Allgemeinmedizin", "InnereMedizin", "Kardiologie",
+			"Dermatologie", "Orthopädie", "Neurologie", "Psychiatrie", "Gynäkologie", "Pädiatrie", "Urologie",
+			"Augenheilkunde", "HNO", "Radiologie", "Anästhesiologie", "Zahnmedizin");
+
+	private static final List<String> CITY_PREFIXES = List.of("Alt", "Neu", "Ober", "Nieder", "Groß", "Klein",
+			"Bad ", "Hohen", "Rosen", "Linden", "Eichen", "Buchen", "Tannen", "Birken", "Wald", "Berg", "Tal",
+			"Stein", "Sand", "Mühl", "Hof", "Kirch", "Schön", "Frei", "Roth", "Weiß", "Grün", "Blau", "Sonnen",
+			"Mond", "Stern", "Wiesen", "Brunn", "Bach", "See", "Fels", "Adler", "Falken", "Wolfs", "Hirsch");
+
+	private static final List<String> CITY_SUFFIXES = List.of("burg", "berg", "dorf", "feld", "hausen", "heim",
+			"stadt", "hagen", "bach", "brück", "furt", "au", "tal", "rode", "kirchen", "stedt", "ingen", "hofen",
+			"walde", "born", "münde", "haven", "wald", "eck", "horst");
+
+	private static final List<String> FIRST_NAMES = List.of("Anna", "Lena", "Sophie", "Marie", "Laura", "Julia",
+			"Sarah", "Katharina", "Johanna", "Clara", "Hannah", "Lea", "Emma", "Mia", "Paula", "Miriam", "Sabine",
+			"Petra", "Claudia", "Birgit", "Lukas", "Jonas", "Felix", "Maximilian", "Paul", "Leon", "Tim", "David",
+			"Jan", "Simon", "Thomas", "Michael", "Andreas", "Stefan", "Christian", "Markus", "Martin", "Peter",
+			"Frank", "Ahmet", "Mehmet", "Ali", "Yusuf", "Elif", "Ayşe", "Olga", "Ivan", "Piotr", "Anja", "Karin");
+
+	private static final List<String> LAST_NAMES = List.of("Müller", "Schmidt", "Schneider", "Fischer", "Weber",
+			"Meyer", "Wagner", "Becker", "Schulz", "Hoffmann", "Schäfer", "Koch", "Bauer", "Richter", "Klein",
+			"Wolf", "Schröder", "Neumann", "Schwarz", "Zimmermann", "Braun", "Krüger", "Hofmann", "Hartmann",
+			"Lange", "Schmitt", "Werner", "Schmitz", "Krause", "Meier", "Lehmann", "Schmid", "Schulze", "Maier",
+			"Köhler", "Herrmann", "König", "Walter", "Mayer", "Huber", "Kaiser", "Fuchs", "Peters", "Lang",
+			"Scholz", "Möller", "Weiß", "Jung", "Hahn", "Schubert", "Yılmaz", "Kaya", "Demir", "Nowak", "Kowalski",
+			"Popescu", "Ivanov", "Rossi", "Nguyen", "Haas");
+
+	private static final List<String> STREETS = List.of("Hauptstraße", "Schulstraße", "Gartenstraße",
+			"Bahnhofstraße", "Dorfstraße", "Bergstraße", "Lindenstraße", "Kirchstraße", "Waldstraße", "Ringstraße",
+			"Schillerstraße", "Goethestraße", "Mühlenweg", "Am Markt", "Friedhofstraße", "Rosenweg",
+			"Birkenweg", "Wiesenweg", "Poststraße", "Marktplatz", "Feldstraße", "Amselweg", "Ahornweg",
+			"Parkstraße", "Mozartstraße", "Beethovenstraße", "Kantstraße", "Lessingstraße", "Uhlandstraße",
+			"Talstraße");
+
+	private final Deterministic random;
+
+	Names(Deterministic random) {
+		this.random = random;
+	}
+
+	static String city(int index) {
+		int prefixes = CITY_PREFIXES.size();
+		int suffixes = CITY_SUFFIXES.size();
+		String name = CITY_PREFIXES.get(index % prefixes) + CITY_SUFFIXES.get(index / prefixes % suffixes);
+		int round = index / (prefixes * suffixes);
+		return round == 0 ? name : name + " " + (round + 1);
+	}
+
+	String postalCode(int city) {
+		return String.format("%05d", 1_067 + random.below(Table.CITY, city, 1, 98_000));
+	}
+
+	String firstName(int doctor) {
+		return FIRST_NAMES.get(random.below(Table.DOCTOR, doctor, 1, FIRST_NAMES.size()));
+	}
+
+	String lastName(Table table, int index) {
+		return LAST_NAMES.get(random.below(table, index, 2, LAST_NAMES.size()));
+	}
+
+	String practice(int practice) {
+		return "Praxis Dr. " + lastName(Table.PRACTICE, practice) + " " + (practice + 1);
+	}
+
+	String street(int practice) {
+		return STREETS.get(random.below(Table.PRACTICE, practice, 3, STREETS.size()));
+	}
+
+	String houseNumber(int practice) {
+		return String.valueOf(1 + random.below(Table.PRACTICE, practice, 4, 180));
+	}
+
+	String phone(int practice) {
+		return String.format("+49 %d %07d", 30 + random.below(Table.PRACTICE, practice, 5, 9_900),
+				random.below(Table.PRACTICE, practice, 6, 10_000_000));
+	}
+
+	static String email(int practice) {
+		return "praxis" + (practice + 1) + "@example.de";
+	}
+}
@@ -0,0 +1,55 @@
+package test.doctor_provider.datagen;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sprechzeiten-Vorlagen und Slot-Raster wie in der Anwendung
+ * (SlotGenerator: 30 Minuten, Europe/Berlin, nur volle Slots).
+ *
+ * WICHTIG: - Gleiches Raster wie die Anwendung: materialisiert sie später
+ * nach, entstehen keine verschobenen Dubletten - Jeder Arzt bekommt eine
+ * der Vorlagen (höchstens MAX_SHIFTS Zeilen in doctor_working_hours)
+ */
+final class SlotGrid {
+
+	static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+	static final int SLOT_MINUTES = 30;
+	static final int MAX_SHIFTS = 10;
+
+	record Shift(DayOfWeek day, LocalTime start, LocalTime end) {
+
+		int slots() {
+			return (end.toSecondOfDay() - start.toSecondOfDay()) / 60 / SLOT_MINUTES;
+		}
+	}
+
+	/** Vollzeit geteilt, Vollzeit durchgehend, Teilzeit, Dienstag bis Samstag. */
+	static final List<List<Shift>> TEMPLATES = List.of(
+			shifts(List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY,
+					DayOfWeek.FRIDAY), "08:00-12:00", "14:00-18:00"),
+			shifts(List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY,
+					DayOfWeek.FRIDAY), "08:00-16:00"),
+			shifts(List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.THURSDAY), "07:30-13:30"),
+			shifts(List.of(DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY,
+					DayOfWeek.SATURDAY), "09:00-17:00"));
+
+	private SlotGrid() {
+	}
+
+	private static List<Shift> shifts(List<DayOfWeek> days, String... ranges) {
+		List<Shift> shifts = new ArrayList<>();
+		for (DayOfWeek day : days) {
+			for (String range : ranges) {
+				shifts.add(new Shift(day, LocalTime.parse(range.substring(0, 5)), LocalTime.parse(range.substring(6))));
+			}
+		}
+		if (shifts.size() > MAX_SHIFTS) {
+			throw new IllegalStateException("Template has more than " + MAX_SHIFTS + " shifts");
+		}
+		return List.copyOf(shifts);
+	}
+}
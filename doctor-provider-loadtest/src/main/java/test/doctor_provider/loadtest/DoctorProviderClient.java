@@ -0,0 +1,104 @@
+package test.doctor_provider.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.MissingNode;
+
+import test.doctor_provider.loadtest.LoadTestStatistics.Outcome;
+
+/**
+ * HTTP-Client für die externen Endpunkte von doctor-provider.
+ *
+ * WICHTIG: - Jeder Aufruf wird als Schritt gemessen: vom Absenden bis der
+ * Body vollständig gelesen ist (JSON-Parsen danach zählt nicht mit) - Ein
+ * HttpClient für alle virtuellen Threads (Connection-Pool wird geteilt) -
+ * HTTP/1.1 wie beim Customer-Service (kein h2c im Tomcat) - body ist nie
+ * null (MissingNode bei Fehlern oder leerem Body) - GET ohne oder mit
+ * kaputtem JSON-Body ist trotz 2xx ein Fehler (Status empty-body bzw.
+ * invalid-json): ein nicht implementierter Endpunkt liefert 200 ohne Body
+ */
+final class DoctorProviderClient {
+
+	record Response(Outcome outcome, JsonNode body) {
+
+		boolean ok() {
+			return outcome == Outcome.OK;
+		}
+	}
+
+	private static final JsonMapper JSON = JsonMapper.builder().build();
+
+	private final HttpClient http;
+	private final LoadTestOptions options;
+	private final LoadTestStatistics statistics;
+
+	DoctorProviderClient(HttpClient http, LoadTestOptions options, LoadTestStatistics statistics) {
+		this.http = http;
+		this.options = options;
+		this.statistics = statistics;
+	}
+
+	Response get(Step step, String pathAndQuery) {
+		return send(step, request(pathAndQuery).GET().build(), true);
+	}
+
+	Response put(Step step, String path, Map<String, String> body) {
+		return send(step, request(path).header("Content-Type", "application/json")
+				.PUT(HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body))).build(), false);
+	}
+
+	private HttpRequest.Builder request(String pathAndQuery) {
+		return HttpRequest.newBuilder(URI.create(options.baseUrl() + pathAndQuery))
+				.timeout(options.requestTimeout()).header("Accept", "application/json");
+	}
+
+	private Response send(Step step, HttpRequest request, boolean bodyRequired) {
+		long start = System.nanoTime();
+		HttpResponse<byte[]> response;
+		try {
+			response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+		} catch (HttpTimeoutException e) {
+			statistics.record(step, start, System.nanoTime(), Outcome.ERROR, "timeout");
+			return new Response(Outcome.ERROR, MissingNode.getInstance());
+		} catch (IOException e) {
+			statistics.record(step, start, System.nanoTime(), Outcome.ERROR, "io-error");
+			return new Response(Outcome.ERROR, MissingNode.getInstance());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return new Response(Outcome.ERROR, MissingNode.getInstance());
+		}
+		long end = System.nanoTime();
+		int status = response.statusCode();
+		Outcome outcome = status / 100 == 2 ? Outcome.OK : status == 409 ? Outcome.CONFLICT : Outcome.ERROR;
+		if (outcome != Outcome.OK) {
+			statistics.record(step, start, end, outcome, String.valueOf(status));
+			return new Response(outcome, MissingNode.getInstance());
+		}
+		JsonNode body = MissingNode.getInstance();
+		String invalid = null;
+		if (response.body().length == 0) {
+			invalid = "empty-body";
+		} else {
+			try {
+				body = JSON.readTree(response.body());
+			} catch (JacksonException e) {
+				invalid = "invalid-json";
+			}
+		}
+		if (invalid != null && bodyRequired) {
+			statistics.record(step, start, end, Outcome.ERROR, invalid);
+			return new Response(Outcome.ERROR, MissingNode.getInstance());
+		}
+		statistics.record(step, start, end, Outcome.OK, String.valueOf(status));
+		return new Response(Outcome.OK, body);
+	}
+}
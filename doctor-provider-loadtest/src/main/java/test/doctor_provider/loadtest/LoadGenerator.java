@@ -0,0 +1,104 @@
+package test.doctor_provider.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Instant;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Erzeugt die Last: eine Journey pro virtuellem Thread.
+ *
+ * WICHTIG: - Offenes Modell: Ankünfte nach festem Fahrplan (Poisson oder
+ * konstant); hängt der Service, kommen trotzdem neue Patienten, und die
+ * Journey-Latenz zählt ab dem geplanten Start (kein Coordinated Omission) -
+ * Über max-in-flight hinaus wird verworfen statt gewartet (journeysDropped) -
+ * Geschlossenes Modell: users Patienten, jeder startet die nächste Journey
+ * erst nach der vorherigen - Ein Seed: die Entscheidungen der Journeys sind
+ * bei gleichen Antworten reproduzierbar (SplittableRandom pro Journey)
+ */
+final class LoadGenerator {
+
+	private final LoadTestOptions options;
+
+	LoadGenerator(LoadTestOptions options) {
+		this.options = options;
+	}
+
+	LoadTestResult run() {
+		HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(options.requestTimeout()).build();
+		Instant startedAt = Instant.now();
+		long start = System.nanoTime();
+		long measuredFrom = start + options.warmup().toNanos();
+		long end = measuredFrom + options.duration().toNanos();
+		LoadTestStatistics statistics = new LoadTestStatistics(measuredFrom);
+		PatientJourney journey = new PatientJourney(new DoctorProviderClient(http, options, statistics), options,
+				statistics);
+		SplittableRandom random = new SplittableRandom(options.seed());
+
+		System.out.printf("Running %s model against %s: warm-up %s, measurement %s%n",
+				options.openModel() ? "open" : "closed", options.baseUrl(), options.warmup(), options.duration());
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			if (options.openModel()) {
+				openModel(executor, journey, statistics, random, start, end);
+			} else {
+				closedModel(executor, journey, random, end);
+			}
+			System.out.println("Waiting for running journeys to finish");
+		}
+		return statistics.result(options, startedAt, options.duration());
+	}
+
+	private void openModel(ExecutorService executor, PatientJourney journey, LoadTestStatistics statistics,
+			SplittableRandom random, long start, long end) {
+		Semaphore inFlight = new Semaphore(options.maxInFlight());
+		double meanIntervalNanos = 1e9 / options.rate();
+		double offset = 0;
+		for (long next = start; next - end < 0; next = start + (long) offset) {
+			sleepUntil(next);
+			long intendedStart = next;
+			SplittableRandom journeyRandom = random.split();
+			if (inFlight.tryAcquire()) {
+				executor.execute(() -> {
+					try {
+						journey.run(journeyRandom, intendedStart);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						inFlight.release();
+					}
+				});
+			} else {
+				statistics.journeyDropped(intendedStart);
+			}
+			offset += options.arrival() == LoadTestOptions.Arrival.POISSON
+					? -Math.log(1 - random.nextDouble()) * meanIntervalNanos
+					: meanIntervalNanos;
+		}
+	}
+
+	private void closedModel(ExecutorService executor, PatientJourney journey, SplittableRandom random, long end) {
+		for (int user = 0; user < options.users(); user++) {
+			SplittableRandom userRandom = random.split();
+			executor.execute(() -> {
+				try {
+					while (System.nanoTime() - end < 0) {
+						journey.run(userRandom, System.nanoTime());
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		sleepUntil(end);
+	}
+
+	private static void sleepUntil(long nanoTime) {
+		for (long wait = nanoTime - System.nanoTime(); wait > 0; wait = nanoTime - System.nanoTime()) {
+			LockSupport.parkNanos(wait);
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package test.doctor_provider.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Optionen eines Laufs, gelesen aus --name=wert.
+ *
+ * WICHTIG: - Standard ist das offene Modell: rate neue Journeys pro Sekunde,
+ * unabhängig von den Antwortzeiten, höchstens maxInFlight gleichzeitig,
+ * darüber werden Journeys verworfen und gezählt (kein Coordinated Omission) -
+ * users > 0: geschlossenes Modell mit users parallelen Patienten (rate wird
+ * ignoriert) - Alle effektiven Werte landen im Ergebnis-JSON, damit Läufe
+ * vergleichbar bleiben
+ */
+record LoadTestOptions(URI baseUrl, double rate, Arrival arrival, int maxInFlight, int users, Duration warmup,
+		Duration duration, Duration thinkTime, Duration requestTimeout, double specialitySkew, double doctorSkew,
+		double slotSkew, double cityRatio, double rescheduleRatio, double cancelRatio, int pageSize, long seed,
+		String label, Path output) {
+
+	enum Arrival {
+		POISSON, CONSTANT
+	}
+
+	private static final Map<String, String> DEFAULTS = defaults();
+
+	LoadTestOptions {
+		if (rate <= 0 && users <= 0) {
+			throw new IllegalArgumentException("Either rate or users must be greater than 0");
+		}
+		if (users <= 0 && maxInFlight < 1) {
+			throw new IllegalArgumentException("max-in-flight must be greater than 0");
+		}
+		if (rescheduleRatio < 0 || cancelRatio < 0 || rescheduleRatio + cancelRatio > 1) {
+			throw new IllegalArgumentException("reschedule-ratio and cancel-ratio must be >= 0 and sum up to <= 1");
+		}
+		if (cityRatio < 0 || cityRatio > 1) {
+			throw new IllegalArgumentException("city-ratio must be between 0 and 1");
+		}
+		if (pageSize < 1 || pageSize > 200) {
+			throw new IllegalArgumentException("page-size must be between 1 and 200");
+		}
+	}
+
+	static LoadTestOptions parse(String[] args) {
+		Map<String, String> values = new LinkedHashMap<>(DEFAULTS);
+		for (String arg : args) {
+			int separator = arg.indexOf('=');
+			if (!arg.startsWith("--") || separator < 0) {
+				throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+			}
+			String name = arg.substring(2, separator);
+			if (!values.containsKey(name)) {
+				throw new IllegalArgumentException("Unknown option: --" + name + " (known: " + DEFAULTS.keySet() + ")");
+			}
+			values.put(name, arg.substring(separator + 1));
+		}
+		return new LoadTestOptions(URI.create(stripSlash(values.get("base-url"))), number(values, "rate"),
+				Arrival.valueOf(values.get("arrival").toUpperCase(Locale.ROOT)), integer(values, "max-in-flight"),
+				integer(values, "users"), duration(values, "warmup"), duration(values, "duration"),
+				duration(values, "think-time"), duration(values, "request-timeout"), number(values, "speciality-skew"),
+				number(values, "doctor-skew"), number(values, "slot-skew"), number(values, "city-ratio"),
+				number(values, "reschedule-ratio"), number(values, "cancel-ratio"), integer(values, "page-size"),
+				Long.parseLong(values.get("seed")), values.get("label"), Path.of(values.get("output")));
+	}
+
+	boolean openModel() {
+		return users <= 0;
+	}
+
+	Map<String, String> describe() {
+		Map<String, String> values = new LinkedHashMap<>();
+		values.put("base-url", baseUrl.toString());
+		values.put("model", openModel() ? "open" : "closed");
+		if (openModel()) {
+			values.put("rate", String.valueOf(rate));
+			values.put("arrival", arrival.name().toLowerCase(Locale.ROOT));
+			values.put("max-in-flight", String.valueOf(maxInFlight));
+		} else {
+			values.put("users", String.valueOf(users));
+		}
+		values.put("warmup", warmup.toString());
+		values.put("duration", duration.toString());
+		values.put("think-time", thinkTime.toString());
+		values.put("request-timeout", requestTimeout.toString());
+		values.put("speciality-skew", String.valueOf(specialitySkew));
+		values.put("doctor-skew", String.valueOf(doctorSkew));
+		values.put("slot-skew", String.valueOf(slotSkew));
+		values.put("city-ratio", String.valueOf(cityRatio));
+		values.put("reschedule-ratio", String.valueOf(rescheduleRatio));
+		values.put("cancel-ratio", String.valueOf(cancelRatio));
+		values.put("page-size", String.valueOf(pageSize));
+		values.put("seed", String.valueOf(seed));
+		return values;
+	}
+
+	private static Map<String, String> defaults() {
+		Map<String, String> values = new LinkedHashMap<>();
+		values.put("base-url", "http://localhost:8080");
+		values.put("rate", "10");
+		values.put("arrival", "poisson");
+		values.put("max-in-flight", "500");
+		values.put("users", "0");
+		values.put("warmup", "30s");
+		values.put("duration", "2m");
+		values.put("think-time", "0ms");
+		values.put("request-timeout", "10s");
+		values.put("speciality-skew", "0.5");
+		values.put("doctor-skew", "1.0");
+		values.put("slot-skew", "1.0");
+		values.put("city-ratio", "0.5");
+		values.put("reschedule-ratio", "0.1");
+		values.put("cancel-ratio", "0.1");
+		values.put("page-size", "20");
+		values.put("seed", "42");
+		values.put("label", "run");
+		values.put("output", "results");
+		return values;
+	}
+
+	private static String stripSlash(String url) {
+		return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+	}
+
+	private static double number(Map<String, String> values, String name) {
+		return Double.parseDouble(values.get(name));
+	}
+
+	private static int integer(Map<String, String> values, String name) {
+		return Integer.parseInt(values.get(name));
+	}
+
+	/**
+	 * 500ms, 30s, 2m oder ISO-8601 (PT2M).
+	 */
+	private static Duration duration(Map<String, String> values, String name) {
+		String value = values.get(name).trim().toLowerCase(Locale.ROOT);
+		if (value.startsWith("pt")) {
+			return Duration.parse(value);
+		}
+		if (value.endsWith("ms")) {
+			return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+		}
+		if (value.endsWith("s")) {
+			return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+		}
+		if (value.endsWith("m")) {
+			return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+		}
+		throw new IllegalArgumentException("Invalid duration for --" + name + ": " + value);
+	}
+}
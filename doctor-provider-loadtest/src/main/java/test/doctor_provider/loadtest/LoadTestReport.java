@@ -0,0 +1,74 @@
+package test.doctor_provider.loadtest;
+
+import java.io.PrintStream;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Tabellen für die Konsole: Ergebnis eines Laufs und Vergleich zweier Läufe.
+ *
+ * WICHTIG: - Vergleich zeigt zuerst abweichende Optionen (andere Rate oder
+ * anderer Skew machen Zahlen unvergleichbar) - Deltas in Prozent, bei
+ * Latenzen ist negativ besser, beim Durchsatz positiv
+ */
+final class LoadTestReport {
+
+	private static final String ROW = "%-28s %8s %8s %8s %8s %7s %9s %9s %9s %9s %9s%n";
+	private static final String COMPARE_ROW = "%-28s %-12s %12s %12s %9s%n";
+
+	private LoadTestReport() {
+	}
+
+	static void print(LoadTestResult result, PrintStream out) {
+		out.printf(Locale.ROOT, "%nRun '%s' started %s, measured %.0f s, journeys started %d, dropped %d%n",
+				result.label(), result.startedAt(), result.measuredSeconds(), result.journeysStarted(),
+				result.journeysDropped());
+		out.printf(ROW, "step", "count", "ok", "409", "errors", "err%", "req/s", "p50 ms", "p95 ms", "p99 ms",
+				"max ms");
+		result.steps().forEach((name, step) -> out.printf(Locale.ROOT, ROW, name, step.count(), step.ok(),
+				step.conflicts(), step.errors(), format(step.errorRate() * 100), format(step.throughputPerSecond()),
+				format(step.p50Ms()), format(step.p95Ms()), format(step.p99Ms()), format(step.maxMs())));
+	}
+
+	static void compare(LoadTestResult before, LoadTestResult after, PrintStream out) {
+		out.printf("%nComparing '%s' (%s) with '%s' (%s)%n", before.label(), before.startedAt(), after.label(),
+				after.startedAt());
+		Set<String> options = new LinkedHashSet<>(before.options().keySet());
+		options.addAll(after.options().keySet());
+		for (String option : options) {
+			String old = before.options().get(option);
+			String current = after.options().get(option);
+			if (!Objects.equals(old, current)) {
+				out.printf("  option %s differs: %s -> %s%n", option, old, current);
+			}
+		}
+		out.printf(COMPARE_ROW, "step", "metric", "before", "after", "delta");
+		Set<String> steps = new LinkedHashSet<>(before.steps().keySet());
+		steps.addAll(after.steps().keySet());
+		for (String step : steps) {
+			LoadTestResult.StepResult old = before.steps().get(step);
+			LoadTestResult.StepResult current = after.steps().get(step);
+			if (old == null || current == null) {
+				out.printf(COMPARE_ROW, step, "-", old == null ? "-" : "present", current == null ? "-" : "present",
+						"");
+				continue;
+			}
+			row(out, step, "p50 ms", old.p50Ms(), current.p50Ms());
+			row(out, "", "p95 ms", old.p95Ms(), current.p95Ms());
+			row(out, "", "p99 ms", old.p99Ms(), current.p99Ms());
+			row(out, "", "req/s", old.throughputPerSecond(), current.throughputPerSecond());
+			row(out, "", "err%", old.errorRate() * 100, current.errorRate() * 100);
+		}
+	}
+
+	private static void row(PrintStream out, String step, String metric, double before, double after) {
+		String delta = before == 0 ? "" : String.format(Locale.ROOT, "%+.1f%%", (after - before) / before * 100);
+		out.printf(Locale.ROOT, COMPARE_ROW, step, metric, format(before), format(after), delta);
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.2f", value);
+	}
+}
@@ -0,0 +1,40 @@
+package test.doctor_provider.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Maschinenlesbares Ergebnis eines Laufs (JSON in --output).
+ *
+ * WICHTIG: - steps ist nach operationId geschlüsselt (plus "journey" für die
+ * ganze Journey), Zeiten in Millisekunden - options enthält alle effektiven
+ * Optionen, damit ein Vergleich zeigt, ob die Läufe überhaupt vergleichbar
+ * sind
+ */
+record LoadTestResult(String label, String startedAt, double measuredSeconds, Map<String, String> options,
+		long journeysStarted, long journeysDropped, Map<String, StepResult> steps) {
+
+	private static final JsonMapper JSON = JsonMapper.builder().build();
+
+	record StepResult(long count, long ok, long conflicts, long errors, double errorRate,
+			double throughputPerSecond, double meanMs, double p50Ms, double p95Ms, double p99Ms, double maxMs,
+			Map<String, Long> statuses) {
+	}
+
+	Path write(Path directory) throws IOException {
+		Files.createDirectories(directory);
+		String timestamp = startedAt.replace(":", "").replace("-", "");
+		Path file = directory.resolve(timestamp.substring(0, Math.min(15, timestamp.length())) + "-"
+				+ label.replaceAll("[^A-Za-z0-9_.-]", "_") + ".json");
+		Files.writeString(file, JSON.writerWithDefaultPrettyPrinter().writeValueAsString(this));
+		return file;
+	}
+
+	static LoadTestResult read(Path file) throws IOException {
+		return JSON.readValue(Files.readString(file), LoadTestResult.class);
+	}
+}
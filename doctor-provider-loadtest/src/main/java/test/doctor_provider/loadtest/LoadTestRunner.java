@@ -0,0 +1,32 @@
+package test.doctor_provider.loadtest;
+
+import java.nio.file.Path;
+
+/**
+ * Einstieg: Lasttest ausführen oder zwei Ergebnisse vergleichen.
+ *
+ * WICHTIG: - java -jar target/loadtest.jar --rate=20 --duration=5m
+ * --label=before - java -jar target/loadtest.jar compare
+ * results/a.json results/b.json - Optionen und Standardwerte siehe
+ * LoadTestOptions und README
+ */
+public final class LoadTestRunner {
+
+	private LoadTestRunner() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		if (args.length > 0 && args[0].equals("compare")) {
+			if (args.length != 3) {
+				throw new IllegalArgumentException("Usage: compare <before.json> <after.json>");
+			}
+			LoadTestReport.compare(LoadTestResult.read(Path.of(args[1])), LoadTestResult.read(Path.of(args[2])),
+					System.out);
+			return;
+		}
+		LoadTestOptions options = LoadTestOptions.parse(args);
+		LoadTestResult result = new LoadGenerator(options).run();
+		LoadTestReport.print(result, System.out);
+		System.out.println("Results written to " + result.write(options.output()));
+	}
+}
@@ -0,0 +1,103 @@
+package test.doctor_provider.loadtest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Sammelt Latenzen und Ergebnisse pro Schritt, threadsicher und ohne Locks.
+ *
+ * WICHTIG: - Latenzen in Mikrosekunden im HdrHistogram (3 signifikante
+ * Stellen, wächst automatisch) - Gezählt wird nur, was nach dem Warm-up
+ * gestartet wurde - 409 ist ein fachliches Ergebnis (Slot schon vergeben)
+ * und zählt als conflict, nicht als Fehler - Fehler: alle anderen
+ * Nicht-2xx-Antworten, Timeouts und Verbindungsfehler
+ */
+final class LoadTestStatistics {
+
+	enum Outcome {
+		OK, CONFLICT, ERROR
+	}
+
+	private final long measuredFrom;
+	private final Map<Step, StepCounters> steps = new EnumMap<>(Step.class);
+	private final LongAdder journeysStarted = new LongAdder();
+	private final LongAdder journeysDropped = new LongAdder();
+
+	LoadTestStatistics(long measuredFrom) {
+		this.measuredFrom = measuredFrom;
+		for (Step step : Step.values()) {
+			steps.put(step, new StepCounters());
+		}
+	}
+
+	void record(Step step, long startNanos, long endNanos, Outcome outcome, String status) {
+		if (startNanos - measuredFrom < 0) {
+			return;
+		}
+		StepCounters counters = steps.get(step);
+		counters.latencies.recordValue(Math.max(1, (endNanos - startNanos) / 1_000));
+		switch (outcome) {
+			case OK -> counters.ok.increment();
+			case CONFLICT -> counters.conflicts.increment();
+			case ERROR -> counters.errors.increment();
+		}
+		counters.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+	}
+
+	void journeyStarted(long intendedStartNanos) {
+		if (intendedStartNanos - measuredFrom >= 0) {
+			journeysStarted.increment();
+		}
+	}
+
+	void journeyDropped(long intendedStartNanos) {
+		if (intendedStartNanos - measuredFrom >= 0) {
+			journeysDropped.increment();
+		}
+	}
+
+	LoadTestResult result(LoadTestOptions options, Instant startedAt, Duration measured) {
+		double seconds = measured.toNanos() / 1e9;
+		Map<String, LoadTestResult.StepResult> results = new LinkedHashMap<>();
+		for (Map.Entry<Step, StepCounters> entry : steps.entrySet()) {
+			StepCounters counters = entry.getValue();
+			Histogram latencies = counters.latencies.copy();
+			long count = latencies.getTotalCount();
+			if (count == 0) {
+				continue;
+			}
+			Map<String, Long> statuses = new TreeMap<>();
+			counters.statuses.forEach((status, adder) -> statuses.put(status, adder.sum()));
+			long errors = counters.errors.sum();
+			results.put(entry.getKey().operationId(),
+					new LoadTestResult.StepResult(count, counters.ok.sum(), counters.conflicts.sum(), errors,
+							(double) errors / count, count / seconds, millis(latencies.getMean()),
+							millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(95)),
+							millis(latencies.getValueAtPercentile(99)), millis(latencies.getMaxValue()), statuses));
+		}
+		return new LoadTestResult(options.label(), startedAt.toString(), seconds, options.describe(),
+				journeysStarted.sum(), journeysDropped.sum(), results);
+	}
+
+	private static double millis(double micros) {
+		return Math.round(micros / 10.0) / 100.0;
+	}
+
+	private static final class StepCounters {
+
+		private final ConcurrentHistogram latencies = new ConcurrentHistogram(3);
+		private final LongAdder ok = new LongAdder();
+		private final LongAdder conflicts = new LongAdder();
+		private final LongAdder errors = new LongAdder();
+		private final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+	}
+}
@@ -0,0 +1,155 @@
+package test.doctor_provider.loadtest;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import tools.jackson.databind.JsonNode;
+
+import test.doctor_provider.loadtest.DoctorProviderClient.Response;
+import test.doctor_provider.loadtest.LoadTestStatistics.Outcome;
+
+/**
+ * Eine Patienten-Journey wie im Customer-Service: Fachrichtungen → Städte →
+ * Arztsuche → freie Termine → buchen → gelegentlich verschieben oder absagen.
+ *
+ * WICHTIG: - Fachrichtung, Arzt und Slot werden Zipf-verteilt nach Position
+ * in der Antwort gewählt: die ersten Ärzte einer Fachrichtung und die
+ * frühesten Slots sind "beliebt" (Hot Rows, 409 bei Konkurrenz) - Ohne
+ * Treffer mit Stadt wird wie ein echter Patient ohne Stadt erneut gesucht -
+ * Bricht beim ersten Fehler ab; Ergebnis der ganzen Journey als Schritt
+ * JOURNEY (booked, conflict, error, no-specialities, no-doctors, no-slots) -
+ * Nur booked zählt als OK: eine Journey ohne Buchung hat die Last auf BOOK
+ * nie erzeugt, auch wenn nur Testdaten fehlen (Status zeigt den Grund)
+ */
+final class PatientJourney {
+
+	private final DoctorProviderClient client;
+	private final LoadTestOptions options;
+	private final LoadTestStatistics statistics;
+	private final ZipfSampler specialities;
+	private final ZipfSampler doctors;
+	private final ZipfSampler slots;
+
+	PatientJourney(DoctorProviderClient client, LoadTestOptions options, LoadTestStatistics statistics) {
+		this.client = client;
+		this.options = options;
+		this.statistics = statistics;
+		this.specialities = new ZipfSampler(options.specialitySkew());
+		this.doctors = new ZipfSampler(options.doctorSkew());
+		this.slots = new ZipfSampler(options.slotSkew());
+	}
+
+	/**
+	 * @param intendedStartNanos
+	 *            geplanter Start (offenes Modell) – die Journey-Latenz zählt ab
+	 *            hier, nicht ab dem tatsächlichen Start
+	 */
+	void run(SplittableRandom random, long intendedStartNanos) throws InterruptedException {
+		statistics.journeyStarted(intendedStartNanos);
+		String result = walk(random);
+		Outcome outcome = switch (result) {
+			case "booked" -> Outcome.OK;
+			case "conflict" -> Outcome.CONFLICT;
+			default -> Outcome.ERROR;
+		};
+		statistics.record(Step.JOURNEY, intendedStartNanos, System.nanoTime(), outcome, result);
+	}
+
+	private String walk(SplittableRandom random) throws InterruptedException {
+		Response specialityList = client.get(Step.SPECIALITIES, "/api/v1/external/specialities");
+		if (!specialityList.ok()) {
+			return failure(specialityList);
+		}
+		JsonNode speciality = pick(specialityList.body(), specialities, random);
+		if (speciality == null) {
+			return "no-specialities";
+		}
+		think(random);
+
+		Response cityList = client.get(Step.CITIES, "/api/v1/external/cities?size=" + options.pageSize());
+		if (!cityList.ok()) {
+			return failure(cityList);
+		}
+		JsonNode cities = cityList.body().path("items");
+		String cityId = null;
+		if (cities.size() > 0 && random.nextDouble() < options.cityRatio()) {
+			cityId = cities.get(random.nextInt(cities.size())).path("id").asString();
+		}
+		think(random);
+
+		String search = "/api/v1/external/doctors?size=" + options.pageSize() + "&specialityId="
+				+ speciality.path("id").asString();
+		Response doctorList = client.get(Step.SEARCH_DOCTORS,
+				cityId == null ? search : search + "&cityId=" + cityId);
+		if (doctorList.ok() && cityId != null && doctorList.body().path("items").isEmpty()) {
+			doctorList = client.get(Step.SEARCH_DOCTORS, search);
+		}
+		if (!doctorList.ok()) {
+			return failure(doctorList);
+		}
+		JsonNode doctor = pick(doctorList.body().path("items"), doctors, random);
+		if (doctor == null) {
+			return "no-doctors";
+		}
+		think(random);
+
+		Response slotList = client.get(Step.AVAILABLE_SLOTS, "/api/v1/external/doctors/"
+				+ doctor.path("id").asString() + "/available-slots?size=" + options.pageSize());
+		if (!slotList.ok()) {
+			return failure(slotList);
+		}
+		JsonNode available = slotList.body().path("items");
+		JsonNode slot = pick(available, slots, random);
+		if (slot == null) {
+			return "no-slots";
+		}
+		think(random);
+
+		String patientId = UUID.randomUUID().toString();
+		String slotId = slot.path("id").asString();
+		Response booked = client.put(Step.BOOK, "/api/v1/external/slots/" + slotId + "/book",
+				Map.of("patientId", patientId));
+		if (!booked.ok()) {
+			return failure(booked);
+		}
+
+		double followUp = random.nextDouble();
+		if (followUp < options.rescheduleRatio() && available.size() > 1) {
+			think(random);
+			JsonNode other = available.get(random.nextInt(available.size()));
+			String newSlotId = other.path("id").asString();
+			if (!newSlotId.equals(slotId)) {
+				client.put(Step.RESCHEDULE, "/api/v1/external/slots/reschedule",
+						Map.of("patientId", patientId, "currentSlotId", slotId, "newSlotId", newSlotId));
+			}
+		} else if (followUp < options.rescheduleRatio() + options.cancelRatio()) {
+			think(random);
+			client.put(Step.CANCEL, "/api/v1/external/slots/" + slotId + "/cancel", Map.of("patientId", patientId));
+		}
+		return "booked";
+	}
+
+	private static String failure(Response response) {
+		return response.outcome() == Outcome.CONFLICT ? "conflict" : "error";
+	}
+
+	private static JsonNode pick(JsonNode items, ZipfSampler sampler, SplittableRandom random) {
+		if (!items.isArray() || items.isEmpty()) {
+			return null;
+		}
+		return items.get(sampler.next(random, items.size()));
+	}
+
+	/**
+	 * Bedenkzeit zwischen zwei Schritten: gleichverteilt 0..2 × think-time
+	 * (Mittelwert = think-time).
+	 */
+	private void think(SplittableRandom random) throws InterruptedException {
+		long micros = options.thinkTime().toNanos() / 1_000;
+		if (micros > 0) {
+			TimeUnit.MICROSECONDS.sleep(random.nextLong(2 * micros));
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package test.doctor_provider.loadtest;
+
+/**
+ * Schritte einer Patienten-Journey, benannt nach der operationId in der
+ * OpenAPI-Spec.
+ *
+ * WICHTIG: - JOURNEY ist kein Request, sondern die ganze Journey ab dem
+ * geplanten Start (enthält also auch Wartezeit im Lastgenerator)
+ */
+enum Step {
+
+	SPECIALITIES("findAllSpecialitiesExternal"),
+	CITIES("findAllCitiesExternal"),
+	SEARCH_DOCTORS("searchDoctorsExternal"),
+	AVAILABLE_SLOTS("findAvailableSlotsExternal"),
+	BOOK("bookSlotExternal"),
+	RESCHEDULE("rescheduleSlotExternal"),
+	CANCEL("cancelSlotExternal"),
+	JOURNEY("journey");
+
+	private final String operationId;
+
+	Step(String operationId) {
+		this.operationId = operationId;
+	}
+
+	String operationId() {
+		return operationId;
+	}
+}
@@ -0,0 +1,45 @@
+package test.doctor_provider.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Wählt einen Index aus 0..n-1 mit Zipf-Verteilung: P(k) ∝ 1 / (k + 1)^s.
+ *
+ * WICHTIG: - s = 0: gleichverteilt, s = 1: klassisch "wenige sind sehr
+ * beliebt", größer: noch schiefer - Kumulierte Gewichte für alle n bis zur
+ * maximalen Seitengröße werden im Konstruktor berechnet (danach nur gelesen,
+ * threadsicher)
+ */
+final class ZipfSampler {
+
+	private static final int MAX_SIZE = 200;
+
+	private final double exponent;
+	private final double[][] cumulative = new double[MAX_SIZE + 1][];
+
+	ZipfSampler(double exponent) {
+		if (exponent < 0) {
+			throw new IllegalArgumentException("Skew must not be negative: " + exponent);
+		}
+		this.exponent = exponent;
+		for (int size = 1; size <= MAX_SIZE; size++) {
+			double[] weights = new double[size];
+			double sum = 0;
+			for (int k = 0; k < size; k++) {
+				sum += 1.0 / Math.pow(k + 1, exponent);
+				weights[k] = sum;
+			}
+			cumulative[size] = weights;
+		}
+	}
+
+	int next(SplittableRandom random, int size) {
+		if (size <= 1 || exponent == 0) {
+			return size <= 1 ? 0 : random.nextInt(size);
+		}
+		double[] weights = cumulative[Math.min(size, MAX_SIZE)];
+		int index = Arrays.binarySearch(weights, random.nextDouble() * weights[weights.length - 1]);
+		return Math.min(index < 0 ? -index - 1 : index, weights.length - 1);
+	}
+}
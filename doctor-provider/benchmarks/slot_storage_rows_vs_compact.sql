@@ -0,0 +1,142 @@
+-- =============================================================================
+-- Benchmark: Slot-Speicherung "rows" (eine Zeile pro Slot) vs. "compact" (slot_day)
+-- =============================================================================
+-- Szenario: 50.000 Ärzte × 1 Jahr, Mo-Fr 08:00-16:00 im 30-Minuten-Raster
+--   rows:    50.000 × 261 Tage × 16 Slots ≈ 209 Mio. Zeilen
+--   compact: 50.000 × 261 Tage            ≈  13 Mio. Zeilen (4 Byte Status pro Tag)
+-- Jeder 5. Slot ist gebucht (slot_booking bzw. status = BOOKED).
+--
+-- Ausführen (braucht viel Platz und Zeit, :doctors zum Ausprobieren verkleinern):
+--   psql -h localhost -p 5433 -U doctor_user -d doctor_provider_db -f benchmarks/slot_storage_rows_vs_compact.sql
+--
+-- Misst je Variante:
+--   - Dauer der Befüllung
+--   - Größe von Tabelle + Indizes
+--   - EXPLAIN (ANALYZE, BUFFERS) für typische Abfragen:
+--     a) alle Slots eines Arztes in einer Woche
+--     b) freie Slots aller Ärzte an einem Tag (Zählung)
+--
+-- Arbeitet auf eigenen Tabellen (bench_slot_rows / bench_slot_day / bench_slot_booking)
+-- ohne Partitionierung und FKs und räumt am Ende auf.
+
+\timing on
+\set doctors 50000
+\set day_from '''2026-01-01'''
+\set day_to '''2026-12-31'''
+
+DROP TABLE IF EXISTS bench_slot_rows;
+DROP TABLE IF EXISTS bench_slot_booking;
+DROP TABLE IF EXISTS bench_slot_day;
+DROP TABLE IF EXISTS bench_working_hours;
+
+-- Eine Working-Hours-Zeile pro Arzt (vereinfacht: gilt für Mo-Fr)
+CREATE UNLOGGED TABLE bench_working_hours AS
+SELECT uuid_generate_v7() AS id, uuid_generate_v7() AS doctor_id
+FROM generate_series(1, :doctors);
+
+CREATE UNLOGGED TABLE bench_slot_rows (
+    id                UUID PRIMARY KEY DEFAULT uuid_generate_v7(),
+    working_hours_id  UUID NOT NULL,
+    start_time        TIMESTAMPTZ NOT NULL,
+    end_time          TIMESTAMPTZ NOT NULL,
+    status            slot_status NOT NULL
+);
+
+CREATE UNLOGGED TABLE bench_slot_day (
+    id                BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    working_hours_id  UUID NOT NULL,
+    slot_date         DATE NOT NULL,
+    slot_minutes      SMALLINT NOT NULL DEFAULT 30,
+    states            BYTEA NOT NULL
+);
+
+CREATE UNLOGGED TABLE bench_slot_booking (
+    slot_day_id  BIGINT NOT NULL,
+    slot_index   SMALLINT NOT NULL,
+    booked_at    TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (slot_day_id, slot_index)
+);
+
+\echo '--- rows: Befüllung ---'
+INSERT INTO bench_slot_rows (working_hours_id, start_time, end_time, status)
+SELECT wh.id,
+       (d::date + time '08:00' + s * interval '30 minutes') AT TIME ZONE 'Europe/Berlin',
+       (d::date + time '08:00' + (s + 1) * interval '30 minutes') AT TIME ZONE 'Europe/Berlin',
+       CASE WHEN (16 + s) % 5 = 0 THEN 'BOOKED'::slot_status ELSE 'AVAILABLE'::slot_status END
+FROM bench_working_hours wh
+CROSS JOIN generate_series(:day_from::date, :day_to::date, interval '1 day') d
+CROSS JOIN generate_series(0, 15) s
+WHERE extract(isodow FROM d) < 6;
+
+CREATE UNIQUE INDEX bench_slot_rows_wh_time ON bench_slot_rows(working_hours_id, start_time, end_time);
+CREATE INDEX bench_slot_rows_time_status ON bench_slot_rows(start_time, status);
+
+\echo '--- compact: Befüllung ---'
+-- Slots 16-31 (08:00-16:00) liegen in Byte 4-7; Code 1 = AVAILABLE, 2 = BOOKED (jeder 5. Slot).
+-- Das Muster ist an jedem Tag gleich und wird einmal berechnet.
+INSERT INTO bench_slot_day (working_hours_id, slot_date, states)
+WITH pattern AS (
+    SELECT decode('00000000' || string_agg(lpad(to_hex(
+               (SELECT sum((CASE WHEN (16 + b * 4 + k) % 5 = 0 THEN 2 ELSE 1 END) << (k * 2))::int
+                FROM generate_series(0, 3) k)), 2, '0'), '' ORDER BY b), 'hex') AS states
+    FROM generate_series(0, 3) b
+)
+SELECT wh.id, d::date, pattern.states
+FROM bench_working_hours wh
+CROSS JOIN generate_series(:day_from::date, :day_to::date, interval '1 day') d
+CROSS JOIN pattern
+WHERE extract(isodow FROM d) < 6;
+
+INSERT INTO bench_slot_booking (slot_day_id, slot_index)
+SELECT d.id, 16 + s FROM bench_slot_day d CROSS JOIN generate_series(0, 15) s WHERE (16 + s) % 5 = 0;
+
+CREATE UNIQUE INDEX bench_slot_day_wh_date ON bench_slot_day(working_hours_id, slot_date);
+CREATE INDEX bench_slot_day_date ON bench_slot_day(slot_date);
+
+VACUUM ANALYZE bench_slot_rows;
+VACUUM ANALYZE bench_slot_day;
+VACUUM ANALYZE bench_slot_booking;
+
+\timing off
+
+\echo '--- Speicherbedarf ---'
+SELECT 'rows' AS variant,
+       pg_size_pretty(pg_table_size('bench_slot_rows'))   AS table_size,
+       pg_size_pretty(pg_indexes_size('bench_slot_rows')) AS index_size,
+       pg_size_pretty(pg_total_relation_size('bench_slot_rows')) AS total
+UNION ALL
+SELECT 'compact',
+       pg_size_pretty(pg_table_size('bench_slot_day') + pg_table_size('bench_slot_booking')),
+       pg_size_pretty(pg_indexes_size('bench_slot_day') + pg_indexes_size('bench_slot_booking')),
+       pg_size_pretty(pg_total_relation_size('bench_slot_day') + pg_total_relation_size('bench_slot_booking'));
+
+SELECT id AS sample_working_hours_id FROM bench_working_hours ORDER BY id OFFSET (:doctors / 2) LIMIT 1 \gset
+
+\echo '--- a) Slots eines Arztes in einer Woche ---'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_slot_rows
+WHERE working_hours_id = :'sample_working_hours_id'
+  AND start_time >= '2026-06-15 00:00 Europe/Berlin' AND start_time < '2026-06-22 00:00 Europe/Berlin';
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_slot_day
+WHERE working_hours_id = :'sample_working_hours_id'
+  AND slot_date >= '2026-06-15' AND slot_date < '2026-06-22';
+
+\echo '--- b) Freie Slots aller Ärzte an einem Tag ---'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM bench_slot_rows
+WHERE start_time >= '2026-06-17 00:00 Europe/Berlin' AND start_time < '2026-06-18 00:00 Europe/Berlin'
+  AND status = 'AVAILABLE';
+
+-- Dekodierung in SQL nur für den Vergleich; die Anwendung dekodiert in Java (SlotDay)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM bench_slot_day d
+CROSS JOIN generate_series(0, length(d.states) * 4 - 1) i
+WHERE d.slot_date = '2026-06-17'
+  AND (get_byte(d.states, i / 4) >> ((i % 4) * 2)) & 3 = 1;
+
+DROP TABLE bench_slot_rows;
+DROP TABLE bench_slot_booking;
+DROP TABLE bench_slot_day;
+DROP TABLE bench_working_hours;
@@ -0,0 +1,64 @@
+#!/usr/bin/env bash
+# =============================================================================
+# Benchmark: Zeit vom Prozessstart bis zur ersten erfolgreichen Antwort (+ RSS)
+# =============================================================================
+# Voraussetzung: Datenbank läuft und ist migriert (docker compose up -d doctor-provider-db).
+# Aufruf: benchmarks/time_to_first_request.sh <läufe> <startkommando...>
+#
+#   # Standard-Build
+#   ./mvnw package -DskipTests
+#   benchmarks/time_to_first_request.sh 5 java -jar target/doctor-provider-0.0.1-SNAPSHOT.jar
+#
+#   # Fast-Start (Spring AOT + fast-Flyway, ohne AOT-Cache)
+#   ./mvnw package -DskipTests -Pfast-start
+#   benchmarks/time_to_first_request.sh 5 java -Dspring.aot.enabled=true \
+#       -Dspring.profiles.active=fast-start -jar target/doctor-provider-0.0.1-SNAPSHOT.jar
+#
+#   # Native Image
+#   ./mvnw -Pnative native:compile -DskipTests
+#   benchmarks/time_to_first_request.sh 5 target/doctor-provider
+#
+# Gemessen wird bis HTTP 200 auf URL (Standard: Fachrichtungen, geht durch Web, Port und JPA).
+# RSS wird direkt nach der ersten Antwort gelesen (ps), also ohne Last.
+# Ausgabe: Werte pro Lauf und die Mediane. Ziel Zeit bis zum ersten Request: unter 1500 ms.
+
+set -euo pipefail
+
+runs=${1:?Anzahl Läufe fehlt}
+shift
+url=${URL:-http://localhost:8080/api/v1/external/specialities}
+timeout_ms=${TIMEOUT_MS:-60000}
+log=$(mktemp)
+results=()
+rss=()
+
+for run in $(seq 1 "$runs"); do
+  start=$(date +%s%N)
+  "$@" >"$log" 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "$url"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "Prozess beendet, Log: $log" >&2
+      exit 1
+    fi
+    if (( ($(date +%s%N) - start) / 1000000 > timeout_ms )); then
+      kill "$pid"
+      echo "Timeout nach ${timeout_ms} ms, Log: $log" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+  elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+  rss_kb=$(ps -o rss= -p "$pid" | tr -d ' ')
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  results+=("$elapsed")
+  rss+=("$rss_kb")
+  echo "run=$run time_to_first_request_ms=$elapsed rss_kb=$rss_kb"
+done
+
+median() {
+  printf '%s\n' "$@" | sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+echo "median_ms=$(median "${results[@]}") median_rss_kb=$(median "${rss[@]}")"
+rm -f "$log"
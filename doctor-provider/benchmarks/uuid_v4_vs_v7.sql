@@ -0,0 +1,69 @@
+-- =============================================================================
+-- Benchmark: Slot-Inserts mit UUIDv4 (gen_random_uuid) vs. UUIDv7 (uuid_generate_v7)
+-- =============================================================================
+-- Voraussetzung: Datenbank mit allen Migrationen (uuid_generate_v7() aus V10).
+-- Ausführen (dauert je nach Hardware länger, ca. 2 × 20 Mio. Zeilen):
+--   psql -h localhost -p 5433 -U doctor_user -d doctor_provider_db -f benchmarks/uuid_v4_vs_v7.sql
+--
+-- Misst je Variante:
+--   - Dauer der Inserts in Batches (wie bei Working-Hours-Registrierungen)
+--   - Größe des Primärschlüssel-Index und der Tabelle
+--   - Dichte der Index-Blätter (pgstattuple → avg_leaf_density, leaf_fragmentation)
+--
+-- Arbeitet auf eigenen Tabellen (bench_slot_v4 / bench_slot_v7) und räumt am Ende auf.
+
+\timing on
+\set rows 20000000
+\set batch 50000
+
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+
+DROP TABLE IF EXISTS bench_slot_v4;
+DROP TABLE IF EXISTS bench_slot_v7;
+
+CREATE UNLOGGED TABLE bench_slot_v4 (
+    id         UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    doctor_id  UUID NOT NULL,
+    start_time TIMESTAMPTZ NOT NULL,
+    end_time   TIMESTAMPTZ NOT NULL
+);
+CREATE UNLOGGED TABLE bench_slot_v7 (LIKE bench_slot_v4 INCLUDING ALL);
+ALTER TABLE bench_slot_v7 ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+
+-- Inserts in Batches à :batch Zeilen (eine Transaktion pro Batch)
+CREATE OR REPLACE PROCEDURE bench_fill(p_table TEXT, p_rows BIGINT, p_batch INT) AS $$
+DECLARE
+    v_done BIGINT := 0;
+BEGIN
+    WHILE v_done < p_rows LOOP
+        EXECUTE format(
+            'INSERT INTO %I (doctor_id, start_time, end_time)
+             SELECT gen_random_uuid(), now() + (g * interval ''15 minutes''), now() + ((g + 1) * interval ''15 minutes'')
+             FROM generate_series(1, $1) g', p_table)
+        USING p_batch;
+        v_done := v_done + p_batch;
+        COMMIT;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+\echo '--- UUIDv4 ---'
+CALL bench_fill('bench_slot_v4', :rows, :batch);
+\echo '--- UUIDv7 ---'
+CALL bench_fill('bench_slot_v7', :rows, :batch);
+
+\timing off
+
+SELECT relname                                  AS relation,
+       pg_size_pretty(pg_relation_size(oid))    AS size
+FROM pg_class
+WHERE relname IN ('bench_slot_v4', 'bench_slot_v4_pkey', 'bench_slot_v7', 'bench_slot_v7_pkey')
+ORDER BY relname;
+
+SELECT 'v4' AS variant, avg_leaf_density, leaf_fragmentation FROM pgstatindex('bench_slot_v4_pkey')
+UNION ALL
+SELECT 'v7', avg_leaf_density, leaf_fragmentation FROM pgstatindex('bench_slot_v7_pkey');
+
+DROP PROCEDURE bench_fill(TEXT, BIGINT, INT);
+DROP TABLE bench_slot_v4;
+DROP TABLE bench_slot_v7;
@@ -0,0 +1,42 @@
+package test.doctor_provider.application.port.incoming;
+
+import java.util.stream.Stream;
+
+import test.doctor_provider.domain.model.Doctor;
+import test.doctor_provider.domain.model.DoctorWorkingHours;
+import test.doctor_provider.domain.model.ImportLine;
+import test.doctor_provider.domain.model.ImportReport;
+import test.doctor_provider.domain.model.Practice;
+
+/**
+ * Inbound Port für den Bulk-Import (Onboarding einer Region).
+ *
+ * WICHTIG: - Die Zeilen werden als Stream gelesen und in Batches verarbeitet,
+ * nie komplett im Speicher gehalten - Jede Zeile bringt ihre eigene ID mit,
+ * damit spätere Dateien (Ärzte → Praxis, Working Hours → Arzt) darauf
+ * verweisen können - Erneuter Import derselben Datei ist unschädlich
+ * (vorhandene IDs → SKIPPED)
+ */
+public interface BulkImportIncomingPort {
+
+	/**
+	 * Entspricht: POST /api/v1/internal/imports/practices (operationId:
+	 * importPractices)
+	 */
+	ImportReport importPractices(Stream<ImportLine<Practice>> lines);
+
+	/**
+	 * Entspricht: POST /api/v1/internal/imports/doctors (operationId:
+	 * importDoctors)
+	 */
+	ImportReport importDoctors(Stream<ImportLine<Doctor>> lines);
+
+	/**
+	 * Entspricht: POST /api/v1/internal/imports/working-hours (operationId:
+	 * importWorkingHours)
+	 *
+	 * ⚠️ Slots werden pro Batch in einem Schritt generiert (wie bei
+	 * registerWorkingHours: nächste Wochen, alle 30 Minuten)
+	 */
+	ImportReport importWorkingHours(Stream<ImportLine<DoctorWorkingHours>> lines);
+}
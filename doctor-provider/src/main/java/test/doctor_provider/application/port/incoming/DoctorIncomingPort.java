@@ -1,9 +1,11 @@
 package test.doctor_provider.application.port.incoming;
 
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import test.doctor_provider.domain.model.Doctor;
 import test.doctor_provider.domain.model.DoctorSearchCriteria;
+import test.doctor_provider.domain.model.NearbyDoctor;
 import test.doctor_provider.domain.model.Page;
 
 /**
@@ -32,6 +34,29 @@ public interface DoctorIncomingPort {
 	 */
 	Page<Doctor> findAllDoctors(DoctorSearchCriteria criteria, int page, int size);
 
+	/**
+	 * Sucht Ärzte im Umkreis um einen Punkt, nächste zuerst.
+	 *
+	 * Entspricht: GET /api/v1/external/doctors/nearby (operationId:
+	 * searchDoctorsNearbyExternal)
+	 *
+	 * @param latitude
+	 *            Breitengrad des Suchpunkts (WGS84)
+	 * @param longitude
+	 *            Längengrad des Suchpunkts (WGS84)
+	 * @param radiusKm
+	 *            Suchradius in km (Luftlinie)
+	 * @param specialityId
+	 *            Optional: Filter nach Fachrichtung (null = nicht filtern)
+	 * @param page
+	 *            Seitennummer (0-basiert)
+	 * @param size
+	 *            Anzahl der Elemente pro Seite
+	 * @return Paginierte Liste von Ärzten mit Entfernung
+	 */
+	Page<NearbyDoctor> findDoctorsNearby(double latitude, double longitude, double radiusKm, UUID specialityId,
+			int page, int size);
+
 	/**
 	 * Erstellt einen neuen Arzt im System.
 	 *
@@ -65,4 +90,28 @@ public interface DoctorIncomingPort {
 	 *            UUID des zu löschenden Arztes
 	 */
 	void deleteDoctor(UUID doctorId);
+
+	/**
+	 * Baut das Such-Read-Model der Ärzte komplett neu auf.
+	 *
+	 * Entspricht: POST /api/v1/internal/ops/doctor-search/rebuild (operationId:
+	 * rebuildDoctorSearch)
+	 *
+	 * @return Anzahl der Ärzte im neu aufgebauten Read-Model
+	 */
+	long rebuildDoctorSearch();
+
+	/**
+	 * Exportiert alle Ärzte als Stream, optional gefiltert.
+	 *
+	 * Entspricht: GET /api/v1/internal/exports/doctors (operationId:
+	 * exportDoctors)
+	 *
+	 * ⚠️ Der Aufrufer MUSS den Stream schließen.
+	 *
+	 * @param criteria
+	 *            Suchkriterien (alle Felder optional, null = nicht filtern)
+	 * @return Stream aller passenden Ärzte, sortiert nach ID
+	 */
+	Stream<Doctor> exportDoctors(DoctorSearchCriteria criteria);
 }
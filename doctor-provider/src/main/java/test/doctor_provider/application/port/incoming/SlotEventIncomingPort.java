@@ -0,0 +1,36 @@
+package test.doctor_provider.application.port.incoming;
+
+import java.time.Duration;
+
+import test.doctor_provider.domain.model.SlotEventFeed;
+
+/**
+ * Inbound Port für den Change-Feed der Slot-Änderungen.
+ */
+public interface SlotEventIncomingPort {
+
+	/**
+	 * Liefert die Slot-Änderungen nach einem Offset (Long-Poll).
+	 *
+	 * Entspricht: GET /api/v1/internal/slot-events (operationId: findSlotEvents)
+	 *
+	 * @param after
+	 *            Offset des zuletzt verarbeiteten Events (0 = von Anfang an)
+	 * @param limit
+	 *            Maximale Anzahl Events
+	 * @param maxWait
+	 *            Wie lange höchstens auf neue Events gewartet wird, wenn es
+	 *            gerade keine gibt (0 = nicht warten)
+	 * @return Events in Offset-Reihenfolge und der Offset für den nächsten
+	 *         Aufruf
+	 */
+	SlotEventFeed findSlotEvents(long after, int limit, Duration maxWait);
+
+	/**
+	 * Höchster bisher vergebener Offset (Einstiegspunkt für Push-Abonnenten,
+	 * die nur neue Änderungen brauchen).
+	 *
+	 * @return Offset, 0 wenn es noch keine Events gibt
+	 */
+	long findLatestOffset();
+}
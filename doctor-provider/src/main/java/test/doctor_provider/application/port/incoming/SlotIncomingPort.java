@@ -3,10 +3,12 @@ package test.doctor_provider.application.port.incoming;
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import test.doctor_provider.domain.enums.SlotStatus;
 import test.doctor_provider.domain.model.Page;
 import test.doctor_provider.domain.model.Slot;
+import test.doctor_provider.domain.model.SlotWithDoctor;
 
 /**
  * Inbound Port für Slot-Operationen. Definiert die Business-Use-Cases für
@@ -71,4 +73,25 @@ public interface SlotIncomingPort {
 	 * @return Aktualisierter Slot mit Status AVAILABLE
 	 */
 	Slot updateUnBlockSlotById(UUID id);
+	/**
+	 * Exportiert alle Slots als Stream, optional gefiltert.
+	 *
+	 * Entspricht: GET /api/v1/internal/exports/slots (operationId: exportSlots)
+	 *
+	 * ⚠️ Der Aufrufer MUSS den Stream schließen.
+	 *
+	 * @param doctorId
+	 *            Filter nach Arzt-ID
+	 * @param workingHoursId
+	 *            Filter nach Working Hours ID
+	 * @param dateFrom
+	 *            Filter ab Datum (inklusive)
+	 * @param dateTo
+	 *            Filter bis Datum (inklusive)
+	 * @param status
+	 *            Filter nach Slot-Status (AVAILABLE, BOOKED, BLOCKED)
+	 * @return Stream aller passenden Slots inklusive doctorId
+	 */
+	Stream<SlotWithDoctor> exportSlots(Optional<UUID> doctorId, Optional<UUID> workingHoursId,
+			Optional<LocalDate> dateFrom, Optional<LocalDate> dateTo, Optional<SlotStatus> status);
 }
@@ -0,0 +1,91 @@
+package test.doctor_provider.application.port.outgoing;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import test.doctor_provider.domain.model.Doctor;
+import test.doctor_provider.domain.model.DoctorWorkingHours;
+import test.doctor_provider.domain.model.Practice;
+
+/**
+ * Mengen-Operationen für den Bulk-Import.
+ *
+ * WICHTIG: - Alle Methoden arbeiten auf einem ganzen Batch (eine Abfrage bzw.
+ * ein INSERT pro Aufruf), nie pro Zeile - insert* legen nur Datensätze an,
+ * deren ID noch nicht existiert, und geben die tatsächlich angelegten IDs
+ * zurück
+ */
+public interface BulkImportOutgoingPort {
+
+	/**
+	 * @return IDs aller Städte (Referenzprüfung im Speicher)
+	 */
+	Set<UUID> findAllCityIds();
+
+	/**
+	 * @return IDs aller Fachrichtungen (Referenzprüfung im Speicher)
+	 */
+	Set<UUID> findAllSpecialityIds();
+
+	/**
+	 * @return die IDs, die als Praxis schon vergeben sind (auch gelöschte)
+	 */
+	Set<UUID> findExistingPracticeIds(Collection<UUID> ids);
+
+	/**
+	 * @return die IDs nicht gelöschter Praxen
+	 */
+	Set<UUID> findActivePracticeIds(Collection<UUID> ids);
+
+	/**
+	 * Vergleicht ohne Groß-/Kleinschreibung wie die Einzelanlage
+	 * (LOWER(p.name) = LOWER(:name)).
+	 *
+	 * @return die schon von einer nicht gelöschten Praxis verwendeten Namen,
+	 *         kleingeschrieben
+	 */
+	Set<String> findActivePracticeNames(Collection<String> names);
+
+	/**
+	 * @return die IDs, die als Arzt schon vergeben sind (auch gelöschte)
+	 */
+	Set<UUID> findExistingDoctorIds(Collection<UUID> ids);
+
+	/**
+	 * @return die IDs nicht gelöschter Ärzte
+	 */
+	Set<UUID> findActiveDoctorIds(Collection<UUID> ids);
+
+	/**
+	 * @return die IDs, die als Working Hours schon vergeben sind
+	 */
+	Set<UUID> findExistingWorkingHoursIds(Collection<UUID> ids);
+
+	/**
+	 * Bestehende Working Hours der Ärzte (Überlappungsprüfung).
+	 */
+	List<DoctorWorkingHours> findWorkingHoursByDoctorIds(Collection<UUID> doctorIds);
+
+	/**
+	 * Legt die Praxen an (Koordinaten aus der PLZ).
+	 *
+	 * @return IDs der angelegten Praxen
+	 */
+	Set<UUID> insertPractices(List<Practice> practices);
+
+	/**
+	 * Legt die Ärzte inkl. Fachrichtungen an.
+	 *
+	 * @return IDs der angelegten Ärzte
+	 */
+	Set<UUID> insertDoctors(List<Doctor> doctors);
+
+	/**
+	 * Legt die Working Hours an (ohne Slots).
+	 *
+	 * @return IDs der angelegten Working Hours
+	 */
+	Set<UUID> insertWorkingHours(List<DoctorWorkingHours> workingHours);
+}
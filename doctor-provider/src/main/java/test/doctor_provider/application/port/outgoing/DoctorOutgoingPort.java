@@ -2,9 +2,11 @@ package test.doctor_provider.application.port.outgoing;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import test.doctor_provider.domain.model.Doctor;
 import test.doctor_provider.domain.model.DoctorSearchCriteria;
+import test.doctor_provider.domain.model.NearbyDoctor;
 import test.doctor_provider.domain.model.Page;
 
 public interface DoctorOutgoingPort {
@@ -12,8 +14,8 @@ public interface DoctorOutgoingPort {
 	/**
 	 * Sucht alle Ärzte mit optionalen Filtern und Paginierung.
 	 *
-	 * ⚠️ cityId-Filter: Benötigt JOIN zu practice Tabelle SELECT d.* FROM doctor d
-	 * JOIN practice p ON d.practice_id = p.id WHERE p.city_id = ?
+	 * Läuft über das Read-Model doctor_search (eine Zeile pro Arzt mit Praxis,
+	 * Stadt und Fachrichtungs-IDs), daher keine JOINs nötig.
 	 *
 	 * @param criteria
 	 *            Suchkriterien (alle Felder optional, null = nicht filtern)
@@ -25,6 +27,26 @@ public interface DoctorOutgoingPort {
 	 */
 	Page<Doctor> findAll(DoctorSearchCriteria criteria, int page, int size);
 
+	/**
+	 * Sucht Ärzte, deren Praxis im Umkreis um einen Punkt liegt.
+	 *
+	 * @param latitude
+	 *            Breitengrad des Suchpunkts (WGS84)
+	 * @param longitude
+	 *            Längengrad des Suchpunkts (WGS84)
+	 * @param radiusKm
+	 *            Suchradius in km (Luftlinie)
+	 * @param specialityId
+	 *            Optional: Filter nach Fachrichtung (null = nicht filtern)
+	 * @param page
+	 *            Seitennummer (0-basiert)
+	 * @param size
+	 *            Anzahl der Elemente pro Seite
+	 * @return Paginierte Liste, nach Entfernung sortiert (nächste zuerst)
+	 */
+	Page<NearbyDoctor> findNearby(double latitude, double longitude, double radiusKm, UUID specialityId, int page,
+			int size);
+
 	/**
 	 * Sucht einen Arzt anhand seiner ID.
 	 *
@@ -78,4 +100,27 @@ public interface DoctorOutgoingPort {
 	 * @return true wenn Arzt existiert, sonst false
 	 */
 	boolean existsById(UUID id);
+
+	/**
+	 * Baut das Such-Read-Model (doctor_search) komplett neu auf.
+	 *
+	 * Normalerweise nicht nötig, weil das Read-Model bei jeder Änderung an
+	 * doctor, doctor_speciality, practice und city inkrementell aktualisiert
+	 * wird. Für Reparaturen nach manuellen Datenkorrekturen.
+	 *
+	 * @return Anzahl der Ärzte im neu aufgebauten Read-Model
+	 */
+	long rebuildSearchReadModel();
+
+	/**
+	 * Liest alle Ärzte für den Export als Stream (serverseitiger Cursor).
+	 *
+	 * ⚠️ Der Stream hält eine eigene Datenbankverbindung und MUSS geschlossen
+	 * werden. Sortiert nach Arzt-ID.
+	 *
+	 * @param criteria
+	 *            Suchkriterien (alle Felder optional, null = nicht filtern)
+	 * @return Stream aller passenden Ärzte
+	 */
+	Stream<Doctor> streamAll(DoctorSearchCriteria criteria);
 }
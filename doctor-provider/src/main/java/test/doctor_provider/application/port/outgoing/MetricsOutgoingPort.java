@@ -0,0 +1,20 @@
+package test.doctor_provider.application.port.outgoing;
+
+import test.doctor_provider.domain.enums.SlotTransition;
+import test.doctor_provider.domain.enums.SlotTransitionOutcome;
+
+public interface MetricsOutgoingPort {
+
+	/**
+	 * Zählt einen Statuswechsel eines Slots.
+	 *
+	 * WICHTIG: - SUCCESS wird erst nach dem Commit gezählt (Rollback = nicht
+	 * gezählt) - Abgelehnte Wechsel (NOT_FOUND, CONFLICT) sofort
+	 *
+	 * @param transition
+	 *            Art des Wechsels
+	 * @param outcome
+	 *            Ergebnis
+	 */
+	void recordSlotTransition(SlotTransition transition, SlotTransitionOutcome outcome);
+}
@@ -0,0 +1,49 @@
+package test.doctor_provider.application.port.outgoing;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+import test.doctor_provider.domain.model.SlotEvent;
+
+public interface SlotEventOutgoingPort {
+
+	/**
+	 * Liest sequenzierte Events nach einem Offset.
+	 *
+	 * @param after
+	 *            Offset (exklusive)
+	 * @param limit
+	 *            Maximale Anzahl Events
+	 * @return Events mit position > after, aufsteigend sortiert
+	 */
+	List<SlotEvent> findAfter(long after, int limit);
+
+	/**
+	 * Kleinster noch vorhandener Offset (ältere Events sind schon gelöscht).
+	 *
+	 * @return Offset, leer wenn es keine sequenzierten Events gibt
+	 */
+	OptionalLong findOldestPosition();
+
+	/**
+	 * Höchster bisher vergebener Offset.
+	 *
+	 * @return Offset, 0 wenn noch nichts sequenziert wurde
+	 */
+	long findLatestPosition();
+
+	/**
+	 * Wartet, bis ein Event mit position > after sequenziert wurde.
+	 *
+	 * ⚠️ Blockiert den aufrufenden Thread, hält dabei aber KEINE
+	 * Datenbankverbindung.
+	 *
+	 * @param after
+	 *            Offset (exklusive)
+	 * @param timeout
+	 *            Maximale Wartezeit
+	 * @return true wenn neue Events da sind, false bei Timeout
+	 */
+	boolean awaitAfter(long after, Duration timeout);
+}
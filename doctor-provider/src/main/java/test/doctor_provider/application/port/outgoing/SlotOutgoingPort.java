@@ -4,10 +4,12 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import test.doctor_provider.domain.enums.SlotStatus;
 import test.doctor_provider.domain.model.Page;
 import test.doctor_provider.domain.model.Slot;
+import test.doctor_provider.domain.model.SlotWithDoctor;
 
 public interface SlotOutgoingPort {
 
@@ -115,6 +117,23 @@ public interface SlotOutgoingPort {
 	 */
 	Slot modifyBookSlot(UUID id);
 
+	/**
+	 * Wechselt den Status nur, wenn der Slot gerade den erwarteten Status hat.
+	 *
+	 * Prüfen und Ändern sind eine Operation (bedingtes UPDATE bzw. gesperrte
+	 * Zeile): zwei parallele Aufrufe können nicht beide erfolgreich sein.
+	 *
+	 * @param id
+	 *            UUID des Slots
+	 * @param expected
+	 *            Status, den der Slot vorher haben muss
+	 * @param status
+	 *            Neuer Status
+	 * @return Aktualisierter Slot, leer wenn der Slot fehlt oder einen anderen
+	 *         Status hat
+	 */
+	Optional<Slot> modifyStatusIfCurrent(UUID id, SlotStatus expected, SlotStatus status);
+
 	/**
 	 * Löscht einen Slot anhand seiner ID.
 	 *
@@ -165,4 +184,25 @@ public interface SlotOutgoingPort {
 	 * @return true wenn Slot mit diesem Status existiert
 	 */
 	boolean existsByIdAndStatus(UUID id, SlotStatus status);
+	/**
+	 * Liest alle Slots für den Export als Stream (serverseitiger Cursor),
+	 * inklusive doctorId aus den Working Hours.
+	 *
+	 * ⚠️ Der Stream hält eine eigene Datenbankverbindung und MUSS geschlossen
+	 * werden. Sortiert nach Datum bzw. Startzeit.
+	 *
+	 * @param doctorId
+	 *            Filter nach Arzt-ID
+	 * @param workingHoursId
+	 *            Filter nach Working Hours ID
+	 * @param dateFrom
+	 *            Filter ab Datum (inklusive)
+	 * @param dateTo
+	 *            Filter bis Datum (inklusive)
+	 * @param status
+	 *            Filter nach Slot-Status (AVAILABLE, BOOKED, BLOCKED)
+	 * @return Stream aller passenden Slots
+	 */
+	Stream<SlotWithDoctor> streamAll(Optional<UUID> doctorId, Optional<UUID> workingHoursId,
+			Optional<LocalDate> dateFrom, Optional<LocalDate> dateTo, Optional<SlotStatus> status);
 }
@@ -0,0 +1,310 @@
+package test.doctor_provider.application.service;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import test.doctor_provider.application.port.incoming.BulkImportIncomingPort;
+import test.doctor_provider.application.port.outgoing.BulkImportOutgoingPort;
+import test.doctor_provider.application.port.outgoing.SlotOutgoingPort;
+import test.doctor_provider.domain.enums.ImportLineStatus;
+import test.doctor_provider.domain.model.Doctor;
+import test.doctor_provider.domain.model.DoctorWorkingHours;
+import test.doctor_provider.domain.model.ImportLine;
+import test.doctor_provider.domain.model.ImportLineResult;
+import test.doctor_provider.domain.model.ImportReport;
+import test.doctor_provider.domain.model.Practice;
+import test.doctor_provider.domain.model.Slot;
+
+/**
+ * Bulk-Import von Praxen, Ärzten und Working Hours.
+ *
+ * WICHTIG: - Zeilen werden in Batches à batch-size verarbeitet, jeder Batch
+ * ist eine eigene Transaktion (ein Fehler verwirft nur diesen Batch) -
+ * Städte und Fachrichtungen werden gegen ID-Mengen im Speicher geprüft (einmal
+ * pro Import geladen), Praxen/Ärzte mit einer Abfrage pro Batch - Validierung
+ * spiegelt die Check-Constraints der Tabellen, damit eine ungültige Zeile nicht
+ * den ganzen Batch abbricht - Slots für neue Working Hours werden pro Batch mit
+ * einem saveAll erzeugt
+ */
+@Service
+public class BulkImportService implements BulkImportIncomingPort {
+
+
+	// Wie practice_email_format / practice_phone_format (V3)
+	private static final Pattern EMAIL = Pattern.compile("^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,}$",
+			Pattern.CASE_INSENSITIVE);
+	private static final Pattern PHONE = Pattern.compile("^\\+?[0-9\\s\\-()]+$");
+
+	/**
+	 * Ergebnis eines Batches (erst nach dem Commit in den Report übernommen).
+	 */
+	private record BatchOutcome(List<ImportLineResult> results, long slotsGenerated) {
+	}
+
+	private final BulkImportOutgoingPort bulkImportOutgoingPort;
+	private final SlotOutgoingPort slotOutgoingPort;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+	private final int maxReportedResults;
+	private final int materializationWeeks;
+
+	public BulkImportService(BulkImportOutgoingPort bulkImportOutgoingPort, SlotOutgoingPort slotOutgoingPort,
+			TransactionTemplate transactionTemplate, @Value("${doctor-provider.import.batch-size:1000}") int batchSize,
+			@Value("${doctor-provider.import.max-reported-results:1000}") int maxReportedResults,
+			@Value("${doctor-provider.slots.materialization-weeks:4}") int materializationWeeks) {
+		this.bulkImportOutgoingPort = bulkImportOutgoingPort;
+		this.slotOutgoingPort = slotOutgoingPort;
+		this.transactionTemplate = transactionTemplate;
+		this.batchSize = batchSize;
+		this.maxReportedResults = maxReportedResults;
+		this.materializationWeeks = materializationWeeks;
+	}
+
+	@Override
+	public ImportReport importPractices(Stream<ImportLine<Practice>> lines) {
+		Set<UUID> cityIds = bulkImportOutgoingPort.findAllCityIds();
+		return importInBatches(lines, Practice::getId, batch -> importPracticeBatch(batch, cityIds));
+	}
+
+	@Override
+	public ImportReport importDoctors(Stream<ImportLine<Doctor>> lines) {
+		Set<UUID> specialityIds = bulkImportOutgoingPort.findAllSpecialityIds();
+		return importInBatches(lines, Doctor::getId, batch -> importDoctorBatch(batch, specialityIds));
+	}
+
+	@Override
+	public ImportReport importWorkingHours(Stream<ImportLine<DoctorWorkingHours>> lines) {
+		return importInBatches(lines, DoctorWorkingHours::getId, this::importWorkingHoursBatch);
+	}
+
+	private <T> ImportReport importInBatches(Stream<ImportLine<T>> lines, Function<T, UUID> idOf,
+			Function<List<ImportLine<T>>, BatchOutcome> handler) {
+		ImportReport report = new ImportReport(maxReportedResults);
+		List<ImportLine<T>> batch = new ArrayList<>(batchSize);
+		try (lines) {
+			Iterator<ImportLine<T>> iterator = lines.iterator();
+			while (iterator.hasNext()) {
+				ImportLine<T> line = iterator.next();
+				if (line.getError() != null) {
+					report.add(result(line, null, ImportLineStatus.FAILED, line.getError()));
+					continue;
+				}
+				batch.add(line);
+				if (batch.size() >= batchSize) {
+					flush(batch, idOf, handler, report);
+					batch.clear();
+				}
+			}
+		}
+		if (!batch.isEmpty()) {
+			flush(batch, idOf, handler, report);
+		}
+		return report;
+	}
+
+	private <T> void flush(List<ImportLine<T>> batch, Function<T, UUID> idOf,
+			Function<List<ImportLine<T>>, BatchOutcome> handler, ImportReport report) {
+		BatchOutcome outcome;
+		try {
+			outcome = transactionTemplate.execute(status -> handler.apply(batch));
+		} catch (RuntimeException e) {
+			// Unerwarteter DB-Fehler: der ganze Batch ist zurückgerollt
+			outcome = new BatchOutcome(batch.stream().map(line -> result(line, idOf.apply(line.getRecord()),
+					ImportLineStatus.FAILED, "Batch failed: " + e.getMessage())).toList(), 0);
+		}
+		outcome.results().forEach(report::add);
+		report.setBatches(report.getBatches() + 1);
+		report.setSlotsGenerated(report.getSlotsGenerated() + outcome.slotsGenerated());
+	}
+
+	private BatchOutcome importPracticeBatch(List<ImportLine<Practice>> batch, Set<UUID> cityIds) {
+		Set<UUID> existingIds = bulkImportOutgoingPort.findExistingPracticeIds(ids(batch, Practice::getId));
+		Set<String> usedNames = new HashSet<>(bulkImportOutgoingPort.findActivePracticeNames(
+				batch.stream().map(line -> line.getRecord().getName()).filter(Objects::nonNull).toList()));
+
+		List<ImportLineResult> results = importBatch(batch, Practice::getId, existingIds, practice -> {
+			String error = validatePractice(practice, cityIds);
+			if (error == null && !usedNames.add(practice.getName().toLowerCase(Locale.ROOT))) {
+				error = "Practice name already exists: " + practice.getName();
+			}
+			return error;
+		}, bulkImportOutgoingPort::insertPractices);
+		return new BatchOutcome(results, 0);
+	}
+
+	private BatchOutcome importDoctorBatch(List<ImportLine<Doctor>> batch, Set<UUID> specialityIds) {
+		Set<UUID> existingIds = bulkImportOutgoingPort.findExistingDoctorIds(ids(batch, Doctor::getId));
+		Set<UUID> practiceIds = bulkImportOutgoingPort.findActivePracticeIds(ids(batch, Doctor::getPracticeId));
+
+		List<ImportLineResult> results = importBatch(batch, Doctor::getId, existingIds,
+				doctor -> validateDoctor(doctor, practiceIds, specialityIds), bulkImportOutgoingPort::insertDoctors);
+		return new BatchOutcome(results, 0);
+	}
+
+	private BatchOutcome importWorkingHoursBatch(List<ImportLine<DoctorWorkingHours>> batch) {
+		Set<UUID> existingIds = bulkImportOutgoingPort
+				.findExistingWorkingHoursIds(ids(batch, DoctorWorkingHours::getId));
+		List<UUID> doctorIds = ids(batch, DoctorWorkingHours::getDoctorId);
+		Set<UUID> activeDoctorIds = bulkImportOutgoingPort.findActiveDoctorIds(doctorIds);
+		Map<UUID, List<DoctorWorkingHours>> hoursByDoctor = new HashMap<>();
+		for (DoctorWorkingHours hours : bulkImportOutgoingPort.findWorkingHoursByDoctorIds(doctorIds)) {
+			hoursByDoctor.computeIfAbsent(hours.getDoctorId(), id -> new ArrayList<>()).add(hours);
+		}
+
+		List<Slot> slots = new ArrayList<>();
+		List<ImportLineResult> results = importBatch(batch, DoctorWorkingHours::getId, existingIds, hours -> {
+			String error = validateWorkingHours(hours, activeDoctorIds, hoursByDoctor);
+			if (error == null) {
+				hoursByDoctor.computeIfAbsent(hours.getDoctorId(), id -> new ArrayList<>()).add(hours);
+			}
+			return error;
+		}, accepted -> {
+			Set<UUID> inserted = bulkImportOutgoingPort.insertWorkingHours(accepted);
+			slots.addAll(SlotGenerator.generate(
+					accepted.stream().filter(hours -> inserted.contains(hours.getId())).toList(),
+					ZonedDateTime.now(SlotGenerator.SLOT_ZONE), materializationWeeks));
+			if (!slots.isEmpty()) {
+				slotOutgoingPort.saveAll(slots);
+			}
+			return inserted;
+		});
+		return new BatchOutcome(results, slots.size());
+	}
+
+	/**
+	 * Gemeinsamer Ablauf pro Batch: vorhandene IDs → SKIPPED, doppelte IDs und
+	 * ungültige Zeilen → FAILED, Rest mit einem INSERT anlegen.
+	 */
+	private <T> List<ImportLineResult> importBatch(List<ImportLine<T>> batch, Function<T, UUID> idOf,
+			Set<UUID> existingIds, Function<T, String> validator, Function<List<T>, Set<UUID>> inserter) {
+		List<ImportLineResult> results = new ArrayList<>(batch.size());
+		List<ImportLine<T>> accepted = new ArrayList<>(batch.size());
+		Set<UUID> batchIds = new HashSet<>();
+		for (ImportLine<T> line : batch) {
+			UUID id = idOf.apply(line.getRecord());
+			if (id == null) {
+				results.add(result(line, null, ImportLineStatus.FAILED, "id is required"));
+			} else if (existingIds.contains(id)) {
+				results.add(result(line, id, ImportLineStatus.SKIPPED, "Already exists"));
+			} else if (!batchIds.add(id)) {
+				results.add(result(line, id, ImportLineStatus.FAILED, "Duplicate id in file"));
+			} else {
+				String error = validator.apply(line.getRecord());
+				if (error != null) {
+					results.add(result(line, id, ImportLineStatus.FAILED, error));
+				} else {
+					accepted.add(line);
+				}
+			}
+		}
+
+		Set<UUID> inserted = accepted.isEmpty()
+				? Set.of()
+				: inserter.apply(accepted.stream().map(ImportLine::getRecord).toList());
+		for (ImportLine<T> line : accepted) {
+			UUID id = idOf.apply(line.getRecord());
+			// Nicht angelegt = parallel schon angelegt (ON CONFLICT DO NOTHING)
+			results.add(inserted.contains(id)
+					? result(line, id, ImportLineStatus.IMPORTED, null)
+					: result(line, id, ImportLineStatus.SKIPPED, "Already exists"));
+		}
+		return results;
+	}
+
+	private static String validatePractice(Practice practice, Set<UUID> cityIds) {
+		String error = firstNonNull(required("name", practice.getName(), 200),
+				required("street", practice.getStreet(), 300),
+				required("houseNumber", practice.getHouseNumber(), 20), required("phone", practice.getPhone(), 50),
+				required("email", practice.getEmail(), 100), required("postalCode", practice.getPostalCode(), 20));
+		if (error != null) {
+			return error;
+		}
+		if (!EMAIL.matcher(practice.getEmail()).matches()) {
+			return "Invalid email: " + practice.getEmail();
+		}
+		if (!PHONE.matcher(practice.getPhone()).matches()) {
+			return "Invalid phone: " + practice.getPhone();
+		}
+		if (practice.getCityId() == null || !cityIds.contains(practice.getCityId())) {
+			return "City not found: " + practice.getCityId();
+		}
+		return null;
+	}
+
+	private static String validateDoctor(Doctor doctor, Set<UUID> practiceIds, Set<UUID> specialityIds) {
+		String error = firstNonNull(required("firstName", doctor.getFirstName(), 100),
+				required("lastName", doctor.getLastName(), 100));
+		if (error != null) {
+			return error;
+		}
+		if (doctor.getPracticeId() != null && !practiceIds.contains(doctor.getPracticeId())) {
+			return "Practice not found: " + doctor.getPracticeId();
+		}
+		if (doctor.getSpecialityIds() != null) {
+			for (UUID specialityId : doctor.getSpecialityIds()) {
+				if (!specialityIds.contains(specialityId)) {
+					return "Speciality not found: " + specialityId;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static String validateWorkingHours(DoctorWorkingHours hours, Set<UUID> doctorIds,
+			Map<UUID, List<DoctorWorkingHours>> hoursByDoctor) {
+		if (hours.getDoctorId() == null || !doctorIds.contains(hours.getDoctorId())) {
+			return "Doctor not found: " + hours.getDoctorId();
+		}
+		if (hours.getWeekday() == null || hours.getStartTime() == null || hours.getEndTime() == null) {
+			return "weekday, startTime and endTime are required";
+		}
+		if (!hours.getStartTime().isBefore(hours.getEndTime())) {
+			return "startTime must be before endTime";
+		}
+		for (DoctorWorkingHours other : hoursByDoctor.getOrDefault(hours.getDoctorId(), List.of())) {
+			if (other.getWeekday() == hours.getWeekday() && other.getStartTime().isBefore(hours.getEndTime())
+					&& hours.getStartTime().isBefore(other.getEndTime())) {
+				return "Overlaps working hours " + other.getId();
+			}
+		}
+		return null;
+	}
+
+	private static <T> List<UUID> ids(List<ImportLine<T>> batch, Function<T, UUID> idOf) {
+		return batch.stream().map(line -> idOf.apply(line.getRecord())).filter(Objects::nonNull).distinct().toList();
+	}
+
+	private static String required(String field, String value, int maxLength) {
+		if (value == null || value.isBlank()) {
+			return field + " is required";
+		}
+		if (value.length() > maxLength) {
+			return field + " is longer than " + maxLength + " characters";
+		}
+		return null;
+	}
+
+	private static String firstNonNull(String... errors) {
+		return Stream.of(errors).filter(Objects::nonNull).findFirst().orElse(null);
+	}
+
+	private static ImportLineResult result(ImportLine<?> line, UUID id, ImportLineStatus status, String message) {
+		return new ImportLineResult(line.getLineNumber(), id, status, message);
+	}
+}
@@ -3,6 +3,7 @@ package test.doctor_provider.application.service;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import test.doctor_provider.application.port.incoming.CityIncomingPort;
 import test.doctor_provider.application.port.outgoing.CityOutgoingPort;
@@ -18,6 +19,7 @@ public class CityService implements CityIncomingPort {
 	private final CityOutgoingPort cityOutgoingPort;
 
 	@Override
+	@Transactional(readOnly = true)
 	public Page<City> getAllCities(Optional<String> name, Optional<String> postalCode, int page, int size) {
 		// Delegiert die Anfrage an die Outgoing Port
 		return cityOutgoingPort.findAll(name, postalCode, page, size);
@@ -3,15 +3,26 @@ package test.doctor_provider.application.service;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import test.doctor_provider.application.port.incoming.DoctorIncomingPort;
 import test.doctor_provider.application.port.outgoing.DoctorOutgoingPort;
 import test.doctor_provider.domain.model.Doctor;
 import test.doctor_provider.domain.model.DoctorSearchCriteria;
+import test.doctor_provider.domain.model.NearbyDoctor;
 import test.doctor_provider.domain.model.Page;
 
 import java.util.UUID;
+import java.util.stream.Stream;
 
+/**
+ * Use-Cases für Ärzte.
+ *
+ * WICHTIG: - Lesende Use-Cases sind @Transactional(readOnly = true) und laufen
+ * bei aktiviertem Read/Write-Routing auf einer Replica - Schreibende Use-Cases
+ * laufen komplett in EINER Transaktion auf dem Primary (auch die
+ * Existenz-Prüfung davor)
+ */
 @Service
 @RequiredArgsConstructor
 public class DoctorService implements DoctorIncomingPort {
@@ -19,16 +30,26 @@ public class DoctorService implements DoctorIncomingPort {
 	private final DoctorOutgoingPort doctorOutgoingPort;
 
 	@Override
+	@Transactional(readOnly = true)
 	public Page<Doctor> findAllDoctors(DoctorSearchCriteria criteria, int page, int size) {
 		return doctorOutgoingPort.findAll(criteria, page, size);
 	}
 
 	@Override
+	@Transactional(readOnly = true)
+	public Page<NearbyDoctor> findDoctorsNearby(double latitude, double longitude, double radiusKm,
+			UUID specialityId, int page, int size) {
+		return doctorOutgoingPort.findNearby(latitude, longitude, radiusKm, specialityId, page, size);
+	}
+
+	@Override
+	@Transactional
 	public Doctor creatDoctor(Doctor doctor) {
 		return doctorOutgoingPort.save(doctor);
 	}
 
 	@Override
+	@Transactional
 	public Doctor updateDoctor(UUID doctorId, Doctor doctor) {
 		// 1. Prüfen ob Doctor existiert
 		doctorOutgoingPort.findById(doctorId)
@@ -40,6 +61,7 @@ public class DoctorService implements DoctorIncomingPort {
 	}
 
 	@Override
+	@Transactional
 	public void deleteDoctor(UUID doctorId) {
 		// Prüfen ob Doctor existiert
 		doctorOutgoingPort.findById(doctorId)
@@ -47,4 +69,19 @@ public class DoctorService implements DoctorIncomingPort {
 
 		doctorOutgoingPort.deleteById(doctorId);
 	}
+
+	@Override
+	@Transactional
+	public long rebuildDoctorSearch() {
+		return doctorOutgoingPort.rebuildSearchReadModel();
+	}
+
+	/**
+	 * Ohne @Transactional: der Cursor hat eine eigene read-only Verbindung, die
+	 * erst beim Schließen des Streams (nach dem Schreiben der Antwort) frei wird.
+	 */
+	@Override
+	public Stream<Doctor> exportDoctors(DoctorSearchCriteria criteria) {
+		return doctorOutgoingPort.streamAll(criteria);
+	}
 }
@@ -0,0 +1,55 @@
+package test.doctor_provider.application.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import test.doctor_provider.application.port.incoming.SlotEventIncomingPort;
+import test.doctor_provider.application.port.outgoing.SlotEventOutgoingPort;
+import test.doctor_provider.domain.model.SlotEvent;
+import test.doctor_provider.domain.model.SlotEventFeed;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Use-Case Change-Feed: Slot-Änderungen ab einem Offset, optional mit Warten
+ * (Long-Poll).
+ *
+ * WICHTIG: - Bewusst ohne @Transactional: während des Wartens darf keine
+ * Verbindung belegt sein - Liest vom Primary, damit ein gerade sequenziertes
+ * Event nicht an einer verzögerten Replica vorbeiläuft
+ */
+@Service
+@RequiredArgsConstructor
+public class SlotEventService implements SlotEventIncomingPort {
+
+	private final SlotEventOutgoingPort slotEventOutgoingPort;
+
+	@Override
+	public SlotEventFeed findSlotEvents(long after, int limit, Duration maxWait) {
+		if (isExpired(after)) {
+			return new SlotEventFeed(List.of(), after, slotEventOutgoingPort.findLatestPosition(), true);
+		}
+
+		List<SlotEvent> events = slotEventOutgoingPort.findAfter(after, limit);
+		if (events.isEmpty() && maxWait.isPositive() && slotEventOutgoingPort.awaitAfter(after, maxWait)) {
+			events = slotEventOutgoingPort.findAfter(after, limit);
+		}
+		long nextOffset = events.isEmpty() ? after : events.getLast().getPosition();
+		return new SlotEventFeed(events, nextOffset, slotEventOutgoingPort.findLatestPosition(), false);
+	}
+
+	@Override
+	public long findLatestOffset() {
+		return slotEventOutgoingPort.findLatestPosition();
+	}
+
+	/**
+	 * Zwischen after und dem ältesten vorhandenen Event fehlen Events, die schon
+	 * gelöscht wurden.
+	 */
+	private boolean isExpired(long after) {
+		return slotEventOutgoingPort.findOldestPosition().stream().anyMatch(oldest -> after < oldest - 1);
+	}
+}
@@ -0,0 +1,53 @@
+package test.doctor_provider.application.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+import test.doctor_provider.domain.enums.SlotStatus;
+import test.doctor_provider.domain.model.DoctorWorkingHours;
+import test.doctor_provider.domain.model.Slot;
+
+/**
+ * Erzeugt die Slots für Working Hours (alle 30 Minuten, Zeitzone
+ * Europe/Berlin).
+ *
+ * WICHTIG: - Nur volle Slots innerhalb der Working Hours - Nur Slots nach now
+ * und vor heute + materializationWeeks - now wird übergeben (reproduzierbar,
+ * z.B. im Benchmark)
+ */
+public final class SlotGenerator {
+
+	public static final ZoneId SLOT_ZONE = ZoneId.of("Europe/Berlin");
+	public static final int SLOT_MINUTES = 30;
+
+	private SlotGenerator() {
+	}
+
+	public static List<Slot> generate(List<DoctorWorkingHours> workingHours, ZonedDateTime now,
+			int materializationWeeks) {
+		LocalDate until = now.toLocalDate().plusWeeks(materializationWeeks);
+		List<Slot> slots = new ArrayList<>();
+		for (DoctorWorkingHours hours : workingHours) {
+			DayOfWeek dayOfWeek = DayOfWeek.of(hours.getWeekday().getValue());
+			int endMinute = hours.getEndTime().toSecondOfDay() / 60;
+			for (LocalDate date = now.toLocalDate().with(TemporalAdjusters.nextOrSame(dayOfWeek)); date
+					.isBefore(until); date = date.plusWeeks(1)) {
+				for (int minute = hours.getStartTime().toSecondOfDay() / 60; minute + SLOT_MINUTES <= endMinute;
+						minute += SLOT_MINUTES) {
+					ZonedDateTime start = date.atTime(LocalTime.ofSecondOfDay(minute * 60L)).atZone(SLOT_ZONE);
+					if (start.isAfter(now)) {
+						slots.add(new Slot(null, hours.getId(), start, start.plusMinutes(SLOT_MINUTES),
+								SlotStatus.AVAILABLE));
+					}
+				}
+			}
+		}
+		return slots;
+	}
+}
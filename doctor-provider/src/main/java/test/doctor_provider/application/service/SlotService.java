@@ -0,0 +1,91 @@
+package test.doctor_provider.application.service;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import test.doctor_provider.application.port.incoming.SlotIncomingPort;
+import test.doctor_provider.application.port.outgoing.MetricsOutgoingPort;
+import test.doctor_provider.application.port.outgoing.SlotOutgoingPort;
+import test.doctor_provider.domain.enums.SlotStatus;
+import test.doctor_provider.domain.enums.SlotTransition;
+import test.doctor_provider.domain.enums.SlotTransitionOutcome;
+import test.doctor_provider.domain.model.Page;
+import test.doctor_provider.domain.model.Slot;
+import test.doctor_provider.domain.model.SlotWithDoctor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Use-Cases für Slots.
+ *
+ * WICHTIG: - Lesende Use-Cases sind @Transactional(readOnly = true) und laufen
+ * bei aktiviertem Read/Write-Routing auf einer Replica - Blockieren/Freigeben
+ * prüft und ändert den Status in einem Schritt
+ * (SlotOutgoingPort.modifyStatusIfCurrent), parallele Aufrufe für denselben
+ * Slot können nicht beide gewinnen -
+ * Ergebnis jedes Statuswechsels wird gezählt (erfolgreich, Slot fehlt, falscher
+ * Status); nur bei Ablehnung wird nachgesehen, ob der Slot existiert
+ */
+@Service
+@RequiredArgsConstructor
+public class SlotService implements SlotIncomingPort {
+
+	private final SlotOutgoingPort slotOutgoingPort;
+	private final MetricsOutgoingPort metricsOutgoingPort;
+
+	@Override
+	@Transactional(readOnly = true)
+	public Page<Slot> findAllSlots(Optional<UUID> doctorId, Optional<UUID> workingHoursId,
+			Optional<LocalDate> dateFrom, Optional<LocalDate> dateTo, Optional<SlotStatus> status, int page,
+			int size) {
+		return slotOutgoingPort.findAll(doctorId, workingHoursId, dateFrom, dateTo, status, page, size);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Slot getSlotById(UUID id) {
+		return slotOutgoingPort.findById(id).orElseThrow(() -> new RuntimeException("Slot not found: " + id));
+	}
+
+	@Override
+	@Transactional
+	public Slot updateBlockSlotById(UUID id) {
+		Slot slot = slotOutgoingPort.modifyStatusIfCurrent(id, SlotStatus.AVAILABLE, SlotStatus.BLOCKED)
+				.orElseThrow(() -> rejected(id, SlotTransition.BLOCK, "Slot not available: "));
+		metricsOutgoingPort.recordSlotTransition(SlotTransition.BLOCK, SlotTransitionOutcome.SUCCESS);
+		return slot;
+	}
+
+	@Override
+	@Transactional
+	public Slot updateUnBlockSlotById(UUID id) {
+		Slot slot = slotOutgoingPort.modifyStatusIfCurrent(id, SlotStatus.BLOCKED, SlotStatus.AVAILABLE)
+				.orElseThrow(() -> rejected(id, SlotTransition.UNBLOCK, "Slot not blocked: "));
+		metricsOutgoingPort.recordSlotTransition(SlotTransition.UNBLOCK, SlotTransitionOutcome.SUCCESS);
+		return slot;
+	}
+
+	/**
+	 * Ohne @Transactional: der Cursor hat eine eigene read-only Verbindung, die
+	 * erst beim Schließen des Streams (nach dem Schreiben der Antwort) frei wird.
+	 */
+	@Override
+	public Stream<SlotWithDoctor> exportSlots(Optional<UUID> doctorId, Optional<UUID> workingHoursId,
+			Optional<LocalDate> dateFrom, Optional<LocalDate> dateTo, Optional<SlotStatus> status) {
+		return slotOutgoingPort.streamAll(doctorId, workingHoursId, dateFrom, dateTo, status);
+	}
+
+	private RuntimeException rejected(UUID id, SlotTransition transition, String conflictMessage) {
+		if (slotOutgoingPort.findById(id).isEmpty()) {
+			metricsOutgoingPort.recordSlotTransition(transition, SlotTransitionOutcome.NOT_FOUND);
+			return new RuntimeException("Slot not found: " + id);
+		}
+		metricsOutgoingPort.recordSlotTransition(transition, SlotTransitionOutcome.CONFLICT);
+		return new RuntimeException(conflictMessage + id);
+	}
+}
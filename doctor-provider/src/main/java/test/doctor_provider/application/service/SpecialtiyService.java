@@ -3,6 +3,7 @@ package test.doctor_provider.application.service;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import test.doctor_provider.application.port.incoming.SpecialityIncomingPort;
 import test.doctor_provider.application.port.outgoing.SpecialityOutgoingPort;
@@ -17,6 +18,7 @@ public class SpecialtiyService implements SpecialityIncomingPort {
   private final SpecialityOutgoingPort specialityOutgoingPort;
 
   @Override
+  @Transactional(readOnly = true)
   public List<Speciality> getAllSpecialities(){
     return specialityOutgoingPort.findAll();
   };
@@ -0,0 +1,10 @@
+package test.doctor_provider.domain.enums;
+
+/**
+ * Ergebnis einer Zeile beim Bulk-Import
+ */
+public enum ImportLineStatus {
+	IMPORTED, // Neu angelegt
+	SKIPPED, // ID existiert bereits (erneuter Import derselben Datei)
+	FAILED // Ungültig, nicht angelegt
+}
@@ -0,0 +1,10 @@
+package test.doctor_provider.domain.enums;
+
+/**
+ * Art einer Slot-Änderung im Change-Feed
+ */
+public enum SlotEventType {
+	SLOT_STATUS_CHANGED, // Ein Slot hat jetzt den Status status (auch neu angelegt)
+	SLOTS_GENERATED, // Slots einer Working Hour im Zeitraum startTime..endTime (neu) generiert
+	SLOTS_REMOVED // Slot slotId entfernt, ohne slotId: alle Slots der Working Hour
+}
@@ -0,0 +1,9 @@
+package test.doctor_provider.domain.enums;
+
+/**
+ * Statuswechsel eines Slots, der über einen Use-Case angestoßen wird
+ */
+public enum SlotTransition {
+	BLOCK, // AVAILABLE → BLOCKED
+	UNBLOCK // BLOCKED → AVAILABLE
+}
@@ -0,0 +1,10 @@
+package test.doctor_provider.domain.enums;
+
+/**
+ * Ergebnis eines Statuswechsels (entspricht dem HTTP-Status der Antwort)
+ */
+public enum SlotTransitionOutcome {
+	SUCCESS, // 200
+	NOT_FOUND, // 404: Slot existiert nicht
+	CONFLICT // 409: Slot hat nicht den erwarteten Status
+}
@@ -0,0 +1,23 @@
+package test.doctor_provider.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Eine gelesene Zeile einer Import-Datei.
+ *
+ * Entweder record ist gesetzt oder error (Zeile konnte nicht gelesen werden,
+ * z.B. kaputtes JSON oder ungültige UUID).
+ *
+ * @param <T>
+ *            Practice, Doctor oder DoctorWorkingHours
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportLine<T> {
+	private long lineNumber; // 1-basiert, bei CSV inkl. Kopfzeile
+	private T record;
+	private String error;
+}
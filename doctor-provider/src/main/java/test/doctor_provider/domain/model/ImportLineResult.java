@@ -0,0 +1,22 @@
+package test.doctor_provider.domain.model;
+
+import java.util.UUID;
+
+import test.doctor_provider.domain.enums.ImportLineStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ergebnis einer Zeile beim Bulk-Import.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportLineResult {
+	private long lineNumber;
+	private UUID id; // null, wenn die Zeile keine gültige ID hatte
+	private ImportLineStatus status;
+	private String message; // Grund bei SKIPPED/FAILED
+}
@@ -0,0 +1,53 @@
+package test.doctor_provider.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import test.doctor_provider.domain.enums.ImportLineStatus;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ergebnis eines Bulk-Imports.
+ *
+ * WICHTIG: - Zähler über alle Zeilen - results enthält nur Zeilen, die NICHT
+ * importiert wurden (SKIPPED/FAILED), höchstens maxResults Stück → jede nicht
+ * aufgeführte Zeile wurde angelegt, solange resultsTruncated false ist -
+ * Speicherbedarf bleibt unabhängig von der Dateigröße
+ */
+@Data
+@NoArgsConstructor
+public class ImportReport {
+	private long lines;
+	private long imported;
+	private long skipped;
+	private long failed;
+	private long batches;
+	private long slotsGenerated;
+	private List<ImportLineResult> results = new ArrayList<>();
+	private boolean resultsTruncated;
+	private int maxResults;
+
+	public ImportReport(int maxResults) {
+		this.maxResults = maxResults;
+	}
+
+	public void add(ImportLineResult result) {
+		lines++;
+		if (result.getStatus() == ImportLineStatus.IMPORTED) {
+			imported++;
+			return;
+		}
+		if (result.getStatus() == ImportLineStatus.SKIPPED) {
+			skipped++;
+		} else {
+			failed++;
+		}
+		if (results.size() < maxResults) {
+			results.add(result);
+		} else {
+			resultsTruncated = true;
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package test.doctor_provider.domain.model;
+
+import java.util.Set;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ergebnis der Umkreissuche: Arzt mit Praxis und Entfernung zum Suchpunkt.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NearbyDoctor {
+	private UUID id;
+	private String firstName;
+	private String lastName;
+	private UUID practiceId;
+	private String practiceName;
+	private String practiceCity;
+	private Set<UUID> specialityIds;
+	private double distanceKm; // Luftlinie Suchpunkt → Praxis
+}
@@ -18,4 +18,6 @@ public class Practice {
 	private String email;
 	private String postalCode; // PLZ direkt in Practice (für API-Ergonomie)
 	private UUID cityId; // ← Beziehung zu City (FK in practice-Tabelle)
+	private Double latitude; // PLZ-Zentroid, null wenn PLZ unbekannt
+	private Double longitude;
 }
@@ -0,0 +1,33 @@
+package test.doctor_provider.domain.model;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import test.doctor_provider.domain.enums.SlotEventType;
+import test.doctor_provider.domain.enums.SlotStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Eine Slot-Änderung aus dem Change-Feed.
+ *
+ * Welche Felder gesetzt sind, hängt von type ab (siehe {@link SlotEventType}).
+ * doctorId ist null, wenn die Working Hours beim Schreiben schon gelöscht
+ * waren.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SlotEvent {
+	private long position; // Feed-Offset (streng monoton in Commit-Reihenfolge)
+	private SlotEventType type;
+	private UUID doctorId;
+	private UUID workingHoursId;
+	private UUID slotId;
+	private ZonedDateTime startTime;
+	private ZonedDateTime endTime;
+	private SlotStatus status;
+	private ZonedDateTime createdAt;
+}
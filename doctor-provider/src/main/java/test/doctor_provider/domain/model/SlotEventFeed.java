@@ -0,0 +1,26 @@
+package test.doctor_provider.domain.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ein Abschnitt des Change-Feeds ab einem Offset.
+ *
+ * WICHTIG: - nextOffset ist der Offset für den nächsten Aufruf (letzte
+ * Position oder unverändert, wenn nichts Neues kam) - latestOffset = höchster
+ * bisher vergebener Offset (Einstieg für neue Konsumenten) - expired = der angefragte
+ * Offset ist älter als die Aufbewahrungszeit, der Konsument muss neu
+ * aufsetzen (z.B. per Export)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SlotEventFeed {
+	private List<SlotEvent> events;
+	private long nextOffset;
+	private long latestOffset;
+	private boolean expired;
+}
@@ -0,0 +1,28 @@
+package test.doctor_provider.domain.model;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import test.doctor_provider.domain.enums.SlotStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Slot zusammen mit dem Arzt seiner Working Hours (für den Export).
+ *
+ * Der Export löst doctorId bereits in der Abfrage per JOIN auf, statt wie bei
+ * {@link Slot} in der Web-Schicht.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SlotWithDoctor {
+	private UUID id;
+	private UUID doctorId;
+	private UUID workingHoursId;
+	private ZonedDateTime startTime;
+	private ZonedDateTime endTime;
+	private SlotStatus status;
+}
@@ -0,0 +1,51 @@
+package test.doctor_provider.infrastructure.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.BulkheadDataSource;
+
+/**
+ * Legt den {@link BulkheadDataSource} vor den DataSource-Bean "dataSource".
+ *
+ * WICHTIG: - Über doctor-provider.datasource.bulkhead.enabled abschaltbar -
+ * max-concurrent sollte der Pool-Größe von Hikari entsprechen (Standard:
+ * spring.datasource.hikari.maximum-pool-size), dann wartet niemand mehr im Pool
+ * selbst - Mit getrennten Pools (WorkloadPoolsConfig) hat jeder Pool seinen
+ * eigenen Bulkhead, dann legt sich hier keiner davor
+ */
+@Configuration
+@ConditionalOnProperty(name = "doctor-provider.datasource.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceBulkheadConfig {
+
+	@Bean
+	public static BeanPostProcessor dataSourceBulkheadPostProcessor(Environment environment) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+						|| bean instanceof BulkheadDataSource || workloadPoolsEnabled(environment)) {
+					return bean;
+				}
+				int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class,
+						10);
+				int maxConcurrent = environment.getProperty("doctor-provider.datasource.bulkhead.max-concurrent",
+						Integer.class, poolSize);
+				Duration acquireTimeout = environment.getProperty(
+						"doctor-provider.datasource.bulkhead.acquire-timeout", Duration.class, Duration.ofSeconds(5));
+				return new BulkheadDataSource(dataSource, maxConcurrent, acquireTimeout);
+			}
+		};
+	}
+
+	private static boolean workloadPoolsEnabled(Environment environment) {
+		return environment.getProperty("doctor-provider.datasource.workloads.enabled", Boolean.class, false);
+	}
+}
@@ -1,27 +1,97 @@
 package test.doctor_provider.infrastructure.config;
 
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
 import javax.sql.DataSource;
 
 import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.flywaydb.core.api.output.ValidateResult;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Manuelle Flyway-Konfiguration. Stellt sicher, dass Flyway die Migrationen
  * ausführt, BEVOR Hibernate/JPA die Tabellen nutzt.
+ *
+ * WICHTIG: - doctor-provider.flyway.mode: migrate (Standard, migriert bei
+ * jedem Start), fast (migriert nur, wenn die neueste Migration im Classpath
+ * noch nicht in flyway_schema_history steht; sonst läuft validate erst nach
+ * ApplicationReadyEvent im Hintergrund), off (nichts, nur für den
+ * Trainingslauf des AOT-Caches ohne Datenbank) - fast vergleicht nur
+ * Versionen: geänderte Checksummen meldet erst die verzögerte Validierung
+ * (ERROR im Log), der Start bricht dann nicht mehr ab - Im Native Image
+ * listet NativeImageFlywayResourceProvider die Migrationen
  */
+@Slf4j
 @Configuration
 public class FlywayConfig {
 
+	private static final String MIGRATION_LOCATION = "classpath:db/migration";
+
+	private volatile boolean validationDeferred;
+
 	@Bean
-	public Flyway flyway(DataSource dataSource) {
-		Flyway flyway = Flyway.configure().dataSource(dataSource).locations("classpath:db/migration")
-				.baselineOnMigrate(true).encoding("UTF-8").load();
-		flyway.migrate();
+	public Flyway flyway(DataSource dataSource, @Value("${doctor-provider.flyway.mode:migrate}") String mode) {
+		FluentConfiguration configuration = Flyway.configure().dataSource(dataSource).locations(MIGRATION_LOCATION)
+				.baselineOnMigrate(true).encoding("UTF-8");
+		if (NativeDetector.inNativeImage()) {
+			configuration.resourceProvider(new NativeImageFlywayResourceProvider(configuration.getLocations()[0],
+					configuration.getClassLoader(), configuration.getEncoding()));
+		}
+		Flyway flyway = configuration.load();
+		switch (mode.trim().toLowerCase(Locale.ROOT)) {
+			case "migrate" -> flyway.migrate();
+			case "fast" -> {
+				if (isSchemaCurrent(dataSource)) {
+					log.info("Schema is current, skipping Flyway migrate (validation deferred until ready)");
+					validationDeferred = true;
+				} else {
+					flyway.migrate();
+				}
+			}
+			case "off" -> log.warn("Flyway is disabled (doctor-provider.flyway.mode=off)");
+			default -> throw new IllegalStateException(
+					"Unknown doctor-provider.flyway.mode '" + mode + "' (expected migrate, fast or off)");
+		}
 		return flyway;
 	}
 
+	@EventListener(ApplicationReadyEvent.class)
+	public void validateDeferred(ApplicationReadyEvent event) {
+		if (!validationDeferred) {
+			return;
+		}
+		Flyway flyway = event.getApplicationContext().getBean(Flyway.class);
+		Thread.ofVirtual().name("flyway-validate").start(() -> {
+			try {
+				ValidateResult result = flyway.validateWithResult();
+				if (result.validationSuccessful) {
+					log.info("Deferred Flyway validation successful");
+				} else {
+					log.error("Deferred Flyway validation failed: {}", result.getAllErrorMessages());
+				}
+			} catch (RuntimeException e) {
+				log.error("Deferred Flyway validation failed", e);
+			}
+		});
+	}
+
 	/**
 	 * Erzwingt, dass entityManagerFactory erst nach flyway erstellt wird.
 	 */
@@ -33,4 +103,52 @@ public class FlywayConfig {
 			}
 		};
 	}
+
+	/**
+	 * Eine Abfrage statt Flyway-Scan: neueste erfolgreiche Version aus
+	 * flyway_schema_history gegen die höchste V*__*.sql im Classpath.
+	 */
+	private static boolean isSchemaCurrent(DataSource dataSource) {
+		MigrationVersion available = latestAvailableVersion();
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			try (ResultSet table = statement.executeQuery("SELECT to_regclass('flyway_schema_history') IS NOT NULL")) {
+				if (!table.next() || !table.getBoolean(1)) {
+					return false;
+				}
+			}
+			try (ResultSet applied = statement.executeQuery("""
+					SELECT bool_and(success),
+					       (SELECT version FROM flyway_schema_history
+					         WHERE success AND version IS NOT NULL
+					         ORDER BY installed_rank DESC LIMIT 1)
+					  FROM flyway_schema_history
+					""")) {
+				if (!applied.next() || !applied.getBoolean(1) || applied.getString(2) == null) {
+					return false;
+				}
+				return MigrationVersion.fromVersion(applied.getString(2)).equals(available);
+			}
+		} catch (SQLException e) {
+			log.warn("Could not read flyway_schema_history, falling back to migrate: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	private static MigrationVersion latestAvailableVersion() {
+		MigrationVersion latest = MigrationVersion.EMPTY;
+		try {
+			for (Resource resource : new PathMatchingResourcePatternResolver()
+					.getResources(MIGRATION_LOCATION + "/V*__*.sql")) {
+				String name = resource.getFilename();
+				MigrationVersion version = MigrationVersion
+						.fromVersion(name.substring(1, name.indexOf("__")).replace('_', '.'));
+				if (version.compareTo(latest) > 0) {
+					latest = version;
+				}
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Could not list Flyway migrations", e);
+		}
+		return latest;
+	}
 }
@@ -0,0 +1,16 @@
+package test.doctor_provider.infrastructure.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+
+/**
+ * Legt einen Interceptor um alle Methoden der Incoming Ports (die
+ * Use-Cases, die Controller und Jobs aufrufen).
+ *
+ * WICHTIG: - Erkennung und Reihenfolge siehe {@link PortPostProcessor}
+ */
+public class IncomingPortPostProcessor extends PortPostProcessor {
+
+	public IncomingPortPostProcessor(MethodInterceptor interceptor) {
+		super(INCOMING_PORT_PACKAGE, interceptor);
+	}
+}
@@ -0,0 +1,165 @@
+package test.doctor_provider.infrastructure.config;
+
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.BulkheadDataSource;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.InstrumentedDataSource;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.SqlStatistics;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.Workload;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.WorkloadPools;
+import test.doctor_provider.infrastructure.outgoing.persistence.retention.SlotRetentionJob;
+
+/**
+ * Metriken für Prometheus (/actuator/prometheus).
+ *
+ * WICHTIG: - doctor_provider.port.calls: Timer mit Perzentil-Histogramm pro
+ * Incoming-Port-Methode (Tags port, method, outcome=success|error) - Timer
+ * werden pro Methode einmal angelegt und danach nur noch per Map-Lookup
+ * gefunden (keine Tag-Auflösung pro Aufruf) - Bulkhead und SQL-Statistiken
+ * als Gauges/Counter, gelesen erst beim Scrape (getrennte Pools: Bulkhead
+ * pro Workload mit Tag workload) - SQL-Zähler pro Pfad-Muster und
+ * Port-Methode (Tags kind=request|port, name): doctor_provider.sql.db_time
+ * (Aufrufe und DB-Zeit), doctor_provider.sql.statements,
+ * doctor_provider.sql.rows - Slot-Retention als Counter/Gauges
+ * (doctor_provider.slot_retention.*) - JVM-, Hikari- und
+ * HTTP-Metriken liefert Spring Boot Actuator
+ */
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	public static IncomingPortPostProcessor incomingPortMetricsPostProcessor(
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		Map<Method, Timer[]> timers = new ConcurrentHashMap<>();
+		return new IncomingPortPostProcessor(invocation -> {
+			Timer[] timer = timers.get(invocation.getMethod());
+			if (timer == null) {
+				timer = timers.computeIfAbsent(invocation.getMethod(),
+						method -> portTimers(meterRegistry.getObject(), invocation));
+			}
+			long start = System.nanoTime();
+			boolean success = false;
+			try {
+				Object result = invocation.proceed();
+				success = true;
+				return result;
+			} finally {
+				timer[success ? 0 : 1].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+		});
+	}
+
+	@Bean
+	public MeterBinder dataSourceMetrics(DataSource dataSource, ObjectProvider<WorkloadPools> workloadPools) {
+		return registry -> {
+			BulkheadDataSource bulkhead = unwrap(dataSource, BulkheadDataSource.class);
+			if (bulkhead != null) {
+				bulkheadMetrics(registry, bulkhead, Tags.empty());
+			}
+			WorkloadPools pools = workloadPools.getIfAvailable();
+			if (pools != null) {
+				for (Workload workload : Workload.values()) {
+					bulkheadMetrics(registry, pools.getBulkhead(workload), Tags.of("workload", workload.key()));
+				}
+			}
+			InstrumentedDataSource instrumented = unwrap(dataSource, InstrumentedDataSource.class);
+			if (instrumented != null) {
+				SqlStatistics statistics = instrumented.getStatistics();
+				FunctionCounter.builder("doctor_provider.sql.slow_statements", statistics,
+						SqlStatistics::getSlowStatementCount).description("Statements above slow-statement-threshold")
+						.register(registry);
+				FunctionCounter.builder("doctor_provider.sql.repeated_statement_warnings", statistics,
+						SqlStatistics::getRepeatedStatementWarningCount)
+						.description("Requests that repeated one statement shape (possible N+1)").register(registry);
+				statistics.addListener(
+						(kind, name, counters) -> sqlMetrics(registry, Tags.of("kind", kind, "name", name), counters));
+			}
+		};
+	}
+
+	@Bean
+	public MeterBinder slotRetentionMetrics(SlotRetentionJob slotRetentionJob) {
+		return registry -> {
+			FunctionCounter.builder("doctor_provider.slot_retention.runs", slotRetentionJob, SlotRetentionJob::getRuns)
+					.description("Completed slot retention runs").register(registry);
+			FunctionCounter.builder("doctor_provider.slot_retention.batches", slotRetentionJob,
+					SlotRetentionJob::getBatches).description("Slot retention batches").register(registry);
+			FunctionCounter.builder("doctor_provider.slot_retention.deleted_rows", slotRetentionJob,
+					SlotRetentionJob::getDeletedRows).description("Past AVAILABLE/BLOCKED slots deleted")
+					.register(registry);
+			FunctionCounter.builder("doctor_provider.slot_retention.archived_rows", slotRetentionJob,
+					SlotRetentionJob::getArchivedRows).description("Past BOOKED slots moved to slot_history")
+					.register(registry);
+			FunctionCounter.builder("doctor_provider.slot_retention.lag_aborts", slotRetentionJob,
+					SlotRetentionJob::getLagAborts).description("Runs stopped because replication lag was too high")
+					.register(registry);
+			Gauge.builder("doctor_provider.slot_retention.replication_lag", slotRetentionJob,
+					SlotRetentionJob::getLastReplicationLagMillis).baseUnit("milliseconds")
+					.description("Replication lag measured before the last batch").register(registry);
+			Gauge.builder("doctor_provider.slot_retention.last_run_duration", slotRetentionJob,
+					SlotRetentionJob::getLastRunDurationMillis).baseUnit("milliseconds")
+					.description("Duration of the last slot retention run").register(registry);
+		};
+	}
+
+	private static void bulkheadMetrics(MeterRegistry registry, BulkheadDataSource bulkhead, Tags tags) {
+		Gauge.builder("doctor_provider.datasource.bulkhead.in_use", bulkhead, BulkheadDataSource::getInUse)
+				.description("Database permits currently held").tags(tags).register(registry);
+		Gauge.builder("doctor_provider.datasource.bulkhead.waiting", bulkhead, BulkheadDataSource::getWaiting)
+				.description("Threads waiting for a database permit").tags(tags).register(registry);
+		FunctionCounter.builder("doctor_provider.datasource.bulkhead.timeouts", bulkhead,
+				BulkheadDataSource::getTimeoutCount)
+				.description("Requests rejected because no permit was free within acquire-timeout").tags(tags)
+				.register(registry);
+	}
+
+	private static void sqlMetrics(MeterRegistry registry, Tags tags, SqlStatistics.Counters counters) {
+		FunctionTimer.builder("doctor_provider.sql.db_time", counters, SqlStatistics.Counters::getInvocations,
+				SqlStatistics.Counters::getDbNanos, TimeUnit.NANOSECONDS)
+				.description("Database time per request path or port method").tags(tags).register(registry);
+		FunctionCounter.builder("doctor_provider.sql.statements", counters, SqlStatistics.Counters::getStatements)
+				.description("SQL statements per request path or port method").tags(tags).register(registry);
+		FunctionCounter.builder("doctor_provider.sql.rows", counters, SqlStatistics.Counters::getRows)
+				.description("Rows read per request path or port method").tags(tags).register(registry);
+	}
+
+	private static Timer[] portTimers(MeterRegistry registry, MethodInvocation invocation) {
+		String name = IncomingPortPostProcessor.describe(invocation);
+		int separator = name.indexOf('.');
+		return new Timer[]{portTimer(registry, name, separator, "success"),
+				portTimer(registry, name, separator, "error")};
+	}
+
+	private static Timer portTimer(MeterRegistry registry, String name, int separator, String outcome) {
+		return Timer.builder("doctor_provider.port.calls").description("Calls of incoming port methods (use cases)")
+				.tag("port", name.substring(0, separator)).tag("method", name.substring(separator + 1))
+				.tag("outcome", outcome).publishPercentileHistogram().register(registry);
+	}
+
+	private static <T> T unwrap(DataSource dataSource, Class<T> type) {
+		try {
+			return dataSource.isWrapperFor(type) ? dataSource.unwrap(type) : null;
+		} catch (SQLException e) {
+			return null;
+		}
+	}
+}
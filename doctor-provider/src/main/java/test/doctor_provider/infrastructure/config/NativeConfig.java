@@ -0,0 +1,140 @@
+package test.doctor_provider.infrastructure.config;
+
+import java.io.Closeable;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.Aware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+
+import test.doctor_provider.DoctorProviderApplication;
+import test.doctor_provider.api.model.DoctorDto;
+import test.doctor_provider.domain.enums.SlotStatus;
+import test.doctor_provider.infrastructure.incomming.web.mapper.DoctorWebMapper;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DoctorEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.mapper.DoctorEntityMapper;
+
+/**
+ * Reachability-Hints für das Native Image (Maven-Profil native).
+ *
+ * WICHTIG: - Wird nur beim AOT-Build ausgewertet, auf der JVM ohne Wirkung -
+ * Klassen werden per Paket-Scan gefunden: neue Entities, DTOs oder Mapper
+ * brauchen keinen Eintrag hier - Entities, Enums (Named Enums slot_status,
+ * weekday_enum, speciality_type), generierte DTOs mit JsonNullable,
+ * MapStruct-Implementierungen, Flyway-Migrationen und Ressourcen -
+ * JDK-Proxies der DataSource-Wrapper und der Port-Interceptoren
+ * (PortPostProcessor) müssen zur Build-Zeit bekannt sein - Was hier fehlt,
+ * findet der Tracing-Agent (siehe README, Abschnitt Native Image)
+ */
+@Configuration
+@ImportRuntimeHints(NativeConfig.Hints.class)
+public class NativeConfig {
+
+	static class Hints implements RuntimeHintsRegistrar {
+
+		private static final List<Class<?>> CALLBACK_INTERFACES = List.of(InitializingBean.class,
+				DisposableBean.class, Closeable.class, AutoCloseable.class, Aware.class);
+
+		@Override
+		public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+			MemberCategory[] members = {MemberCategory.ACCESS_DECLARED_FIELDS,
+					MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS};
+
+			for (Class<?> type : classesIn(DoctorEntity.class.getPackageName(), classLoader, name -> true)) {
+				hints.reflection().registerType(type, members);
+			}
+			for (Class<?> type : classesIn(SlotStatus.class.getPackageName(), classLoader, name -> true)) {
+				hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS,
+						MemberCategory.ACCESS_PUBLIC_FIELDS);
+			}
+			for (String mapperPackage : List.of(DoctorWebMapper.class.getPackageName(),
+					DoctorEntityMapper.class.getPackageName())) {
+				for (Class<?> type : classesIn(mapperPackage, classLoader, name -> name.endsWith("Impl"))) {
+					hints.reflection().registerType(type, members);
+				}
+			}
+
+			// DTOs auch für Import/Export (eigene ObjectMapper, nicht über Controller-Signaturen)
+			BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+			bindings.registerReflectionHints(hints.reflection(), JsonNullable.class);
+			for (Class<?> type : classesIn(DoctorDto.class.getPackageName(), classLoader, name -> true)) {
+				bindings.registerReflectionHints(hints.reflection(), type);
+			}
+			hints.reflection().registerType(JsonNullableModule.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+			hints.resources().registerPattern("db/migration/*.sql");
+			hints.resources().registerPattern("geo/*.csv");
+			hints.resources().registerPattern("ehcache.xml");
+
+			// BulkheadDataSource, InstrumentedDataSource, TracingDataSource
+			for (Class<?> jdbcType : List.of(Connection.class, Statement.class, PreparedStatement.class,
+					CallableStatement.class, ResultSet.class)) {
+				hints.proxies().registerJdkProxy(jdbcType);
+			}
+
+			// Adapter ohne @Transactional bekommen vom PortPostProcessor einen JDK-Proxy
+			for (Class<?> type : classesIn(ClassUtils.getPackageName(DoctorProviderApplication.class), classLoader,
+					name -> true)) {
+				if (!type.isInterface() && implementsPort(type)) {
+					hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(proxyInterfaces(type)));
+				}
+			}
+		}
+
+		private static boolean implementsPort(Class<?> type) {
+			return Arrays.stream(ClassUtils.getAllInterfacesForClass(type))
+					.map(Class::getPackageName)
+					.anyMatch(name -> name.equals(PortPostProcessor.INCOMING_PORT_PACKAGE)
+							|| name.equals(PortPostProcessor.OUTGOING_PORT_PACKAGE));
+		}
+
+		/**
+		 * Gleiche Auswahl und Reihenfolge wie
+		 * ProxyProcessorSupport.evaluateProxyInterfaces.
+		 */
+		private static Class<?>[] proxyInterfaces(Class<?> type) {
+			return Arrays.stream(ClassUtils.getAllInterfacesForClass(type))
+					.filter(ifc -> CALLBACK_INTERFACES.stream().noneMatch(callback -> callback.isAssignableFrom(ifc)))
+					.toArray(Class<?>[]::new);
+		}
+
+		private static List<Class<?>> classesIn(String basePackage, ClassLoader classLoader,
+				Predicate<String> classNameFilter) {
+			ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(
+					false) {
+				@Override
+				protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+					return beanDefinition.getMetadata().isIndependent();
+				}
+			};
+			scanner.addIncludeFilter(
+					(reader, factory) -> classNameFilter.test(reader.getClassMetadata().getClassName()));
+			List<Class<?>> classes = new ArrayList<>();
+			for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+				classes.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+			}
+			return classes;
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package test.doctor_provider.infrastructure.config;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.ResourceProvider;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.flywaydb.core.internal.resource.classpath.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * Findet die Flyway-Migrationen im Native Image.
+ *
+ * WICHTIG: - Flyways eigener Classpath-Scanner sucht Jar-Dateien und
+ * Verzeichnisse, beides gibt es im Native Image nicht - Spring listet die
+ * eingebetteten Ressourcen (Hint db/migration/*.sql in NativeConfig), gelesen
+ * wird weiter über Flyways ClassPathResource - Migrationen werden einmal beim
+ * Start gelistet
+ */
+class NativeImageFlywayResourceProvider implements ResourceProvider {
+
+	private final List<LoadableResource> resources = new ArrayList<>();
+
+	NativeImageFlywayResourceProvider(Location location, ClassLoader classLoader, Charset encoding) {
+		try {
+			for (Resource resource : new PathMatchingResourcePatternResolver(classLoader)
+					.getResources("classpath*:" + location.getRootPath() + "/*")) {
+				String filename = resource.getFilename();
+				if (filename != null && !filename.isEmpty()) {
+					resources.add(new ClassPathResource(location, location.getRootPath() + "/" + filename, classLoader,
+							encoding));
+				}
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Could not list Flyway migrations in " + location, e);
+		}
+	}
+
+	@Override
+	public LoadableResource getResource(String name) {
+		return resources.stream().filter(resource -> resource.getRelativePath().equals(name)).findFirst().orElse(null);
+	}
+
+	@Override
+	public Collection<LoadableResource> getResources(String prefix, String[] suffixes) {
+		return resources.stream()
+				.filter(resource -> resource.getFilename().startsWith(prefix))
+				.filter(resource -> Arrays.stream(suffixes).anyMatch(resource.getFilename()::endsWith))
+				.toList();
+	}
+}
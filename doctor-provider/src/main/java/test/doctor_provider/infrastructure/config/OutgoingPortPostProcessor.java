@@ -0,0 +1,16 @@
+package test.doctor_provider.infrastructure.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+
+/**
+ * Legt einen Interceptor um alle Methoden der Outgoing Ports (Persistenz,
+ * Metriken, Outbox), die die Use-Cases aufrufen.
+ *
+ * WICHTIG: - Erkennung und Reihenfolge siehe {@link PortPostProcessor}
+ */
+public class OutgoingPortPostProcessor extends PortPostProcessor {
+
+	public OutgoingPortPostProcessor(MethodInterceptor interceptor) {
+		super(OUTGOING_PORT_PACKAGE, interceptor);
+	}
+}
@@ -0,0 +1,74 @@
+package test.doctor_provider.infrastructure.config;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.util.ClassUtils;
+
+import test.doctor_provider.application.port.incoming.DoctorIncomingPort;
+import test.doctor_provider.application.port.outgoing.DoctorOutgoingPort;
+
+/**
+ * Legt einen Interceptor um alle Methoden der Ports eines Pakets
+ * (application.port.incoming oder application.port.outgoing).
+ *
+ * WICHTIG: - Erkannt wird jede Bean, die ein Interface aus dem Paket
+ * implementiert; nur die Methoden dieses Interfaces werden umhüllt -
+ * Services/Adapter mit @Transactional sind schon Proxies: der Interceptor
+ * kommt VOR die Transaktion (Commit wird mitgemessen) - Services und Adapter
+ * selbst bleiben frei von Infrastruktur
+ */
+public abstract class PortPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+	static final String INCOMING_PORT_PACKAGE = DoctorIncomingPort.class.getPackageName();
+	static final String OUTGOING_PORT_PACKAGE = DoctorOutgoingPort.class.getPackageName();
+
+	private static final Set<String> PORT_PACKAGES = Set.of(INCOMING_PORT_PACKAGE, OUTGOING_PORT_PACKAGE);
+
+	private static final Map<Method, String> NAMES = new ConcurrentHashMap<>();
+
+	protected PortPostProcessor(String portPackage, MethodInterceptor interceptor) {
+		Set<String> packages = Set.of(portPackage);
+		this.advisor = new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+			@Override
+			public boolean matches(Method method, Class<?> targetClass) {
+				return findPortMethod(method, targetClass, packages) != null;
+			}
+		}, interceptor);
+		setBeforeExistingAdvisors(true);
+	}
+
+	/**
+	 * Name der aufgerufenen Port-Methode, z.B. "DoctorIncomingPort.findDoctors"
+	 * oder "SlotOutgoingPort.findAll".
+	 */
+	public static String describe(MethodInvocation invocation) {
+		return NAMES.computeIfAbsent(invocation.getMethod(), method -> {
+			String name = findPortMethod(method, AopUtils.getTargetClass(invocation.getThis()), PORT_PACKAGES);
+			return name != null ? name : method.getDeclaringClass().getSimpleName() + "." + method.getName();
+		});
+	}
+
+	private static String findPortMethod(Method method, Class<?> targetClass, Set<String> packages) {
+		for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+			if (!packages.contains(type.getPackageName())) {
+				continue;
+			}
+			try {
+				type.getMethod(method.getName(), method.getParameterTypes());
+				return type.getSimpleName() + "." + method.getName();
+			} catch (NoSuchMethodException e) {
+				// Methode gehört zu einem anderen Interface
+			}
+		}
+		return null;
+	}
+}
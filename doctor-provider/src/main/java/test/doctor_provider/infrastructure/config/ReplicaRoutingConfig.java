@@ -0,0 +1,112 @@
+package test.doctor_provider.infrastructure.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.DataSourceRoutes;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.WorkloadPools;
+
+/**
+ * Read/Write-Routing: read-only Transaktionen lesen von Replicas, alles andere
+ * (Buchungen, Admin-Schreibzugriffe, Flyway) läuft auf dem Primary.
+ *
+ * WICHTIG: - Nur aktiv mit doctor-provider.datasource.replica.enabled=true
+ * (sonst Standard-DataSource von Spring Boot) - Entscheidung über
+ * LazyConnectionDataSourceProxy: Die echte Verbindung wird erst beim ersten
+ * Statement geholt, dann ist bekannt, ob die Transaktion read-only ist -
+ * Read-only kommt aus @Transactional(readOnly = true) an den Services bzw. den
+ * Spring-Data-Repositories - Mit Open-Session-in-View hält Hibernate die
+ * Verbindung bis zum Ende des Requests: die erste Transaktion eines Requests
+ * bestimmt die Route, deshalb sind schreibende Use-Cases komplett
+ * @Transactional - Pools heißen doctor-provider-primary und
+ * doctor-provider-replica-N (Hikari-Metriken je Route, hier selbst an die
+ * MeterRegistry gebunden, weil die Pools keine eigenen Beans sind) - Mit
+ * doctor-provider.datasource.workloads.enabled=true sind die Workload-Pools
+ * der Primary (kein doctor-provider-primary), die DataSource baut dann
+ * WorkloadPoolsConfig
+ */
+@Configuration
+@ConditionalOnProperty(name = "doctor-provider.datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+	@Bean(destroyMethod = "close")
+	public DataSourceRoutes dataSourceRoutes(Environment environment, ObjectProvider<MeterRegistry> meterRegistry,
+			ObjectProvider<WorkloadPools> workloadPools) {
+		String username = environment.getRequiredProperty("spring.datasource.username");
+		String password = environment.getRequiredProperty("spring.datasource.password");
+		int primaryPoolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class,
+				10);
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+
+		List<HikariDataSource> replicas = new ArrayList<>();
+		String[] replicaUrls = environment.getRequiredProperty("doctor-provider.datasource.replica.urls", String[].class);
+		int replicaPoolSize = environment.getProperty("doctor-provider.datasource.replica.maximum-pool-size",
+				Integer.class, primaryPoolSize);
+		for (int i = 0; i < replicaUrls.length; i++) {
+			replicas.add(pool("doctor-provider-replica-" + (i + 1), replicaUrls[i].trim(),
+					environment.getProperty("doctor-provider.datasource.replica.username", username),
+					environment.getProperty("doctor-provider.datasource.replica.password", password), replicaPoolSize,
+					true, registry));
+		}
+
+		Duration maxLag = environment.getProperty("doctor-provider.datasource.replica.max-lag", Duration.class,
+				Duration.ofSeconds(10));
+		WorkloadPools pools = workloadPools.getIfAvailable();
+		if (pools != null) {
+			return new DataSourceRoutes(pools, replicas, maxLag);
+		}
+		HikariDataSource primary = pool("doctor-provider-primary",
+				environment.getRequiredProperty("spring.datasource.url"), username, password, primaryPoolSize, false,
+				registry);
+		return new DataSourceRoutes(primary, replicas, maxLag);
+	}
+
+	@Bean
+	@Primary
+	@ConditionalOnProperty(name = "doctor-provider.datasource.workloads.enabled", havingValue = "false", matchIfMissing = true)
+	public DataSource dataSource(DataSourceRoutes dataSourceRoutes) {
+		return routed(dataSourceRoutes);
+	}
+
+	/**
+	 * Schreibzugriffe → Primary, read-only Transaktionen → Replicas.
+	 */
+	static DataSource routed(DataSourceRoutes dataSourceRoutes) {
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(dataSourceRoutes.primary());
+		dataSource.setReadOnlyDataSource(dataSourceRoutes.readOnly());
+		return dataSource;
+	}
+
+	private static HikariDataSource pool(String name, String url, String username, String password, int size,
+			boolean readOnly, MeterRegistry registry) {
+		HikariConfig config = new HikariConfig();
+		config.setPoolName(name);
+		config.setJdbcUrl(url);
+		config.setUsername(username);
+		config.setPassword(password);
+		config.setMaximumPoolSize(size);
+		config.setReadOnly(readOnly);
+		if (registry != null) {
+			config.setMetricRegistry(registry);
+		}
+		// Replica darf beim Start fehlen → Health-Check markiert sie als ungesund
+		config.setInitializationFailTimeout(readOnly ? -1 : 1);
+		return new HikariDataSource(config);
+	}
+}
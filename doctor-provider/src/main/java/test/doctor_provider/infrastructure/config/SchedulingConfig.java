@@ -0,0 +1,14 @@
+package test.doctor_provider.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Aktiviert @Scheduled (z.B. Health-Checks der Replica-Pools).
+ *
+ * Läuft mit spring.threads.virtual.enabled=true auf virtuellen Threads.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,70 @@
+package test.doctor_provider.infrastructure.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.InstrumentedDataSource;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.SqlScope;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.SqlStatistics;
+
+/**
+ * SQL-Statistiken: legt den {@link InstrumentedDataSource} vor den
+ * DataSource-Bean "dataSource" und zählt pro Incoming-Port-Methode mit.
+ *
+ * WICHTIG: - Über doctor-provider.sql-statistics.enabled abschaltbar - Der
+ * Request-Scope kommt aus SqlStatisticsFilter - Verschachtelte Port-Aufrufe
+ * zählen beim äußeren Port - Ports, die einen Stream liefern (Exporte),
+ * lesen erst nach dem Aufruf: diese Statements zählen nur beim Request
+ */
+@Configuration
+@ConditionalOnProperty(name = "doctor-provider.sql-statistics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsConfig {
+
+	@Bean
+	public static SqlStatistics sqlStatistics(Environment environment) {
+		return new SqlStatistics(
+				environment.getProperty("doctor-provider.sql-statistics.slow-statement-threshold", Duration.class,
+						Duration.ofMillis(200)),
+				environment.getProperty("doctor-provider.sql-statistics.repeated-statement-threshold", Integer.class,
+						10));
+	}
+
+	@Bean
+	public static BeanPostProcessor sqlStatisticsDataSourcePostProcessor(ObjectProvider<SqlStatistics> statistics) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+						|| bean instanceof InstrumentedDataSource) {
+					return bean;
+				}
+				return new InstrumentedDataSource(dataSource, statistics.getObject());
+			}
+		};
+	}
+
+	@Bean
+	public static IncomingPortPostProcessor incomingPortSqlPostProcessor(ObjectProvider<SqlStatistics> statistics) {
+		return new IncomingPortPostProcessor(invocation -> {
+			SqlScope current = SqlScope.current();
+			if (current != null && current.getKind() == SqlScope.Kind.PORT) {
+				return invocation.proceed();
+			}
+			SqlScope scope = SqlScope.open(SqlScope.Kind.PORT);
+			try {
+				return invocation.proceed();
+			} finally {
+				scope.close();
+				statistics.getObject().recordPort(IncomingPortPostProcessor.describe(invocation), scope);
+			}
+		});
+	}
+}
@@ -0,0 +1,86 @@
+package test.doctor_provider.infrastructure.config;
+
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.TracingDataSource;
+
+/**
+ * Spans für Ports und SQL-Statements (OpenTelemetry über Micrometer
+ * Tracing).
+ *
+ * WICHTIG: - HTTP-Spans und die Propagation (W3C traceparent) liefert Spring
+ * Boot: ein Request von patient-customer wird hier fortgesetzt - Incoming
+ * Port: immer ein Span (Jobs bekommen so einen eigenen Trace) - Outgoing
+ * Port und SQL: nur innerhalb eines laufenden Spans - Ports, die einen
+ * Stream liefern (Exporte), enden vor dem Lesen - Sampling über
+ * management.tracing.sampling.probability, Export per OTLP nur mit
+ * konfiguriertem Endpoint - Über doctor-provider.tracing.enabled abschaltbar
+ * (Boot-Spans bleiben)
+ */
+@Configuration
+@ConditionalOnProperty(name = "doctor-provider.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+	@Bean
+	public static IncomingPortPostProcessor incomingPortTracingPostProcessor(ObjectProvider<Tracer> tracer) {
+		return new IncomingPortPostProcessor(portSpans(tracer(tracer), "incoming", false));
+	}
+
+	@Bean
+	public static OutgoingPortPostProcessor outgoingPortTracingPostProcessor(ObjectProvider<Tracer> tracer) {
+		return new OutgoingPortPostProcessor(portSpans(tracer(tracer), "outgoing", true));
+	}
+
+	@Bean
+	public static BeanPostProcessor tracingDataSourcePostProcessor(ObjectProvider<Tracer> tracer) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+						|| bean instanceof TracingDataSource) {
+					return bean;
+				}
+				return new TracingDataSource(dataSource, tracer(tracer));
+			}
+		};
+	}
+
+	/**
+	 * Tracer erst beim ersten Aufruf holen (die Post-Processors entstehen vor
+	 * der Tracing-Konfiguration), ohne Tracer: Tracer.NOOP.
+	 */
+	private static Supplier<Tracer> tracer(ObjectProvider<Tracer> tracer) {
+		return SingletonSupplier.of(() -> tracer.getIfAvailable(() -> Tracer.NOOP));
+	}
+
+	private static MethodInterceptor portSpans(Supplier<Tracer> tracerSupplier, String kind, boolean requireParent) {
+		return invocation -> {
+			Tracer tracer = tracerSupplier.get();
+			if (requireParent && tracer.currentSpan() == null) {
+				return invocation.proceed();
+			}
+			Span span = tracer.nextSpan().name(PortPostProcessor.describe(invocation)).tag("port.kind", kind).start();
+			try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+				return invocation.proceed();
+			} catch (Throwable e) {
+				span.error(e);
+				throw e;
+			} finally {
+				span.end();
+			}
+		};
+	}
+}
@@ -0,0 +1,132 @@
+package test.doctor_provider.infrastructure.config;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.BulkheadDataSource;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.DataSourceRoutes;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.Workload;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.WorkloadPools;
+
+/**
+ * Getrennte Connection-Pools für Buchung, Suche und Admin-Arbeit.
+ *
+ * WICHTIG: - Nur aktiv mit doctor-provider.datasource.workloads.enabled=true -
+ * Mit Replica-Routing sind die Pools der Primary: read-only Transaktionen
+ * gehen an die Replicas (ohne Workload-Bulkhead, begrenzt durch die
+ * Replica-Pools), Fallback ohne gesunde Replica über die Workload des
+ * Threads - Zuordnung über Incoming-Port-Methoden
+ * (doctor-provider.datasource.workloads.search.ports usw., z.B.
+ * "CityIncomingPort.*" oder "DoctorIncomingPort.findAllDoctors"), alles andere
+ * → doctor-provider.datasource.workloads.default - Pools heißen
+ * doctor-provider-booking, -search, -admin (Hikari-Metriken mit Tag pool,
+ * Bulkhead-Metriken mit Tag workload in MetricsConfig) - Der Bulkhead sitzt
+ * pro Pool, DataSourceBulkheadConfig legt deshalb keinen gemeinsamen davor -
+ * Mit Open-Session-in-View hält Hibernate die Verbindung bis zum Ende des
+ * Requests: der erste Port-Aufruf eines Requests bestimmt den Pool
+ */
+@Configuration
+@ConditionalOnProperty(name = "doctor-provider.datasource.workloads.enabled", havingValue = "true")
+public class WorkloadPoolsConfig {
+
+	private static final String PREFIX = "doctor-provider.datasource.workloads.";
+
+	@Bean(destroyMethod = "close")
+	public WorkloadPools workloadPools(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+		String url = environment.getRequiredProperty("spring.datasource.url");
+		String username = environment.getRequiredProperty("spring.datasource.username");
+		String password = environment.getRequiredProperty("spring.datasource.password");
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+
+		Map<Workload, HikariDataSource> pools = new EnumMap<>(Workload.class);
+		Map<Workload, BulkheadDataSource> bulkheads = new EnumMap<>(Workload.class);
+		for (Workload workload : Workload.values()) {
+			int poolSize = environment.getProperty(PREFIX + workload.key() + ".maximum-pool-size", Integer.class, 5);
+			Duration acquireTimeout = environment.getProperty(PREFIX + workload.key() + ".acquire-timeout",
+					Duration.class, Duration.ofSeconds(5));
+
+			HikariConfig config = new HikariConfig();
+			config.setPoolName("doctor-provider-" + workload.key());
+			config.setJdbcUrl(url);
+			config.setUsername(username);
+			config.setPassword(password);
+			config.setMaximumPoolSize(poolSize);
+			// Bulkhead lässt nur poolSize Threads durch: im Pool wartet niemand lange
+			config.setConnectionTimeout(Math.max(acquireTimeout.toMillis(), 250));
+			if (registry != null) {
+				config.setMetricRegistry(registry);
+			}
+			HikariDataSource pool = new HikariDataSource(config);
+			pools.put(workload, pool);
+			bulkheads.put(workload, new BulkheadDataSource(pool, poolSize, acquireTimeout));
+		}
+		return new WorkloadPools(pools, bulkheads,
+				workload(environment.getProperty(PREFIX + "default", Workload.ADMIN.key())));
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(WorkloadPools workloadPools, ObjectProvider<DataSourceRoutes> dataSourceRoutes) {
+		DataSourceRoutes routes = dataSourceRoutes.getIfAvailable();
+		return routes != null ? ReplicaRoutingConfig.routed(routes) : workloadPools.dataSource();
+	}
+
+	@Bean
+	public static IncomingPortPostProcessor incomingPortWorkloadPostProcessor(Environment environment) {
+		Map<String, Workload> rules = new HashMap<>();
+		for (Workload workload : Workload.values()) {
+			for (String port : environment.getProperty(PREFIX + workload.key() + ".ports", String[].class,
+					new String[0])) {
+				if (!port.isBlank() && rules.putIfAbsent(port.trim(), workload) != null) {
+					throw new IllegalStateException("Port " + port.trim() + " is assigned to more than one workload");
+				}
+			}
+		}
+		Workload defaultWorkload = workload(environment.getProperty(PREFIX + "default", Workload.ADMIN.key()));
+		Map<Method, Workload> workloads = new ConcurrentHashMap<>();
+		return new IncomingPortPostProcessor(invocation -> {
+			if (WorkloadPools.current() != null) {
+				return invocation.proceed();
+			}
+			Workload workload = workloads.computeIfAbsent(invocation.getMethod(), method -> {
+				String name = PortPostProcessor.describe(invocation);
+				Workload exact = rules.get(name);
+				return exact != null ? exact
+						: rules.getOrDefault(name.substring(0, name.indexOf('.')) + ".*", defaultWorkload);
+			});
+			Workload previous = WorkloadPools.enter(workload);
+			try {
+				return invocation.proceed();
+			} finally {
+				WorkloadPools.exit(previous);
+			}
+		});
+	}
+
+	private static Workload workload(String key) {
+		for (Workload workload : Workload.values()) {
+			if (workload.key().equals(key.trim())) {
+				return workload;
+			}
+		}
+		throw new IllegalStateException("Unknown workload '" + key + "' in " + PREFIX + "default");
+	}
+}
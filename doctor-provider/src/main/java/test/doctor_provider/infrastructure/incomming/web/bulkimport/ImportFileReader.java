@@ -0,0 +1,161 @@
+package test.doctor_provider.infrastructure.incomming.web.bulkimport;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import test.doctor_provider.domain.model.ImportLine;
+
+/**
+ * Liest eine Import-Datei zeilenweise als Stream (NDJSON oder CSV).
+ *
+ * WICHTIG: - Gelesen wird erst, wenn der Stream konsumiert wird, und immer nur
+ * eine Zeile → Speicherbedarf unabhängig von der Dateigröße - Jede Zeile wird
+ * in das Import-DTO aus der OpenAPI-Spec umgewandelt (CSV-Spalten heißen wie
+ * die JSON-Felder) - Eine fehlerhafte Zeile ergibt eine ImportLine mit error,
+ * der Import läuft weiter - Leerzeilen werden übersprungen
+ */
+public final class ImportFileReader {
+
+	public enum Format {
+		NDJSON, CSV
+	}
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private ImportFileReader() {
+	}
+
+	/**
+	 * @param listFields
+	 *            CSV-Spalten mit mehreren Werten (getrennt durch |)
+	 */
+	public static <D, T> Stream<ImportLine<T>> read(InputStream body, Format format, Class<D> dtoType,
+			Set<String> listFields, Function<D, T> toDomain) {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+		AtomicLong lineNumber = new AtomicLong();
+		Function<String, Map<String, Object>> parser = format == Format.CSV ? new CsvParser(listFields) : null;
+
+		return reader.lines().map(line -> {
+			long number = lineNumber.incrementAndGet();
+			if (line.isBlank()) {
+				return null;
+			}
+			try {
+				D dto;
+				if (parser == null) {
+					dto = OBJECT_MAPPER.readValue(line, dtoType);
+				} else {
+					Map<String, Object> fields = parser.apply(line);
+					if (fields == null) {
+						return null; // Kopfzeile
+					}
+					dto = OBJECT_MAPPER.convertValue(fields, dtoType);
+				}
+				return new ImportLine<T>(number, toDomain.apply(dto), null);
+			} catch (JsonProcessingException e) {
+				return new ImportLine<T>(number, null, e.getOriginalMessage());
+			} catch (RuntimeException e) {
+				return new ImportLine<T>(number, null, firstLine(e.getMessage()));
+			}
+		}).filter(Objects::nonNull).onClose(() -> {
+			try {
+				reader.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	private static String firstLine(String message) {
+		if (message == null) {
+			return "Invalid line";
+		}
+		int end = message.indexOf('\n');
+		return end < 0 ? message : message.substring(0, end);
+	}
+
+	/**
+	 * CSV nach RFC 4180 (Trennzeichen Komma, Felder optional in "..."), aber ohne
+	 * Zeilenumbrüche innerhalb von Feldern. Leere Felder → null.
+	 */
+	private static final class CsvParser implements Function<String, Map<String, Object>> {
+
+		private final Set<String> listFields;
+		private List<String> header;
+
+		CsvParser(Set<String> listFields) {
+			this.listFields = listFields;
+		}
+
+		/**
+		 * @return Felder der Zeile, null für die Kopfzeile
+		 */
+		@Override
+		public Map<String, Object> apply(String line) {
+			List<String> values = split(line);
+			if (header == null) {
+				header = values.stream().map(name -> name.replace("\uFEFF", "").trim()).toList();
+				return null;
+			}
+			if (values.size() != header.size()) {
+				throw new IllegalArgumentException(
+						"Expected " + header.size() + " columns but found " + values.size());
+			}
+			Map<String, Object> fields = new LinkedHashMap<>();
+			for (int i = 0; i < header.size(); i++) {
+				String value = values.get(i).isEmpty() ? null : values.get(i);
+				if (value != null && listFields.contains(header.get(i))) {
+					fields.put(header.get(i), Arrays.asList(value.split("\\|")));
+				} else {
+					fields.put(header.get(i), value);
+				}
+			}
+			return fields;
+		}
+
+		private static List<String> split(String line) {
+			List<String> values = new ArrayList<>();
+			StringBuilder value = new StringBuilder();
+			boolean quoted = false;
+			for (int i = 0; i < line.length(); i++) {
+				char c = line.charAt(i);
+				if (quoted) {
+					if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+						value.append('"');
+						i++;
+					} else if (c == '"') {
+						quoted = false;
+					} else {
+						value.append(c);
+					}
+				} else if (c == '"') {
+					quoted = true;
+				} else if (c == ',') {
+					values.add(value.toString());
+					value.setLength(0);
+				} else {
+					value.append(c);
+				}
+			}
+			values.add(value.toString());
+			return values;
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package test.doctor_provider.infrastructure.incomming.web.export;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Liest einen Stream von DTOs als NDJSON (ein JSON-Objekt pro Zeile).
+ *
+ * WICHTIG: - Eine Zeile wird erst serialisiert, wenn der Leser sie braucht →
+ * im Speicher liegt immer nur die aktuelle Zeile - Der Client gibt das Tempo
+ * vor: schreibt Spring die Antwort langsamer, holt auch der Cursor langsamer -
+ * close() schließt den Quell-Stream (und damit Cursor und Verbindung)
+ */
+public final class NdjsonInputStream extends InputStream {
+
+	private static final byte[] EMPTY = new byte[0];
+
+	private final Stream<?> source;
+	private final Iterator<?> rows;
+	private final ObjectWriter writer;
+	private byte[] line = EMPTY;
+	private int position;
+
+	public NdjsonInputStream(Stream<?> source, ObjectWriter writer) {
+		this.source = source;
+		this.rows = source.iterator();
+		this.writer = writer;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!fill()) {
+			return -1;
+		}
+		return line[position++] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] buffer, int offset, int length) throws IOException {
+		if (length == 0) {
+			return 0;
+		}
+		int read = 0;
+		while (read < length && fill()) {
+			int count = Math.min(length - read, line.length - position);
+			System.arraycopy(line, position, buffer, offset + read, count);
+			position += count;
+			read += count;
+		}
+		return read == 0 ? -1 : read;
+	}
+
+	@Override
+	public void close() {
+		source.close();
+	}
+
+	private boolean fill() throws IOException {
+		while (position >= line.length) {
+			if (!rows.hasNext()) {
+				return false;
+			}
+			byte[] json = writer.writeValueAsBytes(rows.next());
+			line = new byte[json.length + 1];
+			System.arraycopy(json, 0, line, 0, json.length);
+			line[json.length] = '\n';
+			position = 0;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,35 @@
+package test.doctor_provider.infrastructure.incomming.web.incommingAdapter;
+
+import java.util.UUID;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import test.doctor_provider.infrastructure.incomming.web.sse.AvailabilityBroadcaster;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Live-Verfügbarkeit eines Arztes als Server-Sent Events (extern).
+ *
+ * WICHTIG: - Nicht in der OpenAPI-Spec: der Generator kann keinen SseEmitter
+ * als Rückgabetyp erzeugen, springdoc dokumentiert den Endpunkt trotzdem -
+ * Events: "ready" (einmal, danach freie Slots laden), "slots" (Liste von
+ * Deltas, id = letzter Offset), "resync" (Deltas verpasst, neu laden) -
+ * Nach Timeout oder Abbruch verbindet sich der Client neu und lädt neu
+ */
+@RestController
+@RequiredArgsConstructor
+public class AvailabilityStreamIncomingAdapter {
+
+	private final AvailabilityBroadcaster availabilityBroadcaster;
+
+	@GetMapping(value = "/api/v1/external/doctors/{doctorId}/availability-stream",
+			produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamAvailability(@PathVariable("doctorId") UUID doctorId) {
+		return availabilityBroadcaster.subscribe(doctorId);
+	}
+}
@@ -0,0 +1,47 @@
+package test.doctor_provider.infrastructure.incomming.web.incommingAdapter;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import test.doctor_provider.api.InternalChangeFeedApi;
+import test.doctor_provider.api.model.SlotEventFeedDto;
+import test.doctor_provider.application.port.incoming.SlotEventIncomingPort;
+import test.doctor_provider.domain.model.SlotEventFeed;
+import test.doctor_provider.infrastructure.incomming.web.mapper.SlotEventWebMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Change-Feed der Slot-Änderungen (nur intern).
+ *
+ * WICHTIG: - Long-Poll: mit waitSeconds > 0 blockiert die Anfrage bis zu
+ * waitSeconds, ohne dabei eine Datenbankverbindung zu halten (mit
+ * spring.threads.virtual.enabled=true auch ohne Plattform-Thread) - 410, wenn
+ * der Offset schon gelöscht ist
+ */
+@RestController
+@RequiredArgsConstructor
+public class ChangeFeedIncomingAdapter implements InternalChangeFeedApi {
+
+	private static final int DEFAULT_LIMIT = 500;
+	private static final int MAX_LIMIT = 1000;
+	private static final int MAX_WAIT_SECONDS = 30;
+
+	private final SlotEventIncomingPort slotEventIncomingPort;
+	private final SlotEventWebMapper slotEventWebMapper;
+
+	@Override
+	public ResponseEntity<SlotEventFeedDto> findSlotEvents(Long after, Integer limit, Integer waitSeconds) {
+		SlotEventFeed feed = slotEventIncomingPort.findSlotEvents(after != null ? Math.max(after, 0) : 0,
+				limit != null ? Math.clamp(limit, 1, MAX_LIMIT) : DEFAULT_LIMIT,
+				Duration.ofSeconds(waitSeconds != null ? Math.clamp(waitSeconds, 0, MAX_WAIT_SECONDS) : 0));
+
+		if (feed.isExpired()) {
+			return ResponseEntity.status(HttpStatus.GONE).build();
+		}
+		return ResponseEntity.ok(slotEventWebMapper.toDto(feed));
+	}
+}
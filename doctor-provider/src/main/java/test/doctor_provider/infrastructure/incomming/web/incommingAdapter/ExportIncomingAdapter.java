@@ -0,0 +1,81 @@
+package test.doctor_provider.infrastructure.incomming.web.incommingAdapter;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import test.doctor_provider.api.InternalExportApi;
+import test.doctor_provider.application.port.incoming.DoctorIncomingPort;
+import test.doctor_provider.application.port.incoming.SlotIncomingPort;
+import test.doctor_provider.domain.enums.SlotStatus;
+import test.doctor_provider.domain.model.DoctorSearchCriteria;
+import test.doctor_provider.infrastructure.incomming.web.export.NdjsonInputStream;
+import test.doctor_provider.infrastructure.incomming.web.mapper.DoctorWebMapper;
+import test.doctor_provider.infrastructure.incomming.web.mapper.SlotWebMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Export-Endpunkte (nur intern): NDJSON direkt aus einem serverseitigen Cursor.
+ *
+ * WICHTIG: - Die Antwort ist eine InputStreamResource ohne Content-Length →
+ * Spring schreibt sie chunked und liest dabei Zeile für Zeile aus dem Cursor -
+ * Spring schließt den InputStream nach dem Schreiben (auch bei Abbruch durch
+ * den Client), damit werden Cursor und Verbindung freigegeben - Fehler nach
+ * der ersten Zeile brechen die Antwort ab (Status ist dann schon gesendet)
+ */
+@RestController
+@RequiredArgsConstructor
+public class ExportIncomingAdapter implements InternalExportApi {
+
+	private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+	// Jackson 2 wie beim Import: die generierten DTOs nutzen com.fasterxml-Annotationen
+	// und JsonNullable (Module werden über den Classpath gefunden)
+	private static final ObjectWriter WRITER = new ObjectMapper().findAndRegisterModules()
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).writer();
+
+	private final DoctorIncomingPort doctorIncomingPort;
+	private final SlotIncomingPort slotIncomingPort;
+	private final DoctorWebMapper doctorWebMapper;
+	private final SlotWebMapper slotWebMapper;
+
+	@Override
+	public ResponseEntity<Resource> exportDoctors(String firstName, String lastName, UUID practiceId, UUID cityId,
+			UUID specialityId) {
+		DoctorSearchCriteria criteria = DoctorSearchCriteria.builder()
+				.firstName(firstName)
+				.lastName(lastName)
+				.practiceId(practiceId)
+				.cityId(cityId)
+				.specialityId(specialityId)
+				.build();
+
+		return ndjson(doctorIncomingPort.exportDoctors(criteria).map(doctorWebMapper::toDto));
+	}
+
+	@Override
+	public ResponseEntity<Resource> exportSlots(UUID doctorId, UUID workingHoursId, LocalDate dateFrom,
+			LocalDate dateTo, test.doctor_provider.api.model.SlotStatus status) {
+		return ndjson(slotIncomingPort.exportSlots(Optional.ofNullable(doctorId), Optional.ofNullable(workingHoursId),
+				Optional.ofNullable(dateFrom), Optional.ofNullable(dateTo),
+				Optional.ofNullable(status).map(value -> SlotStatus.valueOf(value.getValue())))
+				.map(slotWebMapper::toDto));
+	}
+
+	private static ResponseEntity<Resource> ndjson(Stream<?> rows) {
+		return ResponseEntity.ok().contentType(NDJSON)
+				.body(new InputStreamResource(new NdjsonInputStream(rows, WRITER)));
+	}
+}
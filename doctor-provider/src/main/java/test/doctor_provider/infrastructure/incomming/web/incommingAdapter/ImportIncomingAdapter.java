@@ -0,0 +1,92 @@
+package test.doctor_provider.infrastructure.incomming.web.incommingAdapter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import test.doctor_provider.api.InternalImportApi;
+import test.doctor_provider.api.model.DoctorImportRecordDto;
+import test.doctor_provider.api.model.ImportReportDto;
+import test.doctor_provider.api.model.PracticeImportRecordDto;
+import test.doctor_provider.api.model.WorkingHoursImportRecordDto;
+import test.doctor_provider.application.port.incoming.BulkImportIncomingPort;
+import test.doctor_provider.domain.model.ImportLine;
+import test.doctor_provider.domain.model.ImportReport;
+import test.doctor_provider.infrastructure.incomming.web.bulkimport.ImportFileReader;
+import test.doctor_provider.infrastructure.incomming.web.mapper.ImportWebMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bulk-Import (NDJSON/CSV).
+ *
+ * WICHTIG: - Der Body wird direkt aus dem HttpServletRequest gestreamt (in der
+ * Spec absichtlich ohne requestBody, sonst würde Spring ihn komplett puffern) -
+ * Format über den Content-Type, alles andere → 400
+ */
+@RestController
+@RequiredArgsConstructor
+public class ImportIncomingAdapter implements InternalImportApi {
+
+	private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+	private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+	private final BulkImportIncomingPort bulkImportIncomingPort;
+	private final ImportWebMapper importWebMapper;
+	private final HttpServletRequest request;
+
+	@Override
+	public ResponseEntity<ImportReportDto> importPractices() {
+		return importFile(PracticeImportRecordDto.class, Set.of(), importWebMapper::toDomain,
+				bulkImportIncomingPort::importPractices);
+	}
+
+	@Override
+	public ResponseEntity<ImportReportDto> importDoctors() {
+		return importFile(DoctorImportRecordDto.class, Set.of("specialityIds"), importWebMapper::toDomain,
+				bulkImportIncomingPort::importDoctors);
+	}
+
+	@Override
+	public ResponseEntity<ImportReportDto> importWorkingHours() {
+		return importFile(WorkingHoursImportRecordDto.class, Set.of(), importWebMapper::toDomain,
+				bulkImportIncomingPort::importWorkingHours);
+	}
+
+	private <D, T> ResponseEntity<ImportReportDto> importFile(Class<D> dtoType, Set<String> listFields,
+			Function<D, T> toDomain, Function<Stream<ImportLine<T>>, ImportReport> importer) {
+		ImportFileReader.Format format = format(request.getContentType());
+		if (format == null) {
+			return ResponseEntity.badRequest().build();
+		}
+		try {
+			ImportReport report = importer.apply(
+					ImportFileReader.read(request.getInputStream(), format, dtoType, listFields, toDomain));
+			return ResponseEntity.ok(importWebMapper.toDto(report));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static ImportFileReader.Format format(String contentType) {
+		if (contentType == null) {
+			return null;
+		}
+		MediaType mediaType = MediaType.parseMediaType(contentType);
+		if (NDJSON.includes(mediaType)) {
+			return ImportFileReader.Format.NDJSON;
+		}
+		if (CSV.includes(mediaType)) {
+			return ImportFileReader.Format.CSV;
+		}
+		return null;
+	}
+}
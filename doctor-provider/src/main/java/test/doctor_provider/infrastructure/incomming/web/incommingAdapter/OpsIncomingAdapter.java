@@ -0,0 +1,296 @@
+package test.doctor_provider.infrastructure.incomming.web.incommingAdapter;
+
+import java.sql.SQLException;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import test.doctor_provider.api.InternalOpsApi;
+import test.doctor_provider.api.model.CacheRegionStatisticsDto;
+import test.doctor_provider.api.model.CacheStatisticsDto;
+import test.doctor_provider.api.model.DataSourceBulkheadStatisticsDto;
+import test.doctor_provider.api.model.DataSourceRouteDto;
+import test.doctor_provider.api.model.DataSourceRoutesDto;
+import test.doctor_provider.api.model.DataSourceWorkloadBulkheadDto;
+import test.doctor_provider.api.model.DataSourceWorkloadDto;
+import test.doctor_provider.api.model.DeletionJobDto;
+import test.doctor_provider.api.model.DeletionJobStatusDto;
+import test.doctor_provider.api.model.DoctorSearchRebuildDto;
+import test.doctor_provider.api.model.SlotRetentionStatisticsDto;
+import test.doctor_provider.api.model.SqlScopeStatisticsDto;
+import test.doctor_provider.api.model.SqlStatisticsDto;
+import test.doctor_provider.application.port.incoming.DoctorIncomingPort;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.BulkheadDataSource;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.DataSourceRoutes;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.InstrumentedDataSource;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.SqlStatistics;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.Workload;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.WorkloadPools;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DeletionJobEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.DeletionJobRepository;
+import test.doctor_provider.infrastructure.outgoing.persistence.retention.SlotRetentionJob;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Betriebs-Endpunkte (nur intern).
+ *
+ * WICHTIG: - Hibernate-, Bulkhead-, SQL- und Retention-Statistiken sowie der
+ * Status der Löschaufträge sind reine Infrastruktur, deshalb ohne Incoming
+ * Port - Zähler laufen seit dem Start der Anwendung
+ */
+@RestController
+@RequiredArgsConstructor
+public class OpsIncomingAdapter implements InternalOpsApi {
+
+	private static final int MAX_DELETION_JOBS = 100;
+
+	private final EntityManagerFactory entityManagerFactory;
+	private final DoctorIncomingPort doctorIncomingPort;
+	private final DataSource dataSource;
+	private final Environment environment;
+	private final ObjectProvider<DataSourceRoutes> dataSourceRoutes;
+	private final ObjectProvider<WorkloadPools> workloadPools;
+	private final SlotRetentionJob slotRetentionJob;
+	private final DeletionJobRepository deletionJobRepository;
+
+	@Override
+	public ResponseEntity<CacheStatisticsDto> findCacheStatistics() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		CacheStatisticsDto response = new CacheStatisticsDto();
+		response.setHitCount(statistics.getSecondLevelCacheHitCount());
+		response.setMissCount(statistics.getSecondLevelCacheMissCount());
+		response.setPutCount(statistics.getSecondLevelCachePutCount());
+		response.setPrepareStatementCount(statistics.getPrepareStatementCount());
+		// Nur Entity-/Collection-Regionen (Query-Cache-Regionen liefern hier null)
+		response.setRegions(Arrays.stream(statistics.getSecondLevelCacheRegionNames()).sorted()
+				.map(regionName -> toDto(regionName, statistics.getDomainDataRegionStatistics(regionName)))
+				.filter(Objects::nonNull).toList());
+
+		return ResponseEntity.ok(response);
+	}
+
+	@Override
+	public ResponseEntity<DoctorSearchRebuildDto> rebuildDoctorSearch() {
+		DoctorSearchRebuildDto response = new DoctorSearchRebuildDto();
+		response.setDoctorCount(doctorIncomingPort.rebuildDoctorSearch());
+		return ResponseEntity.ok(response);
+	}
+
+	@Override
+	public ResponseEntity<DataSourceBulkheadStatisticsDto> findDataSourceBulkheadStatistics() {
+		DataSourceBulkheadStatisticsDto response = new DataSourceBulkheadStatisticsDto();
+		response.setVirtualThreads(environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false));
+
+		BulkheadDataSource bulkhead = unwrap(BulkheadDataSource.class);
+		WorkloadPools pools = workloadPools.getIfAvailable();
+		response.setEnabled(bulkhead != null || pools != null);
+		if (bulkhead != null) {
+			response.setMaxConcurrent(bulkhead.getMaxConcurrent());
+			response.setInUse(bulkhead.getInUse());
+			response.setWaiting(bulkhead.getWaiting());
+			response.setAcquiredCount(bulkhead.getAcquiredCount());
+			response.setTimeoutCount(bulkhead.getTimeoutCount());
+			response.setAverageWaitMillis(averageWaitMillis(bulkhead));
+		}
+		if (pools != null) {
+			response.setWorkloads(Arrays.stream(Workload.values())
+					.map(workload -> toDto(workload, pools.getBulkhead(workload))).toList());
+		}
+		return ResponseEntity.ok(response);
+	}
+
+	@Override
+	public ResponseEntity<DataSourceRoutesDto> findDataSourceRoutes() {
+		DataSourceRoutes routes = dataSourceRoutes.getIfAvailable();
+		WorkloadPools pools = workloadPools.getIfAvailable();
+		List<DataSourceRouteDto> routeDtos = new ArrayList<>();
+
+		DataSourceRoutesDto response = new DataSourceRoutesDto();
+		response.setReplicaRoutingEnabled(routes != null);
+		if (pools != null) {
+			for (Workload workload : Workload.values()) {
+				DataSourceRouteDto dto = toDto(pools.getPool(workload), DataSourceRouteDto.RoleEnum.PRIMARY, true);
+				dto.setWorkload(DataSourceWorkloadDto.fromValue(workload.name()));
+				routeDtos.add(dto);
+			}
+		} else if (routes != null) {
+			routeDtos.add(toDto(routes.getPrimaryPool(), DataSourceRouteDto.RoleEnum.PRIMARY, true));
+		} else {
+			HikariDataSource primary = unwrap(HikariDataSource.class);
+			if (primary != null) {
+				routeDtos.add(toDto(primary, DataSourceRouteDto.RoleEnum.PRIMARY, true));
+			}
+		}
+		if (routes != null) {
+			for (DataSourceRoutes.Replica replica : routes.getReplicas()) {
+				DataSourceRouteDto dto = toDto(replica.getPool(), DataSourceRouteDto.RoleEnum.REPLICA,
+						replica.isHealthy());
+				dto.setRoutedConnections(replica.getRoutedConnections());
+				routeDtos.add(dto);
+			}
+		}
+		response.setReadOnlyFallbackCount(routes != null ? routes.getReadOnlyFallbacks() : 0L);
+		response.setRoutes(routeDtos);
+
+		return ResponseEntity.ok(response);
+	}
+
+	@Override
+	public ResponseEntity<SlotRetentionStatisticsDto> findSlotRetentionStatistics() {
+		SlotRetentionStatisticsDto response = new SlotRetentionStatisticsDto();
+		response.setEnabled(slotRetentionJob.isEnabled());
+		response.setRuns(slotRetentionJob.getRuns());
+		response.setBatches(slotRetentionJob.getBatches());
+		response.setDeletedRows(slotRetentionJob.getDeletedRows());
+		response.setArchivedRows(slotRetentionJob.getArchivedRows());
+		response.setLagAborts(slotRetentionJob.getLagAborts());
+		response.setLastReplicationLagMillis(slotRetentionJob.getLastReplicationLagMillis());
+		response.setMaxReplicationLagMillis(slotRetentionJob.getMaxReplicationLagMillis());
+		response.setLastRunDurationMillis(slotRetentionJob.getLastRunDurationMillis());
+		if (slotRetentionJob.getLastRunAt() != null) {
+			response.setLastRunAt(slotRetentionJob.getLastRunAt().atOffset(ZoneOffset.UTC));
+		}
+		return ResponseEntity.ok(response);
+	}
+
+	@Override
+	public ResponseEntity<List<DeletionJobDto>> findDeletionJobs(UUID targetId, DeletionJobStatusDto status) {
+		EnumSet<DeletionJobEntity.Status> statuses = status == null
+				? EnumSet.allOf(DeletionJobEntity.Status.class)
+				: EnumSet.of(DeletionJobEntity.Status.valueOf(status.getValue()));
+		List<DeletionJobDto> response = deletionJobRepository
+				.findAllFiltered(targetId, statuses, PageRequest.of(0, MAX_DELETION_JOBS)).stream().map(this::toDto)
+				.toList();
+		return ResponseEntity.ok(response);
+	}
+
+	@Override
+	public ResponseEntity<SqlStatisticsDto> findSqlStatistics() {
+		SqlStatisticsDto response = new SqlStatisticsDto();
+		InstrumentedDataSource instrumented = unwrap(InstrumentedDataSource.class);
+		response.setEnabled(instrumented != null);
+		if (instrumented != null) {
+			SqlStatistics statistics = instrumented.getStatistics();
+			response.setSlowStatementThresholdMillis(statistics.getSlowStatementThreshold().toMillis());
+			response.setRepeatedStatementThreshold(statistics.getRepeatedStatementThreshold());
+			response.setSlowStatementCount(statistics.getSlowStatementCount());
+			response.setRepeatedStatementWarningCount(statistics.getRepeatedStatementWarningCount());
+			response.setRequests(statistics.getRequests().stream().map(this::toDto).toList());
+			response.setPorts(statistics.getPorts().stream().map(this::toDto).toList());
+		} else {
+			response.setSlowStatementCount(0L);
+			response.setRepeatedStatementWarningCount(0L);
+			response.setRequests(List.of());
+			response.setPorts(List.of());
+		}
+		return ResponseEntity.ok(response);
+	}
+
+	private DeletionJobDto toDto(DeletionJobEntity job) {
+		DeletionJobDto dto = new DeletionJobDto();
+		dto.setId(job.getId());
+		dto.setTargetType(DeletionJobDto.TargetTypeEnum.fromValue(job.getTargetType().name()));
+		dto.setTargetId(job.getTargetId());
+		dto.setStatus(DeletionJobStatusDto.fromValue(job.getStatus().name()));
+		dto.setDeletedRows(job.getDeletedRows());
+		dto.setChunks(job.getChunks());
+		dto.setAttempts(job.getAttempts());
+		dto.setLastError(job.getLastError());
+		dto.setCreatedAt(job.getCreatedAt().toOffsetDateTime());
+		if (job.getUpdatedAt() != null) {
+			dto.setUpdatedAt(job.getUpdatedAt().toOffsetDateTime());
+		}
+		if (job.getFinishedAt() != null) {
+			dto.setFinishedAt(job.getFinishedAt().toOffsetDateTime());
+		}
+		return dto;
+	}
+
+	private SqlScopeStatisticsDto toDto(SqlStatistics.Entry entry) {
+		SqlScopeStatisticsDto dto = new SqlScopeStatisticsDto();
+		dto.setName(entry.name());
+		dto.setInvocations(entry.invocations());
+		dto.setStatements(entry.statements());
+		dto.setRows(entry.rows());
+		dto.setDbTimeMillis(entry.dbNanos() / 1_000_000.0);
+		dto.setMaxStatements(entry.maxStatements());
+		dto.setRepeatedStatementWarnings(entry.repeatedStatementWarnings());
+		return dto;
+	}
+
+	private DataSourceWorkloadBulkheadDto toDto(Workload workload, BulkheadDataSource bulkhead) {
+		DataSourceWorkloadBulkheadDto dto = new DataSourceWorkloadBulkheadDto();
+		dto.setWorkload(DataSourceWorkloadDto.fromValue(workload.name()));
+		dto.setMaxConcurrent(bulkhead.getMaxConcurrent());
+		dto.setInUse(bulkhead.getInUse());
+		dto.setWaiting(bulkhead.getWaiting());
+		dto.setAcquiredCount(bulkhead.getAcquiredCount());
+		dto.setTimeoutCount(bulkhead.getTimeoutCount());
+		dto.setAcquireTimeoutMillis(bulkhead.getAcquireTimeout().toMillis());
+		dto.setAverageWaitMillis(averageWaitMillis(bulkhead));
+		return dto;
+	}
+
+	private static double averageWaitMillis(BulkheadDataSource bulkhead) {
+		return bulkhead.getAcquiredCount() == 0 ? 0.0
+				: bulkhead.getTotalWaitNanos() / 1_000_000.0 / bulkhead.getAcquiredCount();
+	}
+
+	private DataSourceRouteDto toDto(HikariDataSource pool, DataSourceRouteDto.RoleEnum role, boolean healthy) {
+		DataSourceRouteDto dto = new DataSourceRouteDto();
+		dto.setName(pool.getPoolName());
+		dto.setRole(role);
+		dto.setHealthy(healthy);
+		HikariPoolMXBean poolStatistics = pool.getHikariPoolMXBean();
+		if (poolStatistics != null) {
+			dto.setActiveConnections(poolStatistics.getActiveConnections());
+			dto.setIdleConnections(poolStatistics.getIdleConnections());
+			dto.setTotalConnections(poolStatistics.getTotalConnections());
+			dto.setThreadsAwaitingConnection(poolStatistics.getThreadsAwaitingConnection());
+		}
+		return dto;
+	}
+
+	private <T> T unwrap(Class<T> type) {
+		try {
+			return dataSource.isWrapperFor(type) ? dataSource.unwrap(type) : null;
+		} catch (SQLException e) {
+			return null;
+		}
+	}
+
+	private CacheRegionStatisticsDto toDto(String regionName, CacheRegionStatistics regionStatistics) {
+		if (regionStatistics == null) {
+			return null;
+		}
+		CacheRegionStatisticsDto dto = new CacheRegionStatisticsDto();
+		dto.setName(regionName);
+		dto.setHitCount(regionStatistics.getHitCount());
+		dto.setMissCount(regionStatistics.getMissCount());
+		dto.setPutCount(regionStatistics.getPutCount());
+		dto.setElementCountInMemory(regionStatistics.getElementCountInMemory());
+		return dto;
+	}
+}
@@ -1,6 +1,7 @@
 package test.doctor_provider.infrastructure.incomming.web.incommingAdapter;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,31 +13,43 @@ import test.doctor_provider.api.ExternalSearchApi;
 import test.doctor_provider.api.model.FindAllCitiesExternal200Response;
 import test.doctor_provider.api.model.FindAvailableSlotsExternal200Response;
 import test.doctor_provider.api.model.SearchDoctorsExternal200Response;
+import test.doctor_provider.api.model.SearchDoctorsNearbyExternal200Response;
 import test.doctor_provider.api.model.SpecialityDto;
 import test.doctor_provider.application.port.incoming.CityIncomingPort;
 import test.doctor_provider.application.port.incoming.DoctorIncomingPort;
+import test.doctor_provider.application.port.incoming.SlotIncomingPort;
 import test.doctor_provider.application.port.incoming.SpecialityIncomingPort;
+import test.doctor_provider.domain.enums.SlotStatus;
 import test.doctor_provider.domain.model.City;
 import test.doctor_provider.domain.model.Doctor;
 import test.doctor_provider.domain.model.DoctorSearchCriteria;
+import test.doctor_provider.domain.model.NearbyDoctor;
 import test.doctor_provider.domain.model.Page;
+import test.doctor_provider.domain.model.Slot;
 import test.doctor_provider.infrastructure.incomming.web.mapper.CityWebMapper;
 
 import lombok.RequiredArgsConstructor;
 
 import test.doctor_provider.infrastructure.incomming.web.mapper.DoctorWebMapper;
+import test.doctor_provider.infrastructure.incomming.web.mapper.SlotWebMapper;
 import test.doctor_provider.infrastructure.incomming.web.mapper.SpecialityWebMapper;
 
 @RestController
 @RequiredArgsConstructor
 public class SearchIncomingAdapter implements ExternalSearchApi {
 
+	/** Ohne Datum: die nächsten 14 Tage ab heute (Praxen in Deutschland) */
+	private static final int DEFAULT_DAYS = 14;
+	private static final ZoneId SLOT_ZONE = ZoneId.of("Europe/Berlin");
+
 	private final CityIncomingPort cityIncomingPort;
   private final SpecialityIncomingPort specialityIncomingPort;
   private final DoctorIncomingPort doctorIncomingPort;
   private final SpecialityWebMapper specialityWebMapper;
 	private final CityWebMapper cityWebMapper;
   private final DoctorWebMapper doctorWebMapper;
+	private final SlotIncomingPort slotIncomingPort;
+	private final SlotWebMapper slotWebMapper;
 
 	@Override
 	public ResponseEntity<List<SpecialityDto>> findAllSpecialitiesExternal() {
@@ -86,10 +99,45 @@ public class SearchIncomingAdapter implements ExternalSearchApi {
 		return ResponseEntity.ok(response);
 	}
 
+	@Override
+	public ResponseEntity<SearchDoctorsNearbyExternal200Response> searchDoctorsNearbyExternal(Double latitude,
+			Double longitude, Double radiusKm, UUID specialityId, Integer page, Integer size) {
+
+		Page<NearbyDoctor> result = doctorIncomingPort.findDoctorsNearby(latitude, longitude,
+				radiusKm != null ? radiusKm : 10.0, specialityId, page != null ? page : 0, size != null ? size : 10);
+
+		SearchDoctorsNearbyExternal200Response response = new SearchDoctorsNearbyExternal200Response();
+		response.setItems(doctorWebMapper.toNearbyDto(result.getItems()));
+		response.setPage(result.getPage());
+		response.setSize(result.getSize());
+		response.setTotalElements((int) result.getTotalElements());
+		response.setTotalPages(result.getTotalPages());
+
+		return ResponseEntity.ok(response);
+	}
+
 	@Override
 	public ResponseEntity<FindAvailableSlotsExternal200Response> findAvailableSlotsExternal(UUID doctorId,
 			LocalDate date, LocalDate dateFrom, LocalDate dateTo, Integer page, Integer size) {
-		// TODO: implementieren
-		return null;
+
+		if (date != null && (dateFrom != null || dateTo != null) || (dateFrom == null) != (dateTo == null)
+				|| dateFrom != null && dateFrom.isAfter(dateTo)) {
+			return ResponseEntity.badRequest().build();
+		}
+		LocalDate from = date != null ? date : dateFrom != null ? dateFrom : LocalDate.now(SLOT_ZONE);
+		LocalDate to = date != null ? date : dateTo != null ? dateTo : from.plusDays(DEFAULT_DAYS - 1);
+
+		Page<Slot> result = slotIncomingPort.findAllSlots(Optional.of(doctorId), Optional.empty(),
+				Optional.of(from), Optional.of(to), Optional.of(SlotStatus.AVAILABLE), page != null ? page : 0,
+				size != null ? size : 10);
+
+		FindAvailableSlotsExternal200Response response = new FindAvailableSlotsExternal200Response();
+		response.setItems(slotWebMapper.toDto(result.getItems()));
+		response.setPage(result.getPage());
+		response.setSize(result.getSize());
+		response.setTotalElements((int) result.getTotalElements());
+		response.setTotalPages(result.getTotalPages());
+
+		return ResponseEntity.ok(response);
 	}
 }
@@ -9,8 +9,10 @@ import org.openapitools.jackson.nullable.JsonNullable;
 
 import test.doctor_provider.api.model.CreateDoctorRequest;
 import test.doctor_provider.api.model.DoctorDto;
+import test.doctor_provider.api.model.NearbyDoctorDto;
 import test.doctor_provider.api.model.UpdateDoctorRequest;
 import test.doctor_provider.domain.model.Doctor;
+import test.doctor_provider.domain.model.NearbyDoctor;
 
 @Mapper(componentModel = "spring")
 public interface DoctorWebMapper {
@@ -21,6 +23,11 @@ public interface DoctorWebMapper {
 	// für Get alle Ärzte (Liste)
 	List<DoctorDto> toDto(List<Doctor> doctors);
 
+	// für Umkreissuche (extern)
+	NearbyDoctorDto toDto(NearbyDoctor nearbyDoctor);
+
+	List<NearbyDoctorDto> toNearbyDto(List<NearbyDoctor> nearbyDoctors);
+
 	// für Post
 	@Mapping(target = "id", ignore = true)
 	Doctor toDomain(CreateDoctorRequest request);
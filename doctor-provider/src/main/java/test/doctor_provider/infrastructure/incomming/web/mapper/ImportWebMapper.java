@@ -0,0 +1,33 @@
+package test.doctor_provider.infrastructure.incomming.web.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import test.doctor_provider.api.model.DoctorImportRecordDto;
+import test.doctor_provider.api.model.ImportLineResultDto;
+import test.doctor_provider.api.model.ImportReportDto;
+import test.doctor_provider.api.model.PracticeImportRecordDto;
+import test.doctor_provider.api.model.WorkingHoursImportRecordDto;
+import test.doctor_provider.domain.model.Doctor;
+import test.doctor_provider.domain.model.DoctorWorkingHours;
+import test.doctor_provider.domain.model.ImportLineResult;
+import test.doctor_provider.domain.model.ImportReport;
+import test.doctor_provider.domain.model.Practice;
+
+@Mapper(componentModel = "spring")
+public interface ImportWebMapper {
+
+	// Koordinaten setzt die Persistenz aus der PLZ
+	@Mapping(target = "latitude", ignore = true)
+	@Mapping(target = "longitude", ignore = true)
+	Practice toDomain(PracticeImportRecordDto record);
+
+	Doctor toDomain(DoctorImportRecordDto record);
+
+	DoctorWorkingHours toDomain(WorkingHoursImportRecordDto record);
+
+	ImportReportDto toDto(ImportReport report);
+
+	@Mapping(source = "lineNumber", target = "line")
+	ImportLineResultDto toDto(ImportLineResult result);
+}
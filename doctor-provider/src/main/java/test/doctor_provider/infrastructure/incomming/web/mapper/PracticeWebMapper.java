@@ -18,9 +18,14 @@ public interface PracticeWebMapper {
 
 	List<PracticeDto> toDto(List<Practice> practices);
 
+	// Koordinaten setzt die Persistenz aus der PLZ
 	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "latitude", ignore = true)
+	@Mapping(target = "longitude", ignore = true)
 	Practice toDomain(CreatePracticeRequest request);
 
 	@Mapping(source = "id", target = "id")
+	@Mapping(target = "latitude", ignore = true)
+	@Mapping(target = "longitude", ignore = true)
 	Practice toDomain(UUID id, UpdatePracticeRequest request);
 }
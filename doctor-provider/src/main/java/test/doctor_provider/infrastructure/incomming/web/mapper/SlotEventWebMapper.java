@@ -0,0 +1,28 @@
+package test.doctor_provider.infrastructure.incomming.web.mapper;
+
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import test.doctor_provider.api.model.SlotEventDto;
+import test.doctor_provider.api.model.SlotEventFeedDto;
+import test.doctor_provider.domain.model.SlotEvent;
+import test.doctor_provider.domain.model.SlotEventFeed;
+
+@Mapper(componentModel = "spring")
+public interface SlotEventWebMapper {
+
+	SlotEventFeedDto toDto(SlotEventFeed feed);
+
+	@Mapping(source = "position", target = "offset")
+	SlotEventDto toDto(SlotEvent event);
+
+	default OffsetDateTime map(ZonedDateTime value) {
+		if (value == null) {
+			return null;
+		}
+		return value.toOffsetDateTime();
+	}
+}
@@ -8,6 +8,7 @@ import org.mapstruct.Mapper;
 
 import test.doctor_provider.api.model.SlotDto;
 import test.doctor_provider.domain.model.Slot;
+import test.doctor_provider.domain.model.SlotWithDoctor;
 
 @Mapper(componentModel = "spring")
 public interface SlotWebMapper {
@@ -16,6 +17,9 @@ public interface SlotWebMapper {
 
 	List<SlotDto> toDto(List<Slot> slots);
 
+	// für Export (doctorId kommt schon aus der Abfrage)
+	SlotDto toDto(SlotWithDoctor slot);
+
 	// SlotDto hat OffsetDateTime (generiert aus OpenAPI)
 	// Slot (Domain) hat ZonedDateTime
 	default OffsetDateTime map(ZonedDateTime value) {
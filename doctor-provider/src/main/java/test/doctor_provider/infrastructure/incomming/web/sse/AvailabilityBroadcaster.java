@@ -0,0 +1,200 @@
+package test.doctor_provider.infrastructure.incomming.web.sse;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import test.doctor_provider.application.port.incoming.SlotEventIncomingPort;
+import test.doctor_provider.domain.enums.SlotEventType;
+import test.doctor_provider.domain.enums.SlotStatus;
+import test.doctor_provider.domain.model.SlotEvent;
+import test.doctor_provider.domain.model.SlotEventFeed;
+
+/**
+ * Verteilt Slot-Änderungen aus dem Change-Feed an die offenen SSE-Streams pro
+ * Arzt.
+ *
+ * WICHTIG: - Pro Knoten liest EIN Poller den Feed (alle coalesce-window), nicht
+ * jeder Stream - Innerhalb eines Fensters zählt pro Slot nur der letzte
+ * Stand - Pro Arzt wird ein Frame einmal serialisiert und von allen
+ * Abonnenten geteilt - Offene Streams belegen keinen Thread (asynchroner
+ * Request), gesendet wird auf virtuellen Threads - Ohne Abonnenten wird der
+ * Feed nicht gelesen
+ */
+@Component
+public class AvailabilityBroadcaster {
+
+	/**
+	 * Änderung für den Client (data eines "slots"-Events, als Liste).
+	 */
+	record AvailabilityDelta(long offset, SlotEventType type, UUID slotId, UUID workingHoursId,
+			OffsetDateTime startTime, OffsetDateTime endTime, SlotStatus status) {
+	}
+
+	private static final int FEED_LIMIT = 1000;
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules()
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+	private static final Set<DataWithMediaType> RESYNC = SseEmitter.event().name("resync").data("{}").build();
+
+	private final SlotEventIncomingPort slotEventIncomingPort;
+	private final Duration streamTimeout;
+	private final int maxPending;
+
+	private final Map<UUID, Set<AvailabilitySubscriber>> subscribers = new ConcurrentHashMap<>();
+	private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+	private final Object cursorLock = new Object();
+	private long cursor = -1;
+
+	public AvailabilityBroadcaster(SlotEventIncomingPort slotEventIncomingPort,
+			@Value("${doctor-provider.availability-stream.timeout:30m}") Duration streamTimeout,
+			@Value("${doctor-provider.availability-stream.max-pending-frames:64}") int maxPending) {
+		this.slotEventIncomingPort = slotEventIncomingPort;
+		this.streamTimeout = streamTimeout;
+		this.maxPending = maxPending;
+	}
+
+	/**
+	 * Öffnet einen Stream für einen Arzt. Erstes Event ist "ready": ab jetzt
+	 * gehen keine Änderungen mehr verloren, der Client lädt dann die freien
+	 * Slots und wendet danach die Deltas an.
+	 */
+	public SseEmitter subscribe(UUID doctorId) {
+		SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+		AvailabilitySubscriber subscriber = new AvailabilitySubscriber(emitter, senders, maxPending);
+		subscribers.compute(doctorId, (key, current) -> {
+			Set<AvailabilitySubscriber> set = current != null ? current : ConcurrentHashMap.newKeySet();
+			set.add(subscriber);
+			return set;
+		});
+
+		Runnable unsubscribe = () -> subscribers.computeIfPresent(doctorId, (key, set) -> {
+			set.remove(subscriber);
+			return set.isEmpty() ? null : set;
+		});
+		emitter.onCompletion(unsubscribe);
+		emitter.onTimeout(unsubscribe);
+		emitter.onError(error -> unsubscribe.run());
+
+		synchronized (cursorLock) {
+			// Offset vor "ready" festlegen, sonst könnte eine Änderung zwischen "ready" und dem
+			// nächsten Poll verloren gehen
+			if (cursor < 0) {
+				cursor = slotEventIncomingPort.findLatestOffset();
+			}
+		}
+		subscriber.offer(SseEmitter.event().name("ready").data("{}").build());
+		return emitter;
+	}
+
+	@Scheduled(fixedDelayString = "${doctor-provider.availability-stream.coalesce-window:250ms}")
+	public void broadcast() {
+		synchronized (cursorLock) {
+			if (subscribers.isEmpty()) {
+				cursor = -1;
+				return;
+			}
+			if (cursor < 0) {
+				cursor = slotEventIncomingPort.findLatestOffset();
+				return;
+			}
+
+			SlotEventFeed feed;
+			do {
+				feed = slotEventIncomingPort.findSlotEvents(cursor, FEED_LIMIT, Duration.ZERO);
+				if (feed.isExpired()) {
+					subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.offer(RESYNC)));
+					cursor = feed.getLatestOffset();
+					return;
+				}
+				publish(feed.getEvents());
+				cursor = feed.getNextOffset();
+			} while (feed.getEvents().size() >= FEED_LIMIT);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${doctor-provider.availability-stream.heartbeat-interval:15s}")
+	public void heartbeat() {
+		subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+	}
+
+	public int getSubscriberCount() {
+		return subscribers.values().stream().mapToInt(Set::size).sum();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		subscribers.values().forEach(set -> set.forEach(AvailabilitySubscriber::close));
+		senders.shutdown();
+	}
+
+	private void publish(List<SlotEvent> events) {
+		// Pro Arzt: Statusänderungen desselben Slots zusammenfassen, Reihenfolge = letzte Änderung
+		Map<UUID, LinkedHashMap<Object, SlotEvent>> byDoctor = new HashMap<>();
+		for (SlotEvent event : events) {
+			if (event.getDoctorId() == null || !subscribers.containsKey(event.getDoctorId())) {
+				continue;
+			}
+			Object key = event.getSlotId() != null ? event.getSlotId() : event.getPosition();
+			LinkedHashMap<Object, SlotEvent> latest = byDoctor.computeIfAbsent(event.getDoctorId(),
+					doctorId -> new LinkedHashMap<>());
+			latest.remove(key);
+			latest.put(key, event);
+		}
+
+		byDoctor.forEach((doctorId, latest) -> {
+			Set<AvailabilitySubscriber> set = subscribers.get(doctorId);
+			if (set == null) {
+				return;
+			}
+			Set<DataWithMediaType> frame = toFrame(latest.values());
+			set.forEach(subscriber -> subscriber.offer(frame));
+		});
+	}
+
+	private static Set<DataWithMediaType> toFrame(Iterable<SlotEvent> events) {
+		List<AvailabilityDelta> deltas = new ArrayList<>();
+		long lastOffset = 0;
+		for (SlotEvent event : events) {
+			deltas.add(new AvailabilityDelta(event.getPosition(), event.getType(), event.getSlotId(),
+					event.getWorkingHoursId(), toOffset(event.getStartTime()), toOffset(event.getEndTime()),
+					event.getStatus()));
+			lastOffset = Math.max(lastOffset, event.getPosition());
+		}
+		try {
+			return SseEmitter.event().name("slots").id(String.valueOf(lastOffset))
+					.data(OBJECT_MAPPER.writeValueAsString(deltas), MediaType.APPLICATION_JSON).build();
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not serialize availability deltas", e);
+		}
+	}
+
+	private static OffsetDateTime toOffset(ZonedDateTime value) {
+		return value != null ? value.toOffsetDateTime() : null;
+	}
+}
@@ -0,0 +1,82 @@
+package test.doctor_provider.infrastructure.incomming.web.sse;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Ein offener SSE-Stream mit eigener Warteschlange.
+ *
+ * WICHTIG: - offer() blockiert nie: gesendet wird auf einem virtuellen Thread,
+ * immer nur einer pro Abonnent (Reihenfolge bleibt erhalten) - Ein langsamer
+ * Client hält höchstens maxPending Frames im Speicher, danach wird sein Stream
+ * geschlossen (Client verbindet sich neu und lädt neu) - Frames sind fertig
+ * gebaut und werden von allen Abonnenten eines Arztes geteilt
+ */
+final class AvailabilitySubscriber {
+
+	private final SseEmitter emitter;
+	private final Executor executor;
+	private final int maxPending;
+	private final Queue<Set<DataWithMediaType>> pending = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private volatile boolean closed;
+
+	AvailabilitySubscriber(SseEmitter emitter, Executor executor, int maxPending) {
+		this.emitter = emitter;
+		this.executor = executor;
+		this.maxPending = maxPending;
+	}
+
+	SseEmitter getEmitter() {
+		return emitter;
+	}
+
+	void offer(Set<DataWithMediaType> frame) {
+		if (closed) {
+			return;
+		}
+		if (pendingCount.incrementAndGet() > maxPending) {
+			close();
+			return;
+		}
+		pending.add(frame);
+		if (draining.compareAndSet(false, true)) {
+			executor.execute(this::drain);
+		}
+	}
+
+	void close() {
+		if (!closed) {
+			closed = true;
+			pending.clear();
+			emitter.complete();
+		}
+	}
+
+	private void drain() {
+		try {
+			do {
+				Set<DataWithMediaType> frame;
+				while (!closed && (frame = pending.poll()) != null) {
+					pendingCount.decrementAndGet();
+					emitter.send(frame);
+				}
+				draining.set(false);
+				// offer() kann zwischen poll() == null und set(false) eingereiht haben
+			} while (!closed && !pending.isEmpty() && draining.compareAndSet(false, true));
+		} catch (IOException | IllegalStateException e) {
+			// Client weg oder Stream schon beendet; abgemeldet wird über onError/onCompletion
+			closed = true;
+			pending.clear();
+		}
+	}
+}
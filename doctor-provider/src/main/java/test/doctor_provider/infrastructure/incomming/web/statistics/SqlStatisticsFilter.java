@@ -0,0 +1,48 @@
+package test.doctor_provider.infrastructure.incomming.web.statistics;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.SqlScope;
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.SqlStatistics;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Öffnet pro HTTP-Request einen {@link SqlScope} und übergibt ihn am Ende an
+ * {@link SqlStatistics}.
+ *
+ * WICHTIG: - Schlüssel ist das Pfad-Muster des Handlers (ohne Treffer:
+ * "<unmapped>") - Statements beim Schreiben der Antwort (Exporte) zählen mit
+ * - Asynchrone Dispatches (SSE) werden nicht erneut gezählt
+ */
+@Component
+@ConditionalOnProperty(name = "doctor-provider.sql-statistics.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+	private final SqlStatistics sqlStatistics;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		SqlScope scope = SqlScope.open(SqlScope.Kind.REQUEST);
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			scope.close();
+			Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			sqlStatistics.recordRequest(request.getMethod() + " " + (pattern != null ? pattern : "<unmapped>"),
+					request.getMethod() + " " + request.getRequestURI(), scope);
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package test.doctor_provider.infrastructure.incomming.web.statistics;
+
+import java.util.Locale;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.SqlScope;
+
+/**
+ * Schreibt die SQL-Zähler des laufenden Requests in die Antwort-Header (nur
+ * Entwicklung).
+ *
+ * WICHTIG: - X-Sql-Statements, X-Sql-Rows, X-Sql-Time-Millis und
+ * Server-Timing (im Browser unter Netzwerk → Timing sichtbar) - Stand kurz
+ * vor dem Schreiben des Bodys: Statements beim Streamen (Exporte) fehlen -
+ * Über doctor-provider.sql-statistics.response-headers (im Docker-Profil
+ * aus)
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "doctor-provider.sql-statistics.response-headers", havingValue = "true")
+public class SqlStatisticsResponseHeaders implements ResponseBodyAdvice<Object> {
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+		SqlScope scope = SqlScope.current();
+		if (scope != null) {
+			String dbMillis = String.format(Locale.ROOT, "%.1f", scope.getDbNanos() / 1_000_000.0);
+			HttpHeaders headers = response.getHeaders();
+			headers.set("X-Sql-Statements", String.valueOf(scope.getStatements()));
+			headers.set("X-Sql-Rows", String.valueOf(scope.getRows()));
+			headers.set("X-Sql-Time-Millis", dbMillis);
+			headers.add("Server-Timing",
+					"db;dur=" + dbMillis + ";desc=\"" + scope.getStatements() + " SQL statements\"");
+		}
+		return body;
+	}
+}
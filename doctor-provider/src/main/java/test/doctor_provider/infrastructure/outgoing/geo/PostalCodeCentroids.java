@@ -0,0 +1,64 @@
+package test.doctor_provider.infrastructure.outgoing.geo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lokaler PLZ → Koordinaten-Bestand (Zentroid je Postleitzahl, WGS84).
+ *
+ * WICHTIG: - Wird einmal beim Start komplett in den Speicher geladen (kein
+ * externer Geocoding-Dienst) - Quelle über geo.postal-code-centroids.location
+ * austauschbar - Unbekannte PLZ → leeres Optional, die Praxis bleibt dann ohne
+ * Koordinaten
+ */
+@Component
+public class PostalCodeCentroids {
+
+	/**
+	 * Koordinaten eines PLZ-Zentroids.
+	 */
+	public record Centroid(double latitude, double longitude) {
+	}
+
+	private final Map<String, Centroid> centroidsByPostalCode;
+
+	public PostalCodeCentroids(@Value("${geo.postal-code-centroids.location}") Resource location) {
+		this.centroidsByPostalCode = load(location);
+	}
+
+	public Optional<Centroid> find(String postalCode) {
+		if (postalCode == null) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(centroidsByPostalCode.get(postalCode.trim()));
+	}
+
+	private static Map<String, Centroid> load(Resource location) {
+		Map<String, Centroid> centroids = new HashMap<>();
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank() || line.startsWith("#") || line.startsWith("postal_code")) {
+					continue;
+				}
+				String[] columns = line.split(";");
+				centroids.put(columns[0].trim(),
+						new Centroid(Double.parseDouble(columns[1].trim()), Double.parseDouble(columns[2].trim())));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read postal code centroids from " + location, e);
+		}
+		return centroids;
+	}
+}
@@ -0,0 +1,91 @@
+package test.doctor_provider.infrastructure.outgoing.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Setzt einmalig die Koordinaten von Praxen, die vor V9 angelegt wurden
+ * (latitude/longitude NULL), aus dem PLZ-Zentroid.
+ *
+ * WICHTIG: - Läuft nach ApplicationReadyEvent, vor dem Aufbau des
+ * PracticeGeoIndex (@Order), der die neuen Koordinaten dann mitlädt - Jeder
+ * Batch (batch-size Praxen, sortiert nach id) ist eine eigene Transaktion -
+ * Idempotent: schreibt nur Zeilen, die noch NULL sind; Praxen mit unbekannter
+ * PLZ bleiben NULL und werden bei jedem Start erneut geprüft - Abschaltbar über
+ * geo.coordinate-backfill.enabled
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "geo.coordinate-backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class PracticeCoordinateBackfill {
+
+	private static final UUID FIRST = new UUID(0, 0);
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final PostalCodeCentroids postalCodeCentroids;
+	private final int batchSize;
+
+	public PracticeCoordinateBackfill(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+			PostalCodeCentroids postalCodeCentroids,
+			@Value("${geo.coordinate-backfill.batch-size:1000}") int batchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.postalCodeCentroids = postalCodeCentroids;
+		this.batchSize = batchSize;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	public void backfill() {
+		long located = 0;
+		long unknown = 0;
+		UUID after = FIRST;
+		List<Missing> batch;
+		do {
+			batch = jdbcTemplate.query("""
+					SELECT id, postal_code FROM practice
+					WHERE latitude IS NULL AND deleted_at IS NULL AND id > ?
+					ORDER BY id
+					LIMIT ?
+					""", (resultSet, rowNum) -> new Missing(resultSet.getObject("id", UUID.class),
+					resultSet.getString("postal_code")), after, batchSize);
+			if (batch.isEmpty()) {
+				break;
+			}
+			List<Object[]> updates = new ArrayList<>(batch.size());
+			for (Missing practice : batch) {
+				postalCodeCentroids.find(practice.postalCode()).ifPresent(centroid -> updates
+						.add(new Object[]{centroid.latitude(), centroid.longitude(), practice.id()}));
+			}
+			if (!updates.isEmpty()) {
+				transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+						"UPDATE practice SET latitude = ?, longitude = ? WHERE id = ? AND latitude IS NULL",
+						updates));
+			}
+			located += updates.size();
+			unknown += batch.size() - updates.size();
+			after = batch.getLast().id();
+		} while (batch.size() == batchSize);
+
+		if (located > 0 || unknown > 0) {
+			log.info("Practice coordinate backfill: {} located, {} without known postal code", located, unknown);
+		}
+	}
+
+	private record Missing(UUID id, String postalCode) {
+	}
+}
@@ -0,0 +1,53 @@
+package test.doctor_provider.infrastructure.outgoing.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import test.doctor_provider.application.port.outgoing.MetricsOutgoingPort;
+import test.doctor_provider.domain.enums.SlotTransition;
+import test.doctor_provider.domain.enums.SlotTransitionOutcome;
+import test.doctor_provider.infrastructure.outgoing.persistence.TransactionHooks;
+
+/**
+ * Fachliche Zähler in Micrometer (Prometheus: /actuator/prometheus).
+ *
+ * WICHTIG: - Alle Counter werden beim Start angelegt (auch mit 0 sichtbar,
+ * keine Registry-Suche pro Aufruf) - doctor_provider.slot.transitions mit
+ * Tags transition (block, unblock) und outcome (success, not_found, conflict)
+ * - success zählt erst nach dem Commit
+ */
+@Component
+public class MicrometerMetricsAdapter implements MetricsOutgoingPort {
+
+	private final Map<SlotTransition, Map<SlotTransitionOutcome, Counter>> slotTransitions = new EnumMap<>(
+			SlotTransition.class);
+
+	public MicrometerMetricsAdapter(MeterRegistry meterRegistry) {
+		for (SlotTransition transition : SlotTransition.values()) {
+			Map<SlotTransitionOutcome, Counter> counters = new EnumMap<>(SlotTransitionOutcome.class);
+			for (SlotTransitionOutcome outcome : SlotTransitionOutcome.values()) {
+				counters.put(outcome,
+						Counter.builder("doctor_provider.slot.transitions")
+								.description("Slot status transitions requested through the use cases")
+								.tag("transition", transition.name().toLowerCase())
+								.tag("outcome", outcome.name().toLowerCase()).register(meterRegistry));
+			}
+			slotTransitions.put(transition, counters);
+		}
+	}
+
+	@Override
+	public void recordSlotTransition(SlotTransition transition, SlotTransitionOutcome outcome) {
+		Counter counter = slotTransitions.get(transition).get(outcome);
+		if (outcome == SlotTransitionOutcome.SUCCESS) {
+			TransactionHooks.afterCommit(counter::increment);
+		} else {
+			counter.increment();
+		}
+	}
+}
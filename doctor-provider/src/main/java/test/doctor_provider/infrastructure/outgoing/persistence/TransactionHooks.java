@@ -0,0 +1,31 @@
+package test.doctor_provider.infrastructure.outgoing.persistence;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hilfsmethoden für Aktionen, die erst nach einem erfolgreichen Commit laufen
+ * dürfen (z.B. In-Memory-Indizes aktualisieren).
+ *
+ * WICHTIG: - Läuft gerade keine Transaktion (Repository-Aufruf hat schon selbst
+ * committet), wird die Aktion sofort ausgeführt - Bei Rollback wird die Aktion
+ * verworfen
+ */
+public final class TransactionHooks {
+
+	private TransactionHooks() {
+	}
+
+	public static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,55 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.compact;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Slot-IDs im kompakten Speichermodus.
+ *
+ * Ein Slot hat dort keine eigene Zeile, seine ID wird aus slot_day.id und dem
+ * Slot-Index gebildet (UUID Version 8, RFC 9562 "custom"):
+ *
+ * <pre>
+ * Bits 0-47   slot_day.id
+ * Bits 48-51  Version 8
+ * Bits 64-65  Variante (10)
+ * Bits 66-127 Slot-Index
+ * </pre>
+ *
+ * WICHTIG: - IDs bleiben stabil, solange der Slot existiert - UUIDs anderer
+ * Versionen (z.B. v7 aus der Tabelle slot) werden nicht erkannt
+ */
+public final class CompactSlotId {
+
+	private static final long VERSION_8 = 0x8000L;
+	private static final long VARIANT = 0x8000_0000_0000_0000L;
+	private static final long MAX_DAY_ID = (1L << 48) - 1;
+	private static final long INDEX_BITS = ~0xC000_0000_0000_0000L;
+
+	private CompactSlotId() {
+	}
+
+	public record Ref(long slotDayId, int index) {
+	}
+
+	public static UUID of(long slotDayId, int index) {
+		if (slotDayId < 0 || slotDayId > MAX_DAY_ID) {
+			throw new IllegalArgumentException("slot_day id out of range: " + slotDayId);
+		}
+		if (index < 0) {
+			throw new IllegalArgumentException("Negative slot index: " + index);
+		}
+		return new UUID((slotDayId << 16) | VERSION_8, VARIANT | index);
+	}
+
+	public static Optional<Ref> parse(UUID id) {
+		if (id == null || id.version() != 8 || id.variant() != 2 || (id.getMostSignificantBits() & 0x0FFF) != 0) {
+			return Optional.empty();
+		}
+		long index = id.getLeastSignificantBits() & INDEX_BITS;
+		if (index > Integer.MAX_VALUE) {
+			return Optional.empty();
+		}
+		return Optional.of(new Ref(id.getMostSignificantBits() >>> 16, (int) index));
+	}
+}
@@ -0,0 +1,143 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.compact;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import test.doctor_provider.domain.enums.SlotStatus;
+
+/**
+ * Eine Zeile aus slot_day: alle Slots einer Working Hours an einem Tag.
+ *
+ * WICHTIG: - 2 Bit pro Slot (0 = kein Slot, 1 = AVAILABLE, 2 = BOOKED, 3 =
+ * BLOCKED) - Slot i beginnt um slotDate 00:00 Europe/Berlin + i × slotMinutes
+ * (echte Dauer, an Tagen mit Zeitumstellung also 23 bzw. 25 Stunden) - Das
+ * Array wächst nur so weit wie nötig (letzter belegter Slot)
+ */
+public final class SlotDay {
+
+	public static final ZoneId SLOT_ZONE = ZoneId.of("Europe/Berlin");
+
+	private static final SlotStatus[] CODES = {null, SlotStatus.AVAILABLE, SlotStatus.BOOKED, SlotStatus.BLOCKED};
+
+	private final long id;
+	private final UUID workingHoursId;
+	private final LocalDate slotDate;
+	private final int slotMinutes;
+	private byte[] states;
+
+	public SlotDay(long id, UUID workingHoursId, LocalDate slotDate, int slotMinutes, byte[] states) {
+		this.id = id;
+		this.workingHoursId = workingHoursId;
+		this.slotDate = slotDate;
+		this.slotMinutes = slotMinutes;
+		this.states = states != null ? states : new byte[0];
+	}
+
+	/**
+	 * Tag eines Slots (Datum des Starts in Europe/Berlin).
+	 */
+	public static LocalDate dateOf(ZonedDateTime startTime) {
+		return startTime.withZoneSameInstant(SLOT_ZONE).toLocalDate();
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public UUID getWorkingHoursId() {
+		return workingHoursId;
+	}
+
+	public LocalDate getSlotDate() {
+		return slotDate;
+	}
+
+	public int getSlotMinutes() {
+		return slotMinutes;
+	}
+
+	public byte[] getStates() {
+		return states;
+	}
+
+	/**
+	 * Anzahl adressierbarer Slots im Array (inkl. leerer Einträge).
+	 */
+	public int capacity() {
+		return states.length * 4;
+	}
+
+	/**
+	 * @return Status des Slots, null wenn es an dieser Stelle keinen Slot gibt
+	 */
+	public SlotStatus get(int index) {
+		if (index < 0 || index >= capacity()) {
+			return null;
+		}
+		return CODES[(states[index >> 2] >> ((index & 3) << 1)) & 3];
+	}
+
+	/**
+	 * Setzt den Status eines Slots (null = Slot entfernen).
+	 *
+	 * @return vorheriger Status
+	 */
+	public SlotStatus set(int index, SlotStatus status) {
+		if (index < 0) {
+			throw new IllegalArgumentException("Negative slot index: " + index);
+		}
+		SlotStatus previous = get(index);
+		if (index >= capacity()) {
+			if (status == null) {
+				return previous;
+			}
+			states = Arrays.copyOf(states, (index >> 2) + 1);
+		}
+		int shift = (index & 3) << 1;
+		int code = status == null ? 0 : status.ordinal() + 1;
+		states[index >> 2] = (byte) ((states[index >> 2] & ~(3 << shift)) | (code << shift));
+		return previous;
+	}
+
+	/**
+	 * Anzahl Slots mit diesem Status (Zähler in slot_day, V17).
+	 */
+	public int count(SlotStatus status) {
+		int count = 0;
+		for (int index = 0; index < capacity(); index++) {
+			if (get(index) == status) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	public ZonedDateTime startOf(int index) {
+		return slotDate.atStartOfDay(SLOT_ZONE).plusMinutes((long) index * slotMinutes);
+	}
+
+	public ZonedDateTime endOf(int index) {
+		return startOf(index).plusMinutes(slotMinutes);
+	}
+
+	/**
+	 * Index eines Slots in diesem Tag.
+	 *
+	 * @throws IllegalArgumentException
+	 *             wenn der Slot nicht auf dem Raster (slotMinutes ab Mitternacht)
+	 *             liegt oder nicht genau slotMinutes lang ist
+	 */
+	public int indexOf(ZonedDateTime startTime, ZonedDateTime endTime) {
+		long offset = Duration.between(slotDate.atStartOfDay(SLOT_ZONE), startTime).toMinutes();
+		long length = Duration.between(startTime, endTime).toMinutes();
+		if (offset < 0 || offset % slotMinutes != 0 || length != slotMinutes || !dateOf(startTime).equals(slotDate)) {
+			throw new IllegalArgumentException("Slot " + startTime + " - " + endTime + " does not fit the "
+					+ slotMinutes + "-minute grid of " + slotDate);
+		}
+		return (int) (offset / slotMinutes);
+	}
+}
@@ -0,0 +1,141 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Begrenzt die gleichzeitigen Datenbank-Zugriffe vor dem Connection-Pool
+ * (Bulkhead).
+ *
+ * Hintergrund: Mit virtuellen Threads gibt es praktisch keine Obergrenze mehr
+ * für parallele Requests. Ohne Bulkhead blockieren tausende Threads gleichzeitig
+ * in Hikari (connectionTimeout) und laufen dort in Timeouts. Hier warten sie
+ * stattdessen in einer fairen Semaphore (FIFO) – das kostet bei virtuellen
+ * Threads kaum etwas.
+ *
+ * WICHTIG: - Permit wird bei getConnection() geholt und bei Connection.close()
+ * zurückgegeben (genau einmal) - Kein Permit innerhalb der Wartezeit →
+ * SQLTransientConnectionException (wie bei Hikari) - Zähler für
+ * GET /api/v1/internal/ops/datasource-bulkhead
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+	private final Semaphore permits;
+	private final int maxConcurrent;
+	private final Duration acquireTimeout;
+
+	private final AtomicInteger waiting = new AtomicInteger();
+	private final LongAdder acquiredCount = new LongAdder();
+	private final LongAdder timeoutCount = new LongAdder();
+	private final LongAdder totalWaitNanos = new LongAdder();
+
+	public BulkheadDataSource(DataSource targetDataSource, int maxConcurrent, Duration acquireTimeout) {
+		super(targetDataSource);
+		this.permits = new Semaphore(maxConcurrent, true);
+		this.maxConcurrent = maxConcurrent;
+		this.acquireTimeout = acquireTimeout;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		acquire();
+		try {
+			return releasingOnClose(super.getConnection());
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		acquire();
+		try {
+			return releasingOnClose(super.getConnection(username, password));
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	public int getMaxConcurrent() {
+		return maxConcurrent;
+	}
+
+	public Duration getAcquireTimeout() {
+		return acquireTimeout;
+	}
+
+	public int getInUse() {
+		return maxConcurrent - permits.availablePermits();
+	}
+
+	public int getWaiting() {
+		return waiting.get();
+	}
+
+	public long getAcquiredCount() {
+		return acquiredCount.sum();
+	}
+
+	public long getTimeoutCount() {
+		return timeoutCount.sum();
+	}
+
+	public long getTotalWaitNanos() {
+		return totalWaitNanos.sum();
+	}
+
+	private void acquire() throws SQLException {
+		long start = System.nanoTime();
+		waiting.incrementAndGet();
+		try {
+			if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+				timeoutCount.increment();
+				throw new SQLTransientConnectionException(
+						"Database bulkhead: no permit within " + acquireTimeout.toMillis() + " ms");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException("Interrupted while waiting for database bulkhead", e);
+		} finally {
+			waiting.decrementAndGet();
+			totalWaitNanos.add(System.nanoTime() - start);
+		}
+		acquiredCount.increment();
+	}
+
+	private Connection releasingOnClose(Connection target) {
+		AtomicBoolean released = new AtomicBoolean();
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+				(proxy, method, args) -> {
+					if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+						try {
+							return method.invoke(target, args);
+						} catch (InvocationTargetException e) {
+							throw e.getTargetException();
+						} finally {
+							permits.release();
+						}
+					}
+					try {
+						return method.invoke(target, args);
+					} catch (InvocationTargetException e) {
+						throw e.getTargetException();
+					}
+				});
+	}
+}
@@ -0,0 +1,172 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Primary- und Replica-Pools für das Read/Write-Routing.
+ *
+ * Ablauf: - Schreibende Transaktionen und alles ohne Transaktion → Primary -
+ * Read-only-Transaktionen (@Transactional(readOnly = true)) → {@link #readOnly()}
+ * → gesunde Replica im Round-Robin - Keine gesunde Replica → Fallback auf den
+ * Primary (wird gezählt)
+ *
+ * Gesund = Verbindung gültig UND Replikationsverzug ≤ max-lag. Geprüft wird
+ * periodisch per {@link #checkHealth()}.
+ *
+ * Mit getrennten Workload-Pools ist der Primary deren Routing-DataSource
+ * ({@link WorkloadPools#dataSource()}), dann gibt es hier keinen eigenen
+ * Primary-Pool ({@link #getPrimaryPool()} ist null).
+ */
+public class DataSourceRoutes implements AutoCloseable {
+
+	/**
+	 * Eine Replica mit eigenem Pool und Zustand.
+	 */
+	public static final class Replica {
+		private final HikariDataSource pool;
+		private volatile boolean healthy = true;
+		private final LongAdder routedConnections = new LongAdder();
+
+		Replica(HikariDataSource pool) {
+			this.pool = pool;
+		}
+
+		public HikariDataSource getPool() {
+			return pool;
+		}
+
+		public boolean isHealthy() {
+			return healthy;
+		}
+
+		public long getRoutedConnections() {
+			return routedConnections.sum();
+		}
+	}
+
+	private final DataSource primary;
+	private final HikariDataSource primaryPool;
+	private final List<Replica> replicas;
+	private final Duration maxLag;
+
+	private final AtomicInteger nextReplica = new AtomicInteger();
+	private final LongAdder readOnlyFallbacks = new LongAdder();
+	private final DataSource readOnly = new AbstractDataSource() {
+		@Override
+		public Connection getConnection() throws SQLException {
+			return selectReplica().getConnection();
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return selectReplica().getConnection(username, password);
+		}
+	};
+
+	public DataSourceRoutes(HikariDataSource primary, List<HikariDataSource> replicaPools, Duration maxLag) {
+		this(primary, primary, replicaPools, maxLag);
+	}
+
+	public DataSourceRoutes(WorkloadPools primary, List<HikariDataSource> replicaPools, Duration maxLag) {
+		this(primary.dataSource(), null, replicaPools, maxLag);
+	}
+
+	private DataSourceRoutes(DataSource primary, HikariDataSource primaryPool, List<HikariDataSource> replicaPools,
+			Duration maxLag) {
+		this.primary = primary;
+		this.primaryPool = primaryPool;
+		this.replicas = replicaPools.stream().map(Replica::new).toList();
+		this.maxLag = maxLag;
+	}
+
+	/**
+	 * DataSource für Schreibzugriffe und den Fallback ohne gesunde Replica.
+	 */
+	public DataSource primary() {
+		return primary;
+	}
+
+	/**
+	 * Eigener Primary-Pool, null mit Workload-Pools (die schließt
+	 * WorkloadPools).
+	 */
+	public HikariDataSource getPrimaryPool() {
+		return primaryPool;
+	}
+
+	/**
+	 * DataSource für read-only Transaktionen (Replica oder Fallback Primary).
+	 */
+	public DataSource readOnly() {
+		return readOnly;
+	}
+
+	public List<Replica> getReplicas() {
+		return replicas;
+	}
+
+	public long getReadOnlyFallbacks() {
+		return readOnlyFallbacks.sum();
+	}
+
+	/**
+	 * Prüft alle Replicas: Verbindung gültig und Replikationsverzug ≤ max-lag.
+	 */
+	@Scheduled(fixedDelayString = "${doctor-provider.datasource.replica.health-check-interval:5s}")
+	public void checkHealth() {
+		for (Replica replica : replicas) {
+			replica.healthy = isHealthy(replica.pool);
+		}
+	}
+
+	@Override
+	public void close() {
+		replicas.forEach(replica -> replica.pool.close());
+		if (primaryPool != null) {
+			primaryPool.close();
+		}
+	}
+
+	private DataSource selectReplica() {
+		int size = replicas.size();
+		int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get((start + i) % size);
+			if (replica.healthy) {
+				replica.routedConnections.increment();
+				return replica.pool;
+			}
+		}
+		readOnlyFallbacks.increment();
+		return primary;
+	}
+
+	private boolean isHealthy(HikariDataSource pool) {
+		// Verzug = Zeit seit der letzten eingespielten Transaktion, aber nur wenn
+		// noch empfangenes WAL aussteht (sonst wäre ein ruhiger Primary "Verzug")
+		try (Connection connection = pool.getConnection();
+				Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("""
+						SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+						            ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END
+						""")) {
+			return resultSet.next() && resultSet.getDouble(1) * 1000 <= maxLag.toMillis();
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Misst jedes SQL-Statement (Anzahl, Dauer, gelesene Zeilen) für
+ * {@link SqlStatistics}.
+ *
+ * WICHTIG: - Connection, Statement und ResultSet werden per JDK-Proxy
+ * umhüllt (wie beim {@link BulkheadDataSource}), der Treiber bleibt
+ * unverändert - DB-Zeit = Ausführung + ResultSet.next() (bei Cursorn mit
+ * Fetch-Size wird beim Lesen nachgeladen) - Ein executeBatch() zählt als EIN
+ * Statement - Bind-Parameter werden nur mitgeschrieben, wenn langsame
+ * Statements geloggt werden - Ersetzt spring.jpa.show-sql (erfasst auch
+ * JdbcTemplate und Flyway)
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+	private final SqlStatistics statistics;
+
+	public InstrumentedDataSource(DataSource targetDataSource, SqlStatistics statistics) {
+		super(targetDataSource);
+		this.statistics = statistics;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return connection(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return connection(super.getConnection(username, password));
+	}
+
+	public SqlStatistics getStatistics() {
+		return statistics;
+	}
+
+	private Connection connection(Connection target) {
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+				(proxy, method, args) -> {
+					Object result = invoke(target, method, args);
+					return switch (method.getName()) {
+						case "prepareStatement" -> statement((Statement) result, PreparedStatement.class,
+								(String) args[0]);
+						case "prepareCall" -> statement((Statement) result, CallableStatement.class, (String) args[0]);
+						case "createStatement" -> statement((Statement) result, Statement.class, null);
+						default -> result;
+					};
+				});
+	}
+
+	private Statement statement(Statement target, Class<? extends Statement> type, String preparedSql) {
+		StatementState state = new StatementState(preparedSql);
+		return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type},
+				(proxy, method, args) -> {
+					String name = method.getName();
+					if (name.startsWith("execute")) {
+						return execute(target, method, args, state);
+					}
+					if (preparedSql != null && name.startsWith("set") && args != null && args.length >= 2
+							&& args[0] instanceof Integer index && statistics.isBindCaptureEnabled()) {
+						state.bind(index, name.equals("setNull") ? null : args[1]);
+					} else if (name.equals("clearParameters")) {
+						state.bindCount = 0;
+					} else if (name.equals("addBatch")) {
+						state.batchSize++;
+						if (args != null && state.sql == null) {
+							state.sql = (String) args[0];
+						}
+					} else if (name.equals("clearBatch")) {
+						state.batchSize = 0;
+					}
+					Object result = invoke(target, method, args);
+					return result instanceof ResultSet resultSet
+							&& (name.equals("getResultSet") || name.equals("getGeneratedKeys"))
+									? resultSet(resultSet)
+									: result;
+				});
+	}
+
+	private Object execute(Statement target, Method method, Object[] args, StatementState state) throws Throwable {
+		String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : state.sql;
+		boolean batch = method.getName().endsWith("Batch");
+		long start = System.nanoTime();
+		try {
+			Object result = invoke(target, method, args);
+			return result instanceof ResultSet resultSet ? resultSet(resultSet) : result;
+		} finally {
+			statistics.statementExecuted(sql != null ? sql : "<unknown>", state.binds, state.bindCount,
+					batch ? state.batchSize : 0, System.nanoTime() - start);
+			if (batch) {
+				state.batchSize = 0;
+			}
+		}
+	}
+
+	private ResultSet resultSet(ResultSet target) {
+		return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+				(proxy, method, args) -> {
+					if (!method.getName().equals("next")) {
+						return invoke(target, method, args);
+					}
+					long start = System.nanoTime();
+					Object hasNext = invoke(target, method, args);
+					if (Boolean.TRUE.equals(hasNext)) {
+						statistics.rowFetched(System.nanoTime() - start);
+					}
+					return hasNext;
+				});
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	private static final class StatementState {
+
+		private String sql;
+		private Object[] binds;
+		private int bindCount;
+		private int batchSize;
+
+		StatementState(String sql) {
+			this.sql = sql;
+		}
+
+		void bind(int index, Object value) {
+			if (binds == null) {
+				binds = new Object[Math.max(index, 8)];
+			} else if (binds.length < index) {
+				binds = Arrays.copyOf(binds, Math.max(index, binds.length * 2));
+			}
+			binds[index - 1] = value;
+			bindCount = Math.max(bindCount, index);
+		}
+	}
+}
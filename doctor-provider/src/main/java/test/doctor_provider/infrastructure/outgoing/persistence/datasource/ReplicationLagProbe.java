@@ -0,0 +1,29 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.datasource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Misst am Primary den Replikationsverzug der angebundenen Standbys.
+ *
+ * WICHTIG: - Größter replay_lag aus pg_stat_replication, 0 ohne Replicas -
+ * Genutzt von Hintergrund-Jobs, die viel WAL erzeugen (Retention, Löschjobs),
+ * um bei zu großem Verzug zu pausieren
+ */
+@Component
+@RequiredArgsConstructor
+public class ReplicationLagProbe {
+
+	private static final String REPLICATION_LAG_MILLIS = """
+			SELECT COALESCE(EXTRACT(EPOCH FROM MAX(replay_lag)) * 1000, 0) FROM pg_stat_replication
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public long currentLagMillis() {
+		Double lag = jdbcTemplate.queryForObject(REPLICATION_LAG_MILLIS, Double.class);
+		return lag != null ? lag.longValue() : 0;
+	}
+}
@@ -0,0 +1,103 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.datasource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Zähler für die SQL-Statements eines HTTP-Requests bzw. eines
+ * Incoming-Port-Aufrufs (pro Thread).
+ *
+ * WICHTIG: - Scopes sind verschachtelt: ein Statement zählt im aktuellen Scope
+ * und in allen äußeren (Port-Aufruf innerhalb eines Requests) - Nur der
+ * Request-Scope merkt sich die Statement-Formen (N+1-Erkennung) - Läuft kein
+ * Scope (z.B. @Scheduled-Jobs), wird nichts gezählt - close() MUSS im selben
+ * Thread in umgekehrter Reihenfolge aufgerufen werden (try/finally)
+ */
+public final class SqlScope {
+
+	public enum Kind {
+		REQUEST, PORT
+	}
+
+	private static final ThreadLocal<SqlScope> CURRENT = new ThreadLocal<>();
+
+	private final Kind kind;
+	private final SqlScope parent;
+	private final Map<String, Integer> shapes;
+
+	private int statements;
+	private long rows;
+	private long dbNanos;
+
+	private SqlScope(Kind kind, SqlScope parent) {
+		this.kind = kind;
+		this.parent = parent;
+		this.shapes = kind == Kind.REQUEST ? new HashMap<>() : null;
+	}
+
+	public static SqlScope open(Kind kind) {
+		SqlScope scope = new SqlScope(kind, CURRENT.get());
+		CURRENT.set(scope);
+		return scope;
+	}
+
+	public static SqlScope current() {
+		return CURRENT.get();
+	}
+
+	public void close() {
+		if (parent == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(parent);
+		}
+	}
+
+	/**
+	 * @param shape
+	 *            normalisierte Statement-Form, null = nicht zählen
+	 */
+	static void statementExecuted(String shape, long nanos) {
+		for (SqlScope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+			scope.statements++;
+			scope.dbNanos += nanos;
+			if (scope.shapes != null && shape != null) {
+				scope.shapes.merge(shape, 1, Integer::sum);
+			}
+		}
+	}
+
+	static void rowFetched(long nanos) {
+		for (SqlScope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+			scope.rows++;
+			scope.dbNanos += nanos;
+		}
+	}
+
+	static boolean isActive() {
+		return CURRENT.get() != null;
+	}
+
+	public Kind getKind() {
+		return kind;
+	}
+
+	public int getStatements() {
+		return statements;
+	}
+
+	public long getRows() {
+		return rows;
+	}
+
+	public long getDbNanos() {
+		return dbNanos;
+	}
+
+	/**
+	 * Statement-Formen mit Anzahl (nur Request-Scope, sonst leer).
+	 */
+	public Map<String, Integer> getShapes() {
+		return shapes != null ? shapes : Map.of();
+	}
+}
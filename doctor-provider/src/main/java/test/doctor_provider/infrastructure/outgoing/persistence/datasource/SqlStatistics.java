@@ -0,0 +1,251 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.datasource;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sammelt die SQL-Zähler pro Request-Pfad und pro Incoming-Port-Methode,
+ * loggt langsame Statements und wiederholte Statement-Formen (N+1).
+ *
+ * WICHTIG: - Schlüssel sind Pfad-Muster ("GET /api/v1/.../{doctorId}/slots")
+ * bzw. Port-Methoden, nie konkrete URLs → begrenzte Anzahl Einträge -
+ * Langsame Statements (>= slow-statement-threshold) werden mit
+ * Bind-Parametern geloggt (gekürzt) - Dieselbe Form >=
+ * repeated-statement-threshold-mal in einem Request → WARN mit Pfad und
+ * Statement - Form = SQL ohne Literale, Whitespace und Längen von IN-Listen
+ * - Zähler laufen seit dem Start der Anwendung - Neue Einträge werden an
+ * {@link EntryListener} gemeldet (Micrometer-Export in MetricsConfig)
+ */
+@Slf4j
+public class SqlStatistics {
+
+	/**
+	 * Zähler eines Request-Pfads bzw. einer Port-Methode.
+	 */
+	public record Entry(String name, long invocations, long statements, long rows, long dbNanos,
+			long maxStatements, long repeatedStatementWarnings) {
+	}
+
+	/**
+	 * Wird einmal pro neuem Pfad-Muster bzw. neuer Port-Methode aufgerufen. Die
+	 * Zähler laufen danach weiter und können beim Scrape gelesen werden.
+	 */
+	public interface EntryListener {
+
+		/**
+		 * @param kind
+		 *            "request" oder "port"
+		 * @param name
+		 *            Pfad-Muster bzw. Port-Methode
+		 */
+		void entryCreated(String kind, String name, Counters counters);
+	}
+
+	private static final int MAX_BIND_LENGTH = 64;
+	private static final int MAX_CACHED_SHAPES = 10_000;
+
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+	private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w$])-?\\d+(?:\\.\\d+)?\\b");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+	private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+	private final Duration slowStatementThreshold;
+	private final int repeatedStatementThreshold;
+
+	private final Map<String, Counters> requests = new ConcurrentHashMap<>();
+	private final Map<String, Counters> ports = new ConcurrentHashMap<>();
+	private final Map<String, String> shapeCache = new ConcurrentHashMap<>();
+	private final LongAdder slowStatementCount = new LongAdder();
+	private final LongAdder repeatedStatementWarningCount = new LongAdder();
+	private final List<EntryListener> listeners = new CopyOnWriteArrayList<>();
+
+	public SqlStatistics(Duration slowStatementThreshold, int repeatedStatementThreshold) {
+		this.slowStatementThreshold = slowStatementThreshold;
+		this.repeatedStatementThreshold = repeatedStatementThreshold;
+	}
+
+	/**
+	 * Bind-Parameter nur mitschreiben, wenn langsame Statements geloggt werden.
+	 */
+	boolean isBindCaptureEnabled() {
+		return !slowStatementThreshold.isZero();
+	}
+
+	void statementExecuted(String sql, Object[] binds, int bindCount, int batchSize, long nanos) {
+		SqlScope.statementExecuted(SqlScope.isActive() ? shapeOf(sql) : null, nanos);
+		if (isBindCaptureEnabled() && nanos >= slowStatementThreshold.toNanos()) {
+			slowStatementCount.increment();
+			log.warn("Slow SQL ({} ms{}): {} {}", nanos / 1_000_000, batchSize > 0 ? ", batch of " + batchSize : "",
+					WHITESPACE.matcher(sql).replaceAll(" ").trim(), formatBinds(binds, bindCount));
+		}
+	}
+
+	void rowFetched(long nanos) {
+		SqlScope.rowFetched(nanos);
+	}
+
+	/**
+	 * Übernimmt einen beendeten Request-Scope.
+	 *
+	 * @param pattern
+	 *            Pfad-Muster des Handlers (Schlüssel)
+	 * @param label
+	 *            konkreter Request für das Log (Methode + URI)
+	 */
+	public void recordRequest(String pattern, String label, SqlScope scope) {
+		Counters counters = record(requests, "request", pattern, scope);
+		scope.getShapes().forEach((shape, count) -> {
+			if (count >= repeatedStatementThreshold) {
+				counters.repeatedStatementWarnings.increment();
+				repeatedStatementWarningCount.increment();
+				log.warn("Repeated SQL ({} times in {}), possible N+1: {}", count, label, shape);
+			}
+		});
+	}
+
+	public void recordPort(String name, SqlScope scope) {
+		record(ports, "port", name, scope);
+	}
+
+	/**
+	 * Registriert einen Listener und meldet ihm auch die schon vorhandenen
+	 * Einträge.
+	 */
+	public void addListener(EntryListener listener) {
+		listeners.add(listener);
+		requests.forEach((name, counters) -> listener.entryCreated("request", name, counters));
+		ports.forEach((name, counters) -> listener.entryCreated("port", name, counters));
+	}
+
+	public List<Entry> getRequests() {
+		return snapshot(requests);
+	}
+
+	public List<Entry> getPorts() {
+		return snapshot(ports);
+	}
+
+	public Duration getSlowStatementThreshold() {
+		return slowStatementThreshold;
+	}
+
+	public int getRepeatedStatementThreshold() {
+		return repeatedStatementThreshold;
+	}
+
+	public long getSlowStatementCount() {
+		return slowStatementCount.sum();
+	}
+
+	public long getRepeatedStatementWarningCount() {
+		return repeatedStatementWarningCount.sum();
+	}
+
+	private Counters record(Map<String, Counters> entries, String kind, String name, SqlScope scope) {
+		Counters counters = entries.get(name);
+		if (counters == null) {
+			Counters created = new Counters();
+			counters = entries.putIfAbsent(name, created);
+			if (counters == null) {
+				// erst nach dem Einfügen melden: addListener sieht den Eintrag sonst evtl. nicht
+				counters = created;
+				listeners.forEach(listener -> listener.entryCreated(kind, name, created));
+			}
+		}
+		counters.invocations.increment();
+		counters.statements.add(scope.getStatements());
+		counters.rows.add(scope.getRows());
+		counters.dbNanos.add(scope.getDbNanos());
+		counters.maxStatements.accumulateAndGet(scope.getStatements(), Math::max);
+		return counters;
+	}
+
+	private static List<Entry> snapshot(Map<String, Counters> entries) {
+		return entries.entrySet().stream()
+				.map(entry -> new Entry(entry.getKey(), entry.getValue().invocations.sum(),
+						entry.getValue().statements.sum(), entry.getValue().rows.sum(),
+						entry.getValue().dbNanos.sum(), entry.getValue().maxStatements.get(),
+						entry.getValue().repeatedStatementWarnings.sum()))
+				.sorted(Comparator.comparingLong(Entry::dbNanos).reversed()).toList();
+	}
+
+	private String shapeOf(String sql) {
+		String shape = shapeCache.get(sql);
+		if (shape == null) {
+			shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+			shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+			shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+			shape = IN_LIST.matcher(shape).replaceAll("(?)");
+			if (shapeCache.size() >= MAX_CACHED_SHAPES) {
+				shapeCache.clear();
+			}
+			shapeCache.put(sql, shape);
+		}
+		return shape;
+	}
+
+	private static String formatBinds(Object[] binds, int bindCount) {
+		if (binds == null || bindCount == 0) {
+			return "";
+		}
+		StringBuilder result = new StringBuilder("[");
+		for (int i = 0; i < bindCount; i++) {
+			if (result.length() > 1) {
+				result.append(", ");
+			}
+			result.append(i + 1).append('=').append(formatBind(binds[i]));
+		}
+		return result.append(']').toString();
+	}
+
+	private static String formatBind(Object value) {
+		if (value == null) {
+			return "null";
+		}
+		if (value instanceof byte[] bytes) {
+			return "<" + bytes.length + " bytes>";
+		}
+		String text = value instanceof CharSequence ? "'" + value + "'" : String.valueOf(value);
+		return text.length() > MAX_BIND_LENGTH ? text.substring(0, MAX_BIND_LENGTH) + "..." : text;
+	}
+
+	/**
+	 * Laufende Zähler eines Eintrags.
+	 */
+	public static final class Counters {
+		private final LongAdder invocations = new LongAdder();
+		private final LongAdder statements = new LongAdder();
+		private final LongAdder rows = new LongAdder();
+		private final LongAdder dbNanos = new LongAdder();
+		private final AtomicLong maxStatements = new AtomicLong();
+		private final LongAdder repeatedStatementWarnings = new LongAdder();
+
+		private Counters() {
+		}
+
+		public long getInvocations() {
+			return invocations.sum();
+		}
+
+		public long getStatements() {
+			return statements.sum();
+		}
+
+		public long getRows() {
+			return rows.sum();
+		}
+
+		public long getDbNanos() {
+			return dbNanos.sum();
+		}
+	}
+}
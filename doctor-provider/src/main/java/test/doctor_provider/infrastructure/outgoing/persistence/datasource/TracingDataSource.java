@@ -0,0 +1,121 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+/**
+ * Ein Span pro ausgeführtem SQL-Statement (execute*, executeBatch).
+ *
+ * WICHTIG: - Nur innerhalb eines laufenden Spans (Request, Port): Flyway,
+ * Pool-Checks und Jobs ohne Trace erzeugen keine Wurzel-Spans - Span-Name =
+ * erstes SQL-Schlüsselwort (SELECT, INSERT, ...), das Statement steht ohne
+ * Bind-Parameter in db.statement (gekürzt) - Connection und Statement per
+ * JDK-Proxy wie beim {@link InstrumentedDataSource}; ResultSet.next() zählt
+ * nicht zum Span
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+	private static final int MAX_STATEMENT_LENGTH = 2_000;
+
+	private final Supplier<Tracer> tracer;
+
+	public TracingDataSource(DataSource targetDataSource, Supplier<Tracer> tracer) {
+		super(targetDataSource);
+		this.tracer = tracer;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return connection(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return connection(super.getConnection(username, password));
+	}
+
+	private Connection connection(Connection target) {
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+				(proxy, method, args) -> {
+					Object result = invoke(target, method, args);
+					return switch (method.getName()) {
+						case "prepareStatement" -> statement((Statement) result, PreparedStatement.class,
+								(String) args[0]);
+						case "prepareCall" -> statement((Statement) result, CallableStatement.class, (String) args[0]);
+						case "createStatement" -> statement((Statement) result, Statement.class, null);
+						default -> result;
+					};
+				});
+	}
+
+	private Statement statement(Statement target, Class<? extends Statement> type, String preparedSql) {
+		String[] batchSql = {preparedSql};
+		return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type},
+				(proxy, method, args) -> {
+					String name = method.getName();
+					if (name.equals("addBatch") && args != null && batchSql[0] == null) {
+						batchSql[0] = (String) args[0];
+					}
+					if (!name.startsWith("execute")) {
+						return invoke(target, method, args);
+					}
+					Tracer current = tracer.get();
+					if (current.currentSpan() == null) {
+						return invoke(target, method, args);
+					}
+					String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : batchSql[0];
+					Span span = current.nextSpan().name(operation(sql)).remoteServiceName("postgresql")
+							.tag("db.system", "postgresql").tag("db.statement", truncate(sql)).start();
+					try (Tracer.SpanInScope scope = current.withSpan(span)) {
+						return invoke(target, method, args);
+					} catch (Throwable e) {
+						span.error(e);
+						throw e;
+					} finally {
+						span.end();
+					}
+				});
+	}
+
+	private static String operation(String sql) {
+		if (sql == null) {
+			return "SQL";
+		}
+		String trimmed = sql.stripLeading();
+		int end = 0;
+		while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+			end++;
+		}
+		return end == 0 ? "SQL" : trimmed.substring(0, end).toUpperCase(Locale.ROOT);
+	}
+
+	private static String truncate(String sql) {
+		if (sql == null) {
+			return "<unknown>";
+		}
+		return sql.length() <= MAX_STATEMENT_LENGTH ? sql : sql.substring(0, MAX_STATEMENT_LENGTH) + "...";
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.datasource;
+
+/**
+ * Workload-Klasse eines Datenbank-Zugriffs, bestimmt den Connection-Pool
+ * (siehe {@link WorkloadPools}).
+ *
+ * WICHTIG: - BOOKING: Buchen, Stornieren, Umbuchen (kurze, schreibende
+ * Transaktionen) - SEARCH: Suche für Patienten - ADMIN: Stammdaten-CRUD,
+ * Working-Hours-Regenerierung, Sperren, Importe, Exporte und alle
+ * Hintergrund-Jobs
+ */
+public enum Workload {
+	BOOKING, SEARCH, ADMIN;
+
+	/**
+	 * Name in Properties, Pool-Namen und Metrik-Tags, z.B. "booking".
+	 */
+	public String key() {
+		return name().toLowerCase();
+	}
+}
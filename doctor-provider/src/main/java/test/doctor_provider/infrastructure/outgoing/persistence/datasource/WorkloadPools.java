@@ -0,0 +1,104 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Ein Connection-Pool mit eigenem Bulkhead pro {@link Workload}.
+ *
+ * Hintergrund: Mit einem gemeinsamen Pool kann eine große Regenerierung von
+ * Working Hours alle Verbindungen belegen, Buchungen warten dann hinter
+ * Admin-Arbeit. Getrennte Pools begrenzen jede Klasse für sich.
+ *
+ * WICHTIG: - Die Workload kommt aus dem Thread ({@link #enter(Workload)}, gesetzt
+ * vom Incoming-Port-Interceptor in WorkloadPoolsConfig) - Ohne Workload (z.B.
+ * @Scheduled-Jobs, Flyway) → Standard-Workload - Verschachtelte Port-Aufrufe
+ * behalten die Workload des äußeren - Jeder Pool hat seinen eigenen
+ * {@link BulkheadDataSource} (Permits = Pool-Größe, eigener acquire-timeout)
+ */
+public class WorkloadPools implements AutoCloseable {
+
+	private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+	private final Map<Workload, HikariDataSource> pools;
+	private final Map<Workload, BulkheadDataSource> bulkheads;
+	private final Workload defaultWorkload;
+	private final DataSource routing = new AbstractDataSource() {
+		@Override
+		public Connection getConnection() throws SQLException {
+			return route().getConnection();
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return route().getConnection(username, password);
+		}
+	};
+
+	public WorkloadPools(Map<Workload, HikariDataSource> pools, Map<Workload, BulkheadDataSource> bulkheads,
+			Workload defaultWorkload) {
+		this.pools = Map.copyOf(pools);
+		this.bulkheads = Map.copyOf(bulkheads);
+		this.defaultWorkload = defaultWorkload;
+	}
+
+	/**
+	 * Setzt die Workload des aktuellen Threads.
+	 *
+	 * @return die vorherige Workload, MUSS an {@link #exit(Workload)} gehen
+	 *         (try/finally)
+	 */
+	public static Workload enter(Workload workload) {
+		Workload previous = CURRENT.get();
+		CURRENT.set(workload);
+		return previous;
+	}
+
+	public static void exit(Workload previous) {
+		if (previous == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(previous);
+		}
+	}
+
+	public static Workload current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * DataSource, die pro Verbindung nach der Workload des Threads routet.
+	 */
+	public DataSource dataSource() {
+		return routing;
+	}
+
+	public Workload getDefaultWorkload() {
+		return defaultWorkload;
+	}
+
+	public HikariDataSource getPool(Workload workload) {
+		return pools.get(workload);
+	}
+
+	public BulkheadDataSource getBulkhead(Workload workload) {
+		return bulkheads.get(workload);
+	}
+
+	@Override
+	public void close() {
+		pools.values().forEach(HikariDataSource::close);
+	}
+
+	private BulkheadDataSource route() {
+		Workload workload = CURRENT.get();
+		return bulkheads.get(workload != null ? workload : defaultWorkload);
+	}
+}
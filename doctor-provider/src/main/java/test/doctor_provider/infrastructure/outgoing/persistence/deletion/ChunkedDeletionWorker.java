@@ -0,0 +1,188 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.deletion;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.ReplicationLagProbe;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DeletionJobEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DeletionJobEntity.Status;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DeletionJobEntity.TargetType;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.DeletionJobRepository;
+
+/**
+ * Arbeitet Löschaufträge (deletion_job) für Praxen und Ärzte ab.
+ *
+ * WICHTIG: - Die Praxis/der Arzt ist beim Anlegen des Jobs schon versteckt
+ * (deleted_at), hier werden nur noch die Zeilen entfernt - Reihenfolge: slot →
+ * slot_day → doctor_working_hours → doctor → practice, jeweils in Chunks à
+ * chunk-size Zeilen - Jeder Chunk ist eine eigene Transaktion und schreibt den
+ * Fortschritt in den Job → nach einem Neustart läuft der Job einfach weiter
+ * (alle Schritte sind idempotent) - Pause zwischen Chunks, Abbruch des Laufs
+ * bei Replikationsverzug > max-replication-lag - Fehler: attempts + 1, nach
+ * max-attempts Status FAILED
+ */
+@Component
+public class ChunkedDeletionWorker {
+
+	private static final List<Status> OPEN = List.of(Status.PENDING, Status.RUNNING);
+
+	/**
+	 * Ein Löschschritt. chunked = SQL hat als zweiten Parameter ein LIMIT.
+	 */
+	private record Step(String sql, boolean chunked) {
+	}
+
+	private static final List<Step> PRACTICE_STEPS = steps(
+			"JOIN doctor d ON d.id = wh.doctor_id WHERE d.practice_id = ?",
+			new Step("DELETE FROM doctor WHERE id IN (SELECT id FROM doctor WHERE practice_id = ? LIMIT ?)", true),
+			new Step("DELETE FROM practice WHERE id = ?", false));
+
+	private static final List<Step> DOCTOR_STEPS = steps("WHERE wh.doctor_id = ?",
+			new Step("DELETE FROM doctor WHERE id = ?", false));
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final DeletionJobRepository deletionJobRepository;
+	private final ReplicationLagProbe replicationLagProbe;
+	private final int chunkSize;
+	private final Duration chunkPause;
+	private final Duration maxReplicationLag;
+	private final int maxAttempts;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	public ChunkedDeletionWorker(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+			DeletionJobRepository deletionJobRepository, ReplicationLagProbe replicationLagProbe,
+			@Value("${doctor-provider.deletion.chunk-size:1000}") int chunkSize,
+			@Value("${doctor-provider.deletion.chunk-pause:100ms}") Duration chunkPause,
+			@Value("${doctor-provider.deletion.max-replication-lag:10s}") Duration maxReplicationLag,
+			@Value("${doctor-provider.deletion.max-attempts:5}") int maxAttempts) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.deletionJobRepository = deletionJobRepository;
+		this.replicationLagProbe = replicationLagProbe;
+		this.chunkSize = chunkSize;
+		this.chunkPause = chunkPause;
+		this.maxReplicationLag = maxReplicationLag;
+		this.maxAttempts = maxAttempts;
+	}
+
+	@Scheduled(fixedDelayString = "${doctor-provider.deletion.poll-interval:10s}")
+	public void run() {
+		if (!running.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			for (DeletionJobEntity job : deletionJobRepository.findByStatusInOrderByCreatedAt(OPEN,
+					PageRequest.of(0, 10))) {
+				if (!process(job.getId(), job.getTargetType(), job.getTargetId())) {
+					return;
+				}
+			}
+		} finally {
+			running.set(false);
+		}
+	}
+
+	/**
+	 * @return false, wenn der Lauf abgebrochen werden soll (Verzug,
+	 *         Unterbrechung)
+	 */
+	private boolean process(UUID jobId, TargetType targetType, UUID targetId) {
+		try {
+			for (Step step : targetType == TargetType.PRACTICE ? PRACTICE_STEPS : DOCTOR_STEPS) {
+				int affected;
+				do {
+					if (replicationLagProbe.currentLagMillis() > maxReplicationLag.toMillis()) {
+						return false;
+					}
+					affected = deleteChunk(jobId, step, targetId);
+					if (step.chunked() && affected >= chunkSize) {
+						Thread.sleep(chunkPause);
+					}
+				} while (step.chunked() && affected >= chunkSize);
+			}
+			update(jobId, job -> {
+				job.setStatus(Status.DONE);
+				job.setFinishedAt(job.getUpdatedAt());
+			});
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (RuntimeException e) {
+			update(jobId, job -> {
+				job.setAttempts(job.getAttempts() + 1);
+				job.setLastError(String.valueOf(e.getMessage()));
+				job.setStatus(job.getAttempts() >= maxAttempts ? Status.FAILED : Status.RUNNING);
+			});
+			return true;
+		}
+	}
+
+	private int deleteChunk(UUID jobId, Step step, UUID targetId) {
+		Integer affected = transactionTemplate.execute(status -> {
+			int rows = step.chunked()
+					? jdbcTemplate.update(step.sql(), targetId, chunkSize)
+					: jdbcTemplate.update(step.sql(), targetId);
+			updateInTransaction(jobId, job -> {
+				job.setStatus(Status.RUNNING);
+				job.setDeletedRows(job.getDeletedRows() + rows);
+				job.setChunks(job.getChunks() + 1);
+			});
+			return rows;
+		});
+		return affected != null ? affected : 0;
+	}
+
+	private void update(UUID jobId, Consumer<DeletionJobEntity> change) {
+		transactionTemplate.executeWithoutResult(status -> updateInTransaction(jobId, change));
+	}
+
+	private void updateInTransaction(UUID jobId, Consumer<DeletionJobEntity> change) {
+		deletionJobRepository.findById(jobId).ifPresent(job -> {
+			job.setUpdatedAt(ZonedDateTime.now());
+			change.accept(job);
+		});
+	}
+
+	/**
+	 * Schritte für Slots, kompakte Slots und Working Hours im gegebenen Umfang
+	 * (scope filtert doctor_working_hours wh), danach die Zeilen des Ziels.
+	 */
+	private static List<Step> steps(String scope, Step... tail) {
+		List<Step> steps = new ArrayList<>(List.of(new Step("""
+				DELETE FROM slot s
+				USING (SELECT s2.id, s2.start_time FROM slot s2
+				       JOIN doctor_working_hours wh ON wh.id = s2.working_hours_id
+				       %s
+				       LIMIT ?) b
+				WHERE s.id = b.id AND s.start_time = b.start_time
+				""".formatted(scope), true), new Step("""
+				DELETE FROM slot_day WHERE id IN (
+				    SELECT sd.id FROM slot_day sd
+				    JOIN doctor_working_hours wh ON wh.id = sd.working_hours_id
+				    %s
+				    LIMIT ?)
+				""".formatted(scope), true), new Step("""
+				DELETE FROM doctor_working_hours WHERE id IN (
+				    SELECT wh.id FROM doctor_working_hours wh
+				    %s
+				    LIMIT ?)
+				""".formatted(scope), true)));
+		steps.addAll(List.of(tail));
+		return List.copyOf(steps);
+	}
+}
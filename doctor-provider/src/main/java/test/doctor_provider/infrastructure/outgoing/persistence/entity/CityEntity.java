@@ -4,13 +4,26 @@ import java.util.UUID;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.id.UuidV7Id;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Stammdaten: werden sehr oft gelesen, aber fast nie geschrieben.
+ *
+ * WICHTIG: - Im Second-Level-Cache (Region siehe ehcache.xml) - Lazy-Zugriffe
+ * über PracticeEntitiy.city laden die Stadt dadurch ohne SQL
+ */
 @Entity
 @Table(name = "city")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @Builder
 @AllArgsConstructor
@@ -18,7 +31,7 @@ import lombok.NoArgsConstructor;
 
 public class CityEntity {
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7Id
 	@Column(name = "id", updatable = false, nullable = false)
 	private UUID id;
 
@@ -0,0 +1,81 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.entity;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.*;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.id.UuidV7Id;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Löschauftrag für eine Praxis oder einen Arzt (Tabelle deletion_job).
+ *
+ * WICHTIG: - Wird beim Löschen angelegt, der Datensatz selbst ist ab da
+ * versteckt (deleted_at) - ChunkedDeletionWorker arbeitet PENDING/RUNNING-Jobs
+ * in Chunks ab, Fortschritt wird pro Chunk in derselben Transaktion gespeichert
+ * (fortsetzbar nach Neustart)
+ */
+@Entity
+@Table(name = "deletion_job")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeletionJobEntity {
+
+	public enum TargetType {
+		PRACTICE, DOCTOR
+	}
+
+	public enum Status {
+		PENDING, RUNNING, DONE, FAILED
+	}
+
+	@Id
+	@UuidV7Id
+	@Column(name = "id", updatable = false, nullable = false)
+	private UUID id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "target_type", nullable = false, length = 20)
+	private TargetType targetType;
+
+	@Column(name = "target_id", nullable = false)
+	private UUID targetId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private Status status;
+
+	@Column(name = "deleted_rows", nullable = false)
+	private long deletedRows;
+
+	@Column(name = "chunks", nullable = false)
+	private int chunks;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "last_error", columnDefinition = "TEXT")
+	private String lastError;
+
+	@Column(name = "created_at", nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+	private ZonedDateTime createdAt;
+
+	@Column(name = "updated_at", nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+	private ZonedDateTime updatedAt;
+
+	@Column(name = "finished_at", columnDefinition = "TIMESTAMP WITH TIME ZONE")
+	private ZonedDateTime finishedAt;
+
+	public static DeletionJobEntity pending(TargetType targetType, UUID targetId) {
+		ZonedDateTime now = ZonedDateTime.now();
+		return DeletionJobEntity.builder().targetType(targetType).targetId(targetId).status(Status.PENDING)
+				.createdAt(now).updatedAt(now).build();
+	}
+}
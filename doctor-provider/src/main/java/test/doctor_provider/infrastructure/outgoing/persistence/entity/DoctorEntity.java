@@ -1,18 +1,32 @@
 package test.doctor_provider.infrastructure.outgoing.persistence.entity;
 
+import java.time.ZonedDateTime;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.id.UuidV7Id;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Arzt.
+ *
+ * WICHTIG: - Gelöschte Ärzte (deleted_at gesetzt) sind für Hibernate unsichtbar
+ * (@SQLRestriction), ihre Daten entfernt der ChunkedDeletionWorker
+ */
 @Entity
 @Table(name = "doctor")
+@SQLRestriction("deleted_at IS NULL")
 @Data
 @Builder
 @AllArgsConstructor
@@ -20,7 +34,7 @@ import lombok.NoArgsConstructor;
 public class DoctorEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7Id
 	@Column(name = "id", nullable = false, updatable = false)
 	private UUID id;
 
@@ -34,6 +48,10 @@ public class DoctorEntity {
 	@JoinColumn(name = "practice_id")
 	private PracticeEntitiy practice;
 
+	/** Zeitpunkt des Löschauftrags (nur per Bulk-Update gesetzt) */
+	@Column(name = "deleted_at", columnDefinition = "TIMESTAMP WITH TIME ZONE")
+	private ZonedDateTime deletedAt;
+
 	/**
 	 * n:m Beziehung zu SpecialityEntity (über Join-Tabelle doctor_speciality)
 	 *
@@ -43,8 +61,12 @@ public class DoctorEntity {
 	 * Performance! - Set statt List: Keine Duplikate
 	 *
 	 * ⚠️ Im Domain-Modell: Set<UUID> specialityIds
+	 *
+	 * Collection-Cache: Speichert nur die Speciality-IDs pro Arzt, die Elemente
+	 * selbst kommen aus dem Entity-Cache von SpecialityEntity.
 	 */
 	@ManyToMany(fetch = FetchType.LAZY)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 	@JoinTable(name = "doctor_speciality", joinColumns = @JoinColumn(name = "doctor_id"), inverseJoinColumns = @JoinColumn(name = "speciality_id"))
 	@Builder.Default
 	private Set<SpecialityEntity> specialities = new HashSet<>();
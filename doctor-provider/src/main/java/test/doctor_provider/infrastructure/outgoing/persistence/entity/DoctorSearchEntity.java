@@ -0,0 +1,58 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.entity;
+
+import java.util.UUID;
+
+import jakarta.persistence.*;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read-Model für die Arztsuche (Tabelle doctor_search, siehe V8-Migration).
+ *
+ * WICHTIG: - Eine Zeile pro Arzt, Praxis/Stadt/Fachrichtungen sind
+ * denormalisiert - Wird ausschließlich per DB-Trigger gepflegt → @Immutable,
+ * Hibernate schreibt nie in diese Tabelle
+ */
+@Entity
+@Immutable
+@Table(name = "doctor_search")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DoctorSearchEntity {
+
+	@Id
+	@Column(name = "doctor_id", nullable = false, updatable = false)
+	private UUID id;
+
+	@Column(name = "first_name", nullable = false, length = 100)
+	private String firstName;
+
+	@Column(name = "last_name", nullable = false, length = 100)
+	private String lastName;
+
+	@Column(name = "practice_id")
+	private UUID practiceId;
+
+	@Column(name = "practice_name", length = 200)
+	private String practiceName;
+
+	@Column(name = "city_id")
+	private UUID cityId;
+
+	@Column(name = "city_name", length = 100)
+	private String cityName;
+
+	/**
+	 * IDs aus doctor_speciality als PostgreSQL-Array (UUID[]), GIN-Index.
+	 */
+	@JdbcTypeCode(SqlTypes.ARRAY)
+	@Column(name = "speciality_ids", nullable = false, columnDefinition = "uuid[]")
+	private UUID[] specialityIds;
+}
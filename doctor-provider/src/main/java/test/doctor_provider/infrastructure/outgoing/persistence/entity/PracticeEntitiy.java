@@ -1,24 +1,42 @@
 package test.doctor_provider.infrastructure.outgoing.persistence.entity;
 
+import java.time.ZonedDateTime;
 import java.util.UUID;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.id.UuidV7Id;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Praxis eines Arztes.
+ *
+ * WICHTIG: - Im Second-Level-Cache (Region siehe ehcache.xml) - Lazy-Zugriffe
+ * über DoctorEntity.practice laden die Praxis dadurch ohne SQL - Gelöschte
+ * Praxen (deleted_at gesetzt) sind unsichtbar (@SQLRestriction); das Verstecken
+ * läuft als Bulk-Update, das die Cache-Region invalidiert
+ */
 @Data
 @Entity
 @Table(name = "practice")
+@SQLRestriction("deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 
 public class PracticeEntitiy {
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7Id
 	@Column(name = "id", updatable = false, nullable = false)
 	private UUID id;
 
@@ -40,8 +58,19 @@ public class PracticeEntitiy {
 	@Column(name = "postal_code", nullable = false, length = 20)
 	private String postalCode;
 
+	/** PLZ-Zentroid (WGS84), null wenn PLZ unbekannt */
+	@Column(name = "latitude")
+	private Double latitude;
+
+	@Column(name = "longitude")
+	private Double longitude;
+
 	@ManyToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "city_id", nullable = false)
 	private CityEntity city;
 
+	/** Zeitpunkt des Löschauftrags (nur per Bulk-Update gesetzt) */
+	@Column(name = "deleted_at", columnDefinition = "TIMESTAMP WITH TIME ZONE")
+	private ZonedDateTime deletedAt;
+
 }
@@ -9,12 +9,24 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import test.doctor_provider.domain.enums.SlotStatus;
+import test.doctor_provider.infrastructure.outgoing.persistence.id.UuidV7Id;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Slot (Tabelle slot, monatlich nach start_time partitioniert).
+ *
+ * WICHTIG: - In der DB ist der Primärschlüssel (id, start_time), weil
+ * PostgreSQL den Partitionsschlüssel im PK verlangt - Hibernate kennt nur id
+ * (UUIDv7, global eindeutig) - Abfragen immer mit start_time-Bereich, sonst
+ * werden alle Partitionen gelesen (siehe SlotRepository) - Keine
+ * @SQLRestriction für gelöschte Ärzte: sie hinge an jeder Slot-Abfrage (auch an
+ * Bereichs-Scans und Statuswechseln), deshalb filtern die lesenden Abfragen in
+ * SlotRepository selbst auf doctor.deleted_at
+ */
 @Data
 @Entity
 @Table(name = "slot")
@@ -24,7 +36,7 @@ import lombok.NoArgsConstructor;
 public class SlotEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7Id
 	@Column(name = "id", updatable = false, nullable = false)
 	private UUID id;
 
@@ -4,18 +4,29 @@ import java.util.UUID;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import test.doctor_provider.domain.enums.SpecialityTyp;
+import test.doctor_provider.infrastructure.outgoing.persistence.id.UuidV7Id;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Stammdaten (feste Liste von Fachrichtungen).
+ *
+ * WICHTIG: - Im Second-Level-Cache (Region siehe ehcache.xml) - Elemente von
+ * DoctorEntity.specialities werden daraus aufgelöst
+ */
 @Entity
 @Table(name = "speciality")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @Builder
 @AllArgsConstructor
@@ -23,7 +34,7 @@ import lombok.NoArgsConstructor;
 
 public class SpecialityEntity {
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7Id
 	@Column(name = "id", updatable = false, nullable = false)
 	private UUID id;
 
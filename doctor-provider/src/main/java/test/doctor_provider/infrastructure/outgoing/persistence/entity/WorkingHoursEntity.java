@@ -6,17 +6,27 @@ import java.util.UUID;
 import jakarta.persistence.*;
 
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.type.SqlTypes;
 
 import test.doctor_provider.domain.enums.Weekday;
+import test.doctor_provider.infrastructure.outgoing.persistence.id.UuidV7Id;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Sprechzeiten eines Arztes.
+ *
+ * WICHTIG: - Sprechzeiten gelöschter Ärzte (doctor.deleted_at gesetzt) sind
+ * für Hibernate unsichtbar (@SQLRestriction), bis der ChunkedDeletionWorker
+ * sie entfernt
+ */
 @Entity
 @Table(name = "doctor_working_hours")
+@SQLRestriction("EXISTS (SELECT 1 FROM doctor d WHERE d.id = doctor_id AND d.deleted_at IS NULL)")
 @Data
 @Builder
 @AllArgsConstructor
@@ -24,7 +34,7 @@ import lombok.NoArgsConstructor;
 public class WorkingHoursEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7Id
 	@Column(name = "id", updatable = false, nullable = false)
 	private UUID id;
 
@@ -0,0 +1,122 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.export;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serverseitiger Cursor für Exporte: liefert die Zeilen einer Abfrage als
+ * Stream, ohne sie vorher zu sammeln.
+ *
+ * WICHTIG: - Eigene Verbindung, unabhängig von einer laufenden Transaktion -
+ * read-only VOR dem ersten Statement → bei aktiviertem Read/Write-Routing auf
+ * einer Replica - autoCommit=false + Fetch-Size: nur dann holt der
+ * PostgreSQL-Treiber die Zeilen blockweise statt alle auf einmal - Kein
+ * EntityManager → kein Persistence Context, der mit jeder Zeile wächst - Der
+ * Stream MUSS geschlossen werden (gibt Cursor und Verbindung frei)
+ */
+@Component
+public class JdbcCursor {
+
+	private final DataSource dataSource;
+	private final int fetchSize;
+
+	public JdbcCursor(DataSource dataSource, @Value("${doctor-provider.export.fetch-size:1000}") int fetchSize) {
+		this.dataSource = dataSource;
+		this.fetchSize = fetchSize;
+	}
+
+	public <T> Stream<T> stream(String sql, RowMapper<T> rowMapper, Object... args) {
+		Connection connection = null;
+		PreparedStatement statement = null;
+		ResultSet resultSet = null;
+		try {
+			connection = dataSource.getConnection();
+			connection.setReadOnly(true);
+			connection.setAutoCommit(false);
+			statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			statement.setFetchSize(fetchSize);
+			for (int i = 0; i < args.length; i++) {
+				statement.setObject(i + 1, args[i]);
+			}
+			resultSet = statement.executeQuery();
+		} catch (SQLException e) {
+			close(connection, statement, resultSet);
+			throw new RuntimeException("Export query failed: " + e.getMessage(), e);
+		}
+
+		Connection openConnection = connection;
+		PreparedStatement openStatement = statement;
+		ResultSet openResultSet = resultSet;
+		Iterator<T> rows = new RowIterator<>(resultSet, rowMapper);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), false)
+				.onClose(() -> close(openConnection, openStatement, openResultSet));
+	}
+
+	private static void close(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+		JdbcUtils.closeResultSet(resultSet);
+		JdbcUtils.closeStatement(statement);
+		if (connection != null) {
+			try {
+				// Nur gelesen → Rollback beendet die Transaktion ohne Wirkung
+				connection.rollback();
+				connection.setAutoCommit(true);
+			} catch (SQLException e) {
+				// Verbindung wird trotzdem zurückgegeben
+			}
+			JdbcUtils.closeConnection(connection);
+		}
+	}
+
+	private static final class RowIterator<T> implements Iterator<T> {
+
+		private final ResultSet resultSet;
+		private final RowMapper<T> rowMapper;
+		private int rowNum;
+		private Boolean hasNext;
+
+		RowIterator(ResultSet resultSet, RowMapper<T> rowMapper) {
+			this.resultSet = resultSet;
+			this.rowMapper = rowMapper;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (hasNext == null) {
+				try {
+					hasNext = resultSet.next();
+				} catch (SQLException e) {
+					throw new RuntimeException("Export cursor failed: " + e.getMessage(), e);
+				}
+			}
+			return hasNext;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			hasNext = null;
+			try {
+				return rowMapper.mapRow(resultSet, rowNum++);
+			} catch (SQLException e) {
+				throw new RuntimeException("Export cursor failed: " + e.getMessage(), e);
+			}
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Erzeugt zeitlich sortierte UUIDs der Version 7 (RFC 9562).
+ *
+ * Aufbau: 48 Bit Unix-Zeit in ms | Version 7 | 12 Bit Zähler | Variante | 62 Bit
+ * Zufall
+ *
+ * WICHTIG: - Neue IDs landen immer am rechten Rand des Primärschlüssel-B-Trees
+ * (keine Page-Splits quer durch den Index wie bei zufälligen v4-UUIDs) - Der
+ * 12-Bit-Zähler hält IDs innerhalb derselben Millisekunde streng monoton (pro
+ * JVM, nicht über mehrere Instanzen hinweg); läuft er über, wird die nächste
+ * Millisekunde "geliehen" - Die DB-Funktion uuid_generate_v7() (V10-Migration)
+ * ist nur im Zeitstempel gleich aufgebaut: danach folgen 74 Bit Zufall ohne
+ * Zähler, IDs aus derselben Millisekunde sind dort nicht sortiert
+ */
+public final class UuidV7 {
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	/** (Zeitstempel in ms << 12) | Zähler der zuletzt vergebenen ID */
+	private static final AtomicLong LAST = new AtomicLong();
+
+	private UuidV7() {
+	}
+
+	public static UUID next() {
+		long now = System.currentTimeMillis();
+		long next = LAST.updateAndGet(last -> {
+			if (now > last >>> 12) {
+				// neue Millisekunde: Zähler zufällig in der unteren Hälfte starten
+				return (now << 12) | RANDOM.nextInt(0x800);
+			}
+			return last + 1; // gleiche (oder geliehene) Millisekunde
+		});
+
+		long mostSignificantBits = ((next >>> 12) << 16) | 0x7000L | (next & 0xFFFL);
+		long leastSignificantBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(mostSignificantBits, leastSignificantBits);
+	}
+}
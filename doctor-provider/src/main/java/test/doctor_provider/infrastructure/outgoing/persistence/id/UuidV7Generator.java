@@ -0,0 +1,28 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.id;
+
+import java.util.EnumSet;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * Hibernate-ID-Generator für {@link UuidV7Id}.
+ *
+ * Vergibt die ID vor dem INSERT in Java (kein Round-Trip zur DB), damit JDBC
+ * Batching für Bulk-Inserts (z.B. Slots) weiter funktioniert.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+			EventType eventType) {
+		return UuidV7.next();
+	}
+
+	@Override
+	public EnumSet<EventType> getEventTypes() {
+		return EventTypeSets.INSERT_ONLY;
+	}
+}
@@ -0,0 +1,23 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.id;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Primärschlüssel als zeitlich sortierte UUIDv7 (ersetzt
+ * {@code @GeneratedValue(strategy = GenerationType.UUID)}, das zufällige v4-IDs
+ * erzeugt).
+ *
+ * Verwendung: {@code @Id @UuidV7Id private UUID id;}
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface UuidV7Id {
+}
@@ -0,0 +1,346 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-Memory-Invertierter-Index für die Arztsuche nach Fachrichtung × Stadt.
+ *
+ * Aufbau: - Jeder Arzt bekommt eine dichte int-Ordinalzahl (UUID ↔ int) -
+ * Fachrichtung → RoaringBitmap der Ordinalzahlen - Stadt → RoaringBitmap der
+ * Ordinalzahlen - Praxis → RoaringBitmap (nötig, um bei Stadtwechsel einer
+ * Praxis alle Ärzte umzuhängen)
+ *
+ * Eine Suche ist ein AND von zwei komprimierten Bitmaps, die Kosten hängen von
+ * der Treffermenge ab, nicht von der Größe der doctor-Tabelle. Die Treffer
+ * werden wie in der Datenbank nach last_name, first_name, doctor_id sortiert
+ * (Namen nach Codepoints wie COLLATE "C" in DoctorSearchRepository, UUIDs
+ * vorzeichenlos wie PostgreSQL), damit Index- und Datenbank-Pfad dieselben
+ * Seiten liefern.
+ *
+ * Thread-Safety: Lesen unter Read-Lock, Änderungen unter Write-Lock. Freie
+ * Ordinalzahlen (gelöschte Ärzte) werden wiederverwendet, damit die Bitmaps
+ * dicht bleiben.
+ */
+@Component
+public class DoctorSearchIndex {
+
+	/**
+	 * Eine Seite von Arzt-IDs (sortiert nach Nachname, Vorname, ID) plus
+	 * Gesamtanzahl.
+	 */
+	public record IndexPage(List<UUID> doctorIds, long totalElements) {
+	}
+
+	/**
+	 * Was der Index pro Arzt kennt: Sortierschlüssel und alles, um ihn später
+	 * wieder aus allen Bitmaps zu entfernen.
+	 */
+	public record Entry(UUID doctorId, String firstName, String lastName, UUID practiceId, UUID cityId,
+			Set<UUID> specialityIds) {
+
+		public Entry {
+			specialityIds = specialityIds == null ? Set.of() : Set.copyOf(specialityIds);
+		}
+	}
+
+	/**
+	 * Sortierung wie ORDER BY last_name COLLATE "C", first_name COLLATE "C",
+	 * doctor_id.
+	 */
+	private static final Comparator<Entry> SEARCH_ORDER = Comparator
+			.comparing(Entry::lastName, Comparator.nullsLast(DoctorSearchIndex::compareCodePoints))
+			.thenComparing(Entry::firstName, Comparator.nullsLast(DoctorSearchIndex::compareCodePoints))
+			.thenComparing(Entry::doctorId, DoctorSearchIndex::compareUnsigned);
+
+	private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<UUID, Integer> ordinalByDoctorId = new HashMap<>();
+	private final List<Entry> postingsByOrdinal = new ArrayList<>();
+	private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+	private final Map<UUID, RoaringBitmap> bySpeciality = new HashMap<>();
+	private final Map<UUID, RoaringBitmap> byCity = new HashMap<>();
+	private final Map<UUID, RoaringBitmap> byPractice = new HashMap<>();
+
+	private volatile boolean ready;
+
+	/**
+	 * @return true, sobald der initiale Aufbau abgeschlossen ist. Vorher muss die
+	 *         Suche auf die Datenbank ausweichen.
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * Sperrt den Index für den initialen Aufbau. Änderungen, die währenddessen
+	 * committet werden, warten auf das Lock und werden danach angewendet.
+	 *
+	 * @param loader
+	 *            Befüllt den Index über {@link #put}
+	 */
+	public void rebuild(Runnable loader) {
+		lock.writeLock().lock();
+		try {
+			ready = false;
+			ordinalByDoctorId.clear();
+			postingsByOrdinal.clear();
+			freeOrdinals.clear();
+			bySpeciality.clear();
+			byCity.clear();
+			byPractice.clear();
+
+			loader.run();
+
+			bySpeciality.values().forEach(RoaringBitmap::runOptimize);
+			byCity.values().forEach(RoaringBitmap::runOptimize);
+			byPractice.values().forEach(RoaringBitmap::runOptimize);
+			ready = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Fügt einen Arzt hinzu oder ersetzt seine bisherigen Einträge.
+	 */
+	public void put(Entry entry) {
+		lock.writeLock().lock();
+		try {
+			UUID doctorId = entry.doctorId();
+			Integer existing = ordinalByDoctorId.get(doctorId);
+			int ordinal;
+			if (existing != null) {
+				ordinal = existing;
+				unindex(ordinal, postingsByOrdinal.get(ordinal));
+			} else {
+				ordinal = nextOrdinal();
+				ordinalByDoctorId.put(doctorId, ordinal);
+			}
+
+			postingsByOrdinal.set(ordinal, entry);
+			index(ordinal, entry);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(UUID doctorId) {
+		lock.writeLock().lock();
+		try {
+			Integer ordinal = ordinalByDoctorId.remove(doctorId);
+			if (ordinal == null) {
+				return;
+			}
+			unindex(ordinal, postingsByOrdinal.get(ordinal));
+			postingsByOrdinal.set(ordinal, null);
+			freeOrdinals.push(ordinal);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Praxis ist in eine andere Stadt umgezogen → alle Ärzte der Praxis umhängen.
+	 */
+	public void movePractice(UUID practiceId, UUID cityId) {
+		lock.writeLock().lock();
+		try {
+			RoaringBitmap doctors = byPractice.get(practiceId);
+			if (doctors == null) {
+				return;
+			}
+			for (int ordinal : doctors.toArray()) {
+				Entry old = postingsByOrdinal.get(ordinal);
+				if (old.cityId() != null && old.cityId().equals(cityId)) {
+					continue;
+				}
+				removeFrom(byCity, old.cityId(), ordinal);
+				addTo(byCity, cityId, ordinal);
+				postingsByOrdinal.set(ordinal, new Entry(old.doctorId(), old.firstName(), old.lastName(), practiceId,
+						cityId, old.specialityIds()));
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Praxis gelöscht → ihre Ärzte werden per ON DELETE CASCADE mitgelöscht.
+	 */
+	public void removePractice(UUID practiceId) {
+		lock.writeLock().lock();
+		try {
+			RoaringBitmap doctors = byPractice.get(practiceId);
+			if (doctors == null) {
+				return;
+			}
+			for (int ordinal : doctors.toArray()) {
+				remove(postingsByOrdinal.get(ordinal).doctorId());
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Sucht Ärzte nach Fachrichtung und/oder Stadt (mindestens ein Filter).
+	 *
+	 * Sortiert wird nur so weit wie nötig: ein Heap hält die ersten (page + 1) ×
+	 * size Treffer, die Kosten wachsen mit Treffermenge und Seitentiefe.
+	 *
+	 * @param page
+	 *            Seitennummer (0-basiert)
+	 * @param size
+	 *            Anzahl der Elemente pro Seite
+	 */
+	public IndexPage search(UUID specialityId, UUID cityId, int page, int size) {
+		lock.readLock().lock();
+		try {
+			RoaringBitmap matches;
+			if (specialityId != null && cityId != null) {
+				matches = RoaringBitmap.and(bySpeciality.getOrDefault(specialityId, EMPTY),
+						byCity.getOrDefault(cityId, EMPTY));
+			} else if (specialityId != null) {
+				matches = bySpeciality.getOrDefault(specialityId, EMPTY);
+			} else if (cityId != null) {
+				matches = byCity.getOrDefault(cityId, EMPTY);
+			} else {
+				throw new IllegalArgumentException("specialityId or cityId is required");
+			}
+
+			long total = matches.getLongCardinality();
+			long offset = (long) page * size;
+			if (offset >= total) {
+				return new IndexPage(List.of(), total);
+			}
+
+			int limit = (int) Math.min(total, offset + size);
+			PriorityQueue<Entry> first = new PriorityQueue<>(limit, SEARCH_ORDER.reversed());
+			matches.forEach((int ordinal) -> {
+				Entry postings = postingsByOrdinal.get(ordinal);
+				if (first.size() < limit) {
+					first.add(postings);
+				} else if (SEARCH_ORDER.compare(postings, first.peek()) < 0) {
+					first.poll();
+					first.add(postings);
+				}
+			});
+
+			Entry[] sorted = first.toArray(new Entry[0]);
+			Arrays.sort(sorted, SEARCH_ORDER);
+			List<UUID> doctorIds = new ArrayList<>(sorted.length - (int) offset);
+			for (int i = (int) offset; i < sorted.length; i++) {
+				doctorIds.add(sorted[i].doctorId());
+			}
+			return new IndexPage(doctorIds, total);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Ärzte einer Praxis, optional eingeschränkt auf eine Fachrichtung (für die
+	 * Umkreissuche).
+	 */
+	public List<UUID> findByPractice(UUID practiceId, UUID specialityId) {
+		lock.readLock().lock();
+		try {
+			RoaringBitmap matches = byPractice.getOrDefault(practiceId, EMPTY);
+			if (specialityId != null) {
+				matches = RoaringBitmap.and(matches, bySpeciality.getOrDefault(specialityId, EMPTY));
+			}
+			List<UUID> doctorIds = new ArrayList<>(matches.getCardinality());
+			matches.forEach((int ordinal) -> doctorIds.add(postingsByOrdinal.get(ordinal).doctorId()));
+			return doctorIds;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * COLLATE "C" vergleicht die UTF-8-Bytes, also Codepoints. String.compareTo
+	 * vergleicht UTF-16-Einheiten und ordnet Zeichen außerhalb der BMP vor
+	 * U+E000..U+FFFF ein.
+	 */
+	private static int compareCodePoints(String left, String right) {
+		int i = 0;
+		int j = 0;
+		while (i < left.length() && j < right.length()) {
+			int a = left.codePointAt(i);
+			int b = right.codePointAt(j);
+			if (a != b) {
+				return Integer.compare(a, b);
+			}
+			i += Character.charCount(a);
+			j += Character.charCount(b);
+		}
+		return Integer.compare(left.length() - i, right.length() - j);
+	}
+
+	/**
+	 * PostgreSQL vergleicht UUIDs Byte für Byte, UUID.compareTo dagegen mit
+	 * Vorzeichen.
+	 */
+	private static int compareUnsigned(UUID left, UUID right) {
+		int result = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+		return result != 0 ? result
+				: Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+	}
+
+	private int nextOrdinal() {
+		if (!freeOrdinals.isEmpty()) {
+			return freeOrdinals.pop();
+		}
+		postingsByOrdinal.add(null);
+		return postingsByOrdinal.size() - 1;
+	}
+
+	private void index(int ordinal, Entry postings) {
+		addTo(byPractice, postings.practiceId(), ordinal);
+		addTo(byCity, postings.cityId(), ordinal);
+		postings.specialityIds().forEach(specialityId -> addTo(bySpeciality, specialityId, ordinal));
+	}
+
+	private void unindex(int ordinal, Entry postings) {
+		removeFrom(byPractice, postings.practiceId(), ordinal);
+		removeFrom(byCity, postings.cityId(), ordinal);
+		postings.specialityIds().forEach(specialityId -> removeFrom(bySpeciality, specialityId, ordinal));
+	}
+
+	private static void addTo(Map<UUID, RoaringBitmap> postings, UUID key, int ordinal) {
+		if (key != null) {
+			postings.computeIfAbsent(key, k -> new RoaringBitmap()).add(ordinal);
+		}
+	}
+
+	private static void removeFrom(Map<UUID, RoaringBitmap> postings, UUID key, int ordinal) {
+		if (key == null) {
+			return;
+		}
+		RoaringBitmap bitmap = postings.get(key);
+		if (bitmap != null) {
+			bitmap.remove(ordinal);
+			if (bitmap.isEmpty()) {
+				postings.remove(key);
+			}
+		}
+	}
+}
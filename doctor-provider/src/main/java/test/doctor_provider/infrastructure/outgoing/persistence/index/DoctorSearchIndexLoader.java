@@ -0,0 +1,85 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.index;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DoctorSearchEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.DoctorSearchRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Liest das Read-Model doctor_search für den {@link DoctorSearchIndex}: beim
+ * Start komplett, danach für einzelne Änderungen.
+ *
+ * WICHTIG: - load() läuft nach ApplicationReadyEvent (Flyway ist durch) in
+ * einer eigenen, schreibfähigen Transaktion (immer auf dem Primary, keine
+ * Replikationsverzögerung im Index) - Bis der Aufbau fertig ist, sucht
+ * DoctorPersistenceAdapter weiter in der Datenbank - read()/readAll() laufen
+ * in der schreibenden Transaktion des Aufrufers, der Index wird erst nach dem
+ * Commit mit dem Ergebnis aktualisiert (kein zweiter Connection-Bezug aus
+ * afterCommit(), der im selben Pool auf sich selbst warten könnte) - Entities
+ * werden nach dem Einlesen sofort detached, damit der Persistence-Context bei
+ * großen Tabellen nicht wächst
+ */
+@Component
+@RequiredArgsConstructor
+public class DoctorSearchIndexLoader {
+
+	private final DoctorSearchIndex doctorSearchIndex;
+	private final DoctorSearchRepository doctorSearchRepository;
+	private final EntityManager entityManager;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void load() {
+		doctorSearchIndex.rebuild(() -> {
+			try (Stream<DoctorSearchEntity> rows = doctorSearchRepository.streamAll()) {
+				rows.forEach(row -> doctorSearchIndex.put(toEntry(row)));
+			}
+		});
+	}
+
+	/**
+	 * Alle Zeilen des Read-Models, z.B. nach doctor_search_rebuild() in derselben
+	 * Transaktion.
+	 */
+	@Transactional
+	public List<DoctorSearchIndex.Entry> readAll() {
+		try (Stream<DoctorSearchEntity> rows = doctorSearchRepository.streamAll()) {
+			return rows.map(this::toEntry).toList();
+		}
+	}
+
+	/**
+	 * Aktuelle doctor_search-Zeile eines Arztes, leer wenn es keine gibt.
+	 * Schreibt vorher die offenen Änderungen (der Trigger pflegt doctor_search
+	 * erst beim INSERT/UPDATE auf doctor) und liest die Zeile neu, falls sie
+	 * schon im Persistence-Context liegt.
+	 */
+	@Transactional
+	public Optional<DoctorSearchIndex.Entry> read(UUID doctorId) {
+		entityManager.flush();
+		return doctorSearchRepository.findById(doctorId).map(row -> {
+			entityManager.refresh(row);
+			return toEntry(row);
+		});
+	}
+
+	private DoctorSearchIndex.Entry toEntry(DoctorSearchEntity row) {
+		entityManager.detach(row);
+		return new DoctorSearchIndex.Entry(row.getId(), row.getFirstName(), row.getLastName(), row.getPracticeId(),
+				row.getCityId(), Set.of(row.getSpecialityIds()));
+	}
+}
@@ -0,0 +1,173 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * In-Memory-Gitterindex der Praxis-Koordinaten für die Umkreissuche.
+ *
+ * Aufbau: - Die Welt ist in Zellen von {@value #CELL_SIZE_DEGREES}° ×
+ * {@value #CELL_SIZE_DEGREES}° aufgeteilt (in Deutschland ca. 11 km × 7 km) -
+ * Zelle → Liste der Praxen in dieser Zelle
+ *
+ * Eine Suche liest nur die Zellen, die das Umkreis-Rechteck schneiden, und
+ * prüft die Kandidaten exakt per Haversine-Formel. Die Kosten hängen von der
+ * Praxisdichte im Suchgebiet ab, nicht von der Gesamtzahl der Praxen.
+ *
+ * Thread-Safety: Lesen unter Read-Lock, Änderungen unter Write-Lock.
+ */
+@Component
+public class PracticeGeoIndex {
+
+	/**
+	 * Praxis mit Entfernung zum Suchpunkt.
+	 */
+	public record PracticeDistance(UUID practiceId, double distanceKm) {
+	}
+
+	private record PracticePoint(UUID practiceId, double latitude, double longitude) {
+	}
+
+	static final double CELL_SIZE_DEGREES = 0.1;
+	private static final double EARTH_RADIUS_KM = 6371.0088;
+	private static final double KM_PER_DEGREE_LATITUDE = 111.32;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<Long, List<PracticePoint>> cells = new HashMap<>();
+	private final Map<UUID, PracticePoint> pointsByPracticeId = new HashMap<>();
+
+	private volatile boolean ready;
+
+	/**
+	 * @return true, sobald der initiale Aufbau abgeschlossen ist. Vorher muss die
+	 *         Umkreissuche auf die Datenbank ausweichen.
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * Sperrt den Index für den initialen Aufbau.
+	 *
+	 * @param loader
+	 *            Befüllt den Index über {@link #put}
+	 */
+	public void rebuild(Runnable loader) {
+		lock.writeLock().lock();
+		try {
+			ready = false;
+			cells.clear();
+			pointsByPracticeId.clear();
+			loader.run();
+			ready = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Fügt eine Praxis hinzu oder verschiebt sie. Ohne Koordinaten wird sie aus
+	 * dem Index entfernt.
+	 */
+	public void put(UUID practiceId, Double latitude, Double longitude) {
+		lock.writeLock().lock();
+		try {
+			remove(practiceId);
+			if (latitude == null || longitude == null) {
+				return;
+			}
+			PracticePoint point = new PracticePoint(practiceId, latitude, longitude);
+			pointsByPracticeId.put(practiceId, point);
+			cells.computeIfAbsent(cellKey(cellIndex(latitude), cellIndex(longitude)), k -> new ArrayList<>())
+					.add(point);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(UUID practiceId) {
+		lock.writeLock().lock();
+		try {
+			PracticePoint point = pointsByPracticeId.remove(practiceId);
+			if (point == null) {
+				return;
+			}
+			long key = cellKey(cellIndex(point.latitude()), cellIndex(point.longitude()));
+			List<PracticePoint> cell = cells.get(key);
+			cell.remove(point);
+			if (cell.isEmpty()) {
+				cells.remove(key);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Sucht alle Praxen im Umkreis.
+	 *
+	 * @return Praxen mit Entfernung ≤ radiusKm, nächste zuerst
+	 */
+	public List<PracticeDistance> findWithin(double latitude, double longitude, double radiusKm) {
+		double latitudeDelta = radiusKm / KM_PER_DEGREE_LATITUDE;
+		double longitudeDelta = Math.min(180,
+				radiusKm / (KM_PER_DEGREE_LATITUDE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01)));
+
+		int minLatitudeCell = cellIndex(Math.max(-90, latitude - latitudeDelta));
+		int maxLatitudeCell = cellIndex(Math.min(90, latitude + latitudeDelta));
+		int minLongitudeCell = cellIndex(Math.max(-180, longitude - longitudeDelta));
+		int maxLongitudeCell = cellIndex(Math.min(180, longitude + longitudeDelta));
+
+		List<PracticeDistance> result = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			for (int latitudeCell = minLatitudeCell; latitudeCell <= maxLatitudeCell; latitudeCell++) {
+				for (int longitudeCell = minLongitudeCell; longitudeCell <= maxLongitudeCell; longitudeCell++) {
+					List<PracticePoint> cell = cells.get(cellKey(latitudeCell, longitudeCell));
+					if (cell == null) {
+						continue;
+					}
+					for (PracticePoint point : cell) {
+						double distanceKm = distanceKm(latitude, longitude, point.latitude(), point.longitude());
+						if (distanceKm <= radiusKm) {
+							result.add(new PracticeDistance(point.practiceId(), distanceKm));
+						}
+					}
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		result.sort(Comparator.comparingDouble(PracticeDistance::distanceKm));
+		return result;
+	}
+
+	/**
+	 * Luftlinie zwischen zwei Punkten (Haversine-Formel).
+	 */
+	public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+		double deltaLatitude = Math.toRadians(latitude2 - latitude1);
+		double deltaLongitude = Math.toRadians(longitude2 - longitude1);
+		double a = Math.sin(deltaLatitude / 2) * Math.sin(deltaLatitude / 2)
+				+ Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+						* Math.sin(deltaLongitude / 2) * Math.sin(deltaLongitude / 2);
+		return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+	}
+
+	private static int cellIndex(double degrees) {
+		return (int) Math.floor(degrees / CELL_SIZE_DEGREES);
+	}
+
+	private static long cellKey(int latitudeCell, int longitudeCell) {
+		return ((long) latitudeCell << 32) | (longitudeCell & 0xFFFFFFFFL);
+	}
+}
@@ -0,0 +1,36 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.index;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.PracticeRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Baut den {@link PracticeGeoIndex} beim Start aus den Praxis-Koordinaten auf.
+ *
+ * WICHTIG: - Läuft nach ApplicationReadyEvent (Flyway ist durch) - Lädt nur
+ * id/latitude/longitude (Projektion), keine Entities
+ *
+ * Liest bewusst in einer eigenen, schreibfähigen Transaktion: - läuft damit
+ * immer auf dem Primary (keine Replikationsverzögerung im Index) - funktioniert
+ * auch aus afterCommit() einer anderen Transaktion heraus
+ */
+@Component
+@RequiredArgsConstructor
+public class PracticeGeoIndexLoader {
+
+	private final PracticeGeoIndex practiceGeoIndex;
+	private final PracticeRepository practiceRepository;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void load() {
+		practiceGeoIndex.rebuild(() -> practiceRepository.findAllCoordinates().forEach(
+				practice -> practiceGeoIndex.put(practice.getId(), practice.getLatitude(), practice.getLongitude())));
+	}
+}
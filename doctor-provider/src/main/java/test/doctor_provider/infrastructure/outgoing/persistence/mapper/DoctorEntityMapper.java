@@ -21,6 +21,7 @@ public interface DoctorEntityMapper {
 	// Domain → Entity (Server → Datenbank)
 	@Mapping(source = "practiceId", target = "practice", qualifiedByName = "practiceIdToEntity")
 	@Mapping(source = "specialityIds", target = "specialities", qualifiedByName = "specialityIdsToEntities")
+	@Mapping(target = "deletedAt", ignore = true)
 	DoctorEntity toEntity(Doctor doctor);
 
 	/*
@@ -0,0 +1,34 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.mapper;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import test.doctor_provider.domain.model.Doctor;
+import test.doctor_provider.domain.model.NearbyDoctor;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DoctorSearchEntity;
+
+/**
+ * Mapper für das Read-Model doctor_search. Nur Richtung Entity → Domain, weil
+ * das Read-Model nie von der Anwendung geschrieben wird.
+ */
+@Mapper(componentModel = "spring")
+public interface DoctorSearchEntityMapper {
+
+	Doctor toDomain(DoctorSearchEntity doctorSearchEntity);
+
+	// für die Umkreissuche (Entfernung kommt aus dem Geo-Index bzw. der Query)
+	@Mapping(source = "doctorSearchEntity.cityName", target = "practiceCity")
+	NearbyDoctor toNearbyDoctor(DoctorSearchEntity doctorSearchEntity, double distanceKm);
+
+	// Custom Mapping: UUID[] (PostgreSQL-Array) → Set<UUID>
+	default Set<UUID> map(UUID[] specialityIds) {
+		if (specialityIds == null || specialityIds.length == 0) {
+			return Collections.emptySet();
+		}
+		return Set.of(specialityIds);
+	}
+}
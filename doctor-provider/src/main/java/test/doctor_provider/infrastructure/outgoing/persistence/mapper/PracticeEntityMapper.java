@@ -13,6 +13,7 @@ public interface PracticeEntityMapper {
 
 	@Mapping(source = "phone", target = "phoneNumber")
 	@Mapping(source = "cityId", target = "city.id")
+	@Mapping(target = "deletedAt", ignore = true)
 	PracticeEntitiy toEntity(Practice practice);
 
 	List<PracticeEntitiy> toEntity(List<Practice> practices);
@@ -7,6 +7,7 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
+import test.doctor_provider.domain.model.Page;
 import test.doctor_provider.domain.model.Slot;
 import test.doctor_provider.infrastructure.outgoing.persistence.entity.SlotEntity;
 import test.doctor_provider.infrastructure.outgoing.persistence.entity.WorkingHoursEntity;
@@ -22,6 +23,20 @@ public interface SlotsEntityMapper {
 	@Mapping(source = "workingHours.id", target = "workingHoursId")
 	Slot toDomain(SlotEntity slotEntity);
 
+	/**
+	 * Spring-Data-Page → Domain-Page (SlotPersistenceAdapter.findAll,
+	 * MappingBenchmark).
+	 */
+	default Page<Slot> toDomainPage(org.springframework.data.domain.Page<SlotEntity> entityPage) {
+		Page<Slot> result = new Page<>();
+		result.setItems(entityPage.getContent().stream().map(this::toDomain).toList());
+		result.setPage(entityPage.getNumber());
+		result.setSize(entityPage.getSize());
+		result.setTotalElements(entityPage.getTotalElements());
+		result.setTotalPages(entityPage.getTotalPages());
+		return result;
+	}
+
 	@Named("workingHoursIdToEntity")
 	default WorkingHoursEntity workingHoursIdToEntity(UUID workingHoursId) {
 		if (workingHoursId == null) {
@@ -0,0 +1,108 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.outbox;
+
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import test.doctor_provider.domain.enums.SlotEventType;
+import test.doctor_provider.domain.enums.SlotStatus;
+import test.doctor_provider.domain.model.Slot;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Schreibt Slot-Änderungen in die Outbox (slot_event, V16).
+ *
+ * WICHTIG: - Nur innerhalb der Transaktion der Änderung aufrufbar
+ * (Propagation.MANDATORY) → Event und Änderung werden gemeinsam committet oder
+ * verworfen - doctor_id wird per Subselect aus den Working Hours gelesen -
+ * Generierung schreibt ein Event pro Working Hour (Zeitraum), nicht pro Slot
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+@RequiredArgsConstructor
+public class SlotEventOutbox {
+
+	private static final String INSERT = """
+			INSERT INTO slot_event (event_type, doctor_id, working_hours_id, slot_id, start_time, end_time, status)
+			VALUES (?, (SELECT doctor_id FROM doctor_working_hours WHERE id = ?), ?, ?, ?, ?, ?::slot_status)
+			""";
+
+	private static final String INSERT_REMOVED = """
+			INSERT INTO slot_event (event_type, doctor_id, working_hours_id)
+			SELECT 'SLOTS_REMOVED', wh.doctor_id, wh.id FROM doctor_working_hours wh
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void slotChanged(Slot slot) {
+		insert(SlotEventType.SLOT_STATUS_CHANGED, slot.getWorkingHoursId(), slot.getId(), slot.getStartTime(),
+				slot.getEndTime(), slot.getStatus());
+	}
+
+	public void slotsGenerated(Collection<Slot> slots) {
+		Map<UUID, List<Slot>> byWorkingHours = new LinkedHashMap<>();
+		for (Slot slot : slots) {
+			byWorkingHours.computeIfAbsent(slot.getWorkingHoursId(), key -> new ArrayList<>()).add(slot);
+		}
+		List<Object[]> rows = new ArrayList<>(byWorkingHours.size());
+		byWorkingHours.forEach((workingHoursId, generated) -> {
+			ZonedDateTime from = generated.stream().map(Slot::getStartTime).min(Comparator.naturalOrder()).orElseThrow();
+			ZonedDateTime to = generated.stream().map(Slot::getEndTime).max(Comparator.naturalOrder()).orElseThrow();
+			rows.add(row(SlotEventType.SLOTS_GENERATED, workingHoursId, null, from, to, null));
+		});
+		if (!rows.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT, rows);
+		}
+	}
+
+	public void slotRemoved(UUID slotId, UUID workingHoursId) {
+		insert(SlotEventType.SLOTS_REMOVED, workingHoursId, slotId, null, null, null);
+	}
+
+	public void slotsRemoved(UUID workingHoursId) {
+		insert(SlotEventType.SLOTS_REMOVED, workingHoursId, null, null, null, null);
+	}
+
+	/**
+	 * Arzt gelöscht: ein SLOTS_REMOVED pro Working Hour (die Slots selbst
+	 * entfernt erst der Löschauftrag).
+	 */
+	public void doctorRemoved(UUID doctorId) {
+		jdbcTemplate.update(INSERT_REMOVED + "WHERE wh.doctor_id = ?", doctorId);
+	}
+
+	/**
+	 * Praxis gelöscht: ein SLOTS_REMOVED pro Working Hour ihrer Ärzte.
+	 */
+	public void practiceRemoved(UUID practiceId) {
+		jdbcTemplate.update(INSERT_REMOVED + "JOIN doctor d ON d.id = wh.doctor_id WHERE d.practice_id = ?",
+				practiceId);
+	}
+
+	private void insert(SlotEventType type, UUID workingHoursId, UUID slotId, ZonedDateTime startTime,
+			ZonedDateTime endTime, SlotStatus status) {
+		jdbcTemplate.update(INSERT, row(type, workingHoursId, slotId, startTime, endTime, status));
+	}
+
+	private static Object[] row(SlotEventType type, UUID workingHoursId, UUID slotId, ZonedDateTime startTime,
+			ZonedDateTime endTime, SlotStatus status) {
+		return new Object[] {type.name(), workingHoursId, workingHoursId, slotId, toOffset(startTime),
+				toOffset(endTime), status != null ? status.name() : null};
+	}
+
+	private static OffsetDateTime toOffset(ZonedDateTime value) {
+		return value != null ? value.toOffsetDateTime() : null;
+	}
+}
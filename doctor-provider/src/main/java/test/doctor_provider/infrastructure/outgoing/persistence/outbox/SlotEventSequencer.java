@@ -0,0 +1,139 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.outbox;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Vergibt die Feed-Offsets (slot_event.position) und weckt wartende Long-Polls.
+ *
+ * WICHTIG: - Sequenziert werden nur committete Zeilen, in id-Reihenfolge, von
+ * höchstens einer Instanz gleichzeitig (pg_try_advisory_xact_lock) → position
+ * wächst streng monoton in Commit-Reihenfolge, ein Konsument verpasst nichts -
+ * Jede Instanz liest danach den höchsten Offset und weckt ihre wartenden
+ * Anfragen, auch wenn eine andere Instanz sequenziert hat - Events älter als
+ * retention werden stündlich gelöscht (Konsumenten mit älterem Offset bekommen
+ * 410 und setzen per Export neu auf)
+ */
+@Component
+public class SlotEventSequencer {
+
+	/** Schlüssel für pg_try_advisory_xact_lock (beliebig, aber fest) */
+	private static final long LOCK_KEY = 0x534C4F545F455654L;
+
+	private static final int PRUNE_BATCH = 10_000;
+
+	/**
+	 * nextval() wird nach dem ORDER BY ausgewertet → Offsets in id-Reihenfolge.
+	 */
+	private static final String SEQUENCE_SQL = """
+			WITH pending AS (
+			    SELECT id FROM slot_event WHERE position IS NULL ORDER BY id LIMIT ?
+			), numbered AS (
+			    SELECT id, nextval('slot_event_position_seq') AS position FROM pending ORDER BY id
+			)
+			UPDATE slot_event e SET position = n.position FROM numbered n WHERE e.id = n.id
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+	private final Duration retention;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition sequenced = lock.newCondition();
+	private volatile long lastPosition;
+
+	public SlotEventSequencer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+			@Value("${doctor-provider.slot-events.batch-size:1000}") int batchSize,
+			@Value("${doctor-provider.slot-events.retention:7d}") Duration retention) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.batchSize = batchSize;
+		this.retention = retention;
+	}
+
+	@Scheduled(fixedDelayString = "${doctor-provider.slot-events.sequence-interval:200ms}")
+	public void sequence() {
+		if (!running.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			int sequencedRows;
+			do {
+				Integer rows = transactionTemplate.execute(status -> {
+					Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class,
+							LOCK_KEY);
+					return Boolean.TRUE.equals(locked) ? jdbcTemplate.update(SEQUENCE_SQL, batchSize) : 0;
+				});
+				sequencedRows = rows != null ? rows : 0;
+				// Erst nach dem Commit lesen, sonst wecken wir Anfragen für noch unsichtbare Events
+				Long last = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(position), 0) FROM slot_event", Long.class);
+				publish(last != null ? last : 0);
+			} while (sequencedRows >= batchSize);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	@Scheduled(cron = "${doctor-provider.slot-events.prune-cron:0 30 * * * *}", zone = "Europe/Berlin")
+	public void prune() {
+		OffsetDateTime cutoff = OffsetDateTime.now().minus(retention);
+		int deleted;
+		do {
+			deleted = jdbcTemplate.update("""
+					DELETE FROM slot_event WHERE id IN (
+					    SELECT id FROM slot_event WHERE position IS NOT NULL AND created_at < ? ORDER BY id LIMIT ?
+					)
+					""", cutoff, PRUNE_BATCH);
+		} while (deleted >= PRUNE_BATCH);
+	}
+
+	/**
+	 * Wartet, bis ein Offset > after sequenziert wurde (höchstens timeout).
+	 */
+	public boolean awaitAfter(long after, Duration timeout) {
+		long remaining = timeout.toNanos();
+		lock.lock();
+		try {
+			while (lastPosition <= after) {
+				if (remaining <= 0) {
+					return false;
+				}
+				remaining = sequenced.awaitNanos(remaining);
+			}
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long getLastPosition() {
+		return lastPosition;
+	}
+
+	private void publish(long position) {
+		if (position <= lastPosition) {
+			return;
+		}
+		lock.lock();
+		try {
+			lastPosition = position;
+			sequenced.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+}
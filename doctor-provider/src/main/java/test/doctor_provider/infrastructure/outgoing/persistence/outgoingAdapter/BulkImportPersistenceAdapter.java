@@ -0,0 +1,255 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.outgoingAdapter;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import test.doctor_provider.application.port.outgoing.BulkImportOutgoingPort;
+import test.doctor_provider.domain.enums.Weekday;
+import test.doctor_provider.domain.model.Doctor;
+import test.doctor_provider.domain.model.DoctorWorkingHours;
+import test.doctor_provider.domain.model.Practice;
+import test.doctor_provider.infrastructure.outgoing.geo.PostalCodeCentroids;
+import test.doctor_provider.infrastructure.outgoing.persistence.TransactionHooks;
+import test.doctor_provider.infrastructure.outgoing.persistence.index.DoctorSearchIndex;
+import test.doctor_provider.infrastructure.outgoing.persistence.index.PracticeGeoIndex;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Persistenz für den Bulk-Import: JDBC statt JPA, ein Statement pro Batch.
+ *
+ * WICHTIG: - Ein Batch wird als Arrays übergeben und mit INSERT ... SELECT
+ * FROM unnest(...) in EINEM Statement geschrieben (ein Roundtrip, ein
+ * Trigger-Lauf für doctor_search) - ON CONFLICT (id) DO NOTHING RETURNING id
+ * liefert die tatsächlich angelegten Zeilen - Koordinaten, Geo-Index und
+ * Such-Index wie bei den Einzel-Adaptern (Index erst nach dem Commit) -
+ * doctor_search wird noch in der Batch-Transaktion gelesen, nach dem Commit
+ * wird nur der Index aktualisiert
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkImportPersistenceAdapter implements BulkImportOutgoingPort {
+
+	/**
+	 * Array-Parameter: PostgreSQL-Elementtyp und Werte.
+	 */
+	private record SqlArray(String type, Object[] values) {
+	}
+
+
+	private static final RowMapper<UUID> ID = (resultSet, rowNum) -> resultSet.getObject(1, UUID.class);
+
+	private final JdbcTemplate jdbcTemplate;
+	private final PostalCodeCentroids postalCodeCentroids;
+	private final PracticeGeoIndex practiceGeoIndex;
+	private final DoctorSearchIndex doctorSearchIndex;
+
+	@Override
+	public Set<UUID> findAllCityIds() {
+		return new HashSet<>(jdbcTemplate.query("SELECT id FROM city", ID));
+	}
+
+	@Override
+	public Set<UUID> findAllSpecialityIds() {
+		return new HashSet<>(jdbcTemplate.query("SELECT id FROM speciality", ID));
+	}
+
+	@Override
+	public Set<UUID> findExistingPracticeIds(Collection<UUID> ids) {
+		return findIds("SELECT id FROM practice WHERE id = ANY(?)", ids);
+	}
+
+	@Override
+	public Set<UUID> findActivePracticeIds(Collection<UUID> ids) {
+		return findIds("SELECT id FROM practice WHERE id = ANY(?) AND deleted_at IS NULL", ids);
+	}
+
+	@Override
+	public Set<String> findActivePracticeNames(Collection<String> names) {
+		if (names.isEmpty()) {
+			return Set.of();
+		}
+		Object[] lowered = names.stream().map(name -> name.toLowerCase(Locale.ROOT)).distinct().toArray();
+		return new HashSet<>(
+				query("SELECT LOWER(name) FROM practice WHERE LOWER(name) = ANY(?) AND deleted_at IS NULL",
+						(resultSet, rowNum) -> resultSet.getString(1), new SqlArray("varchar", lowered)));
+	}
+
+	@Override
+	public Set<UUID> findExistingDoctorIds(Collection<UUID> ids) {
+		return findIds("SELECT id FROM doctor WHERE id = ANY(?)", ids);
+	}
+
+	@Override
+	public Set<UUID> findActiveDoctorIds(Collection<UUID> ids) {
+		return findIds("SELECT id FROM doctor WHERE id = ANY(?) AND deleted_at IS NULL", ids);
+	}
+
+	@Override
+	public Set<UUID> findExistingWorkingHoursIds(Collection<UUID> ids) {
+		return findIds("SELECT id FROM doctor_working_hours WHERE id = ANY(?)", ids);
+	}
+
+	@Override
+	public List<DoctorWorkingHours> findWorkingHoursByDoctorIds(Collection<UUID> doctorIds) {
+		if (doctorIds.isEmpty()) {
+			return List.of();
+		}
+		return query("""
+				SELECT id, doctor_id, weekday::text, start_time, end_time
+				FROM doctor_working_hours WHERE doctor_id = ANY(?)
+				""", (resultSet, rowNum) -> new DoctorWorkingHours(resultSet.getObject(1, UUID.class),
+				resultSet.getObject(2, UUID.class), Weekday.valueOf(resultSet.getString(3)),
+				resultSet.getObject(4, LocalTime.class), resultSet.getObject(5, LocalTime.class)),
+				uuids(doctorIds));
+	}
+
+	@Override
+	public Set<UUID> insertPractices(List<Practice> practices) {
+		int size = practices.size();
+		Object[][] columns = new Object[10][size];
+		for (int i = 0; i < size; i++) {
+			Practice practice = practices.get(i);
+			var centroid = postalCodeCentroids.find(practice.getPostalCode());
+			practice.setLatitude(centroid.map(PostalCodeCentroids.Centroid::latitude).orElse(null));
+			practice.setLongitude(centroid.map(PostalCodeCentroids.Centroid::longitude).orElse(null));
+			columns[0][i] = practice.getId();
+			columns[1][i] = practice.getName();
+			columns[2][i] = practice.getStreet();
+			columns[3][i] = practice.getHouseNumber();
+			columns[4][i] = practice.getPhone();
+			columns[5][i] = practice.getEmail();
+			columns[6][i] = practice.getPostalCode();
+			columns[7][i] = practice.getCityId();
+			columns[8][i] = practice.getLatitude();
+			columns[9][i] = practice.getLongitude();
+		}
+		Set<UUID> inserted = new HashSet<>(query("""
+				INSERT INTO practice (id, name, street, house_number, phone, email, postal_code, city_id,
+				                      latitude, longitude)
+				SELECT * FROM unnest(?::uuid[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[],
+				                     ?::varchar[], ?::varchar[], ?::uuid[], ?::float8[], ?::float8[])
+				ON CONFLICT (id) DO NOTHING
+				RETURNING id
+				""", ID, new SqlArray("uuid", columns[0]), new SqlArray("varchar", columns[1]),
+				new SqlArray("varchar", columns[2]), new SqlArray("varchar", columns[3]),
+				new SqlArray("varchar", columns[4]), new SqlArray("varchar", columns[5]),
+				new SqlArray("varchar", columns[6]), new SqlArray("uuid", columns[7]),
+				new SqlArray("float8", columns[8]), new SqlArray("float8", columns[9])));
+
+		List<Practice> located = practices.stream()
+				.filter(practice -> inserted.contains(practice.getId()) && practice.getLatitude() != null).toList();
+		TransactionHooks.afterCommit(() -> located.forEach(
+				practice -> practiceGeoIndex.put(practice.getId(), practice.getLatitude(), practice.getLongitude())));
+		return inserted;
+	}
+
+	@Override
+	public Set<UUID> insertDoctors(List<Doctor> doctors) {
+		int size = doctors.size();
+		Object[][] columns = new Object[4][size];
+		for (int i = 0; i < size; i++) {
+			Doctor doctor = doctors.get(i);
+			columns[0][i] = doctor.getId();
+			columns[1][i] = doctor.getPracticeId();
+			columns[2][i] = doctor.getFirstName();
+			columns[3][i] = doctor.getLastName();
+		}
+		Set<UUID> inserted = new HashSet<>(query("""
+				INSERT INTO doctor (id, practice_id, first_name, last_name)
+				SELECT * FROM unnest(?::uuid[], ?::uuid[], ?::varchar[], ?::varchar[])
+				ON CONFLICT (id) DO NOTHING
+				RETURNING id
+				""", ID, new SqlArray("uuid", columns[0]), new SqlArray("uuid", columns[1]),
+				new SqlArray("varchar", columns[2]), new SqlArray("varchar", columns[3])));
+
+		List<Object> doctorIds = new ArrayList<>();
+		List<Object> specialityIds = new ArrayList<>();
+		for (Doctor doctor : doctors) {
+			if (inserted.contains(doctor.getId()) && doctor.getSpecialityIds() != null) {
+				for (UUID specialityId : doctor.getSpecialityIds()) {
+					doctorIds.add(doctor.getId());
+					specialityIds.add(specialityId);
+				}
+			}
+		}
+		if (!doctorIds.isEmpty()) {
+			query("""
+					INSERT INTO doctor_speciality (doctor_id, speciality_id)
+					SELECT * FROM unnest(?::uuid[], ?::uuid[])
+					ON CONFLICT DO NOTHING
+					RETURNING doctor_id
+					""", ID, new SqlArray("uuid", doctorIds.toArray()), new SqlArray("uuid", specialityIds.toArray()));
+		}
+
+		// doctor_search wurde per Trigger in denselben Statements gepflegt
+		List<DoctorSearchIndex.Entry> searchRows = inserted.isEmpty() ? List.of() : query("""
+				SELECT doctor_id, first_name, last_name, practice_id, city_id, speciality_ids
+				FROM doctor_search WHERE doctor_id = ANY(?)
+				""", (resultSet, rowNum) -> {
+			Array ids = resultSet.getArray("speciality_ids");
+			return new DoctorSearchIndex.Entry(resultSet.getObject("doctor_id", UUID.class), resultSet.getString("first_name"),
+					resultSet.getString("last_name"), resultSet.getObject("practice_id", UUID.class),
+					resultSet.getObject("city_id", UUID.class),
+					ids == null ? Set.of() : Set.of((UUID[]) ids.getArray()));
+		}, uuids(inserted));
+		TransactionHooks.afterCommit(() -> searchRows.forEach(doctorSearchIndex::put));
+		return inserted;
+	}
+
+	@Override
+	public Set<UUID> insertWorkingHours(List<DoctorWorkingHours> workingHours) {
+		int size = workingHours.size();
+		Object[][] columns = new Object[5][size];
+		for (int i = 0; i < size; i++) {
+			DoctorWorkingHours hours = workingHours.get(i);
+			columns[0][i] = hours.getId();
+			columns[1][i] = hours.getDoctorId();
+			columns[2][i] = hours.getWeekday().name();
+			columns[3][i] = hours.getStartTime().toString();
+			columns[4][i] = hours.getEndTime().toString();
+		}
+		return new HashSet<>(query("""
+				INSERT INTO doctor_working_hours (id, doctor_id, weekday, start_time, end_time)
+				SELECT u.id, u.doctor_id, u.weekday::weekday_enum, u.start_time, u.end_time
+				FROM unnest(?::uuid[], ?::uuid[], ?::text[], ?::time[], ?::time[])
+				     AS u(id, doctor_id, weekday, start_time, end_time)
+				ON CONFLICT (id) DO NOTHING
+				RETURNING id
+				""", ID, new SqlArray("uuid", columns[0]), new SqlArray("uuid", columns[1]),
+				new SqlArray("text", columns[2]), new SqlArray("time", columns[3]), new SqlArray("time", columns[4])));
+	}
+
+	private Set<UUID> findIds(String sql, Collection<UUID> ids) {
+		if (ids.isEmpty()) {
+			return Set.of();
+		}
+		return new HashSet<>(query(sql, ID, uuids(ids)));
+	}
+
+	private <T> List<T> query(String sql, RowMapper<T> rowMapper, SqlArray... arrays) {
+		return jdbcTemplate.query(connection -> {
+			PreparedStatement statement = connection.prepareStatement(sql);
+			for (int i = 0; i < arrays.length; i++) {
+				statement.setArray(i + 1, connection.createArrayOf(arrays[i].type(), arrays[i].values()));
+			}
+			return statement;
+		}, rowMapper);
+	}
+
+	private static SqlArray uuids(Collection<UUID> ids) {
+		return new SqlArray("uuid", ids.toArray());
+	}
+}
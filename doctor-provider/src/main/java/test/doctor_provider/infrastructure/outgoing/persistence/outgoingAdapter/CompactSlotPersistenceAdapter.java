@@ -0,0 +1,395 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.outgoingAdapter;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import test.doctor_provider.application.port.outgoing.SlotOutgoingPort;
+import test.doctor_provider.domain.enums.SlotStatus;
+import test.doctor_provider.domain.model.Page;
+import test.doctor_provider.domain.model.Slot;
+import test.doctor_provider.domain.model.SlotWithDoctor;
+import test.doctor_provider.infrastructure.outgoing.persistence.compact.CompactSlotId;
+import test.doctor_provider.infrastructure.outgoing.persistence.compact.SlotDay;
+import test.doctor_provider.infrastructure.outgoing.persistence.export.JdbcCursor;
+import test.doctor_provider.infrastructure.outgoing.persistence.outbox.SlotEventOutbox;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Persistenz für Slots im kompakten Modus: eine Zeile pro Working Hours und Tag
+ * (slot_day, 2 Bit pro Slot) plus slot_booking für gebuchte Slots (V13).
+ *
+ * WICHTIG: - Aktiv mit doctor-provider.slots.storage=compact - Gleicher Port wie
+ * {@link SlotPersistenceAdapter}, die Services merken keinen Unterschied -
+ * Slot-IDs werden aus slot_day.id und Index gebildet ({@link CompactSlotId}) -
+ * Slots müssen auf dem Raster slot_minutes ab Mitternacht liegen - Änderungen
+ * sperren die Tageszeile (SELECT ... FOR UPDATE), damit parallele Buchungen am
+ * selben Tag sich nicht überschreiben - findAll filtert und paginiert über
+ * die Zähler available_count, booked_count, blocked_count (V17) in SQL,
+ * dekodiert werden nur die Tageszeilen der Seite; writeStates hält die Zähler
+ * aktuell - Slots gelöschter Ärzte sind unsichtbar (JOIN auf doctor) und lassen
+ * sich nicht mehr ändern
+ */
+@Component
+@ConditionalOnProperty(name = "doctor-provider.slots.storage", havingValue = "compact")
+@RequiredArgsConstructor
+public class CompactSlotPersistenceAdapter implements SlotOutgoingPort {
+
+	private static final int DEFAULT_SLOT_MINUTES = 30;
+
+	private static final String SELECT_DAY = """
+			SELECT d.id, d.working_hours_id, d.slot_date, d.slot_minutes, d.states FROM slot_day d
+			""";
+
+	/** Tageszeilen gelöschter Ärzte (doctor.deleted_at) sind unsichtbar */
+	private static final String VISIBLE_DOCTOR = """
+			JOIN doctor_working_hours wh ON wh.id = d.working_hours_id
+			JOIN doctor doc ON doc.id = wh.doctor_id AND doc.deleted_at IS NULL
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final JdbcCursor jdbcCursor;
+	private final SlotEventOutbox slotEventOutbox;
+
+	/**
+	 * Zwei Abfragen über die Tageszeilen: Summe der passenden Slots
+	 * (totalElements) und die Tage der Seite. Die laufende Summe (upto) sagt,
+	 * ab welchem Tag die Seite beginnt; jeder Tag hat mindestens einen
+	 * passenden Slot, also reichen size Tage.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Page<Slot> findAll(Optional<UUID> doctorId, Optional<UUID> workingHoursId, Optional<LocalDate> dateFrom,
+			Optional<LocalDate> dateTo, Optional<SlotStatus> status, int page, int size) {
+		String matching = status.map(CompactSlotPersistenceAdapter::countColumn)
+				.orElse("(d.available_count + d.booked_count + d.blocked_count)");
+		StringBuilder from = new StringBuilder("FROM slot_day d\n").append(VISIBLE_DOCTOR);
+		List<Object> args = new ArrayList<>();
+		from.append("WHERE ").append(matching).append(" > 0\n");
+		doctorId.ifPresent(id -> {
+			from.append("AND wh.doctor_id = ?\n");
+			args.add(id);
+		});
+		workingHoursId.ifPresent(id -> {
+			from.append("AND d.working_hours_id = ?\n");
+			args.add(id);
+		});
+		dateFrom.ifPresent(date -> {
+			from.append("AND d.slot_date >= ?\n");
+			args.add(date);
+		});
+		dateTo.ifPresent(date -> {
+			from.append("AND d.slot_date <= ?\n");
+			args.add(date);
+		});
+
+		long total = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(" + matching + "), 0) " + from, Long.class,
+				args.toArray());
+
+		long offset = (long) page * size;
+		List<Slot> items = new ArrayList<>(size);
+		if (size > 0 && offset < total) {
+			List<Object> pageArgs = new ArrayList<>(args);
+			pageArgs.add(offset);
+			pageArgs.add(size);
+			SlotStatus wanted = status.orElse(null);
+			jdbcTemplate.query("""
+					SELECT * FROM (
+					    SELECT d.id, d.working_hours_id, d.slot_date, d.slot_minutes, d.states,
+					           %1$s AS matching,
+					           SUM(%1$s) OVER (ORDER BY d.slot_date, d.working_hours_id) AS upto
+					    %2$s) days
+					WHERE upto > ?
+					ORDER BY slot_date, working_hours_id
+					LIMIT ?
+					""".formatted(matching, from), resultSet -> {
+				SlotDay day = toSlotDay(resultSet);
+				long skip = offset - (resultSet.getLong("upto") - resultSet.getLong("matching"));
+				for (int index = 0; index < day.capacity() && items.size() < size; index++) {
+					SlotStatus slotStatus = day.get(index);
+					if (slotStatus == null || (wanted != null && slotStatus != wanted)) {
+						continue;
+					}
+					if (skip > 0) {
+						skip--;
+					} else {
+						items.add(toSlot(day, index));
+					}
+				}
+			}, pageArgs.toArray());
+		}
+
+		Page<Slot> result = new Page<>();
+		result.setItems(items);
+		result.setPage(page);
+		result.setSize(size);
+		result.setTotalElements(total);
+		result.setTotalPages(size == 0 ? 0 : (int) ((total + size - 1) / size));
+		return result;
+	}
+
+	/**
+	 * Export per JDBC-Cursor über die Tageszeilen (sortiert nach slot_date über
+	 * idx_slot_day_date), jede Tageszeile wird erst beim Lesen in Slots
+	 * dekodiert.
+	 */
+	@Override
+	public Stream<SlotWithDoctor> streamAll(Optional<UUID> doctorId, Optional<UUID> workingHoursId,
+			Optional<LocalDate> dateFrom, Optional<LocalDate> dateTo, Optional<SlotStatus> status) {
+		StringBuilder sql = new StringBuilder("""
+				SELECT d.id, d.working_hours_id, d.slot_date, d.slot_minutes, d.states, wh.doctor_id
+				FROM slot_day d
+				""" + VISIBLE_DOCTOR + "WHERE TRUE\n");
+		List<Object> args = new ArrayList<>();
+		doctorId.ifPresent(id -> {
+			sql.append("AND wh.doctor_id = ?\n");
+			args.add(id);
+		});
+		workingHoursId.ifPresent(id -> {
+			sql.append("AND d.working_hours_id = ?\n");
+			args.add(id);
+		});
+		dateFrom.ifPresent(date -> {
+			sql.append("AND d.slot_date >= ?\n");
+			args.add(date);
+		});
+		dateTo.ifPresent(date -> {
+			sql.append("AND d.slot_date <= ?\n");
+			args.add(date);
+		});
+		sql.append("ORDER BY d.slot_date");
+
+		SlotStatus wanted = status.orElse(null);
+		Stream<DoctorSlotDay> days = jdbcCursor.stream(sql.toString(),
+				(resultSet, rowNum) -> new DoctorSlotDay(resultSet.getObject("doctor_id", UUID.class),
+						toSlotDay(resultSet)),
+				args.toArray());
+		return days.flatMap(row -> IntStream.range(0, row.day().capacity()).filter(index -> {
+			SlotStatus slotStatus = row.day().get(index);
+			return slotStatus != null && (wanted == null || slotStatus == wanted);
+		}).mapToObj(index -> new SlotWithDoctor(CompactSlotId.of(row.day().getId(), index), row.doctorId(),
+				row.day().getWorkingHoursId(), row.day().startOf(index), row.day().endOf(index),
+				row.day().get(index))));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<Slot> findById(UUID id) {
+		return CompactSlotId.parse(id).flatMap(ref -> loadDay(ref.slotDayId(), false)
+				.filter(day -> day.get(ref.index()) != null).map(day -> toSlot(day, ref.index())));
+	}
+
+	@Override
+	@Transactional
+	public Slot save(Slot slot) {
+		Slot saved = write(List.of(slot)).getFirst();
+		slotEventOutbox.slotChanged(saved);
+		return saved;
+	}
+
+	/**
+	 * Schreibt pro (Working Hours, Tag) genau eine Zeile: anlegen falls nötig,
+	 * sperren, Bits setzen, zurückschreiben.
+	 */
+	@Override
+	@Transactional
+	public List<Slot> saveAll(List<Slot> slots) {
+		List<Slot> saved = write(slots);
+		slotEventOutbox.slotsGenerated(saved);
+		return saved;
+	}
+
+	private List<Slot> write(List<Slot> slots) {
+		Map<DayKey, List<Slot>> byDay = new LinkedHashMap<>();
+		for (Slot slot : slots) {
+			byDay.computeIfAbsent(new DayKey(slot.getWorkingHoursId(), SlotDay.dateOf(slot.getStartTime())),
+					key -> new ArrayList<>()).add(slot);
+		}
+
+		Map<Slot, Slot> saved = new IdentityHashMap<>();
+		for (Map.Entry<DayKey, List<Slot>> entry : byDay.entrySet()) {
+			SlotDay day = lockOrCreateDay(entry.getKey());
+			for (Slot slot : entry.getValue()) {
+				int index = day.indexOf(slot.getStartTime(), slot.getEndTime());
+				SlotStatus previous = day.set(index, slot.getStatus());
+				syncBooking(day.getId(), index, previous, slot.getStatus());
+				saved.put(slot, toSlot(day, index));
+			}
+			writeStates(day);
+		}
+		return slots.stream().map(saved::get).toList();
+	}
+
+	/**
+	 * Nur Statusänderungen: Start/Ende ergeben sich aus der ID.
+	 */
+	@Override
+	@Transactional
+	public Slot modify(Slot slot) {
+		return modifyStatus(slot.getId(), slot.getStatus());
+	}
+
+	@Override
+	@Transactional
+	public Slot modifyBlockSlot(UUID id) {
+		return modifyStatus(id, SlotStatus.BLOCKED);
+	}
+
+	@Override
+	@Transactional
+	public Slot modifyUnblockSlot(UUID id) {
+		return modifyStatus(id, SlotStatus.AVAILABLE);
+	}
+
+	@Override
+	@Transactional
+	public Slot modifyBookSlot(UUID id) {
+		return modifyStatus(id, SlotStatus.BOOKED);
+	}
+
+	/**
+	 * Der Status steckt als 2 Bit in states: geprüft wird unter der Sperre der
+	 * Tageszeile (SELECT ... FOR UPDATE), nicht per bedingtem UPDATE.
+	 */
+	@Override
+	@Transactional
+	public Optional<Slot> modifyStatusIfCurrent(UUID id, SlotStatus expected, SlotStatus status) {
+		Optional<CompactSlotId.Ref> ref = CompactSlotId.parse(id);
+		if (ref.isEmpty()) {
+			return Optional.empty();
+		}
+		int index = ref.get().index();
+		return loadDay(ref.get().slotDayId(), true).filter(day -> day.get(index) == expected)
+				.map(day -> {
+					day.set(index, status);
+					syncBooking(day.getId(), index, expected, status);
+					writeStates(day);
+					Slot modified = toSlot(day, index);
+					slotEventOutbox.slotChanged(modified);
+					return modified;
+				});
+	}
+
+	@Override
+	@Transactional
+	public void deleteById(UUID id) {
+		CompactSlotId.parse(id).ifPresent(ref -> loadDay(ref.slotDayId(), true).ifPresent(day -> {
+			SlotStatus previous = day.set(ref.index(), null);
+			syncBooking(day.getId(), ref.index(), previous, null);
+			writeStates(day);
+			if (previous != null) {
+				slotEventOutbox.slotRemoved(id, day.getWorkingHoursId());
+			}
+		}));
+	}
+
+	@Override
+	@Transactional
+	public void deleteAllByWorkingHoursId(UUID workingHoursId) {
+		// slot_booking folgt per ON DELETE CASCADE
+		jdbcTemplate.update("DELETE FROM slot_day WHERE working_hours_id = ?", workingHoursId);
+		slotEventOutbox.slotsRemoved(workingHoursId);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public boolean existsById(UUID id) {
+		return findById(id).isPresent();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public boolean existsByIdAndStatus(UUID id, SlotStatus status) {
+		return findById(id).map(slot -> slot.getStatus() == status).orElse(false);
+	}
+
+	private Slot modifyStatus(UUID id, SlotStatus status) {
+		CompactSlotId.Ref ref = CompactSlotId.parse(id)
+				.orElseThrow(() -> new RuntimeException("Slot not found: " + id));
+		SlotDay day = loadDay(ref.slotDayId(), true).filter(candidate -> candidate.get(ref.index()) != null)
+				.orElseThrow(() -> new RuntimeException("Slot not found: " + id));
+
+		SlotStatus previous = day.set(ref.index(), status);
+		syncBooking(day.getId(), ref.index(), previous, status);
+		writeStates(day);
+		Slot modified = toSlot(day, ref.index());
+		slotEventOutbox.slotChanged(modified);
+		return modified;
+	}
+
+	private SlotDay lockOrCreateDay(DayKey key) {
+		jdbcTemplate.update("""
+				INSERT INTO slot_day (working_hours_id, slot_date, slot_minutes) VALUES (?, ?, ?)
+				ON CONFLICT (working_hours_id, slot_date) DO NOTHING
+				""", key.workingHoursId(), key.date(), DEFAULT_SLOT_MINUTES);
+		return jdbcTemplate.queryForObject(SELECT_DAY + "WHERE d.working_hours_id = ? AND d.slot_date = ? FOR UPDATE",
+				(resultSet, rowNum) -> toSlotDay(resultSet), key.workingHoursId(), key.date());
+	}
+
+	private Optional<SlotDay> loadDay(long slotDayId, boolean forUpdate) {
+		return jdbcTemplate
+				.query(SELECT_DAY + VISIBLE_DOCTOR + "WHERE d.id = ?" + (forUpdate ? " FOR UPDATE OF d" : ""),
+						(resultSet, rowNum) -> toSlotDay(resultSet), slotDayId)
+				.stream().findFirst();
+	}
+
+	private void writeStates(SlotDay day) {
+		jdbcTemplate.update("""
+				UPDATE slot_day SET states = ?, available_count = ?, booked_count = ?, blocked_count = ?
+				WHERE id = ?
+				""", day.getStates(), day.count(SlotStatus.AVAILABLE), day.count(SlotStatus.BOOKED),
+				day.count(SlotStatus.BLOCKED), day.getId());
+	}
+
+	private static String countColumn(SlotStatus status) {
+		return switch (status) {
+			case AVAILABLE -> "d.available_count";
+			case BOOKED -> "d.booked_count";
+			case BLOCKED -> "d.blocked_count";
+		};
+	}
+
+	private void syncBooking(long slotDayId, int index, SlotStatus previous, SlotStatus current) {
+		if (current == SlotStatus.BOOKED && previous != SlotStatus.BOOKED) {
+			jdbcTemplate.update("""
+					INSERT INTO slot_booking (slot_day_id, slot_index) VALUES (?, ?)
+					ON CONFLICT (slot_day_id, slot_index) DO NOTHING
+					""", slotDayId, index);
+		} else if (previous == SlotStatus.BOOKED && current != SlotStatus.BOOKED) {
+			jdbcTemplate.update("DELETE FROM slot_booking WHERE slot_day_id = ? AND slot_index = ?", slotDayId,
+					index);
+		}
+	}
+
+	private static SlotDay toSlotDay(ResultSet resultSet) throws SQLException {
+		return new SlotDay(resultSet.getLong("id"), resultSet.getObject("working_hours_id", UUID.class),
+				resultSet.getObject("slot_date", LocalDate.class), resultSet.getInt("slot_minutes"),
+				resultSet.getBytes("states"));
+	}
+
+	private static Slot toSlot(SlotDay day, int index) {
+		return new Slot(CompactSlotId.of(day.getId(), index), day.getWorkingHoursId(), day.startOf(index),
+				day.endOf(index), day.get(index));
+	}
+
+	private record DayKey(UUID workingHoursId, LocalDate date) {
+	}
+
+	private record DoctorSlotDay(UUID doctorId, SlotDay day) {
+	}
+}
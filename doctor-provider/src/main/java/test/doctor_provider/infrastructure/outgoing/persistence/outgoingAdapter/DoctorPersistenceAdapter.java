@@ -4,16 +4,38 @@ import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import test.doctor_provider.application.port.outgoing.DoctorOutgoingPort;
 import test.doctor_provider.domain.model.Doctor;
 import test.doctor_provider.domain.model.DoctorSearchCriteria;
+import test.doctor_provider.domain.model.NearbyDoctor;
 import test.doctor_provider.domain.model.Page;
+import test.doctor_provider.infrastructure.outgoing.persistence.TransactionHooks;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DeletionJobEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DoctorSearchEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.export.JdbcCursor;
+import test.doctor_provider.infrastructure.outgoing.persistence.index.DoctorSearchIndex;
+import test.doctor_provider.infrastructure.outgoing.persistence.index.DoctorSearchIndexLoader;
+import test.doctor_provider.infrastructure.outgoing.persistence.index.PracticeGeoIndex;
 import test.doctor_provider.infrastructure.outgoing.persistence.mapper.DoctorEntityMapper;
+import test.doctor_provider.infrastructure.outgoing.persistence.mapper.DoctorSearchEntityMapper;
+import test.doctor_provider.infrastructure.outgoing.persistence.outbox.SlotEventOutbox;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.DeletionJobRepository;
 import test.doctor_provider.infrastructure.outgoing.persistence.repository.DoctorRepository;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.DoctorSearchRepository;
 
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
@@ -21,10 +43,36 @@ public class DoctorPersistenceAdapter implements DoctorOutgoingPort {
 
 	private final DoctorRepository doctorRepository;
 	private final DoctorEntityMapper doctorEntityMapper;
+	private final DoctorSearchRepository doctorSearchRepository;
+	private final DoctorSearchEntityMapper doctorSearchEntityMapper;
+	private final DoctorSearchIndex doctorSearchIndex;
+	private final DoctorSearchIndexLoader doctorSearchIndexLoader;
+	private final PracticeGeoIndex practiceGeoIndex;
+	private final DeletionJobRepository deletionJobRepository;
+	private final JdbcCursor jdbcCursor;
+	private final SlotEventOutbox slotEventOutbox;
 
+	/**
+	 * Treffer der Umkreissuche vor dem Laden der Arzt-Daten.
+	 */
+	private record NearbyHit(UUID doctorId, double distanceKm) {
+	}
+
+	/**
+	 * Suche läuft über das Read-Model doctor_search (eine Tabelle, keine JOINs zu
+	 * practice/city/doctor_speciality).
+	 *
+	 * Reine Fachrichtung/Stadt-Suchen (der Normalfall bei Patienten) beantwortet
+	 * der {@link DoctorSearchIndex} im Speicher, die Datenbank lädt dann nur noch
+	 * die Zeilen der aktuellen Seite per Primärschlüssel.
+	 */
 	@Override
 	public Page<Doctor> findAll(DoctorSearchCriteria criteria, int page, int size) {
-		var entityPage = doctorRepository.findAllFiltered(
+		if (isIndexSearch(criteria)) {
+			return findAllFromIndex(criteria, page, size);
+		}
+
+		var entityPage = doctorSearchRepository.findAllFiltered(
 				criteria.getFirstName(),
 				criteria.getLastName(),
 				criteria.getPracticeId(),
@@ -33,7 +81,7 @@ public class DoctorPersistenceAdapter implements DoctorOutgoingPort {
 				PageRequest.of(page, size));
 
 		Page<Doctor> result = new Page<>();
-		result.setItems(entityPage.getContent().stream().map(doctorEntityMapper::toDomain).toList());
+		result.setItems(entityPage.getContent().stream().map(doctorSearchEntityMapper::toDomain).toList());
 		result.setPage(entityPage.getNumber());
 		result.setSize(entityPage.getSize());
 		result.setTotalElements(entityPage.getTotalElements());
@@ -41,6 +89,76 @@ public class DoctorPersistenceAdapter implements DoctorOutgoingPort {
 		return result;
 	}
 
+	private boolean isIndexSearch(DoctorSearchCriteria criteria) {
+		return doctorSearchIndex.isReady() && criteria.getFirstName() == null && criteria.getLastName() == null
+				&& criteria.getPracticeId() == null
+				&& (criteria.getSpecialityId() != null || criteria.getCityId() != null);
+	}
+
+	private Page<Doctor> findAllFromIndex(DoctorSearchCriteria criteria, int page, int size) {
+		var indexPage = doctorSearchIndex.search(criteria.getSpecialityId(), criteria.getCityId(), page, size);
+
+		// findAllById liefert keine feste Reihenfolge → auf Index-Reihenfolge
+		// (last_name, first_name, doctor_id wie im Datenbank-Pfad) sortieren
+		Map<UUID, DoctorSearchEntity> rowsById = doctorSearchRepository.findAllById(indexPage.doctorIds()).stream()
+				.collect(Collectors.toMap(DoctorSearchEntity::getId, Function.identity()));
+
+		Page<Doctor> result = new Page<>();
+		result.setItems(indexPage.doctorIds().stream().map(rowsById::get).filter(Objects::nonNull)
+				.map(doctorSearchEntityMapper::toDomain).toList());
+		result.setPage(page);
+		result.setSize(size);
+		result.setTotalElements(indexPage.totalElements());
+		result.setTotalPages((int) ((indexPage.totalElements() + size - 1) / size));
+		return result;
+	}
+
+	/**
+	 * Umkreissuche: Praxen im Umkreis aus dem {@link PracticeGeoIndex}, deren
+	 * Ärzte aus dem {@link DoctorSearchIndex}. Nur die Zeilen der aktuellen Seite
+	 * werden aus doctor_search geladen.
+	 *
+	 * Solange die Indizes nach dem Start noch aufgebaut werden, rechnet die
+	 * Datenbank (Rechteck-Vorfilter + Haversine).
+	 */
+	@Override
+	public Page<NearbyDoctor> findNearby(double latitude, double longitude, double radiusKm, UUID specialityId,
+			int page, int size) {
+		List<NearbyHit> hits;
+		long totalElements;
+		if (practiceGeoIndex.isReady() && doctorSearchIndex.isReady()) {
+			List<NearbyHit> allHits = new ArrayList<>();
+			for (var practice : practiceGeoIndex.findWithin(latitude, longitude, radiusKm)) {
+				for (UUID doctorId : doctorSearchIndex.findByPractice(practice.practiceId(), specialityId)) {
+					allHits.add(new NearbyHit(doctorId, practice.distanceKm()));
+				}
+			}
+			int from = (int) Math.min((long) page * size, allHits.size());
+			hits = allHits.subList(from, Math.min(from + size, allHits.size()));
+			totalElements = allHits.size();
+		} else {
+			var rowPage = doctorSearchRepository.findNearby(latitude, longitude, radiusKm, specialityId,
+					PageRequest.of(page, size));
+			hits = rowPage.getContent().stream().map(row -> new NearbyHit(row.getDoctorId(), row.getDistanceKm()))
+					.toList();
+			totalElements = rowPage.getTotalElements();
+		}
+
+		Map<UUID, DoctorSearchEntity> rowsById = doctorSearchRepository
+				.findAllById(hits.stream().map(NearbyHit::doctorId).toList()).stream()
+				.collect(Collectors.toMap(DoctorSearchEntity::getId, Function.identity()));
+
+		Page<NearbyDoctor> result = new Page<>();
+		result.setItems(hits.stream().filter(hit -> rowsById.containsKey(hit.doctorId()))
+				.map(hit -> doctorSearchEntityMapper.toNearbyDoctor(rowsById.get(hit.doctorId()), hit.distanceKm()))
+				.toList());
+		result.setPage(page);
+		result.setSize(size);
+		result.setTotalElements(totalElements);
+		result.setTotalPages((int) ((totalElements + size - 1) / size));
+		return result;
+	}
+
 	@Override
 	public Optional<Doctor> findById(UUID id) {
 		return doctorRepository.findById(id).map(doctorEntityMapper::toDomain);
@@ -50,6 +168,7 @@ public class DoctorPersistenceAdapter implements DoctorOutgoingPort {
 	public Doctor save(Doctor doctor) {
 		var entity = doctorEntityMapper.toEntity(doctor);
 		var saved = doctorRepository.save(entity);
+		reindex(saved.getId());
 		return doctorEntityMapper.toDomain(saved);
 	}
 
@@ -57,16 +176,87 @@ public class DoctorPersistenceAdapter implements DoctorOutgoingPort {
 	public Doctor modify(Doctor doctor) {
 		var entity = doctorEntityMapper.toEntity(doctor);
 		var saved = doctorRepository.save(entity);
+		reindex(saved.getId());
 		return doctorEntityMapper.toDomain(saved);
 	}
 
+	/**
+	 * Versteckt den Arzt sofort und legt einen Löschauftrag an. Working Hours und
+	 * Slots entfernt der ChunkedDeletionWorker in kleinen Transaktionen.
+	 */
 	@Override
+	@Transactional
 	public void deleteById(UUID id) {
-		doctorRepository.deleteById(id);
+		doctorRepository.hide(id);
+		deletionJobRepository.save(DeletionJobEntity.pending(DeletionJobEntity.TargetType.DOCTOR, id));
+		slotEventOutbox.doctorRemoved(id);
+		TransactionHooks.afterCommit(() -> doctorSearchIndex.remove(id));
 	}
 
 	@Override
 	public boolean existsById(UUID id) {
 		return doctorRepository.existsById(id);
 	}
+
+	@Override
+	public long rebuildSearchReadModel() {
+		long count = doctorSearchRepository.rebuild();
+		List<DoctorSearchIndex.Entry> entries = doctorSearchIndexLoader.readAll();
+		TransactionHooks.afterCommit(() -> doctorSearchIndex.rebuild(() -> entries.forEach(doctorSearchIndex::put)));
+		return count;
+	}
+
+	/**
+	 * Export direkt aus doctor_search per JDBC-Cursor. Sortiert nach doctor_id
+	 * (Primärschlüssel) → der Cursor liefert die ersten Zeilen sofort, ohne
+	 * vorher alles zu sortieren.
+	 */
+	@Override
+	public Stream<Doctor> streamAll(DoctorSearchCriteria criteria) {
+		StringBuilder sql = new StringBuilder("""
+				SELECT doctor_id, first_name, last_name, practice_id, speciality_ids
+				FROM doctor_search
+				WHERE TRUE
+				""");
+		List<Object> args = new ArrayList<>();
+		if (criteria.getFirstName() != null) {
+			sql.append("AND LOWER(first_name) LIKE LOWER(CONCAT('%', ?, '%'))\n");
+			args.add(criteria.getFirstName());
+		}
+		if (criteria.getLastName() != null) {
+			sql.append("AND LOWER(last_name) LIKE LOWER(CONCAT('%', ?, '%'))\n");
+			args.add(criteria.getLastName());
+		}
+		if (criteria.getPracticeId() != null) {
+			sql.append("AND practice_id = ?\n");
+			args.add(criteria.getPracticeId());
+		}
+		if (criteria.getCityId() != null) {
+			sql.append("AND city_id = ?\n");
+			args.add(criteria.getCityId());
+		}
+		if (criteria.getSpecialityId() != null) {
+			sql.append("AND speciality_ids @> ARRAY[?::uuid]\n");
+			args.add(criteria.getSpecialityId());
+		}
+		sql.append("ORDER BY doctor_id");
+
+		return jdbcCursor.stream(sql.toString(), (resultSet, rowNum) -> {
+			Array specialityIds = resultSet.getArray("speciality_ids");
+			return new Doctor(resultSet.getObject("doctor_id", UUID.class), resultSet.getString("first_name"),
+					resultSet.getString("last_name"), resultSet.getObject("practice_id", UUID.class),
+					specialityIds == null ? Set.of() : Set.of((UUID[]) specialityIds.getArray()));
+		}, args.toArray());
+	}
+
+	/**
+	 * Übernimmt die vom Trigger aktualisierte doctor_search-Zeile in den Index,
+	 * sobald die Änderung committet ist. Gelesen wird noch in der schreibenden
+	 * Transaktion, nach dem Commit wird nur der Index aktualisiert.
+	 */
+	private void reindex(UUID doctorId) {
+		Optional<DoctorSearchIndex.Entry> entry = doctorSearchIndexLoader.read(doctorId);
+		TransactionHooks.afterCommit(() -> entry.ifPresentOrElse(doctorSearchIndex::put,
+				() -> doctorSearchIndex.remove(doctorId)));
+	}
 }
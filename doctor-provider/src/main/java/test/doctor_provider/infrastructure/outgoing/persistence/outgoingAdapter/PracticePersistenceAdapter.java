@@ -0,0 +1,130 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.outgoingAdapter;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import test.doctor_provider.application.port.outgoing.PracticeOutgoingPort;
+import test.doctor_provider.domain.model.Page;
+import test.doctor_provider.domain.model.Practice;
+import test.doctor_provider.infrastructure.outgoing.geo.PostalCodeCentroids;
+import test.doctor_provider.infrastructure.outgoing.persistence.TransactionHooks;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DeletionJobEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.index.DoctorSearchIndex;
+import test.doctor_provider.infrastructure.outgoing.persistence.index.PracticeGeoIndex;
+import test.doctor_provider.infrastructure.outgoing.persistence.mapper.PracticeEntityMapper;
+import test.doctor_provider.infrastructure.outgoing.persistence.outbox.SlotEventOutbox;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.DeletionJobRepository;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.DoctorRepository;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.PracticeRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Persistenz für Praxen.
+ *
+ * WICHTIG: - Zieht eine Praxis in eine andere Stadt um, werden ihre Ärzte im
+ * {@link DoctorSearchIndex} umgehängt (nach dem Commit) - Beim Löschen werden
+ * Praxis und Ärzte sofort versteckt und fallen aus dem Index, die Daten löscht
+ * der ChunkedDeletionWorker im Hintergrund - Koordinaten werden beim
+ * Speichern aus der PLZ gesetzt (PLZ-Zentroid) und in den
+ * {@link PracticeGeoIndex} übernommen
+ */
+@Component
+@RequiredArgsConstructor
+public class PracticePersistenceAdapter implements PracticeOutgoingPort {
+
+	private final PracticeRepository practiceRepository;
+	private final PracticeEntityMapper practiceEntityMapper;
+	private final DoctorSearchIndex doctorSearchIndex;
+	private final PracticeGeoIndex practiceGeoIndex;
+	private final PostalCodeCentroids postalCodeCentroids;
+	private final DoctorRepository doctorRepository;
+	private final DeletionJobRepository deletionJobRepository;
+	private final SlotEventOutbox slotEventOutbox;
+
+	@Override
+	public Page<Practice> findAll(Optional<UUID> cityId, Optional<String> practiceName, int page, int size) {
+		var entityPage = practiceRepository.findAllFiltered(cityId.orElse(null), practiceName.orElse(null),
+				PageRequest.of(page, size));
+
+		Page<Practice> result = new Page<>();
+		result.setItems(entityPage.getContent().stream().map(practiceEntityMapper::toDomain).toList());
+		result.setPage(entityPage.getNumber());
+		result.setSize(entityPage.getSize());
+		result.setTotalElements(entityPage.getTotalElements());
+		result.setTotalPages(entityPage.getTotalPages());
+		return result;
+	}
+
+	@Override
+	public Optional<Practice> findById(UUID id) {
+		return practiceRepository.findById(id).map(practiceEntityMapper::toDomain);
+	}
+
+	@Override
+	public Practice save(Practice practice) {
+		locate(practice);
+		var saved = practiceRepository.save(practiceEntityMapper.toEntity(practice));
+		reindexLocation(saved.getId(), saved.getLatitude(), saved.getLongitude());
+		return practiceEntityMapper.toDomain(saved);
+	}
+
+	/**
+	 * Aktualisiert eine bestehende Praxis (Name im Port ist historisch).
+	 */
+	@Override
+	public Practice remove(Practice practice) {
+		locate(practice);
+		var saved = practiceRepository.save(practiceEntityMapper.toEntity(practice));
+		UUID practiceId = saved.getId();
+		UUID cityId = practice.getCityId();
+		TransactionHooks.afterCommit(() -> doctorSearchIndex.movePractice(practiceId, cityId));
+		reindexLocation(practiceId, saved.getLatitude(), saved.getLongitude());
+		return practiceEntityMapper.toDomain(saved);
+	}
+
+	@Override
+	@Transactional
+	public void removeById(UUID id) {
+		practiceRepository.hide(id);
+		doctorRepository.hideAllByPracticeId(id);
+		deletionJobRepository.save(DeletionJobEntity.pending(DeletionJobEntity.TargetType.PRACTICE, id));
+		slotEventOutbox.practiceRemoved(id);
+		TransactionHooks.afterCommit(() -> {
+			doctorSearchIndex.removePractice(id);
+			practiceGeoIndex.remove(id);
+		});
+	}
+
+	@Override
+	public boolean existsById(UUID id) {
+		return practiceRepository.existsById(id);
+	}
+
+	@Override
+	public boolean existsByName(String name) {
+		return practiceRepository.existsByName(name);
+	}
+
+	@Override
+	public boolean existsByNameAndIdNot(String name, UUID excludeId) {
+		return practiceRepository.existsByNameAndIdNot(name, excludeId);
+	}
+
+	/**
+	 * Setzt die Koordinaten aus dem PLZ-Zentroid (null, wenn PLZ unbekannt).
+	 */
+	private void locate(Practice practice) {
+		var centroid = postalCodeCentroids.find(practice.getPostalCode());
+		practice.setLatitude(centroid.map(PostalCodeCentroids.Centroid::latitude).orElse(null));
+		practice.setLongitude(centroid.map(PostalCodeCentroids.Centroid::longitude).orElse(null));
+	}
+
+	private void reindexLocation(UUID practiceId, Double latitude, Double longitude) {
+		TransactionHooks.afterCommit(() -> practiceGeoIndex.put(practiceId, latitude, longitude));
+	}
+}
@@ -0,0 +1,78 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.outgoingAdapter;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import test.doctor_provider.application.port.outgoing.SlotEventOutgoingPort;
+import test.doctor_provider.domain.enums.SlotEventType;
+import test.doctor_provider.domain.enums.SlotStatus;
+import test.doctor_provider.domain.model.SlotEvent;
+import test.doctor_provider.infrastructure.outgoing.persistence.outbox.SlotEventSequencer;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.SlotRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Liest den Change-Feed aus der Outbox (slot_event). Geschrieben wird über
+ * {@link test.doctor_provider.infrastructure.outgoing.persistence.outbox.SlotEventOutbox}
+ * in den Slot-Adaptern.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotEventPersistenceAdapter implements SlotEventOutgoingPort {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SlotEventSequencer slotEventSequencer;
+
+	@Override
+	public List<SlotEvent> findAfter(long after, int limit) {
+		return jdbcTemplate.query("""
+				SELECT position, event_type, doctor_id, working_hours_id, slot_id, start_time, end_time,
+				       status::text AS status, created_at
+				FROM slot_event
+				WHERE position > ?
+				ORDER BY position
+				LIMIT ?
+				""", (resultSet, rowNum) -> toDomain(resultSet), after, limit);
+	}
+
+	@Override
+	public OptionalLong findOldestPosition() {
+		Long oldest = jdbcTemplate.queryForObject("SELECT MIN(position) FROM slot_event", Long.class);
+		return oldest != null ? OptionalLong.of(oldest) : OptionalLong.empty();
+	}
+
+	@Override
+	public long findLatestPosition() {
+		Long latest = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(position), 0) FROM slot_event", Long.class);
+		return latest != null ? latest : 0;
+	}
+
+	@Override
+	public boolean awaitAfter(long after, Duration timeout) {
+		return slotEventSequencer.awaitAfter(after, timeout);
+	}
+
+	private static SlotEvent toDomain(ResultSet resultSet) throws SQLException {
+		String status = resultSet.getString("status");
+		return new SlotEvent(resultSet.getLong("position"), SlotEventType.valueOf(resultSet.getString("event_type")),
+				resultSet.getObject("doctor_id", UUID.class), resultSet.getObject("working_hours_id", UUID.class),
+				resultSet.getObject("slot_id", UUID.class), toZoned(resultSet, "start_time"),
+				toZoned(resultSet, "end_time"), status != null ? SlotStatus.valueOf(status) : null,
+				toZoned(resultSet, "created_at"));
+	}
+
+	private static ZonedDateTime toZoned(ResultSet resultSet, String column) throws SQLException {
+		OffsetDateTime value = resultSet.getObject(column, OffsetDateTime.class);
+		return value != null ? value.atZoneSameInstant(SlotRepository.SLOT_ZONE) : null;
+	}
+}
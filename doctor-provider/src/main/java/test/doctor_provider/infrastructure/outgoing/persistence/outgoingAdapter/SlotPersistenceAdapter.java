@@ -0,0 +1,194 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.outgoingAdapter;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import test.doctor_provider.application.port.outgoing.SlotOutgoingPort;
+import test.doctor_provider.domain.enums.SlotStatus;
+import test.doctor_provider.domain.model.Page;
+import test.doctor_provider.domain.model.Slot;
+import test.doctor_provider.domain.model.SlotWithDoctor;
+import test.doctor_provider.infrastructure.outgoing.persistence.export.JdbcCursor;
+import test.doctor_provider.infrastructure.outgoing.persistence.mapper.SlotsEntityMapper;
+import test.doctor_provider.infrastructure.outgoing.persistence.outbox.SlotEventOutbox;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.SlotRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Persistenz für Slots: eine Zeile pro Slot in der Tabelle slot (Standard).
+ *
+ * WICHTIG: - Aktiv mit doctor-provider.slots.storage=rows (oder ohne Angabe) -
+ * Alternative: {@link CompactSlotPersistenceAdapter} - Jede schreibende Methode
+ * legt in derselben Transaktion ein Event in der Outbox ab
+ * ({@link SlotEventOutbox}) - Slots gelöschter Ärzte sind unsichtbar (Filter
+ * auf doctor.deleted_at in den lesenden Abfragen von SlotRepository und im
+ * Export) und lassen sich nicht mehr blockieren oder freigeben
+ */
+@Component
+@ConditionalOnProperty(name = "doctor-provider.slots.storage", havingValue = "rows", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SlotPersistenceAdapter implements SlotOutgoingPort {
+
+	private final SlotRepository slotRepository;
+	private final SlotsEntityMapper slotsEntityMapper;
+	private final JdbcCursor jdbcCursor;
+	private final SlotEventOutbox slotEventOutbox;
+
+	@Override
+	public Page<Slot> findAll(Optional<UUID> doctorId, Optional<UUID> workingHoursId, Optional<LocalDate> dateFrom,
+			Optional<LocalDate> dateTo, Optional<SlotStatus> status, int page, int size) {
+		var entityPage = slotRepository.findAllFiltered(doctorId.orElse(null), workingHoursId.orElse(null),
+				dateFrom.orElse(null), dateTo.orElse(null), status.orElse(null), PageRequest.of(page, size));
+		return slotsEntityMapper.toDomainPage(entityPage);
+	}
+
+	@Override
+	public Optional<Slot> findById(UUID id) {
+		return slotRepository.findVisibleById(id).map(slotsEntityMapper::toDomain);
+	}
+
+	@Override
+	@Transactional
+	public Slot save(Slot slot) {
+		Slot saved = slotsEntityMapper.toDomain(slotRepository.save(slotsEntityMapper.toEntity(slot)));
+		slotEventOutbox.slotChanged(saved);
+		return saved;
+	}
+
+	@Override
+	@Transactional
+	public List<Slot> saveAll(List<Slot> slots) {
+		List<Slot> saved = slotRepository.saveAll(slotsEntityMapper.toEntity(slots)).stream()
+				.map(slotsEntityMapper::toDomain).toList();
+		slotEventOutbox.slotsGenerated(saved);
+		return saved;
+	}
+
+	@Override
+	@Transactional
+	public Slot modify(Slot slot) {
+		return save(slot);
+	}
+
+	@Override
+	@Transactional
+	public Slot modifyBlockSlot(UUID id) {
+		return modifyStatus(id, SlotStatus.BLOCKED);
+	}
+
+	@Override
+	@Transactional
+	public Slot modifyUnblockSlot(UUID id) {
+		return modifyStatus(id, SlotStatus.AVAILABLE);
+	}
+
+	@Override
+	@Transactional
+	public Slot modifyBookSlot(UUID id) {
+		return modifyStatus(id, SlotStatus.BOOKED);
+	}
+
+	@Override
+	@Transactional
+	public Optional<Slot> modifyStatusIfCurrent(UUID id, SlotStatus expected, SlotStatus status) {
+		if (slotRepository.updateStatusIfCurrent(id, expected, status) == 0) {
+			return Optional.empty();
+		}
+		Slot modified = slotRepository.findById(id).map(slotsEntityMapper::toDomain)
+				.orElseThrow(() -> new RuntimeException("Slot not found: " + id));
+		slotEventOutbox.slotChanged(modified);
+		return Optional.of(modified);
+	}
+
+	@Override
+	@Transactional
+	public void deleteById(UUID id) {
+		slotRepository.findVisibleById(id).map(slotsEntityMapper::toDomain).ifPresent(slot -> {
+			slotRepository.deleteById(id);
+			slotEventOutbox.slotRemoved(id, slot.getWorkingHoursId());
+		});
+	}
+
+	@Override
+	@Transactional
+	public void deleteAllByWorkingHoursId(UUID workingHoursId) {
+		slotRepository.deleteAllByWorkingHoursId(workingHoursId);
+		slotEventOutbox.slotsRemoved(workingHoursId);
+	}
+
+	@Override
+	public boolean existsById(UUID id) {
+		return slotRepository.existsVisibleByIdAndStatus(id, null);
+	}
+
+	@Override
+	public boolean existsByIdAndStatus(UUID id, SlotStatus status) {
+		return slotRepository.existsVisibleByIdAndStatus(id, status);
+	}
+
+	/**
+	 * Export per JDBC-Cursor, doctorId per JOIN. Gleiche halboffene Zeitgrenzen
+	 * wie findAll (Partition Pruning). Sortiert nach start_time → PostgreSQL
+	 * liest die Monats-Partitionen der Reihe nach über idx_slot_start_time_status
+	 * und muss nichts zwischensortieren.
+	 */
+	@Override
+	public Stream<SlotWithDoctor> streamAll(Optional<UUID> doctorId, Optional<UUID> workingHoursId,
+			Optional<LocalDate> dateFrom, Optional<LocalDate> dateTo, Optional<SlotStatus> status) {
+		StringBuilder sql = new StringBuilder("""
+				SELECT s.id, wh.doctor_id, s.working_hours_id, s.start_time, s.end_time, s.status::text AS status
+				FROM slot s
+				JOIN doctor_working_hours wh ON wh.id = s.working_hours_id
+				JOIN doctor doc ON doc.id = wh.doctor_id AND doc.deleted_at IS NULL
+				WHERE s.start_time >= ? AND s.start_time < ?
+				""");
+		List<Object> args = new ArrayList<>();
+		args.add(dateFrom.map(date -> date.atStartOfDay(SlotRepository.SLOT_ZONE))
+				.orElse(SlotRepository.MIN_START_TIME).toOffsetDateTime());
+		args.add(dateTo.map(date -> date.plusDays(1).atStartOfDay(SlotRepository.SLOT_ZONE))
+				.orElse(SlotRepository.MAX_START_TIME).toOffsetDateTime());
+		doctorId.ifPresent(id -> {
+			sql.append("AND wh.doctor_id = ?\n");
+			args.add(id);
+		});
+		workingHoursId.ifPresent(id -> {
+			sql.append("AND s.working_hours_id = ?\n");
+			args.add(id);
+		});
+		status.ifPresent(value -> {
+			sql.append("AND s.status = ?::slot_status\n");
+			args.add(value.name());
+		});
+		sql.append("ORDER BY s.start_time");
+
+		return jdbcCursor.stream(sql.toString(),
+				(resultSet, rowNum) -> new SlotWithDoctor(resultSet.getObject("id", UUID.class),
+						resultSet.getObject("doctor_id", UUID.class),
+						resultSet.getObject("working_hours_id", UUID.class),
+						resultSet.getObject("start_time", OffsetDateTime.class)
+								.atZoneSameInstant(SlotRepository.SLOT_ZONE),
+						resultSet.getObject("end_time", OffsetDateTime.class)
+								.atZoneSameInstant(SlotRepository.SLOT_ZONE),
+						SlotStatus.valueOf(resultSet.getString("status"))),
+				args.toArray());
+	}
+
+	private Slot modifyStatus(UUID id, SlotStatus status) {
+		var entity = slotRepository.findVisibleById(id).orElseThrow(() -> new RuntimeException("Slot not found: " + id));
+		entity.setStatus(status);
+		Slot saved = slotsEntityMapper.toDomain(slotRepository.save(entity));
+		slotEventOutbox.slotChanged(saved);
+		return saved;
+	}
+}
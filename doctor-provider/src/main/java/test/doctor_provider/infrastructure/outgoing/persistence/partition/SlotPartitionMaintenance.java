@@ -0,0 +1,84 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.partition;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pflegt die Monats-Partitionen der Tabelle slot (siehe V11-Migration).
+ *
+ * WICHTIG: - Legt Partitionen bis "heute + Materialisierungshorizont +
+ * Puffer" an, damit die Slot-Generierung nie auf eine fehlende Partition trifft
+ * - Hängt Partitionen, die komplett vor dem Aufbewahrungszeitraum liegen, per
+ * DETACH ... CONCURRENTLY ab (kein DELETE, kein langer Lock). Die abgehängten
+ * Tabellen bleiben als eigenständige Tabellen erhalten (Archiv/Löschen separat)
+ * - Läuft beim Start und täglich (cron konfigurierbar) - Ohne Transaktion:
+ * DETACH CONCURRENTLY darf nicht in einem Transaktionsblock laufen
+ */
+@Component
+public class SlotPartitionMaintenance {
+
+	private static final ZoneId SLOT_ZONE = ZoneId.of("Europe/Berlin");
+	private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int materializationWeeks;
+	private final int monthsAhead;
+	private final int retentionMonths;
+
+	public SlotPartitionMaintenance(JdbcTemplate jdbcTemplate,
+			@Value("${doctor-provider.slots.materialization-weeks:4}") int materializationWeeks,
+			@Value("${doctor-provider.slots.partitions.months-ahead:2}") int monthsAhead,
+			@Value("${doctor-provider.slots.partitions.retention-months:24}") int retentionMonths) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.materializationWeeks = materializationWeeks;
+		this.monthsAhead = monthsAhead;
+		this.retentionMonths = retentionMonths;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "${doctor-provider.slots.partitions.cron:0 15 3 * * *}", zone = "Europe/Berlin")
+	public void maintain() {
+		createAhead();
+		detachExpired();
+	}
+
+	/**
+	 * @return Anzahl neu angelegter Partitionen
+	 */
+	public int createAhead() {
+		LocalDate today = LocalDate.now(SLOT_ZONE);
+		LocalDate until = today.plusWeeks(materializationWeeks).plusMonths(monthsAhead);
+		Integer created = jdbcTemplate.queryForObject("SELECT slot_ensure_partitions(?, ?)", Integer.class, today,
+				until);
+		return created != null ? created : 0;
+	}
+
+	/**
+	 * @return Namen der abgehängten Partitionen
+	 */
+	public List<String> detachExpired() {
+		// Partitionen sind nach Monat benannt → Namensvergleich genügt
+		String oldestKept = "slot_" + YearMonth.now(SLOT_ZONE).minusMonths(retentionMonths).format(PARTITION_SUFFIX);
+		List<String> expired = jdbcTemplate.queryForList("""
+				SELECT c.relname FROM pg_inherits i
+				JOIN pg_class c ON c.oid = i.inhrelid
+				WHERE i.inhparent = 'slot'::regclass AND c.relname < ?
+				ORDER BY c.relname
+				""", String.class, oldestKept);
+
+		for (String partition : expired) {
+			jdbcTemplate.execute("ALTER TABLE slot DETACH PARTITION \"" + partition + "\" CONCURRENTLY");
+		}
+		return expired;
+	}
+}
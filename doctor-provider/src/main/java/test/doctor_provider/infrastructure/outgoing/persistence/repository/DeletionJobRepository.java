@@ -0,0 +1,35 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DeletionJobEntity;
+
+@Repository
+public interface DeletionJobRepository extends JpaRepository<DeletionJobEntity, UUID> {
+
+	/**
+	 * Offene Jobs (PENDING/RUNNING), ältester zuerst (Index idx_deletion_job_open).
+	 */
+	List<DeletionJobEntity> findByStatusInOrderByCreatedAt(Collection<DeletionJobEntity.Status> statuses,
+			Pageable pageable);
+
+	/**
+	 * Jobs für den Status-Endpunkt, neueste zuerst. Alle Filter optional.
+	 */
+	@Query("""
+			SELECT j FROM DeletionJobEntity j
+			WHERE (:targetId IS NULL OR j.targetId = :targetId)
+			  AND j.status IN :statuses
+			ORDER BY j.createdAt DESC
+			""")
+	List<DeletionJobEntity> findAllFiltered(@Param("targetId") UUID targetId,
+			@Param("statuses") Collection<DeletionJobEntity.Status> statuses, Pageable pageable);
+}
@@ -5,6 +5,7 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -27,4 +28,19 @@ public interface DoctorRepository extends JpaRepository<DoctorEntity, UUID> {
 	Page<DoctorEntity> findAllFiltered(@Param("firstName") String firstName, @Param("lastName") String lastName,
 			@Param("practiceId") UUID practiceId, @Param("cityId") UUID cityId,
 			@Param("specialityId") UUID specialityId, Pageable pageable);
+
+	/**
+	 * Versteckt einen Arzt (deleted_at). Der Trigger auf doctor nimmt ihn aus
+	 * doctor_search, die Daten löscht danach der ChunkedDeletionWorker.
+	 */
+	@Modifying
+	@Query("UPDATE DoctorEntity d SET d.deletedAt = CURRENT_TIMESTAMP WHERE d.id = :id")
+	int hide(@Param("id") UUID id);
+
+	/**
+	 * Versteckt alle Ärzte einer Praxis (beim Löschen der Praxis).
+	 */
+	@Modifying
+	@Query("UPDATE DoctorEntity d SET d.deletedAt = CURRENT_TIMESTAMP WHERE d.practice.id = :practiceId")
+	int hideAllByPracticeId(@Param("practiceId") UUID practiceId);
 }
@@ -0,0 +1,124 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.repository;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DoctorSearchEntity;
+
+@Repository
+public interface DoctorSearchRepository extends JpaRepository<DoctorSearchEntity, UUID> {
+
+	/**
+	 * Arztsuche auf dem Read-Model doctor_search (eine Tabelle, keine JOINs).
+	 *
+	 * Alle Filter sind optional (NULL = ignorieren): - specialityId: über
+	 * GIN-Index (speciality_ids @> ARRAY[id]) - cityId/practiceId: B-Tree-Index -
+	 * firstName/lastName: Teilstring-Suche, case-insensitive
+	 *
+	 * ⚠️ Native Query: CAST der Parameter nötig, damit PostgreSQL den Typ auch bei
+	 * NULL kennt.
+	 *
+	 * ⚠️ Sortierung mit COLLATE "C" (wie DoctorSearchIndex und
+	 * idx_doctor_search_name, V18), unabhängig von der Collation der Datenbank.
+	 */
+	@Query(value = """
+			SELECT ds.* FROM doctor_search ds
+			WHERE (CAST(:firstName AS text) IS NULL OR LOWER(ds.first_name) LIKE LOWER(CONCAT('%', CAST(:firstName AS text), '%')))
+			  AND (CAST(:lastName AS text) IS NULL OR LOWER(ds.last_name) LIKE LOWER(CONCAT('%', CAST(:lastName AS text), '%')))
+			  AND (CAST(:practiceId AS uuid) IS NULL OR ds.practice_id = CAST(:practiceId AS uuid))
+			  AND (CAST(:cityId AS uuid) IS NULL OR ds.city_id = CAST(:cityId AS uuid))
+			  AND (CAST(:specialityId AS uuid) IS NULL OR ds.speciality_ids @> ARRAY[CAST(:specialityId AS uuid)])
+			ORDER BY ds.last_name COLLATE "C", ds.first_name COLLATE "C", ds.doctor_id
+			""", countQuery = """
+			SELECT COUNT(*) FROM doctor_search ds
+			WHERE (CAST(:firstName AS text) IS NULL OR LOWER(ds.first_name) LIKE LOWER(CONCAT('%', CAST(:firstName AS text), '%')))
+			  AND (CAST(:lastName AS text) IS NULL OR LOWER(ds.last_name) LIKE LOWER(CONCAT('%', CAST(:lastName AS text), '%')))
+			  AND (CAST(:practiceId AS uuid) IS NULL OR ds.practice_id = CAST(:practiceId AS uuid))
+			  AND (CAST(:cityId AS uuid) IS NULL OR ds.city_id = CAST(:cityId AS uuid))
+			  AND (CAST(:specialityId AS uuid) IS NULL OR ds.speciality_ids @> ARRAY[CAST(:specialityId AS uuid)])
+			""", nativeQuery = true)
+	Page<DoctorSearchEntity> findAllFiltered(@Param("firstName") String firstName,
+			@Param("lastName") String lastName, @Param("practiceId") UUID practiceId, @Param("cityId") UUID cityId,
+			@Param("specialityId") UUID specialityId, Pageable pageable);
+
+	/**
+	 * Baut das Read-Model komplett neu auf (DB-Funktion doctor_search_rebuild()).
+	 *
+	 * @return Anzahl der geschriebenen Zeilen
+	 */
+	@Transactional
+	@Query(value = "SELECT doctor_search_rebuild()", nativeQuery = true)
+	long rebuild();
+
+	/**
+	 * Liest das komplette Read-Model als Stream (für den Aufbau des
+	 * In-Memory-Index).
+	 *
+	 * WICHTIG: - Muss innerhalb einer Transaktion konsumiert und geschlossen werden
+	 * - Fetch-Size sorgt dafür, dass PostgreSQL einen Cursor nutzt statt alle
+	 * Zeilen auf einmal zu laden - Sortierung nach Name, damit die Ordinalzahlen
+	 * im Index der Sortierung der Datenbanksuche entsprechen
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT ds FROM DoctorSearchEntity ds ORDER BY ds.lastName, ds.firstName, ds.id")
+	Stream<DoctorSearchEntity> streamAll();
+
+	/**
+	 * Ergebniszeile der Umkreissuche (Arzt-ID + Entfernung zur Praxis).
+	 */
+	interface NearbyDoctorRow {
+		UUID getDoctorId();
+
+		double getDistanceKm();
+	}
+
+	/**
+	 * Umkreissuche direkt in der Datenbank (Fallback, solange die In-Memory-Indizes
+	 * noch aufgebaut werden).
+	 *
+	 * Vorfilter über das Umkreis-Rechteck (Index idx_practice_coordinates), danach
+	 * exakte Entfernung per Haversine-Formel, sortiert nach Entfernung.
+	 */
+	@Query(value = """
+			SELECT ds.doctor_id AS "doctorId", d.distance_km AS "distanceKm"
+			FROM doctor_search ds
+			JOIN practice p ON p.id = ds.practice_id
+			CROSS JOIN LATERAL (SELECT 2 * 6371.0088 * ASIN(LEAST(1, SQRT(
+			        POWER(SIN(RADIANS(p.latitude - :latitude) / 2), 2)
+			        + COS(RADIANS(:latitude)) * COS(RADIANS(p.latitude)) * POWER(SIN(RADIANS(p.longitude - :longitude) / 2), 2)
+			    ))) AS distance_km) d
+			WHERE p.latitude BETWEEN :latitude - :radiusKm / 111.32 AND :latitude + :radiusKm / 111.32
+			  AND p.longitude BETWEEN :longitude - :radiusKm / (111.32 * COS(RADIANS(:latitude)))
+			                      AND :longitude + :radiusKm / (111.32 * COS(RADIANS(:latitude)))
+			  AND d.distance_km <= :radiusKm
+			  AND (CAST(:specialityId AS uuid) IS NULL OR ds.speciality_ids @> ARRAY[CAST(:specialityId AS uuid)])
+			ORDER BY d.distance_km, ds.doctor_id
+			""", countQuery = """
+			SELECT COUNT(*)
+			FROM doctor_search ds
+			JOIN practice p ON p.id = ds.practice_id
+			CROSS JOIN LATERAL (SELECT 2 * 6371.0088 * ASIN(LEAST(1, SQRT(
+			        POWER(SIN(RADIANS(p.latitude - :latitude) / 2), 2)
+			        + COS(RADIANS(:latitude)) * COS(RADIANS(p.latitude)) * POWER(SIN(RADIANS(p.longitude - :longitude) / 2), 2)
+			    ))) AS distance_km) d
+			WHERE p.latitude BETWEEN :latitude - :radiusKm / 111.32 AND :latitude + :radiusKm / 111.32
+			  AND p.longitude BETWEEN :longitude - :radiusKm / (111.32 * COS(RADIANS(:latitude)))
+			                      AND :longitude + :radiusKm / (111.32 * COS(RADIANS(:latitude)))
+			  AND d.distance_km <= :radiusKm
+			  AND (CAST(:specialityId AS uuid) IS NULL OR ds.speciality_ids @> ARRAY[CAST(:specialityId AS uuid)])
+			""", nativeQuery = true)
+	Page<NearbyDoctorRow> findNearby(@Param("latitude") double latitude, @Param("longitude") double longitude,
+			@Param("radiusKm") double radiusKm, @Param("specialityId") UUID specialityId, Pageable pageable);
+}
@@ -1,10 +1,12 @@
 package test.doctor_provider.infrastructure.outgoing.persistence.repository;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -31,4 +33,35 @@ public interface PracticeRepository extends JpaRepository<PracticeEntitiy, UUID>
 			SELECT COUNT(p.id) > 0 FROM PracticeEntitiy p WHERE LOWER(p.name) = LOWER(:name) AND p.id <> :excludeId
 			""")
 	boolean existsByNameAndIdNot(@Param("name") String name, @Param("excludeId") UUID excludeId);
+
+	/**
+	 * Koordinaten einer Praxis (Projektion, ohne die restlichen Spalten).
+	 */
+	interface PracticeCoordinates {
+		UUID getId();
+
+		Double getLatitude();
+
+		Double getLongitude();
+	}
+
+	/**
+	 * Alle Praxen mit bekannten Koordinaten (für den Aufbau des
+	 * PracticeGeoIndex).
+	 */
+	@Query("""
+			SELECT p.id AS id, p.latitude AS latitude, p.longitude AS longitude
+			FROM PracticeEntitiy p WHERE p.latitude IS NOT NULL
+			""")
+	List<PracticeCoordinates> findAllCoordinates();
+
+	/**
+	 * Versteckt eine Praxis (deleted_at), die Daten löscht danach der
+	 * ChunkedDeletionWorker.
+	 *
+	 * Bulk-Update: Hibernate invalidiert dabei die Cache-Region der Praxen.
+	 */
+	@Modifying
+	@Query("UPDATE PracticeEntitiy p SET p.deletedAt = CURRENT_TIMESTAMP WHERE p.id = :id")
+	int hide(@Param("id") UUID id);
 }
@@ -1,11 +1,16 @@
 package test.doctor_provider.infrastructure.outgoing.persistence.repository;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,24 +21,87 @@ import test.doctor_provider.infrastructure.outgoing.persistence.entity.SlotEntit
 @Repository
 public interface SlotRepository extends JpaRepository<SlotEntity, UUID> {
 
+	/** Zeitzone für Datumsgrenzen (Praxen in Deutschland) */
+	ZoneId SLOT_ZONE = ZoneId.of("Europe/Berlin");
+
+	/** Offene Grenzen, wenn dateFrom/dateTo fehlen (innerhalb des timestamptz-Bereichs) */
+	ZonedDateTime MIN_START_TIME = ZonedDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+	ZonedDateTime MAX_START_TIME = ZonedDateTime.of(9999, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
 	/**
 	 * ⚠️ SlotEntity hat KEIN "date"-Feld! Es hat startTime (ZonedDateTime).
-	 * Deshalb: CAST(s.startTime AS LocalDate) um nur das Datum zu vergleichen.
+	 *
+	 * Die Datumsgrenzen werden deshalb in einen halboffenen Zeitbereich
+	 * [dateFrom 00:00, dateTo+1 00:00) in Europe/Berlin umgerechnet. Nur ein
+	 * direkter Vergleich auf start_time (kein CAST, kein "IS NULL OR") erlaubt
+	 * Partition Pruning auf die betroffenen Monats-Partitionen.
+	 */
+	default Page<SlotEntity> findAllFiltered(UUID doctorId, UUID workingHoursId, LocalDate dateFrom,
+			LocalDate dateTo, SlotStatus status, Pageable pageable) {
+		return findAllInRange(doctorId, workingHoursId,
+				dateFrom != null ? dateFrom.atStartOfDay(SLOT_ZONE) : MIN_START_TIME,
+				dateTo != null ? dateTo.plusDays(1).atStartOfDay(SLOT_ZONE) : MAX_START_TIME, status, pageable);
+	}
+
+	/**
+	 * Slots im halboffenen Zeitbereich [startFrom, startBefore), ohne Slots
+	 * gelöschter Ärzte.
 	 */
 	@Query("""
 			SELECT s FROM SlotEntity s
 			JOIN s.workingHours wh
-			WHERE (:doctorId IS NULL OR wh.doctor.id = :doctorId)
+			JOIN wh.doctor doc
+			WHERE s.startTime >= :startFrom
+			  AND s.startTime < :startBefore
+			  AND (:doctorId IS NULL OR wh.doctor.id = :doctorId)
 			  AND (:workingHoursId IS NULL OR s.workingHours.id = :workingHoursId)
-			  AND (:dateFrom IS NULL OR CAST(s.startTime AS LocalDate) >= :dateFrom)
-			  AND (:dateTo IS NULL OR CAST(s.startTime AS LocalDate) <= :dateTo)
 			  AND (:status IS NULL OR s.status = :status)
+			  AND doc.deletedAt IS NULL
 			""")
-	Page<SlotEntity> findAllFiltered(@Param("doctorId") UUID doctorId, @Param("workingHoursId") UUID workingHoursId,
-			@Param("dateFrom") LocalDate dateFrom, @Param("dateTo") LocalDate dateTo,
+	Page<SlotEntity> findAllInRange(@Param("doctorId") UUID doctorId, @Param("workingHoursId") UUID workingHoursId,
+			@Param("startFrom") ZonedDateTime startFrom, @Param("startBefore") ZonedDateTime startBefore,
 			@Param("status") SlotStatus status, Pageable pageable);
 
+	/**
+	 * Slot per ID, leer wenn er zu einem gelöschten Arzt gehört.
+	 */
+	@Query("""
+			SELECT s FROM SlotEntity s
+			JOIN s.workingHours wh
+			JOIN wh.doctor doc
+			WHERE s.id = :id
+			  AND doc.deletedAt IS NULL
+			""")
+	Optional<SlotEntity> findVisibleById(@Param("id") UUID id);
+
 	void deleteAllByWorkingHoursId(UUID workingHoursId);
 
-	boolean existsByIdAndStatus(UUID id, SlotStatus status);
+	/**
+	 * Wie findVisibleById: Slots gelöschter Ärzte zählen nicht.
+	 */
+	@Query("""
+			SELECT COUNT(s) > 0 FROM SlotEntity s
+			JOIN s.workingHours wh
+			JOIN wh.doctor doc
+			WHERE s.id = :id
+			  AND (:status IS NULL OR s.status = :status)
+			  AND doc.deletedAt IS NULL
+			""")
+	boolean existsVisibleByIdAndStatus(@Param("id") UUID id, @Param("status") SlotStatus status);
+
+	/**
+	 * Statuswechsel nur aus dem erwarteten Status (atomar, ohne vorheriges
+	 * Lesen). 0 = Slot fehlt, hat einen anderen Status oder gehört zu einem
+	 * gelöschten Arzt.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+			UPDATE SlotEntity s SET s.status = :status
+			WHERE s.id = :id
+			  AND s.status = :expected
+			  AND EXISTS (SELECT 1 FROM WorkingHoursEntity wh JOIN wh.doctor doc
+			              WHERE wh.id = s.workingHours.id AND doc.deletedAt IS NULL)
+			""")
+	int updateStatusIfCurrent(@Param("id") UUID id, @Param("expected") SlotStatus expected,
+			@Param("status") SlotStatus status);
 }
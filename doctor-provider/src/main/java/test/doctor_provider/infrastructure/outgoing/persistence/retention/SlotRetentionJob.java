@@ -0,0 +1,192 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.retention;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.datasource.ReplicationLagProbe;
+
+/**
+ * Räumt vergangene Slots aus der heißen Tabelle slot.
+ *
+ * WICHTIG: - AVAILABLE/BLOCKED älter als unbooked-retention → gelöscht -
+ * BOOKED älter als booked-retention → nach slot_history verschoben (DELETE ...
+ * RETURNING + INSERT in einem Statement, also atomar pro Batch) - Kleine Batches
+ * mit Pause dazwischen, jedes Batch ist eine eigene Transaktion (Autocommit) →
+ * kurze Locks, WAL fließt gleichmäßig ab - Vor jedem Batch wird der
+ * Replikationsverzug am Primary geprüft ({@link ReplicationLagProbe}); liegt er
+ * über max-replication-lag, bricht der Lauf ab und der nächste Lauf macht
+ * weiter -
+ * Läuft immer auf dem Primary (JdbcTemplate ohne read-only Transaktion)
+ */
+@Component
+public class SlotRetentionJob {
+
+	private static final String DELETE_UNBOOKED = """
+			DELETE FROM slot s
+			USING (SELECT id, start_time FROM slot
+			       WHERE start_time < ? AND status IN ('AVAILABLE', 'BLOCKED')
+			       ORDER BY start_time
+			       LIMIT ?) b
+			WHERE s.id = b.id AND s.start_time = b.start_time
+			""";
+
+	private static final String ARCHIVE_BOOKED = """
+			WITH batch AS (
+			    SELECT id, start_time FROM slot
+			    WHERE start_time < ? AND status = 'BOOKED'
+			    ORDER BY start_time
+			    LIMIT ?),
+			moved AS (
+			    DELETE FROM slot s USING batch b
+			    WHERE s.id = b.id AND s.start_time = b.start_time
+			    RETURNING s.id, s.working_hours_id, s.start_time, s.end_time)
+			INSERT INTO slot_history (id, doctor_id, working_hours_id, start_time, end_time)
+			SELECT m.id, wh.doctor_id, m.working_hours_id, m.start_time, m.end_time
+			FROM moved m
+			JOIN doctor_working_hours wh ON wh.id = m.working_hours_id
+			ON CONFLICT (id) DO NOTHING
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ReplicationLagProbe replicationLagProbe;
+	private final boolean enabled;
+	private final Duration unbookedRetention;
+	private final Duration bookedRetention;
+	private final int batchSize;
+	private final int maxBatchesPerRun;
+	private final Duration batchPause;
+	private final Duration maxReplicationLag;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final LongAdder runs = new LongAdder();
+	private final LongAdder batches = new LongAdder();
+	private final LongAdder deletedRows = new LongAdder();
+	private final LongAdder archivedRows = new LongAdder();
+	private final LongAdder lagAborts = new LongAdder();
+	private final AtomicLong lastReplicationLagMillis = new AtomicLong();
+	private final AtomicLong maxReplicationLagMillis = new AtomicLong();
+	private final AtomicLong lastRunDurationMillis = new AtomicLong();
+	private volatile Instant lastRunAt;
+
+	public SlotRetentionJob(JdbcTemplate jdbcTemplate, ReplicationLagProbe replicationLagProbe,
+			@Value("${doctor-provider.slots.retention.enabled:true}") boolean enabled,
+			@Value("${doctor-provider.slots.retention.unbooked-retention:1d}") Duration unbookedRetention,
+			@Value("${doctor-provider.slots.retention.booked-retention:90d}") Duration bookedRetention,
+			@Value("${doctor-provider.slots.retention.batch-size:1000}") int batchSize,
+			@Value("${doctor-provider.slots.retention.max-batches-per-run:500}") int maxBatchesPerRun,
+			@Value("${doctor-provider.slots.retention.batch-pause:200ms}") Duration batchPause,
+			@Value("${doctor-provider.slots.retention.max-replication-lag:10s}") Duration maxReplicationLag) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.replicationLagProbe = replicationLagProbe;
+		this.enabled = enabled;
+		this.unbookedRetention = unbookedRetention;
+		this.bookedRetention = bookedRetention;
+		this.batchSize = batchSize;
+		this.maxBatchesPerRun = maxBatchesPerRun;
+		this.batchPause = batchPause;
+		this.maxReplicationLag = maxReplicationLag;
+	}
+
+	@Scheduled(cron = "${doctor-provider.slots.retention.cron:0 */15 * * * *}", zone = "Europe/Berlin")
+	public void run() {
+		if (!enabled || !running.compareAndSet(false, true)) {
+			return;
+		}
+		long started = System.nanoTime();
+		try {
+			OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+			int budget = maxBatchesPerRun;
+			budget = drain(DELETE_UNBOOKED, now.minus(unbookedRetention), budget, deletedRows);
+			drain(ARCHIVE_BOOKED, now.minus(bookedRetention), budget, archivedRows);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			runs.increment();
+			lastRunAt = Instant.now();
+			lastRunDurationMillis.set((System.nanoTime() - started) / 1_000_000);
+			running.set(false);
+		}
+	}
+
+	/**
+	 * Führt das Statement batchweise aus, bis nichts mehr zu tun ist, das Budget
+	 * aufgebraucht ist oder der Replikationsverzug zu groß wird.
+	 *
+	 * @return verbleibendes Batch-Budget (-1 nach Abbruch wegen Verzug)
+	 */
+	private int drain(String sql, OffsetDateTime cutoff, int budget, LongAdder counter)
+			throws InterruptedException {
+		while (budget > 0) {
+			if (replicationLagTooHigh()) {
+				lagAborts.increment();
+				return -1;
+			}
+			int affected = jdbcTemplate.update(sql, cutoff, batchSize);
+			batches.increment();
+			counter.add(affected);
+			budget--;
+			if (affected < batchSize) {
+				return budget;
+			}
+			Thread.sleep(batchPause);
+		}
+		return budget;
+	}
+
+	private boolean replicationLagTooHigh() {
+		long lagMillis = replicationLagProbe.currentLagMillis();
+		lastReplicationLagMillis.set(lagMillis);
+		maxReplicationLagMillis.accumulateAndGet(lagMillis, Math::max);
+		return lagMillis > maxReplicationLag.toMillis();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public long getRuns() {
+		return runs.sum();
+	}
+
+	public long getBatches() {
+		return batches.sum();
+	}
+
+	public long getDeletedRows() {
+		return deletedRows.sum();
+	}
+
+	public long getArchivedRows() {
+		return archivedRows.sum();
+	}
+
+	public long getLagAborts() {
+		return lagAborts.sum();
+	}
+
+	public long getLastReplicationLagMillis() {
+		return lastReplicationLagMillis.get();
+	}
+
+	public long getMaxReplicationLagMillis() {
+		return maxReplicationLagMillis.get();
+	}
+
+	public long getLastRunDurationMillis() {
+		return lastRunDurationMillis.get();
+	}
+
+	public Instant getLastRunAt() {
+		return lastRunAt;
+	}
+}
@@ -0,0 +1,33 @@
+-- =============================================================================
+-- Zeitlich sortierte Primärschlüssel (UUIDv7)
+-- =============================================================================
+-- gen_random_uuid() liefert zufällige v4-UUIDs: jeder INSERT landet an einer
+-- zufälligen Stelle im Primärschlüssel-B-Tree (Page-Splits, schlechte Cache-Lokalität).
+-- UUIDv7 beginnt mit dem Zeitstempel in ms → neue Zeilen landen am rechten Rand.
+--
+-- Die Anwendung vergibt IDs selbst (UuidV7Generator, gleiches Format).
+-- Die Defaults hier gelten für direkte INSERTs (psql, Bulk-Loads, COPY).
+-- Bestehende IDs bleiben unverändert.
+
+-- RFC 9562: 48 Bit Unix-Zeit (ms) | Version 7 | 74 Bit Zufall (aus gen_random_uuid, Variante bleibt 10xx)
+CREATE FUNCTION uuid_generate_v7() RETURNS UUID AS $$
+DECLARE
+    v_bytes BYTEA;
+BEGIN
+    v_bytes := overlay(uuid_send(gen_random_uuid())
+                       PLACING substring(int8send(floor(extract(EPOCH FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                       FROM 1 FOR 6);
+    -- Version-Nibble (oberes Halbbyte von Byte 6) auf 7 setzen
+    v_bytes := set_byte(v_bytes, 6, (get_byte(v_bytes, 6) & 15) | 112);
+    RETURN encode(v_bytes, 'hex')::UUID;
+END;
+$$ LANGUAGE plpgsql VOLATILE;
+
+COMMENT ON FUNCTION uuid_generate_v7() IS 'Zeitlich sortierte UUID Version 7 (RFC 9562)';
+
+ALTER TABLE speciality           ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE city                 ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE practice             ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE doctor               ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE doctor_working_hours ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE slot                 ALTER COLUMN id SET DEFAULT uuid_generate_v7();
@@ -0,0 +1,86 @@
+-- =============================================================================
+-- slot: monatliche Range-Partitionierung nach start_time
+-- =============================================================================
+-- Zeitfenster-Abfragen (Arzt + Datum) lesen nur noch die betroffenen Monate
+-- (Partition Pruning), alte Monate lassen sich ohne DELETE abhängen (DETACH).
+--
+-- Partitionen: slot_YYYY_MM, Monatsgrenzen in Europe/Berlin.
+-- Neue Partitionen legt SlotPartitionMaintenance (Anwendung) vor dem
+-- Materialisierungshorizont an; ohne passende Partition schlägt ein INSERT fehl.
+--
+-- ⚠️ Der Primärschlüssel muss den Partitionsschlüssel enthalten → PRIMARY KEY (id, start_time).
+--    id bleibt trotzdem eindeutig (UUIDv7), Hibernate verwendet weiter nur id.
+
+-- -----------------------------------------------------------------------------
+-- 1. Bestehende Tabelle beiseitelegen (Index-Namen sind schemaweit eindeutig)
+-- -----------------------------------------------------------------------------
+ALTER TABLE slot RENAME TO slot_legacy;
+ALTER INDEX slot_pkey RENAME TO slot_legacy_pkey;
+ALTER INDEX idx_slot_working_hours_time RENAME TO idx_slot_legacy_working_hours_time;
+ALTER INDEX idx_slot_start_time_status RENAME TO idx_slot_legacy_start_time_status;
+
+-- -----------------------------------------------------------------------------
+-- 2. Partitionierte Tabelle
+-- -----------------------------------------------------------------------------
+CREATE TABLE slot
+(
+    id                UUID NOT NULL DEFAULT uuid_generate_v7(),
+    working_hours_id  UUID NOT NULL,
+    start_time        TIMESTAMP WITH TIME ZONE NOT NULL,
+    end_time          TIMESTAMP WITH TIME ZONE NOT NULL,
+    status            slot_status NOT NULL,
+
+    CONSTRAINT slot_pkey PRIMARY KEY (id, start_time),
+
+    CONSTRAINT fk_slot_working_hours FOREIGN KEY (working_hours_id)
+        REFERENCES doctor_working_hours (id) ON DELETE CASCADE,
+
+    CONSTRAINT chk_slot_start_end_time CHECK (start_time < end_time)
+) PARTITION BY RANGE (start_time);
+
+-- Indizes auf der Parent-Tabelle werden für jede Partition automatisch angelegt
+CREATE UNIQUE INDEX idx_slot_working_hours_time ON slot(working_hours_id, start_time, end_time);
+CREATE INDEX idx_slot_start_time_status ON slot(start_time, status);
+
+COMMENT ON COLUMN slot.working_hours_id IS 'FK zu doctor_working_hours - Slots gehören zu Working Hours';
+COMMENT ON TABLE slot IS 'Slots werden aus Working Hours generiert. Monatlich partitioniert nach start_time (slot_YYYY_MM).';
+
+-- -----------------------------------------------------------------------------
+-- 3. Partitionen anlegen: ein Monat pro Partition, idempotent
+--    Gibt die Anzahl neu angelegter Partitionen zurück.
+-- -----------------------------------------------------------------------------
+CREATE FUNCTION slot_ensure_partitions(p_from DATE, p_until DATE) RETURNS INT AS $$
+DECLARE
+    v_month   DATE := date_trunc('month', p_from)::DATE;
+    v_name    TEXT;
+    v_created INT := 0;
+BEGIN
+    WHILE v_month <= p_until LOOP
+        v_name := 'slot_' || to_char(v_month, 'YYYY_MM');
+        IF to_regclass(v_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF slot FOR VALUES FROM (%L) TO (%L)',
+                           v_name,
+                           v_month::TIMESTAMP AT TIME ZONE 'Europe/Berlin',
+                           (v_month + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'Europe/Berlin');
+            v_created := v_created + 1;
+        END IF;
+        v_month := (v_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+    RETURN v_created;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON FUNCTION slot_ensure_partitions(DATE, DATE) IS 'Legt fehlende Monats-Partitionen slot_YYYY_MM im Zeitraum an';
+
+-- -----------------------------------------------------------------------------
+-- 4. Partitionen für Altdaten + die nächsten Monate, Daten übernehmen
+-- -----------------------------------------------------------------------------
+SELECT slot_ensure_partitions(
+    LEAST(COALESCE((SELECT MIN(start_time AT TIME ZONE 'Europe/Berlin')::DATE FROM slot_legacy), CURRENT_DATE), CURRENT_DATE),
+    GREATEST(COALESCE((SELECT MAX(start_time AT TIME ZONE 'Europe/Berlin')::DATE FROM slot_legacy), CURRENT_DATE),
+             (CURRENT_DATE + INTERVAL '3 months')::DATE));
+
+INSERT INTO slot (id, working_hours_id, start_time, end_time, status)
+SELECT id, working_hours_id, start_time, end_time, status FROM slot_legacy;
+
+DROP TABLE slot_legacy;
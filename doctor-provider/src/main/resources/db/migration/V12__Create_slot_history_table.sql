@@ -0,0 +1,27 @@
+-- =============================================================================
+-- Archiv für vergangene, gebuchte Slots
+-- =============================================================================
+-- SlotRetentionJob verschiebt vergangene BOOKED-Slots batchweise aus slot nach
+-- slot_history (DELETE ... RETURNING + INSERT in EINEM Statement).
+-- Vergangene AVAILABLE/BLOCKED-Slots werden ohne Archiv gelöscht.
+--
+-- Kompakt: kein Status (immer gebucht), keine FKs (Archiv überlebt das Löschen
+-- von Working Hours/Ärzten), doctor_id denormalisiert für Auswertungen.
+
+CREATE TABLE slot_history (
+    id                UUID PRIMARY KEY,
+    doctor_id         UUID NOT NULL,
+    working_hours_id  UUID NOT NULL,
+    start_time        TIMESTAMP WITH TIME ZONE NOT NULL,
+    end_time          TIMESTAMP WITH TIME ZONE NOT NULL,
+    archived_at       TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+-- Auswertungen pro Arzt und Zeitraum
+CREATE INDEX idx_slot_history_doctor_time ON slot_history(doctor_id, start_time);
+
+-- Zeilen kommen ungefähr in start_time-Reihenfolge → BRIN statt B-Tree
+CREATE INDEX idx_slot_history_start_time ON slot_history USING BRIN (start_time);
+
+COMMENT ON TABLE slot_history IS 'Archiv vergangener gebuchter Slots. Wird nur von SlotRetentionJob geschrieben.';
+COMMENT ON COLUMN slot_history.doctor_id IS 'Aus doctor_working_hours übernommen (zum Zeitpunkt der Archivierung)';
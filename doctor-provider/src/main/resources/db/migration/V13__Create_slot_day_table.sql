@@ -0,0 +1,46 @@
+-- =============================================================================
+-- Kompakte Slot-Speicherung: eine Zeile pro (working_hours_id, Tag)
+-- =============================================================================
+-- Alternative zu slot (eine Zeile pro 30-Minuten-Slot), aktiv mit
+-- doctor-provider.slots.storage=compact (CompactSlotPersistenceAdapter).
+--
+-- states: 2 Bit pro Slot, Slot i beginnt um slot_date 00:00 (Europe/Berlin) + i × slot_minutes
+--   0 = kein Slot, 1 = AVAILABLE, 2 = BOOKED, 3 = BLOCKED
+--   Slot i liegt in Byte i / 4, Bits (i % 4) × 2 .. (i % 4) × 2 + 1
+--   Ein Tag mit 30-Minuten-Raster braucht höchstens 13 Byte (25 h an der Zeitumstellung).
+--
+-- slot_booking: nur für gebuchte Slots eine Zeile (Platz für Buchungsdaten).
+
+CREATE TABLE slot_day (
+    id                BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    working_hours_id  UUID NOT NULL,
+    slot_date         DATE NOT NULL,
+    slot_minutes      SMALLINT NOT NULL DEFAULT 30,
+    states            BYTEA NOT NULL DEFAULT '\x'::bytea,
+
+    CONSTRAINT fk_slot_day_working_hours FOREIGN KEY (working_hours_id)
+        REFERENCES doctor_working_hours (id) ON DELETE CASCADE,
+
+    CONSTRAINT chk_slot_day_slot_minutes CHECK (slot_minutes BETWEEN 5 AND 720)
+);
+
+-- Ein Tag pro Working Hours, zugleich Index für "Slots einer Working Hours im Zeitraum"
+CREATE UNIQUE INDEX idx_slot_day_working_hours_date ON slot_day(working_hours_id, slot_date);
+
+-- Slot-Suche nur nach Datum
+CREATE INDEX idx_slot_day_date ON slot_day(slot_date);
+
+CREATE TABLE slot_booking (
+    slot_day_id  BIGINT NOT NULL,
+    slot_index   SMALLINT NOT NULL,
+    booked_at    TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+
+    PRIMARY KEY (slot_day_id, slot_index),
+
+    CONSTRAINT fk_slot_booking_slot_day FOREIGN KEY (slot_day_id)
+        REFERENCES slot_day (id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE slot_day IS 'Kompakte Slots: ein Status-Array (2 Bit pro Slot) pro Working Hours und Tag.';
+COMMENT ON COLUMN slot_day.states IS '2 Bit pro Slot: 0 = kein Slot, 1 = AVAILABLE, 2 = BOOKED, 3 = BLOCKED';
+COMMENT ON TABLE slot_booking IS 'Eine Zeile pro gebuchtem Slot aus slot_day (Status BOOKED).';
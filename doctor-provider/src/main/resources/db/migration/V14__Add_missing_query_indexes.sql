@@ -0,0 +1,26 @@
+-- =============================================================================
+-- Fehlende Indizes (Befunde aus QueryPlanTests)
+-- =============================================================================
+-- Fremdschlüssel ohne Index → ON DELETE CASCADE und Filter lesen die ganze Tabelle:
+--   doctor_working_hours.doctor_id  (findAllByDoctorId, existsOverlapping, DELETE doctor)
+--   doctor_speciality.speciality_id (Ärzte einer Fachrichtung, DELETE speciality)
+--   practice.city_id                (Praxen einer Stadt, DELETE city)
+-- Teilstring-Suche LOWER(x) LIKE '%...%' → Trigramm-Indizes (pg_trgm):
+--   practice.name, doctor_search.first_name / last_name
+-- Namensprüfung LOWER(name) = LOWER(?) → Ausdrucks-Index auf practice.
+--
+-- Ohne CONCURRENTLY (Flyway-Migration läuft in einer Transaktion). Auf großen
+-- Bestandsdatenbanken die Indizes vorher manuell mit CREATE INDEX CONCURRENTLY anlegen,
+-- die Migration ist dann dank IF NOT EXISTS ein No-Op.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_doctor_working_hours_doctor ON doctor_working_hours(doctor_id, weekday);
+CREATE INDEX IF NOT EXISTS idx_doctor_speciality_speciality ON doctor_speciality(speciality_id, doctor_id);
+CREATE INDEX IF NOT EXISTS idx_practice_city ON practice(city_id);
+
+CREATE INDEX IF NOT EXISTS idx_practice_name_lower ON practice(LOWER(name));
+CREATE INDEX IF NOT EXISTS idx_practice_name_trgm ON practice USING GIN (LOWER(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_doctor_search_first_name_trgm ON doctor_search USING GIN (LOWER(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_doctor_search_last_name_trgm ON doctor_search USING GIN (LOWER(last_name) gin_trgm_ops);
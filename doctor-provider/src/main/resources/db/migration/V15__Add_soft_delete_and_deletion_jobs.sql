@@ -0,0 +1,92 @@
+-- =============================================================================
+-- Asynchrones Löschen von Praxen und Ärzten
+-- =============================================================================
+-- DELETE practice/doctor versteckt den Datensatz sofort (deleted_at) und legt einen
+-- deletion_job an. ChunkedDeletionWorker löscht die abhängigen Zeilen (slot, slot_day,
+-- doctor_working_hours, doctor, practice) danach in kleinen Transaktionen.
+--
+-- Versteckt: Hibernate filtert deleted_at IS NULL (@SQLRestriction), doctor_search
+-- enthält keine gelöschten Ärzte (Trigger-Funktionen unten).
+
+ALTER TABLE practice ADD COLUMN deleted_at TIMESTAMP WITH TIME ZONE;
+ALTER TABLE doctor ADD COLUMN deleted_at TIMESTAMP WITH TIME ZONE;
+
+COMMENT ON COLUMN practice.deleted_at IS 'Gesetzt = gelöscht, abhängige Daten werden per deletion_job entfernt';
+COMMENT ON COLUMN doctor.deleted_at IS 'Gesetzt = gelöscht, abhängige Daten werden per deletion_job entfernt';
+
+CREATE TABLE deletion_job (
+    id            UUID PRIMARY KEY DEFAULT uuid_generate_v7(),
+    target_type   VARCHAR(20) NOT NULL,
+    target_id     UUID NOT NULL,
+    status        VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    deleted_rows  BIGINT NOT NULL DEFAULT 0,
+    chunks        INT NOT NULL DEFAULT 0,
+    attempts      INT NOT NULL DEFAULT 0,
+    last_error    TEXT,
+    created_at    TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    updated_at    TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    finished_at   TIMESTAMP WITH TIME ZONE,
+
+    CONSTRAINT chk_deletion_job_target_type CHECK (target_type IN ('PRACTICE', 'DOCTOR')),
+    CONSTRAINT chk_deletion_job_status CHECK (status IN ('PENDING', 'RUNNING', 'DONE', 'FAILED'))
+);
+
+-- Offene Jobs in Reihenfolge (Worker), Jobs pro Ziel (Status-Endpunkt)
+CREATE INDEX idx_deletion_job_open ON deletion_job(created_at) WHERE status IN ('PENDING', 'RUNNING');
+CREATE INDEX idx_deletion_job_target ON deletion_job(target_id);
+
+COMMENT ON TABLE deletion_job IS 'Löschaufträge für Praxen/Ärzte, abgearbeitet in Chunks (fortsetzbar nach Neustart)';
+
+-- -----------------------------------------------------------------------------
+-- doctor_search: gelöschte Ärzte fallen heraus
+-- -----------------------------------------------------------------------------
+CREATE OR REPLACE FUNCTION doctor_search_refresh(p_doctor_ids UUID[]) RETURNS VOID AS $$
+BEGIN
+    DELETE FROM doctor_search ds
+    USING doctor d
+    WHERE d.id = ds.doctor_id
+      AND d.id = ANY (p_doctor_ids)
+      AND d.deleted_at IS NOT NULL;
+
+    INSERT INTO doctor_search (doctor_id, first_name, last_name, practice_id, practice_name,
+                               city_id, city_name, speciality_ids)
+    SELECT d.id, d.first_name, d.last_name, d.practice_id, p.name, c.id, c.name,
+           ARRAY(SELECT ds.speciality_id FROM doctor_speciality ds
+                 WHERE ds.doctor_id = d.id ORDER BY ds.speciality_id)
+    FROM doctor d
+    LEFT JOIN practice p ON p.id = d.practice_id
+    LEFT JOIN city c ON c.id = p.city_id
+    WHERE d.id = ANY (p_doctor_ids)
+      AND d.deleted_at IS NULL
+    ON CONFLICT (doctor_id) DO UPDATE SET
+        first_name     = EXCLUDED.first_name,
+        last_name      = EXCLUDED.last_name,
+        practice_id    = EXCLUDED.practice_id,
+        practice_name  = EXCLUDED.practice_name,
+        city_id        = EXCLUDED.city_id,
+        city_name      = EXCLUDED.city_name,
+        speciality_ids = EXCLUDED.speciality_ids;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION doctor_search_rebuild() RETURNS BIGINT AS $$
+DECLARE
+    v_count BIGINT;
+BEGIN
+    DELETE FROM doctor_search;
+
+    INSERT INTO doctor_search (doctor_id, first_name, last_name, practice_id, practice_name,
+                               city_id, city_name, speciality_ids)
+    SELECT d.id, d.first_name, d.last_name, d.practice_id, p.name, c.id, c.name,
+           COALESCE(s.speciality_ids, '{}')
+    FROM doctor d
+    LEFT JOIN practice p ON p.id = d.practice_id
+    LEFT JOIN city c ON c.id = p.city_id
+    LEFT JOIN (SELECT doctor_id, array_agg(speciality_id ORDER BY speciality_id) AS speciality_ids
+               FROM doctor_speciality GROUP BY doctor_id) s ON s.doctor_id = d.id
+    WHERE d.deleted_at IS NULL;
+
+    GET DIAGNOSTICS v_count = ROW_COUNT;
+    RETURN v_count;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,37 @@
+-- =============================================================================
+-- Outbox für Slot-Änderungen (Change-Feed)
+-- =============================================================================
+-- Jede Statusänderung eines Slots, jede (Neu-)Generierung und jedes Entfernen von
+-- Slots schreibt in DERSELBEN Transaktion eine Zeile in slot_event.
+--
+-- ⚠️ id (BIGSERIAL) ist NICHT der Feed-Offset: Transaktionen committen nicht in
+-- id-Reihenfolge, ein Konsument könnte sonst eine später committete kleinere id
+-- überspringen. Den Offset (position) vergibt SlotEventSequencer nachträglich für
+-- bereits committete Zeilen, immer nur eine Instanz gleichzeitig (Advisory Lock)
+-- → position ist streng monoton in Commit-Reihenfolge.
+
+CREATE SEQUENCE slot_event_position_seq;
+
+CREATE TABLE slot_event (
+    id                BIGSERIAL PRIMARY KEY,
+    position          BIGINT,
+    event_type        VARCHAR(30) NOT NULL,
+    doctor_id         UUID,
+    working_hours_id  UUID NOT NULL,
+    slot_id           UUID,
+    start_time        TIMESTAMP WITH TIME ZONE,
+    end_time          TIMESTAMP WITH TIME ZONE,
+    status            slot_status,
+    created_at        TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+
+    CONSTRAINT chk_slot_event_type CHECK (event_type IN ('SLOT_STATUS_CHANGED', 'SLOTS_GENERATED', 'SLOTS_REMOVED'))
+);
+
+-- Feed lesen (position > offset) und noch nicht sequenzierte Zeilen finden
+CREATE UNIQUE INDEX idx_slot_event_position ON slot_event(position);
+CREATE INDEX idx_slot_event_unsequenced ON slot_event(id) WHERE position IS NULL;
+
+COMMENT ON TABLE slot_event IS 'Outbox: Slot-Änderungen, gelesen über GET /api/v1/internal/slot-events';
+COMMENT ON COLUMN slot_event.position IS 'Feed-Offset in Commit-Reihenfolge, NULL = noch nicht sequenziert';
+COMMENT ON COLUMN slot_event.start_time IS 'SLOT_STATUS_CHANGED: Slot-Beginn, SLOTS_GENERATED: Beginn des Zeitraums';
+COMMENT ON COLUMN slot_event.end_time IS 'SLOT_STATUS_CHANGED: Slot-Ende, SLOTS_GENERATED: Ende des Zeitraums';
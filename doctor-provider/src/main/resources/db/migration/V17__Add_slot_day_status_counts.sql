@@ -0,0 +1,37 @@
+-- =============================================================================
+-- Slot-Zähler pro Tageszeile (kompakte Slot-Speicherung)
+-- =============================================================================
+-- CompactSlotPersistenceAdapter.findAll musste jede Tageszeile im Zeitraum lesen
+-- und dekodieren, um nach Status zu filtern und totalElements zu zählen. Mit den
+-- Zählern filtert und paginiert PostgreSQL auf Tagesebene, dekodiert werden nur
+-- die Tageszeilen der angefragten Seite.
+--
+-- Gepflegt vom Adapter bei jedem Schreiben von states (writeStates), hier einmal
+-- aus states nachgerechnet (2 Bit pro Slot, siehe V13).
+
+ALTER TABLE slot_day
+    ADD COLUMN available_count SMALLINT NOT NULL DEFAULT 0,
+    ADD COLUMN booked_count    SMALLINT NOT NULL DEFAULT 0,
+    ADD COLUMN blocked_count   SMALLINT NOT NULL DEFAULT 0;
+
+UPDATE slot_day d
+SET available_count = c.available,
+    booked_count    = c.booked,
+    blocked_count   = c.blocked
+FROM (
+    SELECT sd.id,
+           count(*) FILTER (WHERE s.code = 1) AS available,
+           count(*) FILTER (WHERE s.code = 2) AS booked,
+           count(*) FILTER (WHERE s.code = 3) AS blocked
+    FROM slot_day sd
+    CROSS JOIN LATERAL (
+        SELECT (get_byte(sd.states, i / 4) >> ((i % 4) * 2)) & 3 AS code
+        FROM generate_series(0, length(sd.states) * 4 - 1) i
+    ) s
+    GROUP BY sd.id
+) c
+WHERE c.id = d.id;
+
+COMMENT ON COLUMN slot_day.available_count IS 'Anzahl Slots mit Status AVAILABLE in states';
+COMMENT ON COLUMN slot_day.booked_count IS 'Anzahl Slots mit Status BOOKED in states';
+COMMENT ON COLUMN slot_day.blocked_count IS 'Anzahl Slots mit Status BLOCKED in states';
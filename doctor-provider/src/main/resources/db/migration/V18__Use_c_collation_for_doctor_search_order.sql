@@ -0,0 +1,16 @@
+-- =============================================================================
+-- Sortierung der Arztsuche unabhängig von der Datenbank-Collation
+-- =============================================================================
+-- Die Suche sortiert nach last_name, first_name, doctor_id, im Speicher
+-- (DoctorSearchIndex) wie in der Datenbank (DoctorSearchRepository.findAllFiltered).
+-- Mit der Standard-Collation (en_US, ICU) ordnet PostgreSQL Groß-/Kleinschreibung
+-- und Umlaute anders als der Index; solange der Index nach dem Start noch nicht
+-- bereit ist, passten Seiten aus beiden Pfaden dann nicht zusammen.
+--
+-- COLLATE "C" vergleicht Bytes (UTF-8 → Codepoint-Reihenfolge), genau wie der
+-- Index. Der Sortier-Index braucht dieselbe Collation, sonst sortiert PostgreSQL
+-- jede Seite neu.
+
+DROP INDEX idx_doctor_search_name;
+CREATE INDEX idx_doctor_search_name
+    ON doctor_search (last_name COLLATE "C", first_name COLLATE "C", doctor_id);
@@ -0,0 +1,154 @@
+-- =============================================================================
+-- Read-Model für die Arztsuche
+-- =============================================================================
+-- Eine Zeile pro Arzt mit allem, was die Suche braucht (Praxis, Stadt, Fachrichtungen).
+-- Die Suche (DoctorRepository → DoctorSearchRepository) fragt nur noch diese Tabelle ab,
+-- ohne JOINs über practice, city und doctor_speciality.
+--
+-- Aktualisierung: inkrementell per Statement-Trigger auf doctor, doctor_speciality,
+-- practice und city (in derselben Transaktion wie die Änderung).
+-- Kompletter Neuaufbau: SELECT doctor_search_rebuild();
+
+CREATE TABLE doctor_search (
+    doctor_id      UUID PRIMARY KEY,
+    first_name     VARCHAR(100) NOT NULL,
+    last_name      VARCHAR(100) NOT NULL,
+    practice_id    UUID,
+    practice_name  VARCHAR(200),
+    city_id        UUID,
+    city_name      VARCHAR(100),
+    speciality_ids UUID[] NOT NULL DEFAULT '{}',
+
+    CONSTRAINT fk_doctor_search_doctor FOREIGN KEY (doctor_id)
+        REFERENCES doctor(id) ON DELETE CASCADE
+);
+
+-- Indizes
+CREATE INDEX idx_doctor_search_speciality_ids ON doctor_search USING GIN (speciality_ids);
+CREATE INDEX idx_doctor_search_city ON doctor_search(city_id);
+CREATE INDEX idx_doctor_search_practice ON doctor_search(practice_id);
+CREATE INDEX idx_doctor_search_name ON doctor_search(last_name, first_name, doctor_id);
+
+COMMENT ON TABLE doctor_search IS 'Read-Model für die Arztsuche. Wird per Trigger gepflegt, nie direkt schreiben.';
+COMMENT ON COLUMN doctor_search.speciality_ids IS 'IDs aus doctor_speciality, Suche mit speciality_ids @> ARRAY[id] (GIN-Index)';
+
+-- -----------------------------------------------------------------------------
+-- Aktualisiert die Zeilen der übergebenen Ärzte (Upsert).
+-- Gelöschte Ärzte verschwinden über ON DELETE CASCADE.
+-- -----------------------------------------------------------------------------
+CREATE FUNCTION doctor_search_refresh(p_doctor_ids UUID[]) RETURNS VOID AS $$
+BEGIN
+    INSERT INTO doctor_search (doctor_id, first_name, last_name, practice_id, practice_name,
+                               city_id, city_name, speciality_ids)
+    SELECT d.id, d.first_name, d.last_name, d.practice_id, p.name, c.id, c.name,
+           ARRAY(SELECT ds.speciality_id FROM doctor_speciality ds
+                 WHERE ds.doctor_id = d.id ORDER BY ds.speciality_id)
+    FROM doctor d
+    LEFT JOIN practice p ON p.id = d.practice_id
+    LEFT JOIN city c ON c.id = p.city_id
+    WHERE d.id = ANY (p_doctor_ids)
+    ON CONFLICT (doctor_id) DO UPDATE SET
+        first_name     = EXCLUDED.first_name,
+        last_name      = EXCLUDED.last_name,
+        practice_id    = EXCLUDED.practice_id,
+        practice_name  = EXCLUDED.practice_name,
+        city_id        = EXCLUDED.city_id,
+        city_name      = EXCLUDED.city_name,
+        speciality_ids = EXCLUDED.speciality_ids;
+END;
+$$ LANGUAGE plpgsql;
+
+-- -----------------------------------------------------------------------------
+-- Kompletter Neuaufbau (z.B. nach manuellen Datenkorrekturen).
+-- Gibt die Anzahl der geschriebenen Zeilen zurück.
+-- -----------------------------------------------------------------------------
+CREATE FUNCTION doctor_search_rebuild() RETURNS BIGINT AS $$
+DECLARE
+    v_count BIGINT;
+BEGIN
+    DELETE FROM doctor_search;
+
+    INSERT INTO doctor_search (doctor_id, first_name, last_name, practice_id, practice_name,
+                               city_id, city_name, speciality_ids)
+    SELECT d.id, d.first_name, d.last_name, d.practice_id, p.name, c.id, c.name,
+           COALESCE(s.speciality_ids, '{}')
+    FROM doctor d
+    LEFT JOIN practice p ON p.id = d.practice_id
+    LEFT JOIN city c ON c.id = p.city_id
+    LEFT JOIN (SELECT doctor_id, array_agg(speciality_id ORDER BY speciality_id) AS speciality_ids
+               FROM doctor_speciality GROUP BY doctor_id) s ON s.doctor_id = d.id;
+
+    GET DIAGNOSTICS v_count = ROW_COUNT;
+    RETURN v_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- -----------------------------------------------------------------------------
+-- Trigger-Funktionen (Statement-Level mit Transition-Table "changed_rows",
+-- damit Bulk-Änderungen nur EINEN Refresh pro Statement auslösen)
+-- -----------------------------------------------------------------------------
+CREATE FUNCTION doctor_search_on_doctor() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM doctor_search_refresh(ARRAY(SELECT id FROM changed_rows));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION doctor_search_on_doctor_speciality() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM doctor_search_refresh(ARRAY(SELECT DISTINCT doctor_id FROM changed_rows));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION doctor_search_on_practice() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM doctor_search_refresh(ARRAY(
+        SELECT d.id FROM doctor d JOIN changed_rows p ON p.id = d.practice_id));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION doctor_search_on_city() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE doctor_search ds
+    SET city_name = c.name
+    FROM changed_rows c
+    WHERE ds.city_id = c.id
+      AND ds.city_name IS DISTINCT FROM c.name;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_doctor_search_doctor_insert
+    AFTER INSERT ON doctor
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION doctor_search_on_doctor();
+
+CREATE TRIGGER trg_doctor_search_doctor_update
+    AFTER UPDATE ON doctor
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION doctor_search_on_doctor();
+
+CREATE TRIGGER trg_doctor_search_doctor_speciality_insert
+    AFTER INSERT ON doctor_speciality
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION doctor_search_on_doctor_speciality();
+
+CREATE TRIGGER trg_doctor_search_doctor_speciality_delete
+    AFTER DELETE ON doctor_speciality
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION doctor_search_on_doctor_speciality();
+
+CREATE TRIGGER trg_doctor_search_practice_update
+    AFTER UPDATE ON practice
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION doctor_search_on_practice();
+
+CREATE TRIGGER trg_doctor_search_city_update
+    AFTER UPDATE ON city
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION doctor_search_on_city();
+
+-- Bestehende Daten übernehmen
+SELECT doctor_search_rebuild();
@@ -0,0 +1,19 @@
+-- =============================================================================
+-- Koordinaten für Praxen (Umkreissuche)
+-- =============================================================================
+-- Werte stammen aus dem PLZ-Zentroid der Praxis-Adresse (geo/postal-code-centroids.csv)
+-- und werden beim Speichern einer Praxis von der Anwendung gesetzt.
+-- Die Umkreissuche läuft im Speicher (PracticeGeoIndex); der Index hier dient nur
+-- dem Fallback direkt nach dem Start, solange der In-Memory-Index noch aufgebaut wird.
+
+ALTER TABLE practice
+    ADD COLUMN latitude  DOUBLE PRECISION,
+    ADD COLUMN longitude DOUBLE PRECISION,
+    ADD CONSTRAINT practice_latitude_range CHECK (latitude IS NULL OR latitude BETWEEN -90 AND 90),
+    ADD CONSTRAINT practice_longitude_range CHECK (longitude IS NULL OR longitude BETWEEN -180 AND 180),
+    ADD CONSTRAINT practice_coordinates_complete CHECK ((latitude IS NULL) = (longitude IS NULL));
+
+CREATE INDEX idx_practice_coordinates ON practice(latitude, longitude) WHERE latitude IS NOT NULL;
+
+COMMENT ON COLUMN practice.latitude IS 'Breitengrad (WGS84) aus dem PLZ-Zentroid, NULL wenn PLZ unbekannt';
+COMMENT ON COLUMN practice.longitude IS 'Längengrad (WGS84) aus dem PLZ-Zentroid, NULL wenn PLZ unbekannt';
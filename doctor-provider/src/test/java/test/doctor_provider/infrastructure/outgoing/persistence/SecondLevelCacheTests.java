@@ -0,0 +1,139 @@
+package test.doctor_provider.infrastructure.outgoing.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import test.doctor_provider.domain.enums.SpecialityTyp;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.CityEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DoctorEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.PracticeEntitiy;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.SpecialityEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.CityRepository;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.DoctorRepository;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.PracticeRepository;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.SpecialityRepository;
+
+/**
+ * Zeigt, dass der Second-Level-Cache die SQL-Statements für einen typischen
+ * Ablauf (Suche + Detailansicht) reduziert.
+ *
+ * Ablauf: Suche nach Fachrichtung + Stadt, danach für jeden Treffer Praxis,
+ * Stadt und Fachrichtungen auflösen (wie DoctorWithPracticeDto), danach
+ * Detailansicht eines Arztes.
+ */
+@SpringBootTest
+class SecondLevelCacheTests {
+
+	private static final int DOCTOR_COUNT = 5;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private CityRepository cityRepository;
+
+	@Autowired
+	private PracticeRepository practiceRepository;
+
+	@Autowired
+	private DoctorRepository doctorRepository;
+
+	@Autowired
+	private SpecialityRepository specialityRepository;
+
+	private UUID cityId;
+	private UUID practiceId;
+	private UUID specialityId;
+	private final List<UUID> doctorIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate.executeWithoutResult(status -> {
+			SpecialityEntity speciality = specialityRepository.findAll().stream()
+					.filter(s -> s.getName() == SpecialityTyp.Kardiologie).findFirst()
+					.orElseGet(() -> specialityRepository
+							.save(SpecialityEntity.builder().name(SpecialityTyp.Kardiologie).build()));
+			specialityId = speciality.getId();
+
+			CityEntity city = cityRepository
+					.save(CityEntity.builder().name("Cache-Test " + UUID.randomUUID()).postalCode("50667").build());
+			cityId = city.getId();
+
+			PracticeEntitiy practice = practiceRepository.save(PracticeEntitiy.builder().name("Praxis Cache-Test")
+					.street("Domstraße").houseNumber("1").phoneNumber("+49 221 1234567")
+					.email("cache-test@example.org").postalCode("50667").city(city).build());
+			practiceId = practice.getId();
+
+			for (int i = 0; i < DOCTOR_COUNT; i++) {
+				DoctorEntity doctor = doctorRepository.save(DoctorEntity.builder().firstName("Hans" + i)
+						.lastName("Müller" + i).practice(practice).specialities(Set.of(speciality)).build());
+				doctorIds.add(doctor.getId());
+			}
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		transactionTemplate.executeWithoutResult(status -> {
+			doctorRepository.deleteAllById(doctorIds);
+			practiceRepository.deleteById(practiceId);
+			cityRepository.deleteById(cityId);
+		});
+	}
+
+	@Test
+	void searchAndDetailFlowNeedsFewerStatementsWithWarmCache() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		entityManagerFactory.getCache().evictAll();
+
+		statistics.clear();
+		runSearchAndDetailFlow();
+		long coldStatements = statistics.getPrepareStatementCount();
+
+		statistics.clear();
+		runSearchAndDetailFlow();
+		long warmStatements = statistics.getPrepareStatementCount();
+
+		// Kalt: Suche + Count + Praxis + Stadt + Fachrichtungen pro Arzt
+		// Warm: Praxis, Stadt und Fachrichtungen kommen aus dem Cache
+		assertThat(warmStatements).isLessThan(coldStatements);
+		assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+		assertThat(statistics.getSecondLevelCacheMissCount()).isZero();
+	}
+
+	private void runSearchAndDetailFlow() {
+		transactionTemplate.executeWithoutResult(status -> {
+			var page = doctorRepository.findAllFiltered(null, null, null, cityId, specialityId, PageRequest.of(0, 20));
+			assertThat(page.getContent()).hasSize(DOCTOR_COUNT);
+			page.getContent().forEach(this::resolveDetails);
+		});
+
+		transactionTemplate.executeWithoutResult(
+				status -> resolveDetails(doctorRepository.findById(doctorIds.getFirst()).orElseThrow()));
+	}
+
+	private void resolveDetails(DoctorEntity doctor) {
+		assertThat(doctor.getPractice().getName()).isNotBlank();
+		assertThat(doctor.getPractice().getCity().getName()).isNotBlank();
+		assertThat(doctor.getSpecialities()).extracting(SpecialityEntity::getName).contains(SpecialityTyp.Kardiologie);
+	}
+}
@@ -0,0 +1,81 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.compact;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import test.doctor_provider.infrastructure.outgoing.persistence.id.UuidV7;
+
+/**
+ * Slot-IDs des kompakten Speichermodus (ohne Datenbank).
+ */
+class CompactSlotIdTests {
+
+	private static final long MAX_DAY_ID = (1L << 48) - 1;
+
+	@Test
+	void roundTripsDayIdAndIndex() {
+		long[] dayIds = {0, 1, 0xFFFF, 1L << 32, MAX_DAY_ID};
+		int[] indexes = {0, 1, 45, 49, 287, Integer.MAX_VALUE};
+		for (long dayId : dayIds) {
+			for (int index : indexes) {
+				UUID id = CompactSlotId.of(dayId, index);
+
+				assertThat(id.version()).isEqualTo(8);
+				assertThat(id.variant()).isEqualTo(2);
+				assertThat(CompactSlotId.parse(id)).contains(new CompactSlotId.Ref(dayId, index));
+				assertThat(CompactSlotId.parse(UUID.fromString(id.toString())))
+						.contains(new CompactSlotId.Ref(dayId, index));
+			}
+		}
+	}
+
+	@Test
+	void idsAreDistinctPerDayAndIndex() {
+		assertThat(CompactSlotId.of(1, 2)).isNotEqualTo(CompactSlotId.of(2, 1));
+		assertThat(CompactSlotId.of(1, 0)).isNotEqualTo(CompactSlotId.of(0, 1));
+	}
+
+	@Test
+	void rejectsUuidsOfOtherVersions() {
+		assertThat(CompactSlotId.parse(UuidV7.next())).isEmpty();
+		assertThat(CompactSlotId.parse(UUID.randomUUID())).isEmpty();
+		assertThat(CompactSlotId.parse(new UUID(0, 0))).isEmpty();
+		assertThat(CompactSlotId.parse(null)).isEmpty();
+	}
+
+	@Test
+	void rejectsVersion8WithForeignLayout() {
+		UUID id = CompactSlotId.of(42, 7);
+
+		// Bits 52-63 sind in unserem Format immer 0
+		assertThat(CompactSlotId.parse(new UUID(id.getMostSignificantBits() | 1, id.getLeastSignificantBits())))
+				.isEmpty();
+		// Variante 110 (Microsoft) statt 10
+		assertThat(CompactSlotId.parse(
+				new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits() | 0x4000_0000_0000_0000L)))
+				.isEmpty();
+	}
+
+	@Test
+	void rejectsIndexesOutsideIntRange() {
+		UUID id = CompactSlotId.of(42, 0);
+
+		assertThat(CompactSlotId.parse(
+				new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits() | (1L << 31)))).isEmpty();
+		assertThat(CompactSlotId.parse(
+				new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits() | (1L << 61)))).isEmpty();
+	}
+
+	@Test
+	void ofRejectsOutOfRangeArguments() {
+		assertThatThrownBy(() -> CompactSlotId.of(-1, 0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> CompactSlotId.of(MAX_DAY_ID + 1, 0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> CompactSlotId.of(1, -1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> CompactSlotId.of(1, Integer.MIN_VALUE))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,171 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.compact;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import test.doctor_provider.domain.enums.SlotStatus;
+
+/**
+ * Bit-Array und Zeitraster von slot_day (ohne Datenbank).
+ *
+ * WICHTIG: - 30-Minuten-Raster: ein normaler Tag hat 48 Slots (12 Bytes), der
+ * Tag der Umstellung auf Sommerzeit 46 (23 Stunden, 12 Bytes), der Tag der
+ * Umstellung auf Winterzeit 50 (25 Stunden, 13 Bytes)
+ */
+class SlotDayTests {
+
+	private static final LocalDate NORMAL_DAY = LocalDate.of(2026, 6, 15);
+	private static final LocalDate SPRING_FORWARD = LocalDate.of(2026, 3, 29);
+	private static final LocalDate FALL_BACK = LocalDate.of(2026, 10, 25);
+
+	private static final ZoneOffset CET = ZoneOffset.ofHours(1);
+	private static final ZoneOffset CEST = ZoneOffset.ofHours(2);
+
+	@Test
+	void setAndGetAcrossByteBoundaries() {
+		SlotDay day = day(NORMAL_DAY);
+		SlotStatus[] statuses = SlotStatus.values();
+		for (int index = 0; index < 48; index++) {
+			assertThat(day.set(index, statuses[index % statuses.length])).isNull();
+		}
+		for (int index = 0; index < 48; index++) {
+			assertThat(day.get(index)).as("slot %d", index).isEqualTo(statuses[index % statuses.length]);
+		}
+		assertThat(day.getStates()).hasSize(12);
+
+		// Nachbarn im selben Byte (3/4, 7/8) bleiben unverändert
+		assertThat(day.set(3, null)).isEqualTo(statuses[0]);
+		assertThat(day.set(4, SlotStatus.BLOCKED)).isEqualTo(statuses[1]);
+		assertThat(day.get(2)).isEqualTo(statuses[2]);
+		assertThat(day.get(3)).isNull();
+		assertThat(day.get(4)).isEqualTo(SlotStatus.BLOCKED);
+		assertThat(day.get(5)).isEqualTo(statuses[2]);
+	}
+
+	@Test
+	void arrayGrowsOnlyToTheLastSlot() {
+		SlotDay day = day(NORMAL_DAY);
+
+		assertThat(day.set(4, SlotStatus.AVAILABLE)).isNull();
+		assertThat(day.getStates()).hasSize(2);
+		assertThat(day.capacity()).isEqualTo(8);
+		assertThat(day.get(3)).isNull();
+		assertThat(day.get(8)).isNull();
+		assertThat(day.get(-1)).isNull();
+
+		// Entfernen hinter dem Array vergrößert es nicht
+		assertThat(day.set(40, null)).isNull();
+		assertThat(day.getStates()).hasSize(2);
+
+		assertThatThrownBy(() -> day.set(-1, SlotStatus.AVAILABLE)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void countsByStatus() {
+		SlotDay day = day(NORMAL_DAY);
+		day.set(0, SlotStatus.AVAILABLE);
+		day.set(3, SlotStatus.AVAILABLE);
+		day.set(4, SlotStatus.BOOKED);
+		day.set(7, SlotStatus.BLOCKED);
+		day.set(8, SlotStatus.BOOKED);
+		day.set(47, SlotStatus.AVAILABLE);
+		day.set(3, SlotStatus.BLOCKED);
+
+		assertThat(day.count(SlotStatus.AVAILABLE)).isEqualTo(2);
+		assertThat(day.count(SlotStatus.BOOKED)).isEqualTo(2);
+		assertThat(day.count(SlotStatus.BLOCKED)).isEqualTo(2);
+		assertThat(day.count(null)).isEqualTo(48 - 6);
+	}
+
+	@Test
+	void springForwardDayHas23Hours() {
+		SlotDay day = day(SPRING_FORWARD);
+
+		// 02:00 gibt es nicht: Slot 4 beginnt um 03:00 Sommerzeit
+		assertThat(day.startOf(3).toOffsetDateTime()).isEqualTo(at(SPRING_FORWARD, 1, 30, CET));
+		assertThat(day.startOf(4).toOffsetDateTime()).isEqualTo(at(SPRING_FORWARD, 3, 0, CEST));
+		assertThat(day.startOf(45).toOffsetDateTime()).isEqualTo(at(SPRING_FORWARD, 23, 30, CEST));
+		assertThat(SlotDay.dateOf(day.startOf(46))).isEqualTo(SPRING_FORWARD.plusDays(1));
+
+		for (int index = 0; index < 46; index++) {
+			assertThat(day.indexOf(day.startOf(index), day.endOf(index))).isEqualTo(index);
+		}
+		assertThatThrownBy(() -> day.indexOf(day.startOf(46), day.endOf(46)))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		day.set(45, SlotStatus.AVAILABLE);
+		assertThat(day.getStates()).hasSize(12);
+	}
+
+	@Test
+	void fallBackDayHas25Hours() {
+		SlotDay day = day(FALL_BACK);
+
+		// 02:00-03:00 gibt es zweimal: Slots 4/5 in Sommerzeit, 6/7 in Winterzeit
+		assertThat(day.startOf(4).toOffsetDateTime()).isEqualTo(at(FALL_BACK, 2, 0, CEST));
+		assertThat(day.startOf(6).toOffsetDateTime()).isEqualTo(at(FALL_BACK, 2, 0, CET));
+		assertThat(day.startOf(49).toOffsetDateTime()).isEqualTo(at(FALL_BACK, 23, 30, CET));
+		assertThat(SlotDay.dateOf(day.startOf(50))).isEqualTo(FALL_BACK.plusDays(1));
+
+		assertThat(day.indexOf(at(FALL_BACK, 2, 0, CEST).atZoneSameInstant(SlotDay.SLOT_ZONE),
+				at(FALL_BACK, 2, 30, CEST).atZoneSameInstant(SlotDay.SLOT_ZONE))).isEqualTo(4);
+		assertThat(day.indexOf(at(FALL_BACK, 2, 0, CET).atZoneSameInstant(SlotDay.SLOT_ZONE),
+				at(FALL_BACK, 2, 30, CET).atZoneSameInstant(SlotDay.SLOT_ZONE))).isEqualTo(6);
+		for (int index = 0; index < 50; index++) {
+			assertThat(day.indexOf(day.startOf(index), day.endOf(index))).isEqualTo(index);
+		}
+		assertThatThrownBy(() -> day.indexOf(day.startOf(50), day.endOf(50)))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		day.set(49, SlotStatus.BOOKED);
+		assertThat(day.getStates()).hasSize(13);
+		assertThat(day.get(49)).isEqualTo(SlotStatus.BOOKED);
+	}
+
+	@Test
+	void rejectsOffGridSlots() {
+		SlotDay day = day(NORMAL_DAY);
+		ZonedDateTime nine = NORMAL_DAY.atTime(9, 0).atZone(SlotDay.SLOT_ZONE);
+
+		assertThat(day.indexOf(nine, nine.plusMinutes(30))).isEqualTo(18);
+		// Start nicht auf dem Raster
+		assertThatThrownBy(() -> day.indexOf(nine.plusMinutes(10), nine.plusMinutes(40)))
+				.isInstanceOf(IllegalArgumentException.class);
+		// Falsche Länge
+		assertThatThrownBy(() -> day.indexOf(nine, nine.plusMinutes(45)))
+				.isInstanceOf(IllegalArgumentException.class);
+		// Anderer Tag
+		assertThatThrownBy(() -> day.indexOf(nine.minusDays(1), nine.minusDays(1).plusMinutes(30)))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> day.indexOf(nine.plusDays(1), nine.plusDays(1).plusMinutes(30)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void indexOfIgnoresTheZoneOfTheInput() {
+		SlotDay day = day(NORMAL_DAY);
+		ZonedDateTime nine = NORMAL_DAY.atTime(9, 0).atZone(SlotDay.SLOT_ZONE);
+		ZonedDateTime utc = nine.withZoneSameInstant(ZoneOffset.UTC);
+
+		assertThat(day.indexOf(utc, utc.plus(Duration.ofMinutes(30)))).isEqualTo(18);
+	}
+
+	private static SlotDay day(LocalDate date) {
+		return new SlotDay(1, UUID.randomUUID(), date, 30, null);
+	}
+
+	private static OffsetDateTime at(LocalDate date, int hour, int minute, ZoneOffset offset) {
+		return LocalDateTime.of(date, LocalTime.of(hour, minute)).atOffset(offset);
+	}
+}
@@ -0,0 +1,116 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Reihenfolge des In-Memory-Index gegen die Sortierung der Datenbank (ORDER BY
+ * last_name COLLATE "C", first_name COLLATE "C", doctor_id).
+ *
+ * WICHTIG: - Läuft ohne Datenbank: COLLATE "C" vergleicht in einer
+ * UTF-8-Datenbank die Bytes der Namen (vorzeichenlos), UUIDs vergleicht
+ * PostgreSQL ebenfalls byteweise - Genau diese Definition wird hier
+ * nachgebaut und mit den Seiten aus search() verglichen
+ */
+class DoctorSearchIndexTests {
+
+	private static final UUID SPECIALITY = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+	private static final UUID CITY = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+
+	private static final String[][] NAMES = {{"Anna", "Zimmer"}, {"anna", "zimmer"}, {"Anna", "Äbel"},
+			{"Ben", "Abel"}, {"ben", "abel"}, {"Ben", "ABEL"}, {"Öznur", "Özdemir"}, {"Olaf", "Ober"},
+			{"Otto", "Oeser"}, {"Jan", "Straße"}, {"Jan", "Strasse"}, {"Émile", "Ebert"}, {"Emil", "Ebert"},
+			{"Ida", "ｚweig"}, {"Ida", "𝐀lpha"}, {"Zoë", "Zoe"}, {"Zoe", "Zoe"}};
+
+	/** Sortierung nach Definition von COLLATE "C" bzw. dem uuid-Typ. */
+	private static final Comparator<DoctorSearchIndex.Entry> DATABASE_ORDER = Comparator
+			.comparing((DoctorSearchIndex.Entry entry) -> utf8(entry.lastName()), Arrays::compareUnsigned)
+			.thenComparing(entry -> utf8(entry.firstName()), Arrays::compareUnsigned)
+			.thenComparing(entry -> uuidBytes(entry.doctorId()), Arrays::compareUnsigned);
+
+	@Test
+	void searchOrderMatchesCCollationForMixedCaseAndUmlauts() {
+		List<DoctorSearchIndex.Entry> entries = entries();
+		DoctorSearchIndex index = indexOf(entries);
+
+		List<UUID> expected = entries.stream().sorted(DATABASE_ORDER).map(DoctorSearchIndex.Entry::doctorId)
+				.toList();
+
+		assertThat(index.search(SPECIALITY, null, 0, entries.size()).doctorIds()).isEqualTo(expected);
+		assertThat(index.search(null, CITY, 0, entries.size()).doctorIds()).isEqualTo(expected);
+	}
+
+	@Test
+	void pagesConcatenateToTheDatabaseOrder() {
+		List<DoctorSearchIndex.Entry> entries = entries();
+		DoctorSearchIndex index = indexOf(entries);
+
+		List<UUID> expected = entries.stream().sorted(DATABASE_ORDER).map(DoctorSearchIndex.Entry::doctorId)
+				.toList();
+
+		for (int size = 1; size <= entries.size(); size++) {
+			List<UUID> paged = new ArrayList<>();
+			for (int page = 0; page * size < entries.size(); page++) {
+				DoctorSearchIndex.IndexPage result = index.search(SPECIALITY, CITY, page, size);
+				assertThat(result.totalElements()).isEqualTo(entries.size());
+				paged.addAll(result.doctorIds());
+			}
+			assertThat(paged).as("page size %d", size).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void uuidsAreComparedUnsignedLikePostgres() {
+		UUID low = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+		UUID high = UUID.fromString("80000000-0000-0000-0000-000000000000");
+		DoctorSearchIndex index = indexOf(List.of(entry(high, "Anna", "Abel"), entry(low, "Anna", "Abel")));
+
+		assertThat(index.search(SPECIALITY, null, 0, 10).doctorIds()).containsExactly(low, high);
+	}
+
+	private static List<DoctorSearchIndex.Entry> entries() {
+		List<DoctorSearchIndex.Entry> entries = new ArrayList<>();
+		for (int i = 0; i < NAMES.length; i++) {
+			// Absteigende IDs, damit die Einfügereihenfolge nicht zufällig passt
+			UUID doctorId = new UUID(0x8000_0000_0000_0000L - i, i);
+			entries.add(entry(doctorId, NAMES[i][0], NAMES[i][1]));
+		}
+		// Gleiche Namen, nur die ID entscheidet
+		entries.add(entry(new UUID(-1L, 0L), "Anna", "Zimmer"));
+		entries.add(entry(new UUID(1L, 0L), "Anna", "Zimmer"));
+		return entries;
+	}
+
+	private static DoctorSearchIndex.Entry entry(UUID doctorId, String firstName, String lastName) {
+		return new DoctorSearchIndex.Entry(doctorId, firstName, lastName, UUID.randomUUID(), CITY,
+				Set.of(SPECIALITY));
+	}
+
+	private static DoctorSearchIndex indexOf(List<DoctorSearchIndex.Entry> entries) {
+		DoctorSearchIndex index = new DoctorSearchIndex();
+		index.rebuild(() -> entries.forEach(index::put));
+		return index;
+	}
+
+	private static byte[] utf8(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] uuidBytes(UUID value) {
+		byte[] bytes = new byte[16];
+		for (int i = 0; i < 8; i++) {
+			bytes[i] = (byte) (value.getMostSignificantBits() >>> (56 - 8 * i));
+			bytes[8 + i] = (byte) (value.getLeastSignificantBits() >>> (56 - 8 * i));
+		}
+		return bytes;
+	}
+}
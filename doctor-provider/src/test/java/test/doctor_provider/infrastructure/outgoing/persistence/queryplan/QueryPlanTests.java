@@ -0,0 +1,436 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.queryplan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import test.doctor_provider.domain.enums.SlotStatus;
+import test.doctor_provider.domain.enums.Weekday;
+import test.doctor_provider.infrastructure.outgoing.persistence.entity.DeletionJobEntity;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.CityRepository;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.DeletionJobRepository;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.DoctorRepository;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.DoctorSearchRepository;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.PracticeRepository;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.SlotRepository;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.SpecialityRepository;
+import test.doctor_provider.infrastructure.outgoing.persistence.repository.WorkingHoursRepository;
+
+/**
+ * Query-Plan-Regressionstests: führt jede @Query und jede abgeleitete Query der
+ * Repositories gegen einen großen synthetischen Datenbestand aus und prüft die
+ * Pläne per EXPLAIN.
+ *
+ * WICHTIG: - Läuft nur mit -DqueryPlans=true (braucht eine lokale PostgreSQL
+ * und dauert beim ersten Lauf einige Minuten): mvn test -Dtest=QueryPlanTests
+ * -DqueryPlans=true - Eigene Datenbank (Standard doctor_provider_query_plans,
+ * vorher anlegen; URL über QUERY_PLAN_DB_URL), der Datenbestand
+ * (query-plans/dataset.sql) wird nur einmal geladen - Fehler bei Seq Scan auf
+ * großen Tabellen, außer der Fall erlaubt ihn ausdrücklich - Fehler, wenn die
+ * geschätzten Kosten die Baseline (query-plans/baseline.properties) um mehr als
+ * queryPlans.tolerance (Standard 1.5) übersteigen - Aktuelle Kosten landen in
+ * target/query-plans/current.properties, mit -DqueryPlans.updateBaseline=true
+ * wird die Baseline überschrieben - Mit -DqueryPlans.requireBaseline=true ist
+ * ein Statement ohne Baseline-Eintrag ein Fehler - Jede Query-Methode aller
+ * Repositories braucht einen Fall (everyQueryMethodHasCase), Ausnahmen stehen
+ * mit Begründung in NOT_EXPLAINED
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=${QUERY_PLAN_DB_URL:jdbc:postgresql://localhost:${DOCTOR_DB_PORT:5433}/doctor_provider_query_plans}",
+		"spring.jpa.show-sql=false"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "queryPlans", matches = "true")
+class QueryPlanTests {
+
+	/** Tabellen, auf denen ein Seq Scan bei diesem Datenbestand ein Befund ist */
+	private static final Set<String> LARGE_TABLES = Set.of("practice", "doctor", "doctor_speciality",
+			"doctor_working_hours", "doctor_search", "slot", "slot_day", "slot_booking", "slot_history");
+
+	/**
+	 * Query-Methoden ohne eigenen Fall, mit Begründung.
+	 */
+	private static final Map<String, String> NOT_EXPLAINED = Map.of(
+			"SlotRepository.findAllInRange", "läuft über die default-Methode findAllFiltered (eigene Fälle)",
+			"DoctorSearchRepository.rebuild",
+			"ruft die PL/pgSQL-Funktion doctor_search_rebuild() auf, EXPLAIN sieht nur den Funktionsaufruf");
+
+	private static final Path BASELINE = Path.of("src/test/resources/query-plans/baseline.properties");
+	private static final Path CURRENT = Path.of("target/query-plans/current.properties");
+
+	@TestConfiguration
+	static class CaptureConfig {
+
+		@Bean
+		static SqlCapture sqlCapture() {
+			return new SqlCapture();
+		}
+	}
+
+	@Autowired
+	private SqlCapture sqlCapture;
+
+	@Autowired
+	private ApplicationContext applicationContext;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private CityRepository cityRepository;
+
+	@Autowired
+	private PracticeRepository practiceRepository;
+
+	@Autowired
+	private DoctorRepository doctorRepository;
+
+	@Autowired
+	private DoctorSearchRepository doctorSearchRepository;
+
+	@Autowired
+	private SpecialityRepository specialityRepository;
+
+	@Autowired
+	private WorkingHoursRepository workingHoursRepository;
+
+	@Autowired
+	private SlotRepository slotRepository;
+
+	@Autowired
+	private DeletionJobRepository deletionJobRepository;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Properties baseline = new Properties();
+	private final Map<String, Double> currentCosts = new TreeMap<>();
+	private final double tolerance = Double.parseDouble(System.getProperty("queryPlans.tolerance", "1.5"));
+	private final boolean requireBaseline = Boolean.getBoolean("queryPlans.requireBaseline");
+
+	private UUID cityId;
+	private UUID practiceId;
+	private String practiceName;
+	private UUID doctorId;
+	private UUID specialityId;
+	private UUID workingHoursId;
+	private UUID slotId;
+
+	/**
+	 * Ein Repository-Aufruf mit den Relationen, auf denen ein Seq Scan erlaubt ist.
+	 */
+	private record QueryCase(String name, Supplier<?> call, Set<String> allowedSeqScans) {
+	}
+
+	@BeforeAll
+	void loadDataset() throws IOException {
+		Integer loaded = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM city WHERE name = 'Plan-City-1'",
+				Integer.class);
+		if (loaded == null || loaded == 0) {
+			new ResourceDatabasePopulator(new ClassPathResource("query-plans/dataset.sql")).execute(dataSource);
+		}
+		jdbcTemplate.execute("ANALYZE");
+
+		cityId = jdbcTemplate.queryForObject("SELECT id FROM city WHERE name = 'Plan-City-42'", UUID.class);
+		practiceId = jdbcTemplate.queryForObject("SELECT id FROM practice WHERE city_id = ? LIMIT 1", UUID.class,
+				cityId);
+		practiceName = jdbcTemplate.queryForObject("SELECT name FROM practice WHERE id = ?", String.class,
+				practiceId);
+		workingHoursId = jdbcTemplate.queryForObject("SELECT working_hours_id FROM slot LIMIT 1", UUID.class);
+		doctorId = jdbcTemplate.queryForObject("SELECT doctor_id FROM doctor_working_hours WHERE id = ?",
+				UUID.class, workingHoursId);
+		specialityId = jdbcTemplate.queryForObject(
+				"SELECT speciality_id FROM doctor_speciality WHERE doctor_id = ? LIMIT 1", UUID.class, doctorId);
+		slotId = jdbcTemplate.queryForObject("SELECT id FROM slot WHERE working_hours_id = ? LIMIT 1", UUID.class,
+				workingHoursId);
+
+		if (Files.exists(BASELINE)) {
+			try (InputStream in = Files.newInputStream(BASELINE)) {
+				baseline.load(in);
+			}
+		}
+	}
+
+	@AfterAll
+	void writeCosts() throws IOException {
+		Properties current = new Properties();
+		currentCosts.forEach((key, cost) -> current.setProperty(key, String.format("%.2f", cost)));
+		Files.createDirectories(CURRENT.getParent());
+		try (OutputStream out = Files.newOutputStream(CURRENT)) {
+			current.store(out, "Geschätzte Gesamtkosten (EXPLAIN) je Statement");
+		}
+		if (Boolean.getBoolean("queryPlans.updateBaseline")) {
+			Files.copy(CURRENT, BASELINE, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	@TestFactory
+	Stream<DynamicTest> repositoryQueries() {
+		return cases().stream().map(queryCase -> DynamicTest.dynamicTest(queryCase.name(), () -> verify(queryCase)));
+	}
+
+	/**
+	 * Neue Query-Methoden fallen sonst unbemerkt aus der Plan-Prüfung heraus.
+	 */
+	@Test
+	void everyQueryMethodHasCase() {
+		Set<String> covered = cases().stream().map(queryCase -> queryCase.name().split("\\(")[0])
+				.collect(Collectors.toSet());
+		Repositories repositories = new Repositories(applicationContext);
+		Set<String> missing = new TreeSet<>();
+		for (Class<?> domainType : repositories) {
+			RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+			information.getQueryMethods().forEach(method -> {
+				String name = information.getRepositoryInterface().getSimpleName() + "." + method.getName();
+				if (!covered.contains(name) && !NOT_EXPLAINED.containsKey(name)) {
+					missing.add(name);
+				}
+			});
+		}
+
+		assertThat(missing).as("Query-Methoden ohne QueryCase").isEmpty();
+	}
+
+	private List<QueryCase> cases() {
+		LocalDate from = LocalDate.now();
+		LocalDate to = from.plusDays(6);
+		PageRequest page = PageRequest.of(0, 20);
+
+		return List.of(
+				// CityRepository: kleine Tabelle, Seq Scan ist dort günstiger als jeder Index
+				new QueryCase("CityRepository.findAllFiltered(name)",
+						() -> cityRepository.findAllFiltered("city-42", null, page), Set.of("city")),
+				new QueryCase("CityRepository.findAllFiltered(postalCode)",
+						() -> cityRepository.findAllFiltered(null, "1042", page), Set.of("city")),
+				new QueryCase("CityRepository.findById", () -> cityRepository.findById(cityId), Set.of()),
+
+				new QueryCase("PracticeRepository.findAllFiltered(cityId)",
+						() -> practiceRepository.findAllFiltered(cityId, null, page), Set.of()),
+				new QueryCase("PracticeRepository.findAllFiltered(practiceName)",
+						() -> practiceRepository.findAllFiltered(null, "praxis 1234", page), Set.of()),
+				new QueryCase("PracticeRepository.existsByName",
+						() -> practiceRepository.existsByName(practiceName), Set.of()),
+				new QueryCase("PracticeRepository.existsByNameAndIdNot",
+						() -> practiceRepository.existsByNameAndIdNot(practiceName, practiceId), Set.of()),
+				// Liest bewusst alle Praxen mit Koordinaten (Aufbau PracticeGeoIndex)
+				new QueryCase("PracticeRepository.findAllCoordinates", practiceRepository::findAllCoordinates,
+						Set.of("practice")),
+
+				new QueryCase("DoctorRepository.findAllFiltered(practiceId)",
+						() -> doctorRepository.findAllFiltered(null, null, practiceId, null, null, page), Set.of()),
+				new QueryCase("DoctorRepository.findAllFiltered(cityId)",
+						() -> doctorRepository.findAllFiltered(null, null, null, cityId, null, page), Set.of()),
+				new QueryCase("DoctorRepository.findAllFiltered(specialityId)",
+						() -> doctorRepository.findAllFiltered(null, null, null, null, specialityId, page),
+						Set.of()),
+				// Nicht mehr im Einsatz (Namenssuche läuft über doctor_search), deshalb kein Trigramm-Index
+				new QueryCase("DoctorRepository.findAllFiltered(lastName)",
+						() -> doctorRepository.findAllFiltered(null, "name123", null, null, null, page),
+						Set.of("doctor")),
+				new QueryCase("DoctorRepository.findById", () -> doctorRepository.findById(doctorId), Set.of()),
+				new QueryCase("DoctorRepository.hide", () -> doctorRepository.hide(doctorId), Set.of()),
+				new QueryCase("DoctorRepository.hideAllByPracticeId",
+						() -> doctorRepository.hideAllByPracticeId(practiceId), Set.of()),
+				new QueryCase("PracticeRepository.hide", () -> practiceRepository.hide(practiceId), Set.of()),
+
+				// deletion_job: nur offene bzw. wenige Jobs, Index idx_deletion_job_open
+				new QueryCase("DeletionJobRepository.findByStatusInOrderByCreatedAt",
+						() -> deletionJobRepository.findByStatusInOrderByCreatedAt(
+								EnumSet.of(DeletionJobEntity.Status.PENDING, DeletionJobEntity.Status.RUNNING),
+								PageRequest.of(0, 10)),
+						Set.of()),
+				new QueryCase("DeletionJobRepository.findAllFiltered(targetId)",
+						() -> deletionJobRepository.findAllFiltered(doctorId,
+								EnumSet.allOf(DeletionJobEntity.Status.class), page),
+						Set.of()),
+
+				new QueryCase("DoctorSearchRepository.findAllFiltered(specialityId, cityId)",
+						() -> doctorSearchRepository.findAllFiltered(null, null, null, cityId, specialityId, page),
+						Set.of()),
+				new QueryCase("DoctorSearchRepository.findAllFiltered(lastName)",
+						() -> doctorSearchRepository.findAllFiltered(null, "name123", null, null, null, page),
+						Set.of()),
+				new QueryCase("DoctorSearchRepository.findNearby",
+						() -> doctorSearchRepository.findNearby(52.52, 13.405, 10, specialityId, page), Set.of()),
+				// Liest bewusst das komplette Read-Model (Aufbau DoctorSearchIndex)
+				new QueryCase("DoctorSearchRepository.streamAll", () -> {
+					try (var stream = doctorSearchRepository.streamAll()) {
+						return stream.limit(1).count();
+					}
+				}, Set.of("doctor_search")),
+
+				// speciality: höchstens 15 Zeilen
+				new QueryCase("SpecialityRepository.existsAllByIds",
+						() -> specialityRepository.existsAllByIds(Set.of(specialityId), 1), Set.of("speciality")),
+
+				new QueryCase("WorkingHoursRepository.findAllByDoctorId",
+						() -> workingHoursRepository.findAllByDoctorId(doctorId), Set.of()),
+				new QueryCase("WorkingHoursRepository.existsOverlapping",
+						() -> workingHoursRepository.existsOverlapping(doctorId, Weekday.MONDAY, LocalTime.of(9, 0),
+								LocalTime.of(10, 0), null),
+						Set.of()),
+
+				new QueryCase("SlotRepository.findAllFiltered(workingHoursId, dates)",
+						() -> slotRepository.findAllFiltered(null, workingHoursId, from, to, null, page), Set.of()),
+				new QueryCase("SlotRepository.findAllFiltered(doctorId, dates, status)",
+						() -> slotRepository.findAllFiltered(doctorId, null, from, to, SlotStatus.AVAILABLE, page),
+						Set.of()),
+				new QueryCase("SlotRepository.findById", () -> slotRepository.findById(slotId), Set.of()),
+				new QueryCase("SlotRepository.findVisibleById", () -> slotRepository.findVisibleById(slotId),
+						Set.of()),
+				new QueryCase("SlotRepository.existsVisibleByIdAndStatus",
+						() -> slotRepository.existsVisibleByIdAndStatus(slotId, SlotStatus.BOOKED), Set.of()),
+				new QueryCase("SlotRepository.updateStatusIfCurrent",
+						() -> slotRepository.updateStatusIfCurrent(slotId, SlotStatus.AVAILABLE, SlotStatus.BLOCKED),
+						Set.of()),
+				new QueryCase("SlotRepository.deleteAllByWorkingHoursId", () -> {
+					slotRepository.deleteAllByWorkingHoursId(workingHoursId);
+					return null;
+				}, Set.of()));
+	}
+
+	/**
+	 * Jeder Fremdschlüssel braucht einen Index, dessen führende Spalten die
+	 * FK-Spalten sind. Sonst liest jedes DELETE auf der referenzierten Tabelle
+	 * (ON DELETE CASCADE) die komplette referenzierende Tabelle.
+	 */
+	@Test
+	void everyForeignKeyHasSupportingIndex() {
+		List<String> unindexed = jdbcTemplate.queryForList("""
+				SELECT c.conrelid::regclass || '.' || c.conname
+				FROM pg_constraint c
+				WHERE c.contype = 'f'
+				  AND c.conparentid = 0
+				  AND NOT EXISTS (
+				      SELECT 1 FROM pg_index i
+				      WHERE i.indrelid = c.conrelid
+				        AND (string_to_array(i.indkey::text, ' ')::int2[])[1:cardinality(c.conkey)] @> c.conkey
+				        AND (string_to_array(i.indkey::text, ' ')::int2[])[1:cardinality(c.conkey)] <@ c.conkey)
+				ORDER BY 1
+				""", String.class);
+
+		assertThat(unindexed).as("Fremdschlüssel ohne passenden Index").isEmpty();
+	}
+
+	private void verify(QueryCase queryCase) throws SQLException, IOException {
+		List<SqlCapture.CapturedStatement> statements = new ArrayList<>();
+		// Rollback: abgeleitete DELETEs dürfen den Datenbestand nicht verändern
+		transactionTemplate.executeWithoutResult(status -> {
+			statements.addAll(sqlCapture.record(queryCase.call()));
+			status.setRollbackOnly();
+		});
+		assertThat(statements).as("Keine SQL-Statements für " + queryCase.name()).isNotEmpty();
+
+		for (int i = 0; i < statements.size(); i++) {
+			SqlCapture.CapturedStatement statement = statements.get(i);
+			if (!isExplainable(statement.sql().stripLeading())) {
+				continue;
+			}
+			JsonNode plan = explain(statement);
+			String key = queryCase.name() + "#" + i;
+			double cost = plan.path("Total Cost").asDouble();
+			currentCosts.put(key, cost);
+
+			Map<String, String> seqScans = new LinkedHashMap<>();
+			collectSeqScans(plan, seqScans);
+			seqScans.keySet().removeIf(relation -> !LARGE_TABLES.contains(relation)
+					|| queryCase.allowedSeqScans().contains(relation));
+			assertThat(seqScans).as("Seq Scan in %s%n%s%n%s", key, statement.sql(), plan.toPrettyString())
+					.isEmpty();
+
+			String expected = baseline.getProperty(key);
+			assertThat(expected != null || !requireBaseline).as("Kein Baseline-Eintrag für %s", key).isTrue();
+			if (expected != null) {
+				assertThat(cost).as("Kosten von %s (Baseline %s, Toleranz %.2f)%n%s", key, expected, tolerance,
+						plan.toPrettyString()).isLessThanOrEqualTo(Double.parseDouble(expected) * tolerance);
+			}
+		}
+	}
+
+	/**
+	 * EXPLAIN ohne ANALYZE führt nichts aus, auch UPDATE/DELETE nicht.
+	 */
+	private static boolean isExplainable(String sql) {
+		for (String keyword : List.of("select", "with", "update", "delete")) {
+			if (sql.regionMatches(true, 0, keyword, 0, keyword.length())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private JsonNode explain(SqlCapture.CapturedStatement statement) throws SQLException, IOException {
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement explain = statement.prepare(connection, "EXPLAIN (FORMAT JSON) ");
+				ResultSet resultSet = explain.executeQuery()) {
+			resultSet.next();
+			return objectMapper.readTree(resultSet.getString(1)).get(0).get("Plan");
+		}
+	}
+
+	/**
+	 * Sammelt alle Seq Scans (Relation → Alias). Partitionen slot_YYYY_MM zählen
+	 * als slot.
+	 */
+	private static void collectSeqScans(JsonNode node, Map<String, String> seqScans) {
+		if ("Seq Scan".equals(node.path("Node Type").asText())) {
+			String relation = node.path("Relation Name").asText();
+			seqScans.put(relation.matches("slot_\\d{4}_\\d{2}") ? "slot" : relation, node.path("Alias").asText());
+		}
+		for (JsonNode child : node.path("Plans")) {
+			collectSeqScans(child, seqScans);
+		}
+	}
+}
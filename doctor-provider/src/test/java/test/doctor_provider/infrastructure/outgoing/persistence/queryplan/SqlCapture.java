@@ -0,0 +1,125 @@
+package test.doctor_provider.infrastructure.outgoing.persistence.queryplan;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Zeichnet die SQL-Statements (inkl. gebundener Parameter) auf, die Hibernate
+ * bzw. Spring Data über die DataSource ausführen.
+ *
+ * WICHTIG: - Wird als BeanPostProcessor um die DataSource gelegt (nur in
+ * QueryPlanTests) - Aufgezeichnet wird nur zwischen {@link #record(Supplier)}
+ * -Aufruf und Rückkehr - Parameter werden als Setter-Aufrufe gespeichert und
+ * für EXPLAIN 1:1 auf ein neues Statement angewendet
+ */
+class SqlCapture implements BeanPostProcessor {
+
+	/**
+	 * Ein Setter-Aufruf auf dem PreparedStatement (setString, setObject, setNull,
+	 * ...).
+	 */
+	record Binding(Method method, Object[] args) {
+	}
+
+	/**
+	 * Ein ausgeführtes Statement mit seinen Parametern.
+	 */
+	record CapturedStatement(String sql, List<Binding> bindings) {
+
+		/**
+		 * Erzeugt ein PreparedStatement für "prefix + sql" mit denselben Parametern.
+		 */
+		PreparedStatement prepare(Connection connection, String prefix) throws SQLException {
+			PreparedStatement statement = connection.prepareStatement(prefix + sql);
+			for (Binding binding : bindings) {
+				try {
+					binding.method().invoke(statement, binding.args());
+				} catch (IllegalAccessException | InvocationTargetException e) {
+					statement.close();
+					throw new SQLException("Could not replay " + binding.method().getName(), e);
+				}
+			}
+			return statement;
+		}
+	}
+
+	private final List<CapturedStatement> captured = new ArrayList<>();
+	private volatile boolean recording;
+
+	/**
+	 * Führt die Aktion aus und liefert alle dabei ausgeführten Statements.
+	 */
+	synchronized List<CapturedStatement> record(Supplier<?> action) {
+		captured.clear();
+		recording = true;
+		try {
+			action.get();
+		} finally {
+			recording = false;
+		}
+		return List.copyOf(captured);
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+			return proxy(DataSource.class, (proxy, method, args) -> {
+				Object result = invoke(dataSource, method, args);
+				return result instanceof Connection connection ? proxyConnection(connection) : result;
+			});
+		}
+		return bean;
+	}
+
+	private Connection proxyConnection(Connection connection) {
+		return proxy(Connection.class, (proxy, method, args) -> {
+			Object result = invoke(connection, method, args);
+			if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+				return proxyStatement(statement, (String) args[0]);
+			}
+			return result;
+		});
+	}
+
+	private PreparedStatement proxyStatement(PreparedStatement statement, String sql) {
+		List<Binding> bindings = new ArrayList<>();
+		return proxy(PreparedStatement.class, (proxy, method, args) -> {
+			String name = method.getName();
+			if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+				bindings.add(new Binding(method, args.clone()));
+			} else if (name.equals("clearParameters")) {
+				bindings.clear();
+			} else if (recording && name.startsWith("execute") && (args == null || args.length == 0)) {
+				synchronized (captured) {
+					captured.add(new CapturedStatement(sql, List.copyOf(bindings)));
+				}
+			}
+			return invoke(statement, method, args);
+		});
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(SqlCapture.class.getClassLoader(), new Class<?>[]{type}, handler);
+	}
+}
@@ -0,0 +1,34 @@
+package test.doctor_provider.infrastructure.tracing;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+/**
+ * Exportiert Spans in den Speicher statt an einen Collector (für Tests per
+ * {@code @Import}).
+ *
+ * WICHTIG: - Spring Boot hängt jeden SpanExporter-Bean an den
+ * SdkTracerProvider - Der Export läuft gebündelt (BatchSpanProcessor):
+ * vor dem Lesen {@link #finishedSpans} aufrufen, das leert den Puffer -
+ * Im Test Sampling auf 1.0 setzen, sonst fehlen Spans zufällig
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class InMemoryTracingConfiguration {
+
+	@Bean
+	public InMemorySpanExporter inMemorySpanExporter() {
+		return InMemorySpanExporter.create();
+	}
+
+	public static List<SpanData> finishedSpans(SdkTracerProvider tracerProvider, InMemorySpanExporter exporter) {
+		tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+		return exporter.getFinishedSpanItems();
+	}
+}
@@ -0,0 +1,47 @@
+package test.doctor_provider.infrastructure.tracing;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+/**
+ * Exportierte Spans als Baum (über parentSpanId), für Assertions wie "SQL
+ * läuft unter dem Outgoing Port unter dem Incoming Port".
+ */
+public final class SpanTree {
+
+	private final Map<String, SpanData> byId = new LinkedHashMap<>();
+
+	public SpanTree(Collection<SpanData> spans) {
+		for (SpanData span : spans) {
+			byId.put(span.getSpanId(), span);
+		}
+	}
+
+	public Optional<SpanData> find(String name) {
+		return byId.values().stream().filter(span -> span.getName().equals(name)).findFirst();
+	}
+
+	public List<SpanData> children(SpanData parent) {
+		List<SpanData> children = new ArrayList<>();
+		for (SpanData span : byId.values()) {
+			if (span.getTraceId().equals(parent.getTraceId()) && span.getParentSpanId().equals(parent.getSpanId())) {
+				children.add(span);
+			}
+		}
+		return children;
+	}
+
+	public List<String> childNames(SpanData parent) {
+		return children(parent).stream().map(SpanData::getName).toList();
+	}
+
+	public boolean isRoot(SpanData span) {
+		return !span.getParentSpanContext().isValid();
+	}
+}
@@ -0,0 +1,59 @@
+package test.doctor_provider.infrastructure.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.micrometer.tracing.test.autoconfigure.AutoConfigureTracing;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import test.doctor_provider.application.port.incoming.CityIncomingPort;
+
+/**
+ * Prüft den Span-Baum eines Use-Cases ohne externen Collector: Incoming
+ * Port → Outgoing Port → SQL.
+ */
+@SpringBootTest(properties = "management.tracing.sampling.probability=1.0")
+@AutoConfigureTracing
+@Import(InMemoryTracingConfiguration.class)
+class TracingTests {
+
+	@Autowired
+	private CityIncomingPort cityIncomingPort;
+
+	@Autowired
+	private SdkTracerProvider tracerProvider;
+
+	@Autowired
+	private InMemorySpanExporter exporter;
+
+	@BeforeEach
+	void setUp() {
+		InMemoryTracingConfiguration.finishedSpans(tracerProvider, exporter);
+		exporter.reset();
+	}
+
+	@Test
+	void incomingPortSpanContainsOutgoingPortAndSqlSpans() {
+		cityIncomingPort.getAllCities(Optional.of("Tracing-Test " + UUID.randomUUID()), Optional.empty(), 0, 10);
+
+		SpanTree tree = new SpanTree(InMemoryTracingConfiguration.finishedSpans(tracerProvider, exporter));
+		SpanData incoming = tree.find("CityIncomingPort.getAllCities").orElseThrow();
+		assertThat(tree.isRoot(incoming)).isTrue();
+		assertThat(incoming.getAttributes().get(AttributeKey.stringKey("port.kind"))).isEqualTo("incoming");
+
+		SpanData outgoing = tree.find("CityOutgoingPort.findAll").orElseThrow();
+		assertThat(tree.children(incoming)).contains(outgoing);
+		assertThat(tree.childNames(outgoing)).isNotEmpty().allMatch("SELECT"::equals);
+	}
+}
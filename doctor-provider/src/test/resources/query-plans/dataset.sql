@@ -0,0 +1,55 @@
+-- =============================================================================
+-- Synthetischer Datenbestand für QueryPlanTests
+-- =============================================================================
+-- NUR in die Plan-Datenbank laden (Standard doctor_provider_query_plans), nie in die
+-- Entwicklungs-Datenbank. QueryPlanTests lädt das Skript, wenn "Plan-City-1" fehlt.
+--
+-- Umfang: 2.000 Städte, 20.000 Praxen, 50.000 Ärzte mit 1-2 Fachrichtungen,
+-- Mo-Fr Working Hours (250.000 Zeilen), Slots für 10.000 Ärzte über 4 Wochen (~3,2 Mio.).
+-- doctor_search wird über die Trigger aus V8 mitgepflegt.
+
+INSERT INTO speciality (name)
+SELECT unnest(enum_range(NULL::speciality_type))
+ON CONFLICT (name) DO NOTHING;
+
+INSERT INTO city (name, zip_code)
+SELECT 'Plan-City-' || g, lpad((1000 + g)::text, 5, '0')
+FROM generate_series(1, 2000) g;
+
+INSERT INTO practice (name, street, house_number, phone, email, postal_code, city_id, latitude, longitude)
+SELECT 'Plan-Praxis ' || g, 'Hauptstraße', (g % 200 + 1)::text, '+49 30 ' || (100000 + g),
+       'praxis' || g || '@example.org', c.zip_code, c.id,
+       47.3 + (g % 770) / 100.0, 5.9 + (g % 910) / 100.0
+FROM generate_series(1, 20000) g
+JOIN (SELECT id, zip_code, row_number() OVER (ORDER BY id) AS n
+      FROM city WHERE name LIKE 'Plan-City-%') c ON c.n = g % 2000 + 1;
+
+INSERT INTO doctor (practice_id, first_name, last_name)
+SELECT p.id, 'Vorname' || (g % 500), 'Nachname' || g
+FROM generate_series(1, 50000) g
+JOIN (SELECT id, row_number() OVER (ORDER BY id) AS n
+      FROM practice WHERE name LIKE 'Plan-Praxis %') p ON p.n = g % 20000 + 1;
+
+-- Jeder Arzt eine Fachrichtung, jeder dritte eine zweite
+INSERT INTO doctor_speciality (doctor_id, speciality_id)
+SELECT DISTINCT d.id, s.id
+FROM (SELECT id, row_number() OVER (ORDER BY id) AS n FROM doctor) d
+JOIN (SELECT id, row_number() OVER (ORDER BY name) - 1 AS k FROM speciality) s
+  ON s.k = d.n % 15 OR (d.n % 3 = 0 AND s.k = (d.n / 3) % 15);
+
+INSERT INTO doctor_working_hours (doctor_id, weekday, start_time, end_time)
+SELECT d.id, w::weekday_enum, TIME '08:00', TIME '16:00'
+FROM doctor d
+CROSS JOIN unnest(ARRAY['MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY']) w;
+
+-- Partitionen für die nächsten Wochen existieren (V11 / SlotPartitionMaintenance)
+INSERT INTO slot (working_hours_id, start_time, end_time, status)
+SELECT wh.id,
+       (d::date + TIME '08:00' + s * INTERVAL '30 minutes') AT TIME ZONE 'Europe/Berlin',
+       (d::date + TIME '08:00' + (s + 1) * INTERVAL '30 minutes') AT TIME ZONE 'Europe/Berlin',
+       CASE WHEN s % 5 = 0 THEN 'BOOKED' ELSE 'AVAILABLE' END::slot_status
+FROM doctor_working_hours wh
+JOIN (SELECT id FROM doctor ORDER BY id LIMIT 10000) sample ON sample.id = wh.doctor_id
+CROSS JOIN generate_series(CURRENT_DATE::timestamp, (CURRENT_DATE + 27)::timestamp, INTERVAL '1 day') d
+CROSS JOIN generate_series(0, 15) s
+WHERE to_char(d, 'FMDAY') = wh.weekday::text;